@@ -5,7 +5,8 @@ import com.allan.shoppingMall.common.exception.ErrorCode;
 import com.allan.shoppingMall.common.exception.category.CategoryNotFoundException;
 import com.allan.shoppingMall.domains.category.domain.Category;
 import com.allan.shoppingMall.domains.category.domain.CategoryRepository;
-import com.allan.shoppingMall.domains.item.domain.item.Item;
+import com.allan.shoppingMall.domains.item.domain.model.ItemCursorPage;
+import com.allan.shoppingMall.domains.item.domain.model.ItemSummaryDTO;
 import com.allan.shoppingMall.domains.item.service.ItemService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,19 +30,35 @@ public class ShopController {
 
     /**
      * 카테고리별 상품 목록을 조회하는 메소드.
+     * cursor 파라미터가 전달 된 경우(첫 페이지는 빈값), keyset 페이징으로 조회합니다.
      */
     @GetMapping("/shop")
-    public String itemList(@RequestParam("categoryId") Long categoryId, Pageable pageable, Model model){
+    public String itemList(@RequestParam("categoryId") Long categoryId, @RequestParam(value = "cursor", required = false) String cursor,
+                           Pageable pageable, Model model){
         Category findCategory = categoryRepository.findById(categoryId).orElseThrow(() ->
                 new CategoryNotFoundException(ErrorCode.ENTITY_NOT_FOUND));
 
-        Page<Item> page = itemService.getItems(categoryId, pageable);
+        if(cursor != null){
+            ItemCursorPage cursorPage = itemService.getItemSummaries(categoryId, cursor);
+
+            model.addAttribute("categoryName", findCategory.getName());
+            model.addAttribute("categoryId", categoryId);
+
+            model.addAttribute("itemQunatity", itemService.getItemCount(categoryId)); // 캐싱 된 상품 수.
+            model.addAttribute("itemList", cursorPage.getContent()); // 상품 정보.
+            model.addAttribute("hasNext", cursorPage.isHasNext());
+            model.addAttribute("nextCursor", cursorPage.getNextCursor()); // 다음 페이지 커서 정보.
+
+            return "shop/itemList";
+        }
+
+        Page<ItemSummaryDTO> page = itemService.getItemSummaries(categoryId, pageable);
 
         model.addAttribute("categoryName", findCategory.getName());
         model.addAttribute("categoryId", categoryId);
 
         model.addAttribute("itemQunatity", page.getTotalElements());
-        model.addAttribute("itemList", itemService.getItemDTOS(page.getContent())); // 상품 정보.
+        model.addAttribute("itemList", page.getContent()); // 상품 정보.
         model.addAttribute("pagination", new PageInfo(page.getNumber(), page.getTotalPages(), page.isFirst(), page.isLast())); // 페이징 정보.
 
         return "shop/itemList";
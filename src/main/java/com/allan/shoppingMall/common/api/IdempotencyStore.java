@@ -0,0 +1,124 @@
+package com.allan.shoppingMall.common.api;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 헤더로 요청한 api 의 응답을 보관하는 클래스 입니다.
+ *
+ * 같은 키로 다시 요청하면 작업을 다시 실행하지 않고 보관한 응답을 반환하며,
+ * 처음 요청이 아직 처리 중인 경우에는 새로 실행하지 않고 처리 중인 결과를 함께 기다립니다.
+ * 응답은 ttl-seconds 동안 보관하며, 보관 수가 max-entries 를 넘으면 만료가 가까운 응답부터 삭제합니다.
+ * 예외로 끝난 요청은 보관하지 않으므로, 같은 키로 다시 실행 할 수 있습니다.
+ */
+@Component
+@Slf4j
+public class IdempotencyStore {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${idempotency.ttl-seconds:86400}")
+    private long ttlSeconds;
+
+    @Value("${idempotency.max-entries:10000}")
+    private int maxEntries;
+
+    /**
+     * 키에 해당하는 응답이 없는 경우에만 작업을 실행하는 메소드.
+     * @param key 요청 구분 값. (api, 회원 아이디, Idempotency-Key 를 조합해 다른 회원의 응답을 받지 않도록 합니다.)
+     * @param action 실행 할 작업.
+     * @return CompletableFuture 처음 실행한 작업의 결과.
+     */
+    public <T> CompletableFuture<T> execute(String key, Supplier<CompletableFuture<T>> action){
+        return execute(key, action, result -> true);
+    }
+
+    /**
+     * 키에 해당하는 응답이 없는 경우에만 작업을 실행하는 메소드.
+     * 일시적인 실패처럼 다시 실행해야 하는 결과는 처리 중이던 요청에만 전달하고 보관하지 않습니다.
+     * @param key 요청 구분 값.
+     * @param action 실행 할 작업.
+     * @param storable 결과를 보관 할지 판단하는 조건.
+     * @return CompletableFuture 처음 실행한 작업의 결과.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> execute(String key, Supplier<CompletableFuture<T>> action, Predicate<T> storable){
+        long now = System.currentTimeMillis();
+        Entry created = new Entry();
+        Entry entry = entries.compute(key, (k, existing) -> existing == null || existing.isExpired(now) ? created : existing);
+        if(entry != created){
+            log.info("idempotent request replayed. key: " + key);
+            return (CompletableFuture<T>) entry.result;
+        }
+
+        if(entries.size() > maxEntries)
+            evict();
+
+        try {
+            action.get().whenComplete((result, throwable) ->
+                    complete(key, created, result, throwable, throwable == null && storable.test(result)));
+        } catch (RuntimeException e){
+            complete(key, created, null, e, false);
+        }
+        return (CompletableFuture<T>) created.result;
+    }
+
+    private void complete(String key, Entry entry, Object result, Throwable throwable, boolean store){
+        if(!store)
+            entries.remove(key, entry);
+        if(throwable != null){
+            entry.result.completeExceptionally(throwable);
+            return;
+        }
+        entry.expiresAt = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ttlSeconds);
+        entry.result.complete(result);
+    }
+
+    /**
+     * 만료 된 응답을 삭제하는 메소드.
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void removeExpired(){
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    private void evict(){
+        removeExpired();
+        int overflow = entries.size() - maxEntries;
+        if(overflow <= 0)
+            return;
+
+        // 처리 중인 요청은 삭제하지 않습니다.
+        entries.entrySet().stream()
+                .filter(e -> e.getValue().result.isDone())
+                .sorted(Comparator.comparingLong(e -> e.getValue().expiresAt))
+                .limit(overflow)
+                .forEach(e -> entries.remove(e.getKey(), e.getValue()));
+    }
+
+    int size(){
+        return entries.size();
+    }
+
+    private static class Entry {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private volatile long expiresAt = Long.MAX_VALUE; // 처리 중인 동안에는 만료되지 않습니다.
+
+        private boolean isExpired(long now){
+            return expiresAt <= now;
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.allan.shoppingMall.common.config.async;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * 스프릥 비동기 처리를 위한 사용자 클래스.
@@ -28,4 +30,40 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 상품 이미지 variant(썸네일) 생성에서 사용 할 Executor 설정.
+     * 이미지 변환 작업이 다른 비동기 이벤트 처리를 막지 않도록 별도로 분리하며,
+     * 작업 큐가 가득 찬 경우 작업을 버립니다. (누락 된 variant 는 조회시 생성합니다.)
+     * @return Executor
+     */
+    @Bean(name = "imageVariantExecutor")
+    public Executor imageVariantExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("imageVariantExe");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 주문 상세 조회시 Iamport 결제 정보 조회에서 사용 할 Executor 설정.
+     * Iamport 응답이 늦어져도 다른 비동기 처리에 영향을 주지 않도록 별도로 분리하며,
+     * 작업 큐가 가득 찬 경우 TaskRejectedException 을 던집니다. (OrderService 에서 결제 정보 없이 응답합니다.)
+     * @return Executor
+     */
+    @Bean(name = "orderDetailExecutor")
+    public Executor orderDetailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("orderDetailExe");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
 }
@@ -40,11 +40,63 @@ public class CacheConfig {
                 .memoryStoreEvictionPolicy(MemoryStoreEvictionPolicy.LRU)
                 .name("shopCategoryCaching");
 
+        /**
+         * 카테고리별 전체 상품 수를 저장하는 캐시.
+            - key : 카테고리 도메인의 아이디.
+         */
+        CacheConfiguration itemCountCacheConfiguration = new CacheConfiguration()
+                .eternal(false)
+                .timeToLiveSeconds(300)
+                .maxEntriesLocalHeap(1000)
+                .memoryStoreEvictionPolicy(MemoryStoreEvictionPolicy.LRU)
+                .name("itemCountCaching");
+
+        /**
+         * 이미지 응답에 필요한 메타데이터(경로, MIME TYPE, 크기, ETag) 를 저장하는 캐시.
+            - key : 상품 이미지 도메인의 아이디.
+         */
+        CacheConfiguration itemImageCacheConfiguration = new CacheConfiguration()
+                .eternal(false)
+                .timeToLiveSeconds(0)
+                .maxEntriesLocalHeap(10000)
+                .memoryStoreEvictionPolicy(MemoryStoreEvictionPolicy.LRU)
+                .name("itemImageCaching");
+
+        /**
+         * 존재하지 않는 상품 이미지 아이디를 저장하는 캐시. (negative caching)
+            - key : 조회 요청 된 상품 이미지 도메인의 아이디.
+         */
+        CacheConfiguration missingItemImageCacheConfiguration = new CacheConfiguration()
+                .eternal(false)
+                .timeToLiveSeconds(60)
+                .maxEntriesLocalHeap(10000)
+                .memoryStoreEvictionPolicy(MemoryStoreEvictionPolicy.LRU)
+                .name("missingItemImageCaching");
+
+        /**
+         * 결제 완료 된 결제 정보(결제 방식, 카드 정보, 결제 금액) 를 저장하는 캐시. (환불시에만 제거)
+            - key : 결제 도메인의 결제번호(imp_uid).
+         */
+        CacheConfiguration paymentDetailCacheConfiguration = new CacheConfiguration()
+                .eternal(false)
+                .timeToLiveSeconds(0)
+                .maxEntriesLocalHeap(10000)
+                .memoryStoreEvictionPolicy(MemoryStoreEvictionPolicy.LRU)
+                .name("paymentDetailCaching");
+
         // 캐시 생성.
         Cache shopCategoryCache = new net.sf.ehcache.Cache(shopCategoryCacheConfiguration);
+        Cache itemCountCache = new net.sf.ehcache.Cache(itemCountCacheConfiguration);
+        Cache itemImageCache = new net.sf.ehcache.Cache(itemImageCacheConfiguration);
+        Cache missingItemImageCache = new net.sf.ehcache.Cache(missingItemImageCacheConfiguration);
+        Cache paymentDetailCache = new net.sf.ehcache.Cache(paymentDetailCacheConfiguration);
 
         // 캐시 팩토리에 생성한 생성한 캐시 추가.
         Objects.requireNonNull(cacheManagerFactoryBean().getObject()).addCache(shopCategoryCache);
+        Objects.requireNonNull(cacheManagerFactoryBean().getObject()).addCache(itemCountCache);
+        Objects.requireNonNull(cacheManagerFactoryBean().getObject()).addCache(itemImageCache);
+        Objects.requireNonNull(cacheManagerFactoryBean().getObject()).addCache(missingItemImageCache);
+        Objects.requireNonNull(cacheManagerFactoryBean().getObject()).addCache(paymentDetailCache);
 
         // 캐시 팩토리로 eh캐시 매니저 생성.
         return new EhCacheCacheManager(Objects.requireNonNull(cacheManagerFactoryBean().getObject()));
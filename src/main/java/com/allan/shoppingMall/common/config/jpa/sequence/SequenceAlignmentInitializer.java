@@ -0,0 +1,84 @@
+package com.allan.shoppingMall.common.config.jpa.sequence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * IDENTITY 에서 SEQUENCE 로 아이디 생성 방식을 바꾼 엔티티의 sequence 를 기존 데이터에 맞추는 클래스 입니다.
+ *
+ * migration(V2__add_series_schema) 으로 새로 생성 된 sequence 는 1 부터 시작하므로, 이미 저장 된 row 가 있는 테이블에서는 아이디가 중복됩니다.
+ * 애플리케이션 시작시 sequence 의 다음 값으로 할당 될 아이디가 테이블의 최대 아이디와 겹칠 수 있는 경우, 최대 아이디 이후로 sequence 를 다시 시작합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SequenceAlignmentInitializer implements SmartInitializingSingleton {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+        if(!dialect.supportsSequences())
+            return;
+
+        // SINGLE_TABLE 상속 엔티티는 같은 sequence 를 사용하므로 한 번만 확인합니다.
+        Set<String> alignedSequences = new HashSet<>();
+        for(EntityPersister persister : sessionFactory.getMetamodel().entityPersisters().values()){
+            if(!(persister.getIdentifierGenerator() instanceof SequenceStyleGenerator) || !(persister instanceof AbstractEntityPersister))
+                continue;
+
+            SequenceStyleGenerator generator = (SequenceStyleGenerator) persister.getIdentifierGenerator();
+            String sequenceName = generator.getDatabaseStructure().getName();
+            if(!generator.getDatabaseStructure().isPhysicalSequence() || !alignedSequences.add(sequenceName))
+                continue;
+
+            AbstractEntityPersister entityPersister = (AbstractEntityPersister) persister;
+            align(sequenceName, entityPersister.getTableName(), entityPersister.getIdentifierColumnNames()[0],
+                    generator.getDatabaseStructure().getIncrementSize());
+        }
+    }
+
+    private void align(String sequenceName, String tableName, String idColumnName, int incrementSize){
+        Long maxId = jdbcTemplate.queryForObject("select max(" + idColumnName + ") from " + tableName, Long.class);
+        if(maxId == null)
+            return;
+
+        // pooled optimizer 는 sequence 다음 값(hi) 이전 incrementSize 만큼의 아이디 (hi - incrementSize, hi] 를 사용하므로,
+        // 그 중 가장 작은 아이디도 최대 아이디보다 큰 경우에만 그대로 사용합니다.
+        Long nextValue = findNextValue(sequenceName);
+        if(nextValue != null && nextValue - incrementSize >= maxId)
+            return;
+
+        long restartValue = maxId + incrementSize + 1;
+        jdbcTemplate.execute("alter sequence " + sequenceName + " restart with " + restartValue);
+        log.info("sequence " + sequenceName + " restarted with " + restartValue + ". (" + tableName + " max id: " + maxId + ")");
+    }
+
+    /**
+     * nextval 을 호출하지 않고 sequence 의 다음 값을 조회하는 메소드.
+     * (시작 할 때 마다 nextval 로 확인하면 sequence 값을 하나씩 소비하므로, H2 의 information_schema 에서 조회합니다.)
+     * @return Long sequence 의 다음 값. (sequence 가 없는 경우 null)
+     */
+    private Long findNextValue(String sequenceName){
+        List<Long> nextValues = jdbcTemplate.queryForList(
+                "select current_value + increment from information_schema.sequences where upper(sequence_name) = upper(?)",
+                Long.class, sequenceName);
+        return nextValues.isEmpty() ? null : nextValues.get(0);
+    }
+}
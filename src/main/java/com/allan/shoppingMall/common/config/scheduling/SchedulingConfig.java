@@ -0,0 +1,18 @@
+package com.allan.shoppingMall.common.config.scheduling;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기적으로 실행하는 배치성 작업(@Scheduled) 을 위한 설정 클래스.
+ * 테스트 실행 중에는 작업이 실행되지 않도록 운영, 개발 profile 에서만 활성화 합니다.
+ *
+ * 작업 스레드 수는 spring.task.scheduling.pool.size 로 설정하며, 오래 걸리는 배치 작업이 짧은 주기의 작업(HotStockWriteBack, OutboxRelay) 을
+ * 막지 않도록 @Scheduled 메소드 수 이상으로 유지해야 합니다. (작업을 추가하는 경우 함께 늘려주세요.)
+ */
+@Configuration
+@EnableScheduling
+@Profile("prod | devel")
+public class SchedulingConfig {
+}
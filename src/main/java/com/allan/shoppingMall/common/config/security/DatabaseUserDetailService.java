@@ -27,7 +27,7 @@ public class DatabaseUserDetailService implements UserDetailsService {
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         log.info("security authentication");
         // test 용 계정. (추후에 데이터베이스 연동으로 테스트 필요.)
-        Member findMember = memberRepository.findByAuthIdLike(username).orElseThrow(() -> new UsernameNotFoundException(ErrorCode.LOGIN_FAIL.getMessage()));
+        Member findMember = memberRepository.findByAuthId(username).orElseThrow(() -> new UsernameNotFoundException(ErrorCode.LOGIN_FAIL.getMessage()));
         return new User(findMember.getAuthId(), passwordEncoder.encode(findMember.getPwd()), List.of(new SimpleGrantedAuthority(findMember.getRole().getSecurityKey())));
     }
 }
@@ -18,6 +18,7 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(500, "C004", "Server Error"),
     INVALID_TYPE_VALUE(400, "C005", " Invalid Type Value"),
     HANDLE_ACCESS_DENIED(403, "C006", "Access is Denied"),
+    IDEMPOTENT_REQUEST_IN_PROGRESS(409, "C007", "같은 요청을 처리 중입니다. 잠시 후 다시 시도 해 주세요."),
 
     // JPA
     ENTITY_NOT_FOUND(400, "C003", " Entity Not Found"),
@@ -32,6 +33,8 @@ public enum ErrorCode {
     ORDER_REFUND_NOT_ALLOWED(400, "OR002", "환불 가능한 주문 상태가 아닙니다."),
     ORDER_NOT_FOUND(400, "OR003", "조회 된 주문이 없습니다."),
     INVALID_ORDER_REQUEST_INPUT_VALUE(400, "OR004", "요청에 알맞지 않은 정보입니다."),
+    ORDER_INTAKE_QUEUE_FULL(429, "OR005", "주문 요청이 많아 처리 할 수 없습니다. 잠시 후 다시 시도 해 주세요."),
+    ORDER_INTAKE_TICKET_NOT_FOUND(400, "OR006", "조회 된 주문 접수 내역이 없습니다."),
 
     // Payment
     PAYMENT_AMOUNT_IS_NOT_EQUAL_BY_ORDER_AMOUNT(400, "PAY001", "결제금액과 주문금액이 일치하지 않습니다."),
@@ -0,0 +1,14 @@
+package com.allan.shoppingMall.common.exception.order;
+
+import com.allan.shoppingMall.common.exception.BusinessException;
+import com.allan.shoppingMall.common.exception.ErrorCode;
+
+/**
+ * 주문 접수 큐가 가득 차 주문을 받을 수 없는 경우 발생하는 예외.
+ */
+public class OrderIntakeRejectedException extends BusinessException {
+
+    public OrderIntakeRejectedException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
@@ -0,0 +1,11 @@
+package com.allan.shoppingMall.common.outbox;
+
+/**
+ * 같은 대상(eventKey) 에 대해 한 번만 handler 에 전달해야 하는 이벤트를 표시하는 인터페이스 입니다.
+ *
+ * handler 가 현재 상태를 다시 조회하지 않고 상태를 변경하는 경우(ex. 주문 상품을 장바구니에서 차감) 에 사용하며,
+ * OutboxRelay 는 같은 이벤트 타입, 대상의 이벤트가 이미 처리 완료 된 경우 handler 에 전달하지 않고 처리 완료로 변경합니다.
+ * (처리 완료 이벤트는 outbox.relay.retention-days 동안 보관하므로, 그 기간 안의 중복 이벤트만 걸러냅니다.)
+ */
+public interface OncePerKeyEvent {
+}
@@ -0,0 +1,94 @@
+package com.allan.shoppingMall.common.outbox;
+
+import com.allan.shoppingMall.common.domain.BaseTimeEntity;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 도메인 이벤트를 상태 변경과 같은 트랜잭션에서 저장하는 outbox 엔티티.
+ *
+ * 이벤트는 OutboxEventRecorder 로 저장하며, 커밋 된 이벤트만 OutboxRelay 가 조회하여 이벤트 handler 에 전달합니다.
+ * 이벤트 클래스 이름(eventType) 과 json 으로 변환한 이벤트(payload) 를 저장합니다.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_status_next_attempt", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_outbox_events_type_key", columnList = "event_type, event_key")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent extends BaseTimeEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq_generator")
+    @SequenceGenerator(name = "outbox_events_seq_generator", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long outboxEventId;
+
+    // 이벤트 클래스 이름.
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    // 이벤트 대상 아이디. (한 번만 처리해야 하는 이벤트의 중복 확인에 사용)
+    @Column(name = "event_key", nullable = false, length = 100)
+    private String eventKey;
+
+    @Column(name = "payload", nullable = false, length = 2000)
+    private String payload;
+
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private OutboxEventStatus status;
+
+    // 처리 시도 횟수.
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Builder
+    public OutboxEvent(String eventType, String eventKey, String payload, LocalDateTime nextAttemptAt) {
+        this.eventType = eventType;
+        this.eventKey = eventKey;
+        this.payload = payload;
+        this.status = OutboxEventStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * 이벤트 handler 처리 완료시 호출하는 메소드.
+     */
+    public void published(LocalDateTime now){
+        this.attempts++;
+        this.status = OutboxEventStatus.PUBLISHED;
+        this.publishedAt = now;
+        this.lastError = null;
+    }
+
+    /**
+     * 이벤트 handler 처리 실패시 호출하는 메소드.
+     * 최대 재시도 횟수를 넘은 경우 FAILED 상태로 변경하며, 그 외에는 nextAttemptAt 이후에 다시 처리합니다.
+     * @param error 실패 원인.
+     * @param nextAttemptAt 다음 처리 시간.
+     * @param maxAttempts 최대 시도 횟수.
+     */
+    public void failed(String error, LocalDateTime nextAttemptAt, int maxAttempts){
+        this.attempts++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        this.nextAttemptAt = nextAttemptAt;
+        if(this.attempts >= maxAttempts)
+            this.status = OutboxEventStatus.FAILED;
+    }
+}
@@ -0,0 +1,47 @@
+package com.allan.shoppingMall.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도메인 이벤트를 outbox 테이블에 저장하는 클래스 입니다.
+ *
+ * 상태를 변경하는 서비스 메소드의 트랜잭션 안에서만 호출 할 수 있으며, 상태 변경이 롤백 되면 이벤트도 저장되지 않습니다.
+ * 같은 대상(eventKey) 의 같은 이벤트가 처리 대기 중이더라도 항상 저장합니다.
+ * (대기 중인 이벤트를 relay 가 이미 처리하고 있는 경우, 이후 변경 사항에 대한 이벤트가 유실되므로)
+ * 현재 상태를 다시 조회하는 handler 는 같은 이벤트가 여러번 전달되어도 결과가 같고,
+ * 한 번만 처리해야 하는 이벤트(OncePerKeyEvent) 의 중복은 OutboxRelay 가 전달 시점에 걸러냅니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventRecorder {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param event 이벤트 오브젝트. (OutboxRelay 가 같은 클래스로 변환하여 handler 에 전달합니다.)
+     * @param eventKey 이벤트 대상 아이디.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Object event, Object eventKey){
+        String eventType = event.getClass().getName();
+        String key = String.valueOf(eventKey);
+        try {
+            outboxEventRepository.save(OutboxEvent.builder()
+                    .eventType(eventType)
+                    .eventKey(key)
+                    .payload(objectMapper.writeValueAsString(event))
+                    .nextAttemptAt(LocalDateTime.now())
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("outbox event can't be serialized. type: " + eventType, e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.allan.shoppingMall.common.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 처리 할 이벤트 아이디를 저장 순서대로 조회하는 메소드.
+     * @param now 기준 시간. (다음 처리 시간이 지난 이벤트만 조회)
+     * @param pageable 조회 할 이벤트 수.
+     */
+    @Query("select e.outboxEventId from OutboxEvent e where e.status = com.allan.shoppingMall.common.outbox.OutboxEventStatus.PENDING " +
+            "and e.nextAttemptAt <= :now order by e.outboxEventId")
+    List<Long> findDispatchableIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 이벤트 row 에 lock 을 걸고 조회하는 메소드.
+     * 여러 서버의 relay 가 같은 이벤트를 동시에 처리하지 않도록 처리 전에 호출합니다.
+     * @param outboxEventId outbox 이벤트 아이디.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from OutboxEvent e where e.outboxEventId = :outboxEventId")
+    Optional<OutboxEvent> findByIdForUpdate(@Param("outboxEventId") Long outboxEventId);
+
+    /**
+     * 같은 이벤트 타입, 대상의 이벤트 중 해당 처리 상태인 이벤트가 있는지 확인하는 메소드. (idx_outbox_events_type_key)
+     * @param eventType 이벤트 클래스 이름.
+     * @param eventKey 이벤트 대상 아이디.
+     * @param status 이벤트 처리 상태.
+     */
+    boolean existsByEventTypeAndEventKeyAndStatus(String eventType, String eventKey, OutboxEventStatus status);
+
+    /**
+     * 처리 상태 별 이벤트 수를 조회하는 메소드.
+     */
+    long countByStatus(OutboxEventStatus status);
+
+    /**
+     * 처리 대기 중인 이벤트 중 가장 오래 된 저장 시간을 조회하는 메소드. (처리 지연 metric 용)
+     */
+    @Query("select min(e.createdDate) from OutboxEvent e where e.status = com.allan.shoppingMall.common.outbox.OutboxEventStatus.PENDING")
+    Optional<LocalDateTime> findOldestPendingCreatedDate();
+
+    /**
+     * 처리 완료 후 보관 기간이 지난 이벤트를 삭제하는 메소드.
+     * @param before 기준 시간.
+     * @return int 삭제 된 이벤트 수.
+     */
+    @Modifying
+    @Query("delete from OutboxEvent e where e.status = com.allan.shoppingMall.common.outbox.OutboxEventStatus.PUBLISHED and e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,11 @@
+package com.allan.shoppingMall.common.outbox;
+
+/**
+ * outbox 이벤트 처리 상태.
+ * PENDING: 처리 대기. (실패한 이벤트는 nextAttemptAt 이후에 다시 처리합니다.)
+ * PUBLISHED: 이벤트 handler 처리 완료.
+ * FAILED: 최대 재시도 횟수를 넘어 더이상 처리하지 않는 상태.
+ */
+public enum OutboxEventStatus {
+    PENDING, PUBLISHED, FAILED
+}
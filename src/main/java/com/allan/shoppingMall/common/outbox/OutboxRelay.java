@@ -0,0 +1,181 @@
+package com.allan.shoppingMall.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox 테이블에 저장 된 이벤트를 조회하여 이벤트 handler(@EventListener) 에 전달하는 클래스 입니다.
+ *
+ * 처리 대기 중인 이벤트를 저장 순서대로 batch-size 개씩 조회하며, 이벤트 마다 트랜잭션을 나누어
+ * handler 실행과 처리 완료 변경을 함께 커밋합니다. 따라서 handler 가 커밋 된 이벤트는 다시 처리하지 않고,
+ * 처리 중 서버가 종료 된 이벤트는 다음 실행에서 다시 처리합니다.
+ * handler 가 실패한 이벤트는 재시도 간격을 두 배씩 늘려 max-attempts 번까지 다시 처리합니다.
+ * 같은 대상에 한 번만 전달해야 하는 이벤트(OncePerKeyEvent) 는 이미 처리 완료 된 이벤트가 있으면 handler 에 전달하지 않습니다.
+ *
+ * metric
+ * outbox.events.pending: 처리 대기 중인 이벤트 수.
+ * outbox.events.lag: 처리 대기 중인 가장 오래 된 이벤트의 대기 시간.(초)
+ * outbox.events.published, outbox.events.failed: 처리 완료, 실패 횟수.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay {
+
+    private static final Duration BASE_RETRY_DELAY = Duration.ofSeconds(5);
+    private static final Duration MAX_RETRY_DELAY = Duration.ofHours(1);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private Counter publishedCounter;
+    private Counter failedCounter;
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize = 100;
+
+    @Value("${outbox.relay.max-attempts:10}")
+    private int maxAttempts = 10;
+
+    @Value("${outbox.relay.retention-days:7}")
+    private long retentionDays = 7;
+
+    @PostConstruct
+    public void registerMetrics(){
+        Gauge.builder("outbox.events.pending", pendingCount, AtomicLong::get)
+                .description("처리 대기 중인 outbox 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("outbox.events.lag", lagSeconds, AtomicLong::get)
+                .description("처리 대기 중인 가장 오래 된 outbox 이벤트의 대기 시간(초)")
+                .register(meterRegistry);
+        publishedCounter = Counter.builder("outbox.events.published").register(meterRegistry);
+        failedCounter = Counter.builder("outbox.events.failed").register(meterRegistry);
+    }
+
+    /**
+     * 처리 대기 중인 이벤트를 모두 처리하는 메소드.
+     * @return int 처리 완료 된 이벤트 수.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.delay-ms:1000}")
+    public int relay(){
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        LocalDateTime now = LocalDateTime.now();
+        int published = 0;
+
+        List<Long> outboxEventIds;
+        do {
+            outboxEventIds = outboxEventRepository.findDispatchableIds(now, PageRequest.of(0, batchSize));
+            int dispatched = 0;
+            for(Long outboxEventId : outboxEventIds){
+                if(dispatch(transactionTemplate, outboxEventId))
+                    dispatched++;
+            }
+            published += dispatched;
+
+            // 모두 실패한 경우, 같은 이벤트를 반복해서 조회하지 않도록 다음 실행으로 미룹니다.
+            if(dispatched == 0)
+                break;
+        } while(outboxEventIds.size() == batchSize);
+
+        refreshMetrics();
+        return published;
+    }
+
+    /**
+     * 이벤트 하나를 handler 에 전달하는 메소드.
+     * @return boolean 처리 완료 여부.
+     */
+    private boolean dispatch(TransactionTemplate transactionTemplate, Long outboxEventId){
+        try {
+            Boolean published = transactionTemplate.execute(status -> outboxEventRepository.findByIdForUpdate(outboxEventId)
+                    // 다른 서버의 relay 가 먼저 처리한 이벤트는 다시 처리하지 않습니다.
+                    .filter(outboxEvent -> outboxEvent.getStatus() == OutboxEventStatus.PENDING)
+                    .map(outboxEvent -> {
+                        Object event = toEvent(outboxEvent);
+                        if(isDuplicate(event, outboxEvent))
+                            log.info("outbox event already published. type: " + outboxEvent.getEventType() + ", key: " + outboxEvent.getEventKey());
+                        else
+                            eventPublisher.publishEvent(event);
+                        outboxEvent.published(LocalDateTime.now());
+                        return true;
+                    })
+                    .orElse(false));
+
+            if(Boolean.TRUE.equals(published))
+                publishedCounter.increment();
+            return Boolean.TRUE.equals(published);
+        } catch (RuntimeException e){
+            log.error("outbox event dispatch fail. outboxEventId: " + outboxEventId + ", cause: " + e.getMessage());
+            failedCounter.increment();
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.findById(outboxEventId)
+                    .ifPresent(outboxEvent -> outboxEvent.failed(e.toString(), nextAttemptAt(outboxEvent.getAttempts()), maxAttempts)));
+            return false;
+        }
+    }
+
+    /**
+     * 한 번만 전달해야 하는 이벤트(OncePerKeyEvent) 중, 같은 타입, 대상의 이벤트가 이미 처리 완료 되었는지 확인하는 메소드.
+     */
+    private boolean isDuplicate(Object event, OutboxEvent outboxEvent){
+        return event instanceof OncePerKeyEvent
+                && outboxEventRepository.existsByEventTypeAndEventKeyAndStatus(outboxEvent.getEventType(), outboxEvent.getEventKey(), OutboxEventStatus.PUBLISHED);
+    }
+
+    private Object toEvent(OutboxEvent outboxEvent){
+        try {
+            return objectMapper.readValue(outboxEvent.getPayload(), Class.forName(outboxEvent.getEventType()));
+        } catch (Exception e) {
+            throw new IllegalStateException("outbox event can't be deserialized. type: " + outboxEvent.getEventType(), e);
+        }
+    }
+
+    /**
+     * 실패 횟수에 따라 재시도 간격을 두 배씩 늘린 다음 처리 시간. (최대 1시간)
+     */
+    private LocalDateTime nextAttemptAt(int attempts){
+        Duration delay = BASE_RETRY_DELAY.multipliedBy(1l << Math.min(attempts, 20));
+        return LocalDateTime.now().plus(delay.compareTo(MAX_RETRY_DELAY) > 0 ? MAX_RETRY_DELAY : delay);
+    }
+
+    private void refreshMetrics(){
+        pendingCount.set(outboxEventRepository.countByStatus(OutboxEventStatus.PENDING));
+        lagSeconds.set(outboxEventRepository.findOldestPendingCreatedDate()
+                .map(createdDate -> Math.max(0l, Duration.between(createdDate, LocalDateTime.now()).getSeconds()))
+                .orElse(0l));
+    }
+
+    /**
+     * 매일 새벽 5시에 보관 기간이 지난 처리 완료 이벤트를 삭제합니다.
+     * @return int 삭제 된 이벤트 수.
+     */
+    @Scheduled(cron = "0 0 5 * * *")
+    public int purgePublished(){
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minusDays(retentionDays)));
+        log.info("OutboxRelay purged events: " + deleted);
+        return deleted == null ? 0 : deleted;
+    }
+}
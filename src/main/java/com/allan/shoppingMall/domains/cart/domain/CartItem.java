@@ -27,7 +27,8 @@ import java.util.Objects;
 @Slf4j
 public class CartItem extends BaseTimeEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cart_items_seq_generator")
+    @SequenceGenerator(name = "cart_items_seq_generator", sequenceName = "cart_items_seq", allocationSize = 50)
     private Long cartItemId;
 
     @ManyToOne(fetch = FetchType.LAZY)
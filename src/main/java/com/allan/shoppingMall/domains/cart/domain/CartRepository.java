@@ -20,6 +20,6 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
      * @param authId 로그인한 회원 아이디.
      * @return Cart
      */
-    @Query("select c from Cart c where c.member.authId like :authId")
+    @Query("select c from Cart c where c.member.authId = :authId")
     Optional<Cart> findByAuthId(@Param("authId") String authId);
 }
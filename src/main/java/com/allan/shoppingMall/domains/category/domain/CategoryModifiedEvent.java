@@ -0,0 +1,14 @@
+package com.allan.shoppingMall.domains.category.domain;
+
+import lombok.*;
+
+/**
+ * 카테고리가 생성, 수정, 삭제 될 때 발생하는 이벤트 클래스입니다.
+ */
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Setter
+@Getter
+public class CategoryModifiedEvent {
+    private String branch; // 변경 된 카테고리 그룹.
+}
@@ -1,5 +1,6 @@
 package com.allan.shoppingMall.domains.category.domain;
 
+import com.allan.shoppingMall.domains.category.domain.model.CategoryNode;
 import com.allan.shoppingMall.domains.item.domain.item.Item;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -7,6 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
@@ -30,4 +32,21 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
      * @param categoryCode 카테고리 code.
      */
     Optional<Category> findByCategoryCode(CategoryCode categoryCode);
+
+    /**
+     * 카테고리 그룹에 속한 모든 카테고리를 연관관계 로딩 없이 한번의 쿼리로 조회하는 메소드.
+     * 부모 카테고리가 자식보다 먼저 오도록 depth, categoryId 순으로 정렬합니다.
+     * @param branch 카테고리 그룹.
+     */
+    @Query("select new com.allan.shoppingMall.domains.category.domain.model.CategoryNode(c.categoryId, p.categoryId, c.branch, c.depth, c.name, c.categoryCode) " +
+            "from Category c left join c.parentCategory p " +
+            "where c.branch = :branch " +
+            "order by c.depth asc, c.categoryId asc")
+    List<CategoryNode> findCategoryNodesByBranch(@Param("branch") String branch);
+
+    /**
+     * 저장 된 모든 카테고리 그룹을 조회하는 메소드.
+     */
+    @Query("select distinct c.branch from Category c")
+    List<String> findAllBranches();
 }
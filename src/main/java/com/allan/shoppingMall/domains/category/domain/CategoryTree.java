@@ -0,0 +1,174 @@
+package com.allan.shoppingMall.domains.category.domain;
+
+import com.allan.shoppingMall.domains.category.domain.model.CategoryNode;
+
+import java.util.*;
+
+/**
+ * 카테고리 트리의 불변(immutable) 스냅샷 클래스 입니다.
+ * 생성 시점에 각 카테고리의 하위 카테고리 아이디 목록(자기 자신 포함, 전위 순회 순서)과
+ * 그룹(branch), 깊이(depth) 별 인덱스를 미리 계산해 두기 때문에, 조회는 DB 접근 없이 O(1) 로 처리됩니다.
+ * 변경이 필요한 경우 기존 스냅샷을 수정하지 않고, 새로운 스냅샷을 만들어 교체합니다. (CategoryTreeHolder 클래스 참고.)
+ */
+public final class CategoryTree {
+
+    private static final CategoryTree EMPTY = new CategoryTree(Collections.emptyMap());
+
+    // 그룹별 카테고리 행 정보.
+    private final Map<String, List<CategoryNode>> nodesByBranch;
+
+    // 카테고리 아이디별 하위 카테고리 아이디 목록(자기 자신 포함).
+    private final Map<Long, List<Long>> subtreeIds;
+
+    // 그룹별 카테고리 아이디 목록.
+    private final Map<String, List<Long>> idsByBranch;
+
+    // 그룹별, 깊이별 카테고리 아이디 목록.
+    private final Map<String, Map<Integer, List<Long>>> idsByBranchAndDepth;
+
+    private CategoryTree(Map<String, List<CategoryNode>> nodesByBranch) {
+        Map<String, List<CategoryNode>> branches = new HashMap<>();
+        Map<Long, List<Long>> subtrees = new HashMap<>();
+        Map<String, List<Long>> branchIndex = new HashMap<>();
+        Map<String, Map<Integer, List<Long>>> depthIndex = new HashMap<>();
+
+        for(Map.Entry<String, List<CategoryNode>> entry : nodesByBranch.entrySet()){
+            List<CategoryNode> nodes = List.copyOf(entry.getValue());
+            branches.put(entry.getKey(), nodes);
+
+            Map<Long, List<Long>> children = new HashMap<>();
+            List<Long> roots = new ArrayList<>();
+            List<Long> branchIds = new ArrayList<>();
+            Map<Integer, List<Long>> depths = new TreeMap<>();
+
+            for(CategoryNode node : nodes){
+                branchIds.add(node.getCategoryId());
+                depths.computeIfAbsent(node.getDepth(), depth -> new ArrayList<>()).add(node.getCategoryId());
+
+                if(node.getParentCategoryId() == null)
+                    roots.add(node.getCategoryId());
+                else
+                    children.computeIfAbsent(node.getParentCategoryId(), id -> new ArrayList<>()).add(node.getCategoryId());
+            }
+
+            for(Long rootId : roots)
+                collectSubtree(rootId, children, subtrees);
+
+            Map<Integer, List<Long>> immutableDepths = new TreeMap<>();
+            depths.forEach((depth, ids) -> immutableDepths.put(depth, List.copyOf(ids)));
+
+            branchIndex.put(entry.getKey(), List.copyOf(branchIds));
+            depthIndex.put(entry.getKey(), Collections.unmodifiableMap(immutableDepths));
+        }
+
+        this.nodesByBranch = Collections.unmodifiableMap(branches);
+        this.subtreeIds = Collections.unmodifiableMap(subtrees);
+        this.idsByBranch = Collections.unmodifiableMap(branchIndex);
+        this.idsByBranchAndDepth = Collections.unmodifiableMap(depthIndex);
+    }
+
+    public static CategoryTree empty(){
+        return EMPTY;
+    }
+
+    /**
+     * 그룹별 카테고리 행 정보로 카테고리 트리 스냅샷을 생성하는 메소드.
+     * @param nodesByBranch 그룹별 카테고리 행 정보.
+     * @return CategoryTree 카테고리 트리 스냅샷.
+     */
+    public static CategoryTree of(Map<String, List<CategoryNode>> nodesByBranch){
+        return new CategoryTree(nodesByBranch);
+    }
+
+    /**
+     * 특정 그룹만 교체한 새로운 카테고리 트리 스냅샷을 생성하는 메소드.
+     * 다른 그룹의 행 정보는 그대로 재사용합니다.
+     * @param branch 교체 할 카테고리 그룹.
+     * @param nodes 교체 할 그룹의 카테고리 행 정보. (비어 있는 경우, 그룹을 제거합니다.)
+     * @return CategoryTree 새로운 카테고리 트리 스냅샷.
+     */
+    public CategoryTree withBranch(String branch, List<CategoryNode> nodes){
+        Map<String, List<CategoryNode>> branches = new HashMap<>(nodesByBranch);
+        if(nodes.isEmpty())
+            branches.remove(branch);
+        else
+            branches.put(branch, nodes);
+        return new CategoryTree(branches);
+    }
+
+    /**
+     * 카테고리의 자식 카테고리를 포함한 모든 카테고리 아이디 리스트를 반환하는 메소드.
+     * @param categoryId 카테고리 도메인 아이디.
+     * @return Optional<List<Long>> 변경 불가능한 카테고리 아이디 리스트. (트리에 존재하지 않는 카테고리인 경우 empty.)
+     */
+    public Optional<List<Long>> getSubtreeIds(Long categoryId){
+        return Optional.ofNullable(subtreeIds.get(categoryId));
+    }
+
+    /**
+     * @param branch 카테고리 그룹.
+     * @return List<Long> 그룹에 속한 모든 카테고리 아이디 리스트.
+     */
+    public List<Long> getCategoryIdsByBranch(String branch){
+        return idsByBranch.getOrDefault(branch, Collections.emptyList());
+    }
+
+    /**
+     * @param branch 카테고리 그룹.
+     * @param depth 카테고리 깊이.
+     * @return List<Long> 그룹내 특정 깊이에 위치한 카테고리 아이디 리스트.
+     */
+    public List<Long> getCategoryIdsByDepth(String branch, int depth){
+        return idsByBranchAndDepth.getOrDefault(branch, Collections.emptyMap())
+                .getOrDefault(depth, Collections.emptyList());
+    }
+
+    /**
+     * @param branch 카테고리 그룹.
+     * @return List<CategoryNode> 그룹에 속한 카테고리 행 정보.
+     */
+    public List<CategoryNode> getNodes(String branch){
+        return nodesByBranch.getOrDefault(branch, Collections.emptyList());
+    }
+
+    /**
+     * 카테고리 code 로 카테고리 행 정보를 조회하는 메소드.
+     * @param categoryCode 카테고리 code.
+     * @return Optional<CategoryNode> 처음으로 찾은 카테고리 행 정보.
+     */
+    public Optional<CategoryNode> findByCategoryCode(CategoryCode categoryCode){
+        return nodesByBranch.values()
+                .stream()
+                .flatMap(List::stream)
+                .filter(node -> node.getCategoryCode() == categoryCode)
+                .findFirst();
+    }
+
+    /**
+     * 카테고리 그룹의 최상위(ROOT) 카테고리 행 정보를 조회하는 메소드.
+     * @param branch 카테고리 그룹.
+     * @return Optional<CategoryNode> ROOT 카테고리 행 정보.
+     */
+    public Optional<CategoryNode> findRootCategory(String branch){
+        return getNodes(branch)
+                .stream()
+                .filter(node -> node.getParentCategoryId() == null && "ROOT".equals(node.getName()))
+                .findFirst();
+    }
+
+    /**
+     * 후위 순회로 하위 카테고리 아이디 목록을 계산하는 메소드.
+     * 자식의 목록을 먼저 계산하고 이어 붙이기 때문에, 각 카테고리의 목록은 한번씩만 계산됩니다.
+     */
+    private static List<Long> collectSubtree(Long categoryId, Map<Long, List<Long>> children, Map<Long, List<Long>> subtrees){
+        List<Long> ids = new ArrayList<>();
+        ids.add(categoryId);
+
+        for(Long childId : children.getOrDefault(categoryId, Collections.emptyList()))
+            ids.addAll(collectSubtree(childId, children, subtrees));
+
+        List<Long> immutableIds = List.copyOf(ids);
+        subtrees.put(categoryId, immutableIds);
+        return immutableIds;
+    }
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -47,5 +48,19 @@ public class CategoryDTO {
                 .collect(Collectors.toMap(Category::getCategoryId, CategoryDTO::new));
     }
 
-
+    /**
+     * 연관관계 로딩 없이, 조회한 카테고리 행 정보로 DTO 를 생성하는 생성자.
+     * 자식 카테고리는 CategoryDTOAssembler 에서 연결합니다.
+     * @param node 카테고리 행 정보.
+     * @param parentCategoryName 부모 카테고리 이름. (부모가 없는 경우 null.)
+     */
+    public CategoryDTO(CategoryNode node, String parentCategoryName) {
+        this.categoryId = node.getCategoryId();
+        this.branch = node.getBranch();
+        this.name = node.getName();
+        this.depth = node.getDepth();
+        this.code = node.getCategoryCode() == null ? 0 : node.getCategoryCode().getCode();
+        this.parentCategoryName = parentCategoryName == null ? "대분류" : parentCategoryName;
+        this.child = new LinkedHashMap<>();
+    }
 }
@@ -0,0 +1,37 @@
+package com.allan.shoppingMall.domains.category.domain.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리 행 정보 목록으로 CategoryDTO 트리를 구성하는 클래스 입니다.
+ * CategoryDTO(Category) 생성자는 자식, 부모 카테고리를 지연 로딩하여 카테고리 수 만큼 쿼리가 발생하지만,
+ * 이 클래스는 한번에 조회한 행 정보를 메모리에서 한번만 순회하며 부모, 자식 카테고리를 연결합니다.
+ */
+public final class CategoryDTOAssembler {
+
+    private CategoryDTOAssembler() {
+    }
+
+    /**
+     * @param nodes 부모 카테고리가 자식 카테고리보다 먼저 위치하도록 정렬 된 카테고리 행 정보 목록.
+     * @param rootCategoryId 반환 할 최상위 카테고리 아이디.
+     * @return CategoryDTO 최상위 카테고리 DTO. (목록에 없는 경우 null.)
+     */
+    public static CategoryDTO assemble(List<CategoryNode> nodes, Long rootCategoryId){
+        Map<Long, CategoryDTO> categoryDTOs = new HashMap<>(nodes.size() * 2);
+
+        for(CategoryNode node : nodes){
+            CategoryDTO parentCategoryDTO = node.getParentCategoryId() == null ? null : categoryDTOs.get(node.getParentCategoryId());
+            CategoryDTO categoryDTO = new CategoryDTO(node, parentCategoryDTO == null ? null : parentCategoryDTO.getName());
+
+            if(parentCategoryDTO != null)
+                parentCategoryDTO.getChild().put(categoryDTO.getCategoryId(), categoryDTO);
+
+            categoryDTOs.put(categoryDTO.getCategoryId(), categoryDTO);
+        }
+
+        return categoryDTOs.get(rootCategoryId);
+    }
+}
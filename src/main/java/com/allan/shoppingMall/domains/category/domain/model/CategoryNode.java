@@ -0,0 +1,20 @@
+package com.allan.shoppingMall.domains.category.domain.model;
+
+import com.allan.shoppingMall.domains.category.domain.CategoryCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 카테고리 트리를 메모리에 구성하기 위해, 카테고리 테이블의 한 행을 평탄하게 조회한 projection 클래스 입니다.
+ * 연관관계(parentCategory, childCategory) 를 로딩하지 않도록 부모 카테고리는 아이디만 가지고 있습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CategoryNode {
+    private Long categoryId;
+    private Long parentCategoryId; // 최상위(ROOT) 카테고리인 경우 null.
+    private String branch;
+    private Integer depth;
+    private String name;
+    private CategoryCode categoryCode;
+}
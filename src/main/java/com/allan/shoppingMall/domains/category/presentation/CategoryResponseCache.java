@@ -0,0 +1,78 @@
+package com.allan.shoppingMall.domains.category.presentation;
+
+import com.allan.shoppingMall.domains.category.domain.CategoryTree;
+import com.allan.shoppingMall.domains.category.service.CategoryService;
+import com.allan.shoppingMall.domains.category.service.CategoryTreeHolder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 카테고리 조회 api 응답을 json byte 배열로 미리 직렬화 해두는 클래스 입니다.
+ * 직렬화 결과는 만들 때 사용한 카테고리 트리 스냅샷과 함께 보관하며,
+ * 스냅샷이 교체되지 않은 동안에는 직렬화 없이 같은 byte 배열과 ETag 를 재사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryResponseCache {
+
+    private final CategoryService categoryService;
+    private final CategoryTreeHolder categoryTreeHolder;
+    private final ObjectMapper objectMapper;
+
+    // 카테고리 그룹별 직렬화 결과.
+    private final Map<String, RenderedCategory> renderedBranches = new ConcurrentHashMap<>();
+
+    /**
+     * 특정 그룹의 카테고리 조회 응답을 반환하는 메소드.
+     * @param branch 조회 할 카테고리 그룹 정보.
+     * @return RenderedCategory 직렬화 된 응답 정보.
+     */
+    public RenderedCategory getEntireCategory(String branch){
+        CategoryTree tree = categoryTreeHolder.getTree();
+        RenderedCategory rendered = renderedBranches.get(branch);
+
+        if(rendered == null || rendered.getTree() != tree){
+            rendered = render(tree, new CategoryResponse(CategoryResult.GET_CATEGORY_SUCCESS, categoryService.getEntireCategoryByBranch(branch)));
+            renderedBranches.put(branch, rendered);
+        }
+
+        return rendered;
+    }
+
+    /**
+     * 캐싱하지 않는 응답(실패 응답 등) 을 json byte 배열로 직렬화 하는 메소드.
+     * @param categoryResponse category api 응답 오브젝트.
+     */
+    public byte[] write(CategoryResponse categoryResponse){
+        try {
+            return objectMapper.writeValueAsBytes(categoryResponse);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("카테고리 응답 정보를 직렬화 할 수 없습니다.", exception);
+        }
+    }
+
+    private RenderedCategory render(CategoryTree tree, CategoryResponse categoryResponse){
+        byte[] body = write(categoryResponse);
+        String eTag = "\"0" + DigestUtils.md5DigestAsHex(body) + "\"";
+        return new RenderedCategory(tree, body, eTag);
+    }
+
+    /**
+     * 직렬화 된 카테고리 조회 응답 정보.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class RenderedCategory {
+        private CategoryTree tree; // 직렬화에 사용한 카테고리 트리 스냅샷.
+        private byte[] body;
+        private String eTag;
+    }
+}
@@ -7,9 +7,12 @@ import com.allan.shoppingMall.domains.category.domain.model.CategoryRequest;
 import com.allan.shoppingMall.domains.category.service.CategoryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -17,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 public class RestCategoryController {
 
     private final CategoryService categoryService;
+    private final CategoryResponseCache categoryResponseCache;
 
     @ResponseBody
     @PostMapping("/category")
@@ -31,17 +35,36 @@ public class RestCategoryController {
         return new ResponseEntity<CategoryResponse>(new CategoryResponse(CategoryResult.SAVE_CATEGORY_SUCCESS), HttpStatus.OK);
     }
 
+    /**
+     * 특정 그룹의 카테고리 조회 메소드.
+     * 미리 직렬화 해 둔 응답을 ETag 와 함께 전달하며, 카테고리가 변경되지 않은 경우 304 응답을 반환합니다.
+     * @param branch 조회 할 카테고리 그룹 정보.
+     */
     @ResponseBody
     @GetMapping("/category/{branch}")
-    public ResponseEntity<CategoryResponse> getCategory(@PathVariable("branch")String branch){
-        CategoryDTO category = null;
+    public ResponseEntity<byte[]> getCategory(@PathVariable("branch")String branch, WebRequest webRequest){
+        CategoryResponseCache.RenderedCategory category = null;
         try {
-            category = categoryService.getEntireCategoryByBranch(branch);
+            category = categoryResponseCache.getEntireCategory(branch);
         }catch (CategoryNotFoundException exception){
-            return new ResponseEntity<CategoryResponse>(new CategoryResponse(branch + "관련 카테고리 정보를 찾을 수 없습니다.", false,
-                    CategoryErrorResponse.of(exception.getErrorCode())), HttpStatus.OK);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(categoryResponseCache.write(new CategoryResponse(branch + "관련 카테고리 정보를 찾을 수 없습니다.", false,
+                            CategoryErrorResponse.of(exception.getErrorCode()))));
         }
-        return new ResponseEntity<CategoryResponse>(new CategoryResponse(CategoryResult.GET_CATEGORY_SUCCESS, category), HttpStatus.OK);
+
+        if(webRequest.checkNotModified(category.getETag())){
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(category.getETag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(category.getETag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(category.getBody());
     }
 
     @ResponseBody
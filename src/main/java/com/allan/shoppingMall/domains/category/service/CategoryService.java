@@ -5,17 +5,20 @@ import com.allan.shoppingMall.common.exception.category.CategoryCreateFailExcept
 import com.allan.shoppingMall.common.exception.category.CategoryNotFoundException;
 import com.allan.shoppingMall.domains.category.domain.Category;
 import com.allan.shoppingMall.domains.category.domain.CategoryCode;
+import com.allan.shoppingMall.domains.category.domain.CategoryModifiedEvent;
 import com.allan.shoppingMall.domains.category.domain.CategoryRepository;
+import com.allan.shoppingMall.domains.category.domain.CategoryTree;
 import com.allan.shoppingMall.domains.category.domain.model.CategoryDTO;
+import com.allan.shoppingMall.domains.category.domain.model.CategoryDTOAssembler;
+import com.allan.shoppingMall.domains.category.domain.model.CategoryNode;
 import com.allan.shoppingMall.domains.category.domain.model.CategoryRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -27,6 +30,8 @@ import java.util.List;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryTreeHolder categoryTreeHolder;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 카테고리를 저장하는 메소드.
@@ -82,8 +87,10 @@ public class CategoryService {
                 .build();
         }
 
-        return categoryRepository.save(category).getCategoryId();
+        Long categoryId = categoryRepository.save(category).getCategoryId();
+        eventPublisher.publishEvent(new CategoryModifiedEvent(category.getBranch()));
 
+        return categoryId;
     }
 
     /**
@@ -92,12 +99,11 @@ public class CategoryService {
      * @return categoryDTO 카테고리 DTO 오브젝트.
      */
     public CategoryDTO getEntireCategoryByBranch(String branch){
-        Category findCategory = categoryRepository.findByBranchAndName(branch, "ROOT").orElseThrow(() ->
+        CategoryTree tree = categoryTreeHolder.getTree();
+        CategoryNode rootCategory = tree.findRootCategory(branch).orElseThrow(() ->
                 new CategoryNotFoundException("찾는 대분류 카테고리가 존재하지 않습니다.",ErrorCode.ENTITY_NOT_FOUND));
 
-        CategoryDTO categoryDTO = new CategoryDTO(findCategory);
-
-       return categoryDTO;
+        return CategoryDTOAssembler.assemble(tree.getNodes(branch), rootCategory.getCategoryId());
     }
 
     /**
@@ -107,45 +113,22 @@ public class CategoryService {
     @Cacheable(value = "shopCategoryCaching", key = "'shopCategory'")
     public CategoryDTO getShopCategoryByBranch(){
         log.info("getShopCategory call!!");
-        Category findCategory = categoryRepository.findByCategoryCode(CategoryCode.SHOP).orElseThrow(() ->
+        CategoryTree tree = categoryTreeHolder.getTree();
+        CategoryNode shopCategory = tree.findByCategoryCode(CategoryCode.SHOP).orElseThrow(() ->
                 new CategoryNotFoundException("shop 카테고리를 조회 할 수 없습니다.", ErrorCode.ENTITY_NOT_FOUND));
 
-        CategoryDTO categoryDTO = new CategoryDTO(findCategory);
-
-        return categoryDTO;
+        return CategoryDTOAssembler.assemble(tree.getNodes(shopCategory.getBranch()), shopCategory.getCategoryId());
     }
 
     /**
      * 카테고리의 자식 카테고리를 포함한 모든 카테고리 아이디 리스트를 반환하는 메소드.
+     * 메모리에 올려둔 카테고리 트리 스냅샷에서 조회하기 때문에, DB 에 접근하지 않습니다.
      * @param categoryId 카테고리 도메인 아이디.
-     * @return List<Long> 카테고리 도메인 아이디 리스트.
+     * @return List<Long> 변경 불가능한 카테고리 도메인 아이디 리스트.
      */
     public List<Long> getCategoryIds(Long categoryId){
-        Category findCategory = categoryRepository.findById(categoryId).orElseThrow(() ->
+        return categoryTreeHolder.getTree().getSubtreeIds(categoryId).orElseThrow(() ->
                 new CategoryNotFoundException(ErrorCode.ENTITY_NOT_FOUND));
-
-        List<Long> categoryIdList = new ArrayList<>();
-        categoryIdList.add(findCategory.getCategoryId());
-
-        addChildCategoryId(categoryIdList, findCategory);
-
-        return categoryIdList;
-    }
-
-
-    /** 연관된 모든 자식 카테고리 아이디를 리스트에 추가하는 메소드.
-     * 재귀를 통해, 모든 자식 카테고리 아이디를 조회합니다.
-     * @param categoryIdList
-     * @param parentCategory
-     */
-    private void addChildCategoryId(List<Long> categoryIdList, Category parentCategory){
-        if(parentCategory.getChildCategory().size() == 0)
-            return;
-
-        for(Category childCategory : parentCategory.getChildCategory()){
-            categoryIdList.add(childCategory.getCategoryId());
-            addChildCategoryId(categoryIdList, childCategory);
-        }
     }
 
     /**
@@ -154,12 +137,12 @@ public class CategoryService {
      * @return category domain id.
      */
     @Transactional(rollbackFor = {Exception.class, Error.class})
-    @CacheEvict(value = {"shopCategoryCaching"}, allEntries = true)
     public Long updateCategory(Long categoryId, CategoryRequest categoryRequest){
         Category findCategory = categoryRepository.findById(categoryId).orElseThrow(() ->
                 new CategoryNotFoundException(ErrorCode.ENTITY_NOT_FOUND));
 
         findCategory.changeName(categoryRequest.getName());
+        eventPublisher.publishEvent(new CategoryModifiedEvent(findCategory.getBranch()));
         return findCategory.getCategoryId();
     }
 
@@ -181,6 +164,7 @@ public class CategoryService {
                 categoryRepository.delete(findCategory);
             }
         }
+        eventPublisher.publishEvent(new CategoryModifiedEvent(findCategory.getBranch()));
         return findCategory.getCategoryId();
     }
 }
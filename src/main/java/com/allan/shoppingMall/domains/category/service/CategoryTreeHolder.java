@@ -0,0 +1,94 @@
+package com.allan.shoppingMall.domains.category.service;
+
+import com.allan.shoppingMall.domains.category.domain.CategoryModifiedEvent;
+import com.allan.shoppingMall.domains.category.domain.CategoryRepository;
+import com.allan.shoppingMall.domains.category.domain.CategoryTree;
+import com.allan.shoppingMall.domains.category.domain.model.CategoryNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 카테고리 트리 스냅샷(CategoryTree) 을 보관하는 클래스 입니다.
+ * 조회 요청은 현재 스냅샷을 읽기만 하고, 카테고리 변경 트랜잭션이 커밋 된 후에 변경 된 그룹만 다시 조회하여
+ * 새로운 스냅샷으로 원자적으로 교체합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryTreeHolder {
+
+    private final CategoryRepository categoryRepository;
+
+    private final AtomicReference<CategoryTree> snapshot = new AtomicReference<>();
+
+    /**
+     * 현재 카테고리 트리 스냅샷을 반환하는 메소드.
+     * 아직 스냅샷이 만들어지지 않은 경우, 전체 그룹을 조회하여 생성합니다.
+     * @return CategoryTree 카테고리 트리 스냅샷.
+     */
+    public CategoryTree getTree(){
+        CategoryTree tree = snapshot.get();
+        if(tree == null)
+            tree = reload();
+        return tree;
+    }
+
+    /**
+     * 애플리케이션 구동 완료 후, 카테고리 트리 스냅샷을 미리 생성합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp(){
+        reload();
+    }
+
+    /**
+     * 카테고리 변경 트랜잭션이 커밋 된 후, 변경 된 그룹의 스냅샷을 교체합니다.
+     * 롤백 된 변경은 반영되지 않도록 커밋 이후에만 동작하며,
+     * 교체가 끝난 뒤 shop 카테고리 캐시를 비워 이전 스냅샷으로 만든 카테고리 정보가 남지 않도록 합니다.
+     */
+    @CacheEvict(value = {"shopCategoryCaching"}, allEntries = true)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleEvent(CategoryModifiedEvent event){
+        log.info("CategoryModifiedEvent handler call! branch: " + event.getBranch());
+        reload(event.getBranch());
+    }
+
+    /**
+     * 모든 카테고리 그룹을 그룹별 한번의 쿼리로 조회하여 스냅샷을 교체하는 메소드.
+     * 여러 트랜잭션의 재구성 작업이 겹치더라도 나중에 시작한 작업이 마지막에 반영되도록 동기화합니다.
+     */
+    public synchronized CategoryTree reload(){
+        Map<String, List<CategoryNode>> nodesByBranch = new HashMap<>();
+        for(String branch : categoryRepository.findAllBranches())
+            nodesByBranch.put(branch, categoryRepository.findCategoryNodesByBranch(branch));
+
+        CategoryTree tree = CategoryTree.of(nodesByBranch);
+        snapshot.set(tree);
+        return tree;
+    }
+
+    /**
+     * 특정 카테고리 그룹만 다시 조회하여 스냅샷을 교체하는 메소드.
+     * @param branch 카테고리 그룹.
+     */
+    public synchronized CategoryTree reload(String branch){
+        CategoryTree current = snapshot.get();
+        if(current == null)
+            return reload();
+
+        CategoryTree tree = current.withBranch(branch, categoryRepository.findCategoryNodesByBranch(branch));
+        snapshot.set(tree);
+        return tree;
+    }
+}
@@ -16,7 +16,8 @@ import javax.persistence.*;
 @Getter
 public class Delivery extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "deliveries_seq_generator")
+    @SequenceGenerator(name = "deliveries_seq_generator", sequenceName = "deliveries_seq", allocationSize = 50)
     private Long deliveryId;
 
     @Column(name = "delivery_status", nullable = false)
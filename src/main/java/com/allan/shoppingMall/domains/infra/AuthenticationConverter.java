@@ -20,6 +20,6 @@ public class AuthenticationConverter {
         if(authentication instanceof UsernamePasswordAuthenticationToken){
             authId = authentication.getName();
         }
-        return memberRepository.findByAuthIdLike(authId).orElseThrow(() -> new MemberNotFoundException(ErrorCode.ENTITY_NOT_FOUND.getMessage(), ErrorCode.ENTITY_NOT_FOUND));
+        return memberRepository.findByAuthId(authId).orElseThrow(() -> new MemberNotFoundException(ErrorCode.ENTITY_NOT_FOUND.getMessage(), ErrorCode.ENTITY_NOT_FOUND));
     }
 }
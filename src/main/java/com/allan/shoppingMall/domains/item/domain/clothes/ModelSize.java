@@ -18,7 +18,8 @@ import javax.persistence.*;
 @Table(name = "model_sizes")
 public class ModelSize extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "model_sizes_seq_generator")
+    @SequenceGenerator(name = "model_sizes_seq_generator", sequenceName = "model_sizes_seq", allocationSize = 50)
     private Long ModelSizeId;
 
     @ManyToOne(fetch = FetchType.LAZY)
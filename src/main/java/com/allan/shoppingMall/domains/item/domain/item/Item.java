@@ -20,7 +20,8 @@ import java.util.List;
 @NoArgsConstructor
 @Slf4j
 public class Item extends BaseEntity {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "items_seq_generator")
+    @SequenceGenerator(name = "items_seq_generator", sequenceName = "items_seq", allocationSize = 50)
     private Long itemId;
 
     @Column(nullable = false)
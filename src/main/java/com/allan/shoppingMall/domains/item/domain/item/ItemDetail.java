@@ -19,7 +19,8 @@ import javax.persistence.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ItemDetail extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "item_details_seq_generator")
+    @SequenceGenerator(name = "item_details_seq_generator", sequenceName = "item_details_seq", allocationSize = 50)
     private Long itemDetailId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -19,7 +19,8 @@ import javax.persistence.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ItemFabric extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "item_fabrics_seq_generator")
+    @SequenceGenerator(name = "item_fabrics_seq_generator", sequenceName = "item_fabrics_seq", allocationSize = 50)
     private Long itemFabricId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -15,15 +15,16 @@ import javax.persistence.*;
  * 저장합니다. (원본파일명은 별도로 저장합니다.)
  * itemImageName: 이미지 파일의 원본이름을 저장하는 필드.
  * itemImagePath: 애플리케이션 내 이미지 파일의 저장 경로.
+ * contentHash: 이미지 내용의 SHA-256 값. 같은 이미지는 같은 파일을 참조하며, 파일을 참조하는 ItemImage 수로 정리 여부를 판단합니다.
  */
 
 @Entity
-@Table(name = "itemImages")
+@Table(name = "itemImages", indexes = @Index(name = "idx_item_images_content_hash", columnList = "content_hash"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ItemImage extends BaseEntity {
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "item_images_seq_generator")
+    @SequenceGenerator(name = "item_images_seq_generator", sequenceName = "item_images_seq", allocationSize = 50)
     private Long itemImageId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -43,12 +44,17 @@ public class ItemImage extends BaseEntity {
     @Column(nullable = false, name = "image_size")
     private Long imageSize;
 
+    // 해시 기반 저장소 도입 전에 저장 된 이미지는 null.
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @Builder
-    public ItemImage(String originalItemImageName, String itemImagePath, ImageType imageType, Long imageSize) {
+    public ItemImage(String originalItemImageName, String itemImagePath, ImageType imageType, Long imageSize, String contentHash) {
         this.originalItemImageName = originalItemImageName;
         this.itemImagePath = itemImagePath;
         this.imageType = imageType;
         this.imageSize = imageSize;
+        this.contentHash = contentHash;
     }
 
     /**
@@ -60,6 +66,15 @@ public class ItemImage extends BaseEntity {
         this.item = item;
     }
 
+    /**
+     * 이미지 저장소 이전시 저장 경로와 해시 값을 변경하는 메소드.
+     * @param itemImagePath 새로운 저장소의 경로.
+     * @param contentHash 이미지 내용의 SHA-256 값.
+     */
+    public void changeStoredImage(String itemImagePath, String contentHash) {
+        this.itemImagePath = itemImagePath;
+        this.contentHash = contentHash;
+    }
 
     @Override
     public String toString() {
@@ -70,6 +85,7 @@ public class ItemImage extends BaseEntity {
                 ", itemImagePath='" + itemImagePath + '\'' +
                 ", imageType=" + imageType +
                 ", imageSize=" + imageSize +
+                ", contentHash='" + contentHash + '\'' +
                 '}';
     }
 }
@@ -0,0 +1,10 @@
+package com.allan.shoppingMall.domains.item.domain.item;
+
+/**
+ * ItemImage 의 아이디와 저장 경로, 해시 값만 조회하기 위한 projection 인터페이스 입니다.
+ */
+public interface ItemImagePathView {
+    Long getItemImageId();
+    String getItemImagePath();
+    String getContentHash();
+}
@@ -1,6 +1,29 @@
 package com.allan.shoppingMall.domains.item.domain.item;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Set;
 
 public interface ItemImageRepository extends JpaRepository<ItemImage, Long> {
+
+    /**
+     * 최근 저장 된 이미지의 아이디와 저장 경로를 조회하는 메소드. (이미지 메타데이터 캐시 warm up 용.)
+     * @param pageable 조회 할 이미지 수.
+     */
+    List<ItemImagePathView> findAllByOrderByItemImageIdDesc(Pageable pageable);
+
+    /**
+     * 이미지 파일을 참조하는 ItemImage 수를 조회하는 메소드.
+     * @param contentHash 이미지 내용의 SHA-256 값.
+     */
+    long countByContentHash(String contentHash);
+
+    /**
+     * ItemImage 도메인이 참조하고 있는 모든 이미지 해시 값을 조회하는 메소드.
+     */
+    @Query("select distinct i.contentHash from ItemImage i where i.contentHash is not null")
+    Set<String> findAllContentHashes();
 }
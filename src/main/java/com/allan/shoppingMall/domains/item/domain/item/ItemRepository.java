@@ -3,12 +3,13 @@ package com.allan.shoppingMall.domains.item.domain.item;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
-public interface ItemRepository extends JpaRepository<Item, Long> {
+public interface ItemRepository extends JpaRepository<Item, Long>, ItemRepositoryCustom {
 
     /**
      * 특정 카테고리의 상품 페이징 정보를 반환하는 메소드.
@@ -32,4 +33,24 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
      */
     @Query("select distinct i from Item i join i.categoryItems c")
     public Page<Item> getAllItems(Pageable pageable);
+
+    /**
+     * 상품 전체 재고량이 주문 수량 이상인 경우에만 재고량을 감소하는 메소드.
+     * @param itemId 상품 도메인 아이디.
+     * @param quantity 주문 수량.
+     * @return int 변경 된 row 수. (재고량이 부족한 경우 0)
+     */
+    @Modifying
+    @Query("update Item i set i.stockQuantity = i.stockQuantity - :quantity where i.itemId = :itemId and i.stockQuantity >= :quantity")
+    public int decreaseStockQuantity(@Param("itemId") Long itemId, @Param("quantity") Long quantity);
+
+    /**
+     * 주문 취소시 상품 전체 재고량을 복구하는 메소드.
+     * @param itemId 상품 도메인 아이디.
+     * @param quantity 주문 수량.
+     * @return int 변경 된 row 수.
+     */
+    @Modifying
+    @Query("update Item i set i.stockQuantity = i.stockQuantity + :quantity where i.itemId = :itemId")
+    public int increaseStockQuantity(@Param("itemId") Long itemId, @Param("quantity") Long quantity);
 }
@@ -0,0 +1,50 @@
+package com.allan.shoppingMall.domains.item.domain.item;
+
+import com.allan.shoppingMall.domains.item.domain.model.ItemCursor;
+import com.allan.shoppingMall.domains.item.domain.model.ItemCursorPage;
+import com.allan.shoppingMall.domains.item.domain.model.ItemSummaryDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 상품 목록 페이지에서 사용하는 조회 전용 쿼리를 정의한 인터페이스.
+ * (구현은 Querydsl 을 사용하는 ItemRepositoryImpl 을 참고 해 주세요.)
+ */
+public interface ItemRepositoryCustom {
+
+    /**
+     * 카테고리 아이디 리스트에 해당하는 상품 요약 정보를 페이징하여 반환하는 메소드.
+     * 상품 엔티티를 로딩하지 않고, 상품 목록에 필요한 컬럼만 조회합니다.
+     * @param categoryIds 카테고리 도메인 아이디 리스트.
+     * @param pageable 페이징 정보.
+     * @return Page<ItemSummaryDTO>
+     */
+    Page<ItemSummaryDTO> getItemSummariesByCategoryIds(List<Long> categoryIds, Pageable pageable);
+
+    /**
+     * 모든 상품 요약 정보를 페이징하여 반환하는 메소드.(관리자 상품 목록용)
+     * @param pageable 페이징 정보.
+     * @return Page<ItemSummaryDTO>
+     */
+    Page<ItemSummaryDTO> getAllItemSummaries(Pageable pageable);
+
+    /**
+     * 카테고리 아이디 리스트에 해당하는 상품 요약 정보를 keyset(seek) 페이징하여 반환하는 메소드.
+     * (createdDate, itemId) 내림차순으로 정렬하며, 커서 이후의 상품만 조회하기 때문에 페이지가 깊어져도 조회 비용이 일정합니다.
+     * 전체 상품 수는 조회하지 않습니다.(countItemsByCategoryIds() 참고)
+     * @param categoryIds 카테고리 도메인 아이디 리스트.
+     * @param cursor 이전 페이지 마지막 상품의 커서 정보.(첫 페이지인 경우 null)
+     * @param size 페이지 크기.
+     * @return ItemCursorPage
+     */
+    ItemCursorPage getItemSummariesByCategoryIds(List<Long> categoryIds, ItemCursor cursor, int size);
+
+    /**
+     * 카테고리 아이디 리스트에 해당하는 전체 상품 수를 반환하는 메소드.
+     * @param categoryIds 카테고리 도메인 아이디 리스트.
+     * @return long 상품 수.
+     */
+    long countItemsByCategoryIds(List<Long> categoryIds);
+}
@@ -0,0 +1,177 @@
+package com.allan.shoppingMall.domains.item.domain.item;
+
+import com.allan.shoppingMall.domains.category.domain.CategoryCode;
+import com.allan.shoppingMall.domains.category.domain.QCategoryItem;
+import com.allan.shoppingMall.domains.item.domain.model.ItemCursor;
+import com.allan.shoppingMall.domains.item.domain.model.ItemCursorPage;
+import com.allan.shoppingMall.domains.item.domain.model.ItemSummaryDTO;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import javax.persistence.EntityManager;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.allan.shoppingMall.domains.category.domain.QCategory.category;
+import static com.allan.shoppingMall.domains.category.domain.QCategoryItem.categoryItem;
+import static com.allan.shoppingMall.domains.item.domain.item.QItem.item;
+import static com.allan.shoppingMall.domains.item.domain.item.QItemImage.itemImage;
+
+/**
+ * ItemRepositoryCustom 의 Querydsl 구현체.
+ * 상품 목록 한 페이지를 조회 할 때, 다음과 같이 고정된 횟수의 쿼리만 실행합니다.
+ * 1) 상품 + 상품 카테고리(CLOTHES, ACCESSORY) 조회.
+ * 2) 조회 된 상품들의 미리보기 이미지 아이디 조회.
+ * 3) 전체 상품 수 조회.(offset 페이징에서 필요한 경우에만 실행)
+ */
+public class ItemRepositoryImpl implements ItemRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    public ItemRepositoryImpl(EntityManager em) {
+        this.queryFactory = new JPAQueryFactory(em);
+    }
+
+    @Override
+    public Page<ItemSummaryDTO> getItemSummariesByCategoryIds(List<Long> categoryIds, Pageable pageable) {
+        return getItemSummaries(inCategories(categoryIds), pageable);
+    }
+
+    @Override
+    public Page<ItemSummaryDTO> getAllItemSummaries(Pageable pageable) {
+        return getItemSummaries(null, pageable);
+    }
+
+    @Override
+    public ItemCursorPage getItemSummariesByCategoryIds(List<Long> categoryIds, ItemCursor cursor, int size) {
+        // 다음 페이지 존재 여부를 확인하기 위해 한개를 더 조회.
+        List<Tuple> rows = summaryRowQuery(inCategories(categoryIds), afterCursor(cursor))
+                .limit(size + 1)
+                .fetch();
+
+        ItemCursor nextCursor = null;
+        if(rows.size() > size){
+            rows = rows.subList(0, size);
+            Tuple last = rows.get(size - 1);
+            nextCursor = ItemCursor.of(last.get(item.createdDate), last.get(item.itemId));
+        }
+
+        return new ItemCursorPage(toItemSummaries(rows), nextCursor);
+    }
+
+    @Override
+    public long countItemsByCategoryIds(List<Long> categoryIds) {
+        return countQuery(inCategories(categoryIds)).fetchOne();
+    }
+
+    private Page<ItemSummaryDTO> getItemSummaries(BooleanExpression condition, Pageable pageable){
+        List<Tuple> rows = summaryRowQuery(condition)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return PageableExecutionUtils.getPage(toItemSummaries(rows), pageable, countQuery(condition)::fetchOne);
+    }
+
+    /**
+     * 상품 정보와 상품을 구분하는 카테고리(CLOTHES, ACCESSORY) 아이디를 한번에 조회하는 쿼리.
+     * (createdDate, itemId) 내림차순으로 정렬합니다.
+     */
+    private JPAQuery<Tuple> summaryRowQuery(Predicate... conditions){
+        return queryFactory
+                .select(item.itemId, item.name, item.price, item.color, item.createdDate, category.categoryId)
+                .from(item)
+                .join(item.categoryItems, categoryItem)
+                .join(categoryItem.category, category)
+                .where(category.categoryCode.in(CategoryCode.CLOTHES, CategoryCode.ACCESSORY))
+                .where(conditions)
+                .orderBy(item.createdDate.desc(), item.itemId.desc());
+    }
+
+    private JPAQuery<Long> countQuery(BooleanExpression condition){
+        return queryFactory
+                .select(item.count())
+                .from(item)
+                .join(item.categoryItems, categoryItem)
+                .join(categoryItem.category, category)
+                .where(category.categoryCode.in(CategoryCode.CLOTHES, CategoryCode.ACCESSORY), condition);
+    }
+
+    /**
+     * 조회 된 상품 row 를 ItemSummaryDTO 로 변환하는 메소드.
+     * 미리보기 이미지는 조회 된 상품들에 대해 한번의 쿼리로 조회합니다.
+     */
+    private List<ItemSummaryDTO> toItemSummaries(List<Tuple> rows){
+        List<Long> itemIds = rows.stream()
+                .map(row -> row.get(item.itemId))
+                .collect(Collectors.toList());
+
+        Map<Long, List<Long>> previewImageIds = getPreviewImageIds(itemIds);
+
+        return rows.stream()
+                .map(row -> {
+                    Long itemId = row.get(item.itemId);
+                    return ItemSummaryDTO.builder()
+                            .itemId(itemId)
+                            .name(row.get(item.name))
+                            .price(row.get(item.price))
+                            .itemColor(row.get(item.color).getDesc())
+                            .profileImageIds(previewImageIds.getOrDefault(itemId, new ArrayList<>()))
+                            .categoryId(row.get(category.categoryId))
+                            .createdDate(row.get(item.createdDate))
+                            .build();
+                }).collect(Collectors.toList());
+    }
+
+    /**
+     * 상품 아이디 리스트에 해당하는 미리보기(PREVIEW) 이미지 아이디를 한번의 쿼리로 조회하는 메소드.
+     * @param itemIds 상품 도메인 아이디 리스트.
+     * @return Map<상품 아이디, 미리보기 이미지 아이디 리스트>
+     */
+    private Map<Long, List<Long>> getPreviewImageIds(List<Long> itemIds){
+        if(itemIds.isEmpty())
+            return Collections.emptyMap();
+
+        return queryFactory
+                .select(itemImage.item.itemId, itemImage.itemImageId)
+                .from(itemImage)
+                .where(itemImage.item.itemId.in(itemIds), itemImage.imageType.eq(ImageType.PREVIEW))
+                .orderBy(itemImage.itemImageId.asc())
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(row -> row.get(itemImage.item.itemId),
+                        Collectors.mapping(row -> row.get(itemImage.itemImageId), Collectors.toList())));
+    }
+
+    /**
+     * 상품이 카테고리 아이디 리스트 중 하나의 카테고리에 속하는지 확인하는 조건.
+     * @param categoryIds 카테고리 도메인 아이디 리스트.
+     */
+    private BooleanExpression inCategories(List<Long> categoryIds){
+        QCategoryItem subCategoryItem = new QCategoryItem("subCategoryItem");
+        return item.itemId.in(
+                JPAExpressions
+                        .select(subCategoryItem.item.itemId)
+                        .from(subCategoryItem)
+                        .where(subCategoryItem.category.categoryId.in(categoryIds)));
+    }
+
+    /**
+     * (createdDate, itemId) 내림차순 기준으로 커서 이후의 상품인지 확인하는 조건.
+     * @param cursor 이전 페이지 마지막 상품의 커서 정보.(첫 페이지인 경우 조건 없음)
+     */
+    private BooleanExpression afterCursor(ItemCursor cursor){
+        if(cursor == null)
+            return null;
+
+        return item.createdDate.lt(cursor.getCreatedDate())
+                .or(item.createdDate.eq(cursor.getCreatedDate()).and(item.itemId.lt(cursor.getItemId())));
+    }
+}
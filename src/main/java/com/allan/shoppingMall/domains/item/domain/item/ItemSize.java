@@ -25,12 +25,13 @@ import java.util.Objects;
 @Getter
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "dtype")
-@Table(name = "itemSizes")
+@Table(name = "itemSizes", indexes = @Index(name = "idx_item_sizes_item_size", columnList = "item_id, clothes_size"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Slf4j
 public class ItemSize extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "item_sizes_seq_generator")
+    @SequenceGenerator(name = "item_sizes_seq_generator", sequenceName = "item_sizes_seq", allocationSize = 50)
     private Long itemSizeId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,4 +21,38 @@ public interface ItemSizeRepository extends JpaRepository<ItemSize, Long> {
     @Query("select size from ItemSize size where size.item = :item and size.sizeLabel = :sizeLabel")
     public Optional<ItemSize> getItemSizebySizelabel(@Param("item") Item item, @Param("sizeLabel") SizeLabel sizeLabel);
 
+    /**
+     * 여러 상품의 상품 사이즈 도메인을 한번에 반환하는 메소드.
+     * @param itemIds 상품 도메인 아이디 리스트.
+     */
+    @Query("select size from ItemSize size where size.item.itemId in :itemIds")
+    public List<ItemSize> getItemSizesByItemIds(@Param("itemIds") Collection<Long> itemIds);
+
+    /**
+     * 사이즈 재고량이 주문 수량 이상인 경우에만 재고량을 감소하는 메소드.
+     * 조회 후 엔티티 값을 변경하지 않고 update 쿼리 하나로 처리하므로, 동시에 주문하더라도 재고량이 음수가 되지 않습니다.
+     * @param itemSizeId 상품 사이즈 도메인 아이디.
+     * @param quantity 주문 수량.
+     * @return int 변경 된 row 수. (재고량이 부족한 경우 0)
+     */
+    @Modifying
+    @Query("update ItemSize size set size.stockQuantity = size.stockQuantity - :quantity " +
+            "where size.itemSizeId = :itemSizeId and size.stockQuantity >= :quantity")
+    public int decreaseStockQuantity(@Param("itemSizeId") Long itemSizeId, @Param("quantity") Long quantity);
+
+    /**
+     * 주문 취소시 사이즈 재고량을 복구하는 메소드.
+     * @param itemSizeId 상품 사이즈 도메인 아이디.
+     * @param quantity 주문 수량.
+     * @return int 변경 된 row 수.
+     */
+    @Modifying
+    @Query("update ItemSize size set size.stockQuantity = size.stockQuantity + :quantity where size.itemSizeId = :itemSizeId")
+    public int increaseStockQuantity(@Param("itemSizeId") Long itemSizeId, @Param("quantity") Long quantity);
+
+    /**
+     * 모든 상품 사이즈의 재고량을 조회하는 메소드. (재고량 metric 용.)
+     */
+    @Query("select size.itemSizeId as itemSizeId, size.stockQuantity as stockQuantity from ItemSize size")
+    public List<ItemSizeStockView> findAllStockQuantities();
 }
@@ -0,0 +1,11 @@
+package com.allan.shoppingMall.domains.item.domain.item;
+
+/**
+ * 상품 사이즈 별 재고량 조회 결과. (재고량 metric 용.)
+ */
+public interface ItemSizeStockView {
+
+    Long getItemSizeId();
+
+    Long getStockQuantity();
+}
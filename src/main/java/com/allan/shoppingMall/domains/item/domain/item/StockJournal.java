@@ -0,0 +1,43 @@
+package com.allan.shoppingMall.domains.item.domain.item;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 'hot item' 모드의 상품 사이즈 재고 변경 내역을 기록하는 엔티티.
+ *
+ * hot item 의 재고량은 메모리(HotStockLedger) 에서 차감하고, 주문 트랜잭션에서는 변경 내역만 insert 합니다.
+ * 기록 된 내역은 HotStockWriteBack 에서 상품 사이즈 별로 합산해 itemSizes, items 테이블에 반영 후 삭제하며,
+ * 반영 되기 전 애플리케이션이 종료 되더라도 남은 내역으로 재시작시 재고량을 맞춥니다.
+ * quantity: 차감한 재고량. (주문 취소로 복구한 경우 음수)
+ */
+@Entity
+@Table(name = "stock_journals")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockJournal {
+
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_journals_seq_generator")
+    @SequenceGenerator(name = "stock_journals_seq_generator", sequenceName = "stock_journals_seq", allocationSize = 50)
+    private Long journalId;
+
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    @Column(name = "item_size_id", nullable = false)
+    private Long itemSizeId;
+
+    @Column(name = "quantity", nullable = false)
+    private Long quantity;
+
+    @Builder
+    public StockJournal(Long itemId, Long itemSizeId, Long quantity) {
+        this.itemId = itemId;
+        this.itemSizeId = itemSizeId;
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,34 @@
+package com.allan.shoppingMall.domains.item.domain.item;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+
+public interface StockJournalRepository extends JpaRepository<StockJournal, Long> {
+
+    /**
+     * 재고량에 반영 되지 않은 변경 내역을 조회하는 메소드.
+     * 여러 인스턴스에서 동시에 반영하지 않도록 조회한 row 에 lock 을 겁니다.
+     * @param pageable 조회 할 내역 수.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select j from StockJournal j order by j.journalId")
+    List<StockJournal> findPendingJournals(Pageable pageable);
+
+    /**
+     * 재고량에 반영한 변경 내역을 삭제하는 메소드.
+     * 조회 이후 커밋 된 내역을 함께 삭제하지 않도록, 아이디 범위가 아닌 아이디 리스트로 삭제합니다.
+     * @param journalIds 변경 내역 아이디.
+     * @return int 삭제 된 내역 수.
+     */
+    @Modifying
+    @Query("delete from StockJournal j where j.journalId in :journalIds")
+    int deleteAllByJournalIds(@Param("journalIds") Collection<Long> journalIds);
+}
@@ -0,0 +1,23 @@
+package com.allan.shoppingMall.domains.item.domain.model;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * keyset(seek) 페이징으로 조회 한 상품 요약 정보를 담는 클래스.
+ * 다음 페이지가 존재하는 경우, 다음 페이지를 조회 할 커서 토큰(nextCursor)을 가지고 있습니다.
+ */
+@Getter
+public class ItemCursorPage {
+
+    private List<ItemSummaryDTO> content;
+    private boolean hasNext;
+    private String nextCursor; // 다음 페이지가 없는 경우 null.
+
+    public ItemCursorPage(List<ItemSummaryDTO> content, ItemCursor nextCursor) {
+        this.content = content;
+        this.hasNext = nextCursor != null;
+        this.nextCursor = nextCursor == null ? null : nextCursor.encode();
+    }
+}
@@ -0,0 +1,22 @@
+package com.allan.shoppingMall.domains.item.domain.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 재고량을 변경 할 주문 상품 한 건의 정보. (상품 아이디, 상품 사이즈 아이디, 수량)
+ * ItemStockService 에서 여러 주문 상품의 재고량을 한 번에 변경 할 때 사용합니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class StockLine {
+
+    private Long itemId;
+    private Long itemSizeId;
+    private Long quantity;
+
+    public static StockLine of(Long itemId, Long itemSizeId, Long quantity){
+        return new StockLine(itemId, itemSizeId, quantity);
+    }
+}
@@ -0,0 +1,80 @@
+package com.allan.shoppingMall.domains.item.infra;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * 이미지 내용의 SHA-256 해시를 파일명으로 사용하는 저장소 입니다.
+ * 같은 이미지를 여러번 업로드 하더라도 파일은 한번만 저장하며, 해시 앞 4자리로 폴더를 나누어 한 폴더에 파일이 몰리지 않도록 합니다.
+ * 예) images/item/blobs/3f/a2/3fa2...e1.jpeg
+ *
+ * 업로드 stream 은 임시 파일에 쓰면서 동시에 해시를 계산하므로, 파일을 한번만 읽습니다.
+ * 어떤 ItemImage 도메인도 참조하지 않는 파일은 OrphanImageBlobSweeper 에서 정리합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "item.image.storage", havingValue = "blob", matchIfMissing = true)
+@Slf4j
+public class ContentAddressedImageStorage implements ItemImageStorage {
+
+    public static final String BLOB_PATH = "images" + File.separator + "item" + File.separator + "blobs";
+    public static final String TEMP_PATH = "images" + File.separator + "item" + File.separator + "tmp";
+
+    @Override
+    public StoredImage store(InputStream imageStream, String fileExtension) throws IOException {
+        HashedTempFile tempFile = HashedTempFile.write(imageStream, toFile(TEMP_PATH).toPath());
+        try {
+            String itemImagePath = toBlobPath(tempFile.getContentHash(), fileExtension);
+            File blobFile = toFile(itemImagePath);
+
+            if(blobFile.isFile()){
+                // 이미 저장 된 이미지인 경우, 정리 대상이 되지 않도록 수정 시간만 갱신.
+                blobFile.setLastModified(System.currentTimeMillis());
+            }else{
+                Files.createDirectories(blobFile.getParentFile().toPath());
+                Files.move(tempFile.getPath(), blobFile.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                blobFile.setReadable(true);
+            }
+
+            return new StoredImage(itemImagePath, tempFile.getContentHash(), tempFile.getSize());
+        } finally {
+            Files.deleteIfExists(tempFile.getPath());
+        }
+    }
+
+    /**
+     * 해시 기반 경로뿐만 아니라, 이전에 날짜별 폴더에 저장 된 이미지 파일도 조회합니다.
+     */
+    @Override
+    public Optional<Resource> load(String itemImagePath) {
+        File imageFile = toFile(itemImagePath);
+        if(!imageFile.isFile())
+            return Optional.empty();
+        return Optional.of(new FileSystemResource(imageFile));
+    }
+
+    @Override
+    public File toFile(String itemImagePath) {
+        String absolutePath = new File("").getAbsolutePath() + File.separator + File.separator;
+        return new File(absolutePath + itemImagePath);
+    }
+
+    /**
+     * @param contentHash 이미지 내용의 SHA-256 hex 값.
+     * @param fileExtension 파일 확장자.
+     * @return String 해시 앞 4자리로 나눈 저장 경로.
+     */
+    public static String toBlobPath(String contentHash, String fileExtension){
+        return BLOB_PATH + File.separator + contentHash.substring(0, 2) + File.separator + contentHash.substring(2, 4)
+                + File.separator + contentHash + fileExtension;
+    }
+}
@@ -0,0 +1,60 @@
+package com.allan.shoppingMall.domains.item.infra;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 업로드 stream 을 임시 파일에 쓰면서 동시에 SHA-256 해시를 계산한 결과 입니다.
+ * 해시 기반 저장소(ContentAddressedImageStorage, SegmentImageStorage) 에서 파일을 한번만 읽기 위해 사용합니다.
+ * 임시 파일 삭제는 호출하는 쪽에서 처리합니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+class HashedTempFile {
+
+    private Path path;
+    private String contentHash; // SHA-256 hex 값.
+    private long size;
+
+    /**
+     * @param inputStream 업로드 stream.
+     * @param tempDirectory 임시 파일을 생성 할 폴더.
+     */
+    static HashedTempFile write(InputStream inputStream, Path tempDirectory) throws IOException {
+        Files.createDirectories(tempDirectory);
+        Path tempFile = Files.createTempFile(tempDirectory, "upload", ".tmp");
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long size;
+            try (OutputStream out = new DigestOutputStream(Files.newOutputStream(tempFile), digest)) {
+                size = StreamUtils.copy(inputStream, out);
+            }
+            return new HashedTempFile(tempFile, toHex(digest.digest()), size);
+        } catch (NoSuchAlgorithmException exception) {
+            Files.deleteIfExists(tempFile);
+            throw new IllegalStateException(exception);
+        } catch (IOException | RuntimeException exception) {
+            Files.deleteIfExists(tempFile);
+            throw exception;
+        }
+    }
+
+    private static String toHex(byte[] bytes){
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for(byte b : bytes)
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        return hex.toString();
+    }
+}
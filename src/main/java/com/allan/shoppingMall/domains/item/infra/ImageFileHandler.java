@@ -2,30 +2,34 @@ package com.allan.shoppingMall.domains.item.infra;
 
 import com.allan.shoppingMall.domains.item.domain.item.ImageType;
 import com.allan.shoppingMall.domains.item.domain.item.ItemImage;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * MultipartFile 로 전달 된 파일 정보들로 이미지 파일을 처리하는 핸들러.
  * 현재, 2가지 기능을 수행한다.
- * 1. MultirpartFile 정보를 통해 애플리케이션 내 저장 하는 기능.
+ * 1. MultirpartFile 정보를 통해 애플리케이션 내 저장 하는 기능. (ItemImageStorage 에 저장.)
  * 2. itemImage 엔티티로 변환 후 반환하는 기능.(item 엔티티를 통해 itemImage 를 저장하기 위해 반환.)
  */
 
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class ImageFileHandler {
 
+    private final ItemImageStorage itemImageStorage;
+    private final ItemImageMetadataCache itemImageMetadataCache;
+    private final ImageVariantGenerator imageVariantGenerator;
+
     public List<ItemImage> parseImageInfo(List<MultipartFile> multipartFiles, ImageType imageType) throws IOException {
 
         // 반환 할 ItemImage Entity list.
@@ -34,28 +38,6 @@ public class ImageFileHandler {
         // 전달 된 파일 리스트가 비어 있는 경우.
         if(!CollectionUtils.isEmpty(multipartFiles)){
 
-            // 파일명으로 사용 할 날짜 정보.
-            LocalDateTime now = LocalDateTime.now();
-            DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyyMMdd");
-            String currentDate = now.format(dateTimeFormatter);
-
-            // 이미지를 저장 할 웹 애플리케이션 내 절대경로.
-            // 운영체제 영향 받지 않도록 File.separator 사용.
-            String absolutePath = new File("").getAbsolutePath() + File.separator + File.separator;
-
-            // 이미지를 저장 할 세부경로.
-            String detailPath = "images" + File.separator + "item" + File.separator + currentDate;
-            File imageFile = new File(detailPath);
-
-            // 폴더 없으면 생성시도, 시도시 에러발생하면 에러로그.
-            if(!imageFile.exists()){
-                boolean isSuccessful = imageFile.mkdirs();
-                if(!isSuccessful){
-                    log.error("IamgeFileHandler's parseImageInfo() cause error!!");
-                    log.error("file mkdir create is not successful");
-                }
-            }
-
             for(MultipartFile multipartFile : multipartFiles){
                 String fileExtension =""; // 파일 확장자명.
                 String contentType = multipartFile.getContentType(); // MEME TYPE.
@@ -74,26 +56,29 @@ public class ImageFileHandler {
                     }
                 }
 
-                // 저장 할 이미지 파일명.
-                // 피일명 중복을 피하기 위해 시간정보 + 확장자명 형태로 이름을 정의.
-                String newFileName = System.nanoTime() + fileExtension;
+                // 애플리케이션에 파일 저장.
+                // 이미지 내용의 해시 값을 파일명으로 사용하여, 같은 이미지는 한번만 저장.
+                StoredImage storedImage;
+                try (InputStream imageStream = multipartFile.getInputStream()) {
+                    storedImage = itemImageStorage.store(imageStream, fileExtension);
+                }
 
                 ItemImage itemImage = ItemImage.builder()
                         .originalItemImageName(multipartFile.getOriginalFilename())
-                        .itemImagePath(detailPath + File.separator + newFileName)
-                        .imageSize(multipartFile.getSize())
+                        .itemImagePath(storedImage.getItemImagePath())
+                        .imageSize(storedImage.getSize())
                         .imageType(imageType)
+                        .contentHash(storedImage.getContentHash())
                         .build();
 
                 itemImages.add(itemImage);
 
-                // 애플리케이션에 파일 저장.
-                imageFile = new File(absolutePath + detailPath + File.separator + newFileName);
-                multipartFile.transferTo(imageFile);
+                // 썸네일 등 고정 너비 이미지 비동기 생성.
+                itemImageStorage.load(storedImage.getItemImagePath())
+                        .ifPresent(original -> imageVariantGenerator.generateVariants(original, itemImageStorage.toFile(storedImage.getItemImagePath())));
 
-                // 이미지 파일 접근권한 설정.
-                imageFile.setReadable(true);
-                imageFile.setWritable(true);
+                // 상품 저장 트랜잭션이 커밋 되면, 이미지 메타데이터를 캐시에 저장.
+                itemImageMetadataCache.putAfterCommit(itemImage);
             }
         }
         return itemImages;
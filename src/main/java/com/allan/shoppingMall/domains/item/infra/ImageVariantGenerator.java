@@ -0,0 +1,191 @@
+package com.allan.shoppingMall.domains.item.infra;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * 저장 된 상품 이미지로 고정 너비의 JPEG 이미지(variant) 를 생성하는 클래스 입니다.
+ * variant 는 기준 파일 경로(파일 저장소의 경우 원본 이미지) 와 같은 폴더에 "원본파일명_w너비.jpeg" 형태로 저장합니다.
+ * 예) images/item/20211125/1193583152716179.jpeg -> images/item/20211125/1193583152716179_w480.jpeg
+ */
+@Component
+@Slf4j
+public class ImageVariantGenerator {
+
+    // 생성 할 variant 너비 목록. (오름차순)
+    public static final int[] VARIANT_WIDTHS = {240, 480, 960};
+
+    private static final float JPEG_QUALITY = 0.85f;
+
+    /**
+     * 원본 이미지의 모든 variant 를 비동기로 생성하는 메소드.
+     * 업로드 요청이 이미지 변환을 기다리지 않도록, 별도의 imageVariantExecutor 에서 실행합니다.
+     * (작업 큐가 가득 찬 경우 작업을 버리며, 누락 된 variant 는 첫 조회시 생성합니다.)
+     * @param original 원본 이미지.
+     * @param variantBase variant 파일명의 기준이 되는 파일 경로. (ItemImageStorage.toFile 참고.)
+     */
+    @Async("imageVariantExecutor")
+    public void generateVariants(Resource original, File variantBase){
+        for(int width : VARIANT_WIDTHS){
+            getOrCreateVariant(original, variantBase, width);
+        }
+    }
+
+    /**
+     * 요청한 너비에 맞는 variant 이미지 파일을 반환하는 메소드.
+     * 요청 너비보다 크거나 같은 variant 중 가장 작은 너비를 사용하며, variant 가 없는 경우 생성합니다.
+     * @param original 원본 이미지.
+     * @param variantBase variant 파일명의 기준이 되는 파일 경로.
+     * @param requestedWidth 요청한 이미지 너비.
+     * @return Optional<File> variant 이미지 파일. (원본을 그대로 사용해야 하는 경우 empty.)
+     */
+    public Optional<File> getVariant(Resource original, File variantBase, int requestedWidth){
+        for(int width : VARIANT_WIDTHS){
+            if(width >= requestedWidth)
+                return getOrCreateVariant(original, variantBase, width);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @param variantBase variant 파일명의 기준이 되는 파일 경로.
+     * @param width variant 너비.
+     * @return File variant 이미지 파일 경로.
+     */
+    public File getVariantFile(File variantBase, int width){
+        return new File(variantBase.getParentFile(), toBaseName(variantBase) + "_w" + width + ".jpeg");
+    }
+
+    /**
+     * 원본 이미지 너비를 기록하는 파일 경로를 반환하는 메소드.
+     * variant 와 같은 "원본파일명_" 접두사를 사용하므로, variant 를 정리할 때 함께 삭제됩니다.
+     * @param variantBase variant 파일명의 기준이 되는 파일 경로.
+     * @return File 원본 이미지 너비 파일 경로.
+     */
+    public File getOriginalWidthFile(File variantBase){
+        return new File(variantBase.getParentFile(), toBaseName(variantBase) + "_original.width");
+    }
+
+    private static String toBaseName(File variantBase){
+        String fileName = variantBase.getName();
+        int extensionIndex = fileName.lastIndexOf('.');
+        return extensionIndex < 0 ? fileName : fileName.substring(0, extensionIndex);
+    }
+
+    /**
+     * variant 이미지가 있으면 반환하고, 없으면 생성 후 반환하는 메소드.
+     * 원본 이미지가 variant 너비보다 작은 경우, 확대하지 않고 원본을 사용하도록 empty 를 반환합니다.
+     * 이 경우 원본 너비를 파일에 기록해 두어, 이후 요청에서는 원본을 다시 디코딩하지 않습니다.
+     */
+    private Optional<File> getOrCreateVariant(Resource original, File variantBase, int width){
+        File variantFile = getVariantFile(variantBase, width);
+        if(variantFile.isFile())
+            return Optional.of(variantFile);
+
+        Optional<Integer> originalWidth = readOriginalWidth(variantBase);
+        if(originalWidth.isPresent() && originalWidth.get() <= width)
+            return Optional.empty();
+
+        try {
+            BufferedImage originalImage;
+            try (InputStream imageStream = original.getInputStream()) {
+                originalImage = ImageIO.read(imageStream);
+            }
+            if(originalImage == null)
+                return Optional.empty();
+
+            if(originalImage.getWidth() <= width){
+                writeOriginalWidth(variantBase, originalImage.getWidth());
+                return Optional.empty();
+            }
+
+            Files.createDirectories(variantFile.getParentFile().toPath());
+            writeJpeg(resize(originalImage, width), variantFile);
+            return Optional.of(variantFile);
+        } catch (IOException exception) {
+            log.error("ImageVariantGenerator's getOrCreateVariant() cause error: " + original.getDescription());
+            log.error(exception.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Optional<Integer> readOriginalWidth(File variantBase){
+        File originalWidthFile = getOriginalWidthFile(variantBase);
+        if(!originalWidthFile.isFile())
+            return Optional.empty();
+
+        try {
+            return Optional.of(Integer.parseInt(Files.readString(originalWidthFile.toPath()).trim()));
+        } catch (IOException | NumberFormatException exception) {
+            return Optional.empty(); // 기록 중인 파일을 읽은 경우, 원본을 디코딩해서 판단합니다.
+        }
+    }
+
+    private void writeOriginalWidth(File variantBase, int originalWidth) throws IOException {
+        File originalWidthFile = getOriginalWidthFile(variantBase);
+        Files.createDirectories(originalWidthFile.getParentFile().toPath());
+        Files.writeString(originalWidthFile.toPath(), String.valueOf(originalWidth));
+    }
+
+    /**
+     * 비율을 유지하며 이미지 너비를 변경하는 메소드.
+     * JPEG 는 투명도를 지원하지 않으므로, 투명한 영역은 흰색 배경으로 채웁니다.
+     */
+    private BufferedImage resize(BufferedImage original, int width){
+        int height = Math.max(1, (int) Math.round((double) original.getHeight() * width / original.getWidth()));
+
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(original, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    /**
+     * JPEG 이미지를 임시 파일에 쓴 후 variant 경로로 이동하는 메소드.
+     * 동시에 같은 variant 를 생성하더라도, 조회하는 쪽에서 쓰는 중인 파일을 읽지 않도록 합니다.
+     */
+    private void writeJpeg(BufferedImage image, File variantFile) throws IOException {
+        File tempFile = File.createTempFile(variantFile.getName(), ".tmp", variantFile.getParentFile());
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(tempFile)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+
+        try {
+            Files.move(tempFile.toPath(), variantFile.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile.toPath());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.allan.shoppingMall.domains.item.infra;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
+
+/**
+ * 이미지 응답에 필요한 파일 정보(경로, MIME TYPE, 크기, ETag) 를 담는 클래스 입니다.
+ * 이미지 파일은 저장 후 변경되지 않기 때문에, 한번 만든 정보를 캐시에 보관하여 재사용합니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ItemImageMetadata implements Serializable {
+
+    private Long imageId;
+    private String itemImagePath; // 이미지 저장 경로. (ItemImageStorage 에서 이미지를 조회 할 때 사용.)
+    private String mimeType;
+    private long size;
+    private long lastModified;
+    private String eTag; // 이미지 해시 값 또는 파일 크기 + 수정 시간으로 만든 ETag.
+
+    /**
+     * 이미지 파일 정보로 메타데이터를 생성하는 메소드. (variant 이미지 등 파일로 저장 된 이미지용.)
+     * @param imageId ItemImage 도메인 아이디.
+     * @param imageFile 저장 된 이미지 파일.
+     * @return ItemImageMetadata 이미지 메타데이터. (파일이 존재하지 않는 경우 null.)
+     */
+    public static ItemImageMetadata of(Long imageId, File imageFile){
+        if(!imageFile.isFile())
+            return null;
+        return of(imageId, imageFile.getAbsolutePath(), new FileSystemResource(imageFile), null);
+    }
+
+    /**
+     * 저장소에서 조회한 이미지 정보로 메타데이터를 생성하는 메소드.
+     * 이미지 해시 값이 있는 경우, 해시 기반 저장소의 이미지는 내용이 바뀌지 않으므로 해시 값을 strong ETag 로 사용합니다.
+     * @param imageId ItemImage 도메인 아이디.
+     * @param itemImagePath 이미지 저장 경로.
+     * @param imageResource 저장소에서 조회한 이미지.
+     * @param contentHash 이미지 내용의 SHA-256 값. (없는 경우 null.)
+     * @return ItemImageMetadata 이미지 메타데이터. (이미지 정보를 읽을 수 없는 경우 null.)
+     */
+    public static ItemImageMetadata of(Long imageId, String itemImagePath, Resource imageResource, String contentHash){
+        long size;
+        long lastModified;
+        try {
+            size = imageResource.contentLength();
+            lastModified = imageResource.lastModified();
+        } catch (IOException exception) {
+            return null;
+        }
+
+        String mimeType = MediaTypeFactory.getMediaType(itemImagePath)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString();
+        String eTag = contentHash != null ? "\"" + contentHash + "\""
+                : "\"" + Long.toHexString(size) + "-" + Long.toHexString(lastModified) + "\"";
+
+        return new ItemImageMetadata(imageId, itemImagePath, mimeType, size, lastModified, eTag);
+    }
+}
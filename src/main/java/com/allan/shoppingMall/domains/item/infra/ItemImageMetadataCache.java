@@ -0,0 +1,132 @@
+package com.allan.shoppingMall.domains.item.infra;
+
+import com.allan.shoppingMall.domains.item.domain.item.ItemImage;
+import com.allan.shoppingMall.domains.item.domain.item.ItemImageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+/**
+ * 이미지 아이디로 이미지 메타데이터(ItemImageMetadata) 를 조회하는 캐시 클래스 입니다.
+ * 이미지 조회 요청마다 DB 에서 이미지 경로를 조회하지 않도록, 조회 결과를 itemImageCaching 캐시에 보관합니다.
+ * 존재하지 않는 이미지 아이디는 missingItemImageCaching 캐시에 잠시 보관하여, 임의의 아이디로 반복 요청해도 DB 를 조회하지 않습니다.
+ * (캐시 설정은 CacheConfig 클래스를 참고 해 주세요.)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ItemImageMetadataCache {
+
+    public static final String CACHE_NAME = "itemImageCaching";
+    public static final String MISSING_CACHE_NAME = "missingItemImageCaching";
+
+    // 애플리케이션 구동시 미리 캐시에 올려 둘 최근 이미지 수.
+    private static final int WARM_UP_SIZE = 1000;
+
+    private final ItemImageRepository itemImageRepository;
+    private final CacheManager cacheManager;
+    private final ItemImageStorage itemImageStorage;
+
+    /**
+     * 이미지 메타데이터를 조회하는 메소드.
+     * @param imageId ItemImage 도메인 아이디.
+     * @return Optional<ItemImageMetadata> 이미지 메타데이터. (이미지 정보나 파일이 없는 경우 empty.)
+     */
+    public Optional<ItemImageMetadata> get(Long imageId){
+        ItemImageMetadata metadata = getCache().get(imageId, ItemImageMetadata.class);
+        if(metadata != null)
+            return Optional.of(metadata);
+
+        if(getMissingCache().get(imageId) != null)
+            return Optional.empty();
+
+        metadata = itemImageRepository.findById(imageId)
+                .map(itemImage -> toMetadata(imageId, itemImage.getItemImagePath(), itemImage.getContentHash()))
+                .orElse(null);
+
+        if(metadata == null){
+            getMissingCache().put(imageId, Boolean.TRUE);
+            return Optional.empty();
+        }
+
+        getCache().put(imageId, metadata);
+        return Optional.of(metadata);
+    }
+
+    /**
+     * 이미지 메타데이터를 캐시에 저장하는 메소드.
+     * @param itemImage 저장 된 ItemImage 도메인.
+     */
+    public void put(ItemImage itemImage){
+        ItemImageMetadata metadata = toMetadata(itemImage.getItemImageId(), itemImage.getItemImagePath(), itemImage.getContentHash());
+        if(metadata == null)
+            return;
+
+        getCache().put(itemImage.getItemImageId(), metadata);
+        getMissingCache().evict(itemImage.getItemImageId());
+    }
+
+    /**
+     * 업로드 한 이미지의 메타데이터를 현재 트랜잭션이 커밋 된 후 캐시에 저장하는 메소드.
+     * 업로드 시점에는 ItemImage 도메인 아이디가 없으므로, 커밋 후 부여 된 아이디로 저장하며
+     * 롤백 된 경우에는 저장하지 않습니다.
+     * @param itemImage 업로드 한 이미지 정보를 담은 ItemImage 도메인.
+     */
+    public void putAfterCommit(ItemImage itemImage){
+        if(!TransactionSynchronizationManager.isSynchronizationActive())
+            return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if(itemImage.getItemImageId() != null)
+                    put(itemImage);
+            }
+        });
+    }
+
+    /**
+     * 이미지 메타데이터를 캐시에서 제거하는 메소드.
+     * @param imageId ItemImage 도메인 아이디.
+     */
+    public void evict(Long imageId){
+        getCache().evict(imageId);
+    }
+
+    /**
+     * 애플리케이션 구동 완료 후, 최근 저장 된 이미지의 메타데이터를 미리 캐시에 저장합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp(){
+        itemImageRepository.findAllByOrderByItemImageIdDesc(PageRequest.of(0, WARM_UP_SIZE))
+                .forEach(itemImage -> {
+                    ItemImageMetadata metadata = toMetadata(itemImage.getItemImageId(), itemImage.getItemImagePath(), itemImage.getContentHash());
+                    if(metadata != null)
+                        getCache().put(itemImage.getItemImageId(), metadata);
+                });
+        log.info("itemImageCaching warm up complete!");
+    }
+
+    private ItemImageMetadata toMetadata(Long imageId, String itemImagePath, String contentHash){
+        return itemImageStorage.load(itemImagePath)
+                .map(imageResource -> ItemImageMetadata.of(imageId, itemImagePath, imageResource, contentHash))
+                .orElse(null);
+    }
+
+    private Cache getCache(){
+        return cacheManager.getCache(CACHE_NAME);
+    }
+
+    private Cache getMissingCache(){
+        return cacheManager.getCache(MISSING_CACHE_NAME);
+    }
+}
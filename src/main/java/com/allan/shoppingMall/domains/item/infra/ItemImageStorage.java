@@ -0,0 +1,38 @@
+package com.allan.shoppingMall.domains.item.infra;
+
+import org.springframework.core.io.Resource;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * 상품 이미지 파일 저장소 인터페이스 입니다.
+ * ImageFileHandler 는 이 인터페이스로 이미지를 저장하고, ItemImageController 는 이 인터페이스로 이미지를 조회합니다.
+ * 사용 할 저장소는 item.image.storage 설정으로 선택합니다. (blob: ContentAddressedImageStorage(기본값), segment: SegmentImageStorage)
+ */
+public interface ItemImageStorage {
+
+    /**
+     * 이미지를 저장하는 메소드.
+     * @param imageStream 업로드 한 이미지 stream.
+     * @param fileExtension 저장 할 파일 확장자. (예) .jpeg)
+     * @return StoredImage 저장 된 이미지 정보.
+     */
+    StoredImage store(InputStream imageStream, String fileExtension) throws IOException;
+
+    /**
+     * 저장 된 이미지를 조회하는 메소드.
+     * @param itemImagePath ItemImage 도메인의 저장 경로.
+     * @return Optional<Resource> 이미지. (저장 된 이미지가 없는 경우 empty.)
+     */
+    Optional<Resource> load(String itemImagePath);
+
+    /**
+     * ItemImage 도메인의 저장 경로를 파일 경로로 변환하는 메소드.
+     * 파일로 저장하는 저장소는 이미지 파일 경로를, 그 외 저장소는 variant 이미지를 저장 할 기준 파일 경로를 반환합니다.
+     * @param itemImagePath ItemImage 도메인의 저장 경로.
+     */
+    File toFile(String itemImagePath);
+}
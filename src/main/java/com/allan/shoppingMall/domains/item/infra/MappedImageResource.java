@@ -0,0 +1,89 @@
+package com.allan.shoppingMall.domains.item.infra;
+
+import org.springframework.core.io.AbstractResource;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * segment 파일을 메모리 매핑 한 MappedByteBuffer 의 일부분(이미지 하나) 을 Resource 로 감싼 클래스 입니다.
+ * 응답을 쓸 때 파일을 다시 열지 않고, 매핑 된 메모리에서 바로 읽습니다.
+ */
+public class MappedImageResource extends AbstractResource {
+
+    private final ByteBuffer slice; // 이미지 하나 만큼의 읽기 전용 buffer.
+    private final long lastModified;
+    private final String description;
+
+    public MappedImageResource(ByteBuffer slice, long lastModified, String description) {
+        this.slice = slice.asReadOnlyBuffer();
+        this.lastModified = lastModified;
+        this.description = description;
+    }
+
+    /**
+     * 호출 할 때마다 독립적인 position 을 가진 stream 을 반환합니다. (Range 요청 등에서 여러번 읽을 수 있도록.)
+     */
+    @Override
+    public InputStream getInputStream() {
+        return new ByteBufferInputStream(slice.duplicate());
+    }
+
+    @Override
+    public long contentLength() {
+        return slice.remaining();
+    }
+
+    @Override
+    public long lastModified() {
+        return lastModified;
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public String getDescription() {
+        return "mapped image [" + description + "]";
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if(length == 0)
+                return 0;
+            if(!buffer.hasRemaining())
+                return -1;
+
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.allan.shoppingMall.domains.item.infra;
+
+import com.allan.shoppingMall.domains.item.domain.item.ItemImageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 어떤 ItemImage 도메인도 참조하지 않는 이미지 파일(blob) 을 정리하는 클래스 입니다.
+ * 업로드 후 상품 저장 트랜잭션이 커밋 되기 전의 파일을 지우지 않도록, 수정 된 지 하루가 지난 파일만 정리합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "item.image.storage", havingValue = "blob", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class OrphanImageBlobSweeper {
+
+    private static final long GRACE_PERIOD_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    private final ItemImageRepository itemImageRepository;
+    private final ContentAddressedImageStorage imageStorage;
+
+    /**
+     * 매일 새벽 4시에 참조 되지 않는 이미지 파일과 그 variant, 남아있는 임시 파일을 삭제합니다.
+     * @return int 삭제한 파일 수.
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public int sweep(){
+        long threshold = System.currentTimeMillis() - GRACE_PERIOD_MILLIS;
+        Set<String> referencedHashes = itemImageRepository.findAllContentHashes();
+
+        int deleted = 0;
+        for(Path path : listFiles(imageStorage.toFile(ContentAddressedImageStorage.BLOB_PATH))){
+            File file = path.toFile();
+            if(file.lastModified() > threshold)
+                continue;
+
+            String contentHash = toContentHash(file.getName());
+            if(referencedHashes.contains(contentHash))
+                continue;
+
+            // 목록 조회 후 저장 된 이미지가 참조하고 있을 수 있으므로, 삭제 전 참조 수를 다시 확인.
+            if(itemImageRepository.countByContentHash(contentHash) > 0)
+                continue;
+
+            if(file.delete())
+                deleted++;
+        }
+
+        for(Path path : listFiles(imageStorage.toFile(ContentAddressedImageStorage.TEMP_PATH))){
+            File file = path.toFile();
+            if(file.lastModified() <= threshold && file.delete())
+                deleted++;
+        }
+
+        log.info("OrphanImageBlobSweeper deleted files: " + deleted);
+        return deleted;
+    }
+
+    /**
+     * blob, variant 파일명에서 해시 값을 추출하는 메소드.
+     * 예) 3fa2...e1.jpeg, 3fa2...e1_w480.jpeg -> 3fa2...e1
+     */
+    private String toContentHash(String fileName){
+        int end = fileName.length();
+        int variantIndex = fileName.indexOf('_');
+        int extensionIndex = fileName.indexOf('.');
+        if(variantIndex >= 0)
+            end = variantIndex;
+        else if(extensionIndex >= 0)
+            end = extensionIndex;
+        return fileName.substring(0, end);
+    }
+
+    private List<Path> listFiles(File directory){
+        if(!directory.isDirectory())
+            return List.of();
+
+        try (Stream<Path> paths = Files.walk(directory.toPath())) {
+            return paths.filter(Files::isRegularFile).collect(Collectors.toList());
+        } catch (IOException exception) {
+            log.error("OrphanImageBlobSweeper's listFiles() cause error: " + exception.getMessage());
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.allan.shoppingMall.domains.item.infra;
+
+import com.allan.shoppingMall.domains.item.domain.item.ItemImageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 어떤 ItemImage 도메인도 참조하지 않는 이미지가 많은 segment 파일을 정리하는 클래스 입니다.
+ * 업로드 후 상품 저장 트랜잭션이 커밋 되기 전의 이미지를 지우지 않도록, 저장 된 지 하루가 지난 이미지만 정리합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "item.image.storage", havingValue = "segment")
+@RequiredArgsConstructor
+@Slf4j
+public class SegmentCompactionJob {
+
+    private static final long GRACE_PERIOD_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    private final ItemImageRepository itemImageRepository;
+    private final SegmentImageStorage segmentImageStorage;
+
+    /**
+     * 매주 일요일 새벽 4시에 segment 파일을 정리합니다.
+     * @return int 정리한 segment 수.
+     */
+    @Scheduled(cron = "0 0 4 * * SUN")
+    public int compact(){
+        Set<String> referencedHashes = itemImageRepository.findAllContentHashes();
+
+        try {
+            // 목록 조회 후 저장 된 이미지가 참조하고 있을 수 있으므로, 삭제 전 참조 수를 다시 확인.
+            int compacted = segmentImageStorage.compact(contentHash -> referencedHashes.contains(contentHash)
+                    || itemImageRepository.countByContentHash(contentHash) > 0, GRACE_PERIOD_MILLIS);
+            log.info("SegmentCompactionJob compacted segments: " + compacted);
+            return compacted;
+        } catch (IOException exception) {
+            log.error("SegmentCompactionJob's compact() cause error: " + exception.getMessage());
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.allan.shoppingMall.domains.item.infra;
+
+import com.allan.shoppingMall.domains.item.domain.item.ItemImage;
+import com.allan.shoppingMall.domains.item.domain.item.ItemImageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * 기존 파일(images/item/yyyyMMdd, images/item/blobs) 로 저장 된 상품 이미지를 segment 저장소로 옮기는 클래스 입니다.
+ * --migrate-item-images 옵션으로 애플리케이션을 실행한 경우에만 동작하며,
+ * 100 개씩 나누어 트랜잭션을 커밋하므로 중간에 중단 되어도 다시 실행하면 남은 이미지만 옮깁니다.
+ * 기존 파일은 삭제하지 않으므로, 이전이 끝난 뒤 직접 정리합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "item.image.storage", havingValue = "segment")
+@RequiredArgsConstructor
+@Slf4j
+public class SegmentImageMigrationRunner implements ApplicationRunner {
+
+    public static final String MIGRATION_OPTION = "migrate-item-images";
+    private static final int BATCH_SIZE = 100;
+
+    private final ItemImageRepository itemImageRepository;
+    private final SegmentImageStorage segmentImageStorage;
+    private final ItemImageMetadataCache itemImageMetadataCache;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if(!args.containsOption(MIGRATION_OPTION))
+            return;
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int migrated = 0;
+        int page = 0;
+        boolean hasNext = true;
+
+        while(hasNext){
+            PageRequest pageRequest = PageRequest.of(page++, BATCH_SIZE, Sort.by("itemImageId"));
+            int[] result = transactionTemplate.execute(status -> {
+                Page<ItemImage> itemImages = itemImageRepository.findAll(pageRequest);
+                int count = 0;
+                for(ItemImage itemImage : itemImages){
+                    if(migrate(itemImage))
+                        count++;
+                }
+                return new int[]{count, itemImages.hasNext() ? 1 : 0};
+            });
+            migrated += result[0];
+            hasNext = result[1] == 1;
+        }
+
+        log.info("SegmentImageMigrationRunner migrated images: " + migrated);
+    }
+
+    /**
+     * 이미지 파일을 segment 저장소에 저장하고, 저장 경로와 해시 값을 변경하는 메소드.
+     * @return boolean 이전 여부. (이미 이전 되었거나 파일이 없는 경우 false)
+     */
+    private boolean migrate(ItemImage itemImage){
+        String itemImagePath = itemImage.getItemImagePath();
+        if(SegmentImageStorage.isSegmentPath(itemImagePath))
+            return false;
+
+        Optional<Resource> original = segmentImageStorage.load(itemImagePath);
+        if(original.isEmpty()){
+            log.error("SegmentImageMigrationRunner can't find image file: " + itemImagePath);
+            return false;
+        }
+
+        try (InputStream in = original.get().getInputStream()) {
+            StoredImage storedImage = segmentImageStorage.store(in, toFileExtension(itemImagePath));
+            itemImage.changeStoredImage(storedImage.getItemImagePath(), storedImage.getContentHash());
+            itemImageMetadataCache.evict(itemImage.getItemImageId());
+            return true;
+        } catch (IOException exception) {
+            log.error("SegmentImageMigrationRunner's migrate() cause error: " + exception.getMessage());
+            return false;
+        }
+    }
+
+    private String toFileExtension(String itemImagePath){
+        String fileName = new File(itemImagePath).getName();
+        int extensionIndex = fileName.lastIndexOf('.');
+        return extensionIndex < 0 ? "" : fileName.substring(extensionIndex);
+    }
+}
@@ -0,0 +1,443 @@
+package com.allan.shoppingMall.domains.item.infra;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 이미지를 큰 segment 파일 하나에 이어 붙여 저장하는 저장소 입니다. (item.image.storage=segment 인 경우 사용.)
+ * 이미지마다 파일을 만들지 않으므로 파일 open/close, inode 사용량이 줄어들며,
+ * 조회는 segment 파일을 메모리 매핑(MappedByteBuffer) 한 뒤 이미지 위치 만큼 잘라서(slice) 응답에 씁니다.
+ *
+ * segment 파일은 [헤더(magic, 해시, 확장자, 저장 시간, 길이) + 이미지] 레코드의 나열이며,
+ * 애플리케이션 구동시 헤더만 읽어서 해시 -> (segment, offset, 길이) 인덱스를 메모리에 구성합니다.
+ * ItemImage 도메인에는 "images/item/segments/해시.확장자" 형태의 논리 경로를 저장하므로, 이미지가 다른 segment 로 옮겨져도 경로는 바뀌지 않습니다.
+ * 참조되지 않는 이미지는 SegmentCompactionJob 에서 정리합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "item.image.storage", havingValue = "segment")
+@Slf4j
+public class SegmentImageStorage implements ItemImageStorage {
+
+    public static final String SEGMENT_PATH = "images" + File.separator + "item" + File.separator + "segments";
+    public static final String VARIANT_PATH = "images" + File.separator + "item" + File.separator + "variants";
+    public static final String TEMP_PATH = "images" + File.separator + "item" + File.separator + "tmp";
+
+    private static final long DEFAULT_MAX_SEGMENT_SIZE = 256L * 1024 * 1024;
+    private static final int RECORD_MAGIC = 0x54494D47; // "TIMG"
+    private static final int HASH_LENGTH = 64;
+    private static final int FIXED_HEADER_LENGTH = 4 + HASH_LENGTH + 1; // magic + hash + 확장자 길이.
+
+    // 살아있는 이미지 크기가 segment 크기의 절반 미만인 경우 compaction 대상.
+    private static final double COMPACTION_LIVE_RATIO = 0.5;
+
+    private final Map<String, SegmentEntry> index = new ConcurrentHashMap<>();
+    private final Map<Integer, MappedByteBuffer> mappedSegments = new ConcurrentHashMap<>();
+
+    private final File baseDirectory;
+    private final File segmentDirectory;
+    private final long maxSegmentSize; // segment 파일이 이 크기를 넘으면 새로운 segment 에 이어 씁니다.
+
+    private int activeSegmentId; // 현재 이미지를 이어 붙이는 segment.
+    private FileChannel activeChannel;
+
+    public SegmentImageStorage() {
+        this(new File("").getAbsoluteFile(), DEFAULT_MAX_SEGMENT_SIZE);
+    }
+
+    SegmentImageStorage(File baseDirectory, long maxSegmentSize) {
+        this.baseDirectory = baseDirectory;
+        this.segmentDirectory = new File(baseDirectory, SEGMENT_PATH);
+        this.maxSegmentSize = maxSegmentSize;
+    }
+
+    /**
+     * segment 파일의 레코드 헤더를 읽어 인덱스를 구성하고, 마지막 segment 를 이어 쓰기 위해 엽니다.
+     * 마지막 segment 의 끝에 쓰다 만 레코드가 있는 경우(비정상 종료), 해당 레코드를 잘라냅니다.
+     */
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        Files.createDirectories(segmentDirectory.toPath());
+
+        List<Integer> segmentIds = listSegmentIds();
+        for(int i = 0; i < segmentIds.size(); i++)
+            scan(segmentIds.get(i), i == segmentIds.size() - 1);
+
+        activeSegmentId = segmentIds.isEmpty() ? 1 : segmentIds.get(segmentIds.size() - 1);
+        activeChannel = openForAppend(activeSegmentId);
+        log.info("SegmentImageStorage opened. segments: " + segmentIds.size() + ", images: " + index.size());
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if(activeChannel != null)
+            activeChannel.close();
+    }
+
+    @Override
+    public StoredImage store(InputStream imageStream, String fileExtension) throws IOException {
+        HashedTempFile tempFile = HashedTempFile.write(imageStream, new File(baseDirectory, TEMP_PATH).toPath());
+        try {
+            String contentHash = tempFile.getContentHash();
+
+            // 이미 저장 된 이미지인 경우 다시 저장하지 않고, 저장 시간만 갱신합니다.
+            // 동일한 이미지가 동시에 업로드 되어도 한번만 이어 붙이도록, 확인과 저장을 같은 lock 안에서 처리합니다.
+            synchronized (this){
+                SegmentEntry entry = index.get(contentHash);
+                if(entry != null){
+                    touch(contentHash, entry);
+                }else{
+                    try (FileChannel source = FileChannel.open(tempFile.getPath(), StandardOpenOption.READ)) {
+                        append(contentHash, fileExtension, System.currentTimeMillis(), tempFile.getSize(), source, null);
+                    }
+                }
+            }
+
+            return new StoredImage(toItemImagePath(contentHash, fileExtension), contentHash, tempFile.getSize());
+        } finally {
+            Files.deleteIfExists(tempFile.getPath());
+        }
+    }
+
+    /**
+     * segment 에 저장 된 이미지는 매핑 된 메모리에서, 그 외(이전에 파일로 저장 된) 이미지는 파일에서 조회합니다.
+     */
+    @Override
+    public Optional<Resource> load(String itemImagePath) {
+        if(!isSegmentPath(itemImagePath)){
+            File imageFile = new File(baseDirectory, itemImagePath);
+            return imageFile.isFile() ? Optional.of(new FileSystemResource(imageFile)) : Optional.empty();
+        }
+
+        SegmentEntry entry = index.get(toContentHash(itemImagePath));
+        if(entry == null)
+            return Optional.empty();
+
+        try {
+            ByteBuffer slice = mapped(entry.getSegmentId(), entry.getOffset() + entry.getLength()).duplicate();
+            slice.position((int) entry.getOffset());
+            slice.limit((int) (entry.getOffset() + entry.getLength()));
+            return Optional.of(new MappedImageResource(slice.slice(), entry.getCreatedMillis(), itemImagePath));
+        } catch (IOException exception) {
+            log.error("SegmentImageStorage's load() cause error: " + exception.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * segment 에 저장 된 이미지는 variant 를 저장 할 기준 파일 경로를 반환합니다.
+     * 예) images/item/segments/3fa2...e1.jpeg -> images/item/variants/3f/3fa2...e1.jpeg
+     */
+    @Override
+    public File toFile(String itemImagePath) {
+        if(!isSegmentPath(itemImagePath))
+            return new File(baseDirectory, itemImagePath);
+
+        String fileName = new File(itemImagePath).getName();
+        return new File(baseDirectory, VARIANT_PATH + File.separator + fileName.substring(0, 2) + File.separator + fileName);
+    }
+
+    /**
+     * 참조되지 않는 이미지가 많은 segment 를 정리하는 메소드.
+     * 살아있는 이미지만 현재 segment 로 옮긴 뒤, 기존 segment 파일과 정리 된 이미지의 variant 를 삭제합니다.
+     * 이미지 경로는 해시 값으로만 구성되므로, ItemImage 도메인은 변경하지 않습니다.
+     * @param isReferenced 이미지 해시 값이 ItemImage 도메인에서 참조되고 있는지 확인하는 함수.
+     * @param graceMillis 저장 된 지 이 시간이 지나지 않은 이미지는 참조 여부와 상관없이 유지합니다. (커밋 전 업로드 보호)
+     * @return int 정리한 segment 수.
+     */
+    public synchronized int compact(Predicate<String> isReferenced, long graceMillis) throws IOException {
+        long threshold = System.currentTimeMillis() - graceMillis;
+        int compacted = 0;
+
+        for(int segmentId : listSegmentIds()){
+            if(segmentId == activeSegmentId)
+                continue;
+
+            long segmentSize = segmentFile(segmentId).length();
+            List<Map.Entry<String, SegmentEntry>> entries = index.entrySet()
+                    .stream()
+                    .filter(entry -> entry.getValue().getSegmentId() == segmentId)
+                    .collect(Collectors.toList());
+
+            List<Map.Entry<String, SegmentEntry>> liveEntries = entries.stream()
+                    .filter(entry -> entry.getValue().getCreatedMillis() > threshold || isReferenced.test(entry.getKey()))
+                    .collect(Collectors.toList());
+
+            if(liveEntries.size() == entries.size())
+                continue;
+
+            long liveBytes = liveEntries.stream().mapToLong(entry -> entry.getValue().getLength()).sum();
+            if(segmentSize > 0 && (double) liveBytes / segmentSize >= COMPACTION_LIVE_RATIO)
+                continue;
+
+            MappedByteBuffer segment = mapped(segmentId, segmentSize);
+            for(Map.Entry<String, SegmentEntry> entry : liveEntries){
+                SegmentEntry live = entry.getValue();
+                ByteBuffer slice = segment.duplicate();
+                slice.position((int) live.getOffset());
+                slice.limit((int) (live.getOffset() + live.getLength()));
+                append(entry.getKey(), live.getExtension(), live.getCreatedMillis(), live.getLength(), null, slice.slice());
+            }
+
+            for(Map.Entry<String, SegmentEntry> entry : entries){
+                if(!liveEntries.contains(entry)){
+                    index.remove(entry.getKey(), entry.getValue());
+                    deleteVariants(entry.getKey(), entry.getValue().getExtension());
+                }
+            }
+
+            mappedSegments.remove(segmentId);
+            Files.deleteIfExists(segmentFile(segmentId).toPath());
+            compacted++;
+            log.info("SegmentImageStorage compacted segment: " + segmentId + ", live images: " + liveEntries.size() + "/" + entries.size());
+        }
+        return compacted;
+    }
+
+    /**
+     * @param contentHash 이미지 해시 값.
+     * @return boolean segment 에 저장 된 이미지 여부.
+     */
+    public boolean contains(String contentHash){
+        return index.containsKey(contentHash);
+    }
+
+    /**
+     * @param itemImagePath ItemImage 도메인의 저장 경로.
+     * @return boolean segment 저장소의 경로 여부.
+     */
+    public static boolean isSegmentPath(String itemImagePath){
+        return itemImagePath != null && itemImagePath.startsWith(SEGMENT_PATH + File.separator);
+    }
+
+    private static String toItemImagePath(String contentHash, String fileExtension){
+        return SEGMENT_PATH + File.separator + contentHash + fileExtension;
+    }
+
+    private static String toContentHash(String itemImagePath){
+        String fileName = new File(itemImagePath).getName();
+        int extensionIndex = fileName.indexOf('.');
+        return extensionIndex < 0 ? fileName : fileName.substring(0, extensionIndex);
+    }
+
+    /**
+     * 현재 segment 끝에 레코드를 이어 붙이고 인덱스를 갱신하는 메소드.
+     * 이미지 내용은 source 채널(업로드 임시 파일) 또는 data buffer(compaction) 에서 복사합니다.
+     */
+    private synchronized void append(String contentHash, String fileExtension, long createdMillis, long length,
+                                     FileChannel source, ByteBuffer data) throws IOException {
+        ByteBuffer header = encodeHeader(contentHash, fileExtension, createdMillis, length);
+        long recordLength = header.remaining() + length;
+
+        if(activeChannel.size() > 0 && activeChannel.size() + recordLength > maxSegmentSize)
+            rollSegment();
+
+        long position = activeChannel.size();
+        long dataPosition = position + header.remaining();
+        writeFully(header, position);
+
+        if(source != null){
+            long transferred = 0;
+            while(transferred < length){
+                long count = activeChannel.transferFrom(source, dataPosition + transferred, length - transferred);
+                if(count <= 0)
+                    throw new IOException("이미지를 segment 파일에 복사 할 수 없습니다.");
+                transferred += count;
+            }
+        }else{
+            writeFully(data, dataPosition);
+        }
+
+        activeChannel.force(false);
+        index.put(contentHash, new SegmentEntry(activeSegmentId, dataPosition, length, fileExtension, createdMillis));
+    }
+
+    /**
+     * 이미 저장 된 이미지가 다시 업로드 된 경우, 레코드 헤더의 저장 시간을 현재 시간으로 갱신하는 메소드.
+     * 재업로드 된 이미지를 참조하는 ItemImage 가 커밋 되기 전에 compaction 에서 정리되지 않도록 유예 시간을 다시 시작합니다.
+     * 재시작 후에도 유지되도록, 인덱스 뿐만 아니라 segment 파일의 헤더도 함께 갱신합니다.
+     */
+    private synchronized void touch(String contentHash, SegmentEntry entry) throws IOException {
+        long createdMillis = System.currentTimeMillis();
+        ByteBuffer buffer = ByteBuffer.allocate(8).putLong(createdMillis);
+        buffer.flip();
+
+        long position = entry.getOffset() - 16; // 헤더의 [저장 시간, 길이] 중 저장 시간 위치.
+        if(entry.getSegmentId() == activeSegmentId){
+            writeFully(buffer, position);
+            activeChannel.force(false);
+        }else{
+            try (FileChannel channel = FileChannel.open(segmentFile(entry.getSegmentId()).toPath(), StandardOpenOption.WRITE)) {
+                while(buffer.hasRemaining())
+                    channel.write(buffer, position + buffer.position());
+                channel.force(false);
+            }
+        }
+
+        index.put(contentHash, new SegmentEntry(entry.getSegmentId(), entry.getOffset(), entry.getLength(), entry.getExtension(), createdMillis));
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        long written = 0;
+        while(buffer.hasRemaining())
+            written += activeChannel.write(buffer, position + written);
+    }
+
+    private void rollSegment() throws IOException {
+        activeChannel.close();
+        activeSegmentId++;
+        activeChannel = openForAppend(activeSegmentId);
+    }
+
+    private FileChannel openForAppend(int segmentId) throws IOException {
+        return FileChannel.open(segmentFile(segmentId).toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * segment 파일을 메모리 매핑 한 buffer 를 반환하는 메소드.
+     * 현재 segment 는 계속 커지므로, 매핑 된 크기보다 뒤의 레코드를 조회하는 경우 다시 매핑합니다.
+     */
+    private MappedByteBuffer mapped(int segmentId, long requiredSize) throws IOException {
+        MappedByteBuffer buffer = mappedSegments.get(segmentId);
+        if(buffer != null && buffer.capacity() >= requiredSize)
+            return buffer;
+
+        synchronized (mappedSegments) {
+            buffer = mappedSegments.get(segmentId);
+            if(buffer == null || buffer.capacity() < requiredSize){
+                try (FileChannel channel = FileChannel.open(segmentFile(segmentId).toPath(), StandardOpenOption.READ)) {
+                    buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                }
+                mappedSegments.put(segmentId, buffer);
+            }
+            return buffer;
+        }
+    }
+
+    private void scan(int segmentId, boolean isLastSegment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentFile(segmentId).toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            long position = 0;
+
+            while(position < size){
+                ByteBuffer fixed = ByteBuffer.allocate(FIXED_HEADER_LENGTH);
+                if(!readFully(channel, fixed, position) || fixed.getInt(0) != RECORD_MAGIC){
+                    handleBrokenRecord(channel, segmentId, position, isLastSegment);
+                    break;
+                }
+
+                String contentHash = new String(fixed.array(), 4, HASH_LENGTH, StandardCharsets.US_ASCII);
+                int extensionLength = fixed.get(4 + HASH_LENGTH) & 0xFF;
+
+                ByteBuffer rest = ByteBuffer.allocate(extensionLength + 16);
+                if(!readFully(channel, rest, position + FIXED_HEADER_LENGTH)){
+                    handleBrokenRecord(channel, segmentId, position, isLastSegment);
+                    break;
+                }
+                String fileExtension = new String(rest.array(), 0, extensionLength, StandardCharsets.US_ASCII);
+                long createdMillis = rest.getLong(extensionLength);
+                long length = rest.getLong(extensionLength + 8);
+
+                long dataPosition = position + FIXED_HEADER_LENGTH + extensionLength + 16;
+                if(dataPosition + length > size){
+                    handleBrokenRecord(channel, segmentId, position, isLastSegment);
+                    break;
+                }
+
+                index.put(contentHash, new SegmentEntry(segmentId, dataPosition, length, fileExtension, createdMillis));
+                position = dataPosition + length;
+            }
+        }
+    }
+
+    private void handleBrokenRecord(FileChannel channel, int segmentId, long position, boolean isLastSegment) throws IOException {
+        log.error("SegmentImageStorage found broken record. segment: " + segmentId + ", position: " + position);
+        if(isLastSegment)
+            channel.truncate(position);
+    }
+
+    private boolean readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while(buffer.hasRemaining()){
+            int count = channel.read(buffer, position + buffer.position());
+            if(count < 0)
+                return false;
+        }
+        buffer.flip();
+        return true;
+    }
+
+    private ByteBuffer encodeHeader(String contentHash, String fileExtension, long createdMillis, long length){
+        byte[] hashBytes = contentHash.getBytes(StandardCharsets.US_ASCII);
+        byte[] extensionBytes = fileExtension.getBytes(StandardCharsets.US_ASCII);
+        if(hashBytes.length != HASH_LENGTH || extensionBytes.length > 255)
+            throw new IllegalArgumentException("segment 레코드 헤더를 만들 수 없습니다: " + contentHash + fileExtension);
+
+        ByteBuffer header = ByteBuffer.allocate(FIXED_HEADER_LENGTH + extensionBytes.length + 16);
+        header.putInt(RECORD_MAGIC)
+                .put(hashBytes)
+                .put((byte) extensionBytes.length)
+                .put(extensionBytes)
+                .putLong(createdMillis)
+                .putLong(length);
+        header.flip();
+        return header;
+    }
+
+    private void deleteVariants(String contentHash, String fileExtension) throws IOException {
+        File[] variants = toFile(toItemImagePath(contentHash, fileExtension)).getParentFile()
+                .listFiles((directory, name) -> name.startsWith(contentHash + "_"));
+        if(variants == null)
+            return;
+        for(File variant : variants)
+            Files.deleteIfExists(variant.toPath());
+    }
+
+    private List<Integer> listSegmentIds(){
+        String[] names = segmentDirectory.list((directory, name) -> name.matches("segment-\\d+\\.dat"));
+        if(names == null)
+            return new ArrayList<>();
+
+        return Arrays.stream(names)
+                .map(name -> Integer.parseInt(name.substring("segment-".length(), name.length() - ".dat".length())))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private File segmentFile(int segmentId){
+        return new File(segmentDirectory, String.format("segment-%06d.dat", segmentId));
+    }
+
+    /**
+     * 인덱스에 저장하는 이미지 위치 정보.
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class SegmentEntry {
+        private int segmentId;
+        private long offset; // segment 파일 내 이미지 시작 위치.
+        private long length;
+        private String extension;
+        private long createdMillis;
+    }
+}
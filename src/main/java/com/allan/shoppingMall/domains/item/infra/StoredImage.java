@@ -0,0 +1,15 @@
+package com.allan.shoppingMall.domains.item.infra;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * ItemImageStorage 에 저장한 이미지 파일 정보.
+ */
+@Getter
+@AllArgsConstructor
+public class StoredImage {
+    private String itemImagePath; // 애플리케이션 기준 상대 저장 경로. (ItemImage 도메인에 저장.)
+    private String contentHash; // 이미지 내용의 SHA-256 hex 값.
+    private long size;
+}
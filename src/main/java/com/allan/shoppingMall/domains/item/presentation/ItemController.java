@@ -8,7 +8,6 @@ import com.allan.shoppingMall.domains.category.domain.Category;
 import com.allan.shoppingMall.domains.category.domain.CategoryCode;
 import com.allan.shoppingMall.domains.category.domain.CategoryRepository;
 import com.allan.shoppingMall.domains.item.domain.accessory.Accessory;
-import com.allan.shoppingMall.domains.item.domain.item.Item;
 import com.allan.shoppingMall.domains.item.domain.model.AccessoryDTO;
 import com.allan.shoppingMall.domains.item.domain.model.ClothesDTO;
 import com.allan.shoppingMall.domains.item.domain.model.ItemSummaryDTO;
@@ -24,7 +23,6 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
-import java.util.List;
 
 @Controller
 @RequiredArgsConstructor
@@ -67,10 +65,9 @@ public class ItemController {
 
     @GetMapping("/item/manageList")
     public String getAllClothes(Pageable pageable, Model model){
-        Page<Item> page = itemService.getAllItems(pageable);
+        Page<ItemSummaryDTO> page = itemService.getAllItemSummaries(pageable);
 
-        List<ItemSummaryDTO> itemDTOS = itemService.getItemDTOS(page.getContent());
-        model.addAttribute("itemList", itemDTOS);
+        model.addAttribute("itemList", page.getContent());
         model.addAttribute("pagination", new PageInfo(page.getNumber(), page.getTotalPages(), page.isFirst(), page.isLast())); // 페이징 정보.
 
         return "manage/manageList";
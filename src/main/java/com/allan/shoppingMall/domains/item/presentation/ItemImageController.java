@@ -4,21 +4,27 @@ import com.allan.shoppingMall.common.exception.ErrorCode;
 import com.allan.shoppingMall.common.exception.item.ItemImageNotFoundException;
 import com.allan.shoppingMall.domains.item.domain.item.ItemImage;
 import com.allan.shoppingMall.domains.item.domain.item.ItemImageRepository;
+import com.allan.shoppingMall.domains.item.infra.ImageVariantGenerator;
+import com.allan.shoppingMall.domains.item.infra.ItemImageMetadata;
+import com.allan.shoppingMall.domains.item.infra.ItemImageMetadataCache;
+import com.allan.shoppingMall.domains.item.infra.ItemImageStorage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.IOUtils;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.*;
 import org.springframework.util.FileCopyUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.servlet.http.HttpServletResponse;
 import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequiredArgsConstructor
@@ -26,40 +32,65 @@ import java.nio.file.Path;
 public class ItemImageController {
 
     private final ItemImageRepository itemImageRepository;
+    private final ItemImageMetadataCache itemImageMetadataCache;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final ItemImageStorage itemImageStorage;
+
+    // 상품 이미지 파일은 같은 경로에 덮어쓰지 않기 때문에, 브라우저에서 오래 캐싱 하도록 합니다.
+    private static final CacheControl IMAGE_CACHE_CONTROL = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic();
 
     /**
      * ItemImage 반환하는 메소드.
+     * 이미지 경로, ETag 등은 ItemImageMetadataCache 에서 조회하여, 캐싱 된 이미지는 DB 를 조회하지 않습니다.
+     * 이미지는 ItemImageStorage 에서 조회한 Resource 로 반환하여, 파일 전체를 byte 배열로 읽지 않고 응답 스트림으로 바로 복사되도록 합니다.
+     * Range 요청은 Spring 에서 ResourceRegion 으로 변환하여 206 응답으로 처리하며,
+     * ETag(파일 크기 + 수정 시간), Last-Modified 로 변경되지 않은 이미지는 304 응답을 반환합니다.
+     * w 파라미터를 전달한 경우, 요청 너비 이상인 가장 작은 variant(240, 480, 960) 이미지로 응답합니다.
      */
     @GetMapping(
             value = "/image/{imageId}",
             produces = {MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE}
     )
-    public ResponseEntity<byte[]> getImage(@PathVariable("imageId") Long imageId) {
-        ItemImage itemImage = itemImageRepository.findById(imageId)
+    public ResponseEntity<Resource> getImage(@PathVariable("imageId") Long imageId,
+                                             @RequestParam(value = "w", required = false) Integer width,
+                                             WebRequest webRequest) {
+        ItemImageMetadata metadata = itemImageMetadataCache.get(imageId)
                 .orElseThrow(() -> new ItemImageNotFoundException("이미지가 존재하지 않습니다.", ErrorCode.ENTITY_NOT_FOUND));
 
-        String absolutePath = new File("").getAbsolutePath() + File.separator + File.separator;
-        String imagePath = itemImage.getItemImagePath();
+        Resource imageResource = itemImageStorage.load(metadata.getItemImagePath()).orElse(null);
 
-        InputStream imageStream =null;
-        try{
-            imageStream = new FileInputStream(absolutePath + imagePath);
-            byte[] imageByteArray = IOUtils.toByteArray(imageStream);
+        if(imageResource == null){
+            log.error("ItemImageController's getImage() cause error, image not exists: " + metadata.getItemImagePath());
+            itemImageMetadataCache.evict(imageId);
+            return ResponseEntity.notFound().build();
+        }
 
-            return new ResponseEntity<>(imageByteArray, HttpStatus.OK);
-        }catch(IOException exception){
-            log.error("ItemImageController's getImage() cause error");
-            return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
-        }finally {
-            try{
-                if(imageStream != null)
-                    imageStream.close();
-            }catch (IOException exception){
-                log.error(exception.getMessage());
-                exception.printStackTrace();
+        // 너비를 요청한 경우, 원본 대신 고정 너비 이미지(variant) 로 응답.
+        if(width != null && width > 0){
+            File variantFile = imageVariantGenerator.getVariant(imageResource, itemImageStorage.toFile(metadata.getItemImagePath()), width)
+                    .orElse(null);
+            ItemImageMetadata variantMetadata = variantFile == null ? null : ItemImageMetadata.of(imageId, variantFile);
+            if(variantMetadata != null){
+                metadata = variantMetadata;
+                imageResource = new FileSystemResource(variantFile);
             }
         }
 
+        if(webRequest.checkNotModified(metadata.getETag(), metadata.getLastModified())){
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(metadata.getETag())
+                    .lastModified(metadata.getLastModified())
+                    .cacheControl(IMAGE_CACHE_CONTROL)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(metadata.getMimeType()))
+                .eTag(metadata.getETag())
+                .lastModified(metadata.getLastModified())
+                .cacheControl(IMAGE_CACHE_CONTROL)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .body(imageResource);
     }
 
     /**
@@ -80,14 +111,15 @@ public class ItemImageController {
         InputStream imageStream = null;
         OutputStream out = null;
         try{
-            imageStream = new FileInputStream(absolutePath + imagePath);
-            out = response.getOutputStream();
-            FileCopyUtils.copy(imageStream, out);
-
+            // 응답 body 를 쓰기 시작하면 헤더가 커밋되므로, 상태 코드와 content type 을 먼저 설정합니다.
             Path filePath = new File(absolutePath + imagePath).toPath();
             String mimeType = Files.probeContentType(filePath);
             response.setStatus(HttpStatus.OK.value());
             response.setContentType(mimeType);
+
+            imageStream = new FileInputStream(absolutePath + imagePath);
+            out = response.getOutputStream();
+            FileCopyUtils.copy(imageStream, out);
         }catch(IOException exception){
             log.error("ItemImageController's getImage() cause error");
         }finally {
@@ -6,6 +6,7 @@ import com.allan.shoppingMall.common.exception.item.AccessorySaveFailException;
 import com.allan.shoppingMall.common.exception.item.ClothesSaveFailException;
 import com.allan.shoppingMall.common.exception.item.ItemNotFoundException;
 import com.allan.shoppingMall.common.exception.item.ItemSizeNotFoundException;
+import com.allan.shoppingMall.common.outbox.OutboxEventRecorder;
 import com.allan.shoppingMall.domains.category.domain.*;
 import com.allan.shoppingMall.domains.item.domain.accessory.Accessory;
 import com.allan.shoppingMall.domains.item.domain.accessory.AccessoryRepository;
@@ -16,10 +17,12 @@ import com.allan.shoppingMall.domains.item.domain.clothes.SizeLabel;
 import com.allan.shoppingMall.domains.item.domain.item.Color;
 import com.allan.shoppingMall.domains.item.domain.item.ImageType;
 import com.allan.shoppingMall.domains.item.domain.item.ItemImage;
+import com.allan.shoppingMall.domains.item.domain.item.ItemModifiedEvent;
 import com.allan.shoppingMall.domains.item.domain.model.*;
 import com.allan.shoppingMall.domains.item.infra.ImageFileHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -37,6 +40,7 @@ public class AccessoryService {
     private final ImageFileHandler imageFileHandler;
     private final CategoryRepository categoryRepository;
     private final CategoryItemRepository categoryItemRepository;
+    private final OutboxEventRecorder outboxEventRecorder;
 
     /**
      * form 으로 전달 된 데이터로 accessory 저장하는 메소드.
@@ -44,6 +48,7 @@ public class AccessoryService {
      * @return accessoryId
      */
     @Transactional(rollbackFor = {Exception.class, Error.class})
+    @CacheEvict(value = "itemCountCaching", allEntries = true)
     public Long saveAccessory(AccessoryForm form){
         // 의류 원단 정보.
         List<ItemFabric> fabrics = form.getItemFabrics()
@@ -193,6 +198,7 @@ public class AccessoryService {
      * @return accessory domain id.
      */
     @Transactional(rollbackFor = {Exception.class, Error.class})
+    @CacheEvict(value = "itemCountCaching", allEntries = true)
     public Long updateAccessory(AccessoryForm form){
         Accessory findAccssory = accessoryRepository.findById(form.getAccessoryId()).orElseThrow(() ->
                 new ItemNotFoundException(ErrorCode.ENTITY_NOT_FOUND));
@@ -257,6 +263,9 @@ public class AccessoryService {
         // 사이즈 도메인 수정.
         findAccssory.updateAccessorySize(sizes);
 
+        // 상품변경 이벤트 저장. (장바구니에서 없어진 사이즈 삭제)
+        outboxEventRecorder.record(new ItemModifiedEvent(findAccssory.getItemId()), findAccssory.getItemId());
+
         return findAccssory.getItemId();
     }
 }
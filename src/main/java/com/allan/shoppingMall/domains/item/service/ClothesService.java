@@ -6,6 +6,7 @@ import com.allan.shoppingMall.common.exception.category.CategoryNotFoundExceptio
 import com.allan.shoppingMall.common.exception.item.ClothesSaveFailException;
 import com.allan.shoppingMall.common.exception.item.ItemNotFoundException;
 import com.allan.shoppingMall.common.exception.item.ItemSizeNotFoundException;
+import com.allan.shoppingMall.common.outbox.OutboxEventRecorder;
 import com.allan.shoppingMall.domains.category.domain.*;
 import com.allan.shoppingMall.domains.item.domain.clothes.*;
 import com.allan.shoppingMall.domains.item.domain.item.*;
@@ -14,6 +15,7 @@ import com.allan.shoppingMall.domains.item.infra.ImageFileHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -33,6 +35,7 @@ public class ClothesService {
     private final ImageFileHandler imageFileHandler;
     private final CategoryRepository categoryRepository;
     private final CategoryItemRepository categoryItemRepository;
+    private final OutboxEventRecorder outboxEventRecorder;
 
     /**
      * form 으로 전달 된 데이터로 clothes 저장하는 메소드.
@@ -40,6 +43,7 @@ public class ClothesService {
      * @return clothesId
      */
     @Transactional(rollbackFor = {Exception.class, Error.class})
+    @CacheEvict(value = "itemCountCaching", allEntries = true)
     public Long saveClothes(ClothesForm form){
         // 의류 원단 정보.
         List<ItemFabric> fabrics = form.getItemFabrics()
@@ -249,6 +253,7 @@ public class ClothesService {
      * @return clothes domain id.
      */
     @Transactional(rollbackFor = {Exception.class, Error.class})
+    @CacheEvict(value = "itemCountCaching", allEntries = true)
     public Long updateClothes(ClothesForm form){
         Clothes findClothes = clothesRepository.findById(form.getClothesId()).orElseThrow(() ->
                 new ItemNotFoundException(ErrorCode.ENTITY_NOT_FOUND));
@@ -332,6 +337,9 @@ public class ClothesService {
         // 사이즈 도메인 수정.
         findClothes.updateClothesSize(sizes);
 
+        // 상품변경 이벤트 저장. (장바구니에서 없어진 사이즈 삭제)
+        outboxEventRecorder.record(new ItemModifiedEvent(findClothes.getItemId()), findClothes.getItemId());
+
         return findClothes.getItemId();
     }
 
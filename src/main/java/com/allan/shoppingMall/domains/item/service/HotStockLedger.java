@@ -0,0 +1,152 @@
+package com.allan.shoppingMall.domains.item.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 'hot item' 모드로 지정 된 상품 사이즈의 판매 가능한 재고량을 메모리에서 관리하는 클래스 입니다.
+ *
+ * 한정 판매처럼 같은 상품 사이즈에 주문이 몰리면, 재고량 update 쿼리가 같은 row lock 을 기다리며 순서대로 처리됩니다.
+ * item.stock.hot.item-size-ids 로 지정한 상품 사이즈는 재고량을 여러 칸(stripe) 으로 나눈 counter 에서 CAS 로 차감하여,
+ * DB 를 거치지 않고 주문 가능 여부를 판단합니다. DB 재고량은 HotStockWriteBack 에서 비동기로 반영합니다.
+ *
+ * 재고량은 인스턴스 메모리에 있으므로, 애플리케이션을 한 대로 운영하는 경우에만 사용해야 합니다.
+ * 또한 hot item 모드인 동안 관리자가 재고량을 수정하면 재시작 전까지 반영되지 않습니다.
+ */
+@Component
+@Slf4j
+public class HotStockLedger {
+
+    private final Set<Long> hotItemSizeIds;
+    private final int stripeCount;
+    private final Map<Long, StripedCounter> counters = new ConcurrentHashMap<>();
+
+    public HotStockLedger(@Value("${item.stock.hot.item-size-ids:}") Set<Long> hotItemSizeIds,
+                          @Value("${item.stock.hot.stripes:8}") int stripeCount) {
+        this.hotItemSizeIds = hotItemSizeIds == null ? Collections.emptySet() : Collections.unmodifiableSet(new HashSet<>(hotItemSizeIds));
+        this.stripeCount = Math.max(1, stripeCount);
+    }
+
+    /**
+     * hot item 모드로 지정 된 상품 사이즈인지 확인하는 메소드.
+     * @param itemSizeId 상품 사이즈 도메인 아이디.
+     */
+    public boolean isHot(Long itemSizeId){
+        return itemSizeId != null && hotItemSizeIds.contains(itemSizeId);
+    }
+
+    public Set<Long> getHotItemSizeIds() {
+        return hotItemSizeIds;
+    }
+
+    /**
+     * DB 에 반영 된 재고량으로 counter 를 초기화하는 메소드.
+     * 반영 되지 않은 변경 내역이 없는 상태(HotStockWriteBack.reconcile) 에서 호출해야 합니다.
+     * @param itemSizeId 상품 사이즈 도메인 아이디.
+     * @param stockQuantity DB 재고량.
+     */
+    public void load(Long itemSizeId, long stockQuantity){
+        counters.put(itemSizeId, new StripedCounter(stripeCount, stockQuantity));
+        log.info("hot item stock loaded. itemSizeId: " + itemSizeId + ", stockQuantity: " + stockQuantity);
+    }
+
+    /**
+     * 재고량이 주문 수량 이상인 경우에만 차감하는 메소드.
+     * @param itemSizeId 상품 사이즈 도메인 아이디.
+     * @param quantity 주문 수량.
+     * @return boolean 차감 여부. (재고량이 부족하거나 counter 가 초기화 되지 않은 경우 false)
+     */
+    public boolean tryAcquire(Long itemSizeId, long quantity){
+        StripedCounter counter = counters.get(itemSizeId);
+        return counter != null && counter.tryAcquire(quantity);
+    }
+
+    /**
+     * 주문 실패, 취소로 차감한 재고량을 되돌리는 메소드.
+     * @param itemSizeId 상품 사이즈 도메인 아이디.
+     * @param quantity 주문 수량.
+     */
+    public void release(Long itemSizeId, long quantity){
+        StripedCounter counter = counters.get(itemSizeId);
+        if(counter != null)
+            counter.release(quantity);
+    }
+
+    /**
+     * 메모리에 있는 판매 가능한 재고량을 반환하는 메소드.
+     * @param itemSizeId 상품 사이즈 도메인 아이디.
+     * @return long 재고량. (counter 가 초기화 되지 않은 경우 0)
+     */
+    public long getAvailable(Long itemSizeId){
+        StripedCounter counter = counters.get(itemSizeId);
+        return counter == null ? 0l : counter.sum();
+    }
+
+    /**
+     * 재고량을 여러 칸으로 나누어 저장하는 counter.
+     * 임의의 칸부터 CAS 로 차감하여 한 값에 대한 경합을 줄이고,
+     * 한 칸에 남은 재고량이 주문 수량보다 적은 경우에만 lock 을 잡고 모든 칸을 합쳐 차감 후 다시 나눕니다.
+     */
+    static class StripedCounter {
+
+        private final AtomicLongArray stripes;
+
+        StripedCounter(int stripeCount, long quantity) {
+            this.stripes = new AtomicLongArray(stripeCount);
+            spread(quantity);
+        }
+
+        boolean tryAcquire(long quantity){
+            int length = stripes.length();
+            int start = ThreadLocalRandom.current().nextInt(length);
+            for(int i = 0; i < length; i++){
+                int index = (start + i) % length;
+                long current;
+                while((current = stripes.get(index)) >= quantity){
+                    if(stripes.compareAndSet(index, current, current - quantity))
+                        return true;
+                }
+            }
+            return tryAcquireAcrossStripes(quantity);
+        }
+
+        private synchronized boolean tryAcquireAcrossStripes(long quantity){
+            long total = 0l;
+            for(int i = 0; i < stripes.length(); i++)
+                total += stripes.getAndSet(i, 0l);
+
+            boolean acquired = total >= quantity;
+            if(acquired)
+                total -= quantity;
+            spread(total);
+            return acquired;
+        }
+
+        void release(long quantity){
+            stripes.addAndGet(ThreadLocalRandom.current().nextInt(stripes.length()), quantity);
+        }
+
+        long sum(){
+            long total = 0l;
+            for(int i = 0; i < stripes.length(); i++)
+                total += stripes.get(i);
+            return total;
+        }
+
+        private void spread(long quantity){
+            int length = stripes.length();
+            long share = quantity / length;
+            for(int i = 0; i < length; i++)
+                stripes.addAndGet(i, share + (i < quantity % length ? 1 : 0));
+        }
+    }
+}
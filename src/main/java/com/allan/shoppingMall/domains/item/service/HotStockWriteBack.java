@@ -0,0 +1,109 @@
+package com.allan.shoppingMall.domains.item.service;
+
+import com.allan.shoppingMall.domains.item.domain.item.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 'hot item' 모드의 재고 변경 내역(StockJournal) 을 itemSizes, items 테이블의 재고량에 반영하는 클래스 입니다.
+ *
+ * 변경 내역을 500 건씩 lock 을 잡고 조회하여 상품 사이즈, 상품 별로 합산한 뒤 update 쿼리 한 번씩으로 반영하고, 같은 트랜잭션에서 삭제합니다.
+ * 애플리케이션 시작시(reconcile) 남아있는 내역을 모두 반영한 뒤, DB 재고량으로 HotStockLedger 를 초기화 하므로
+ * 반영 전에 종료 되더라도 재고량이 어긋나지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HotStockWriteBack implements SmartInitializingSingleton {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final StockJournalRepository stockJournalRepository;
+    private final ItemSizeRepository itemSizeRepository;
+    private final ItemRepository itemRepository;
+    private final HotStockLedger hotStockLedger;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 웹 서버가 요청을 받기 전에, 남아있는 변경 내역을 반영하고 hot item 재고량을 불러옵니다.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        reconcile();
+    }
+
+    /**
+     * 남아있는 변경 내역을 모두 반영하고, DB 재고량으로 HotStockLedger 를 초기화하는 메소드.
+     */
+    public void reconcile(){
+        if(hotStockLedger.getHotItemSizeIds().isEmpty())
+            return;
+
+        int flushed = flush();
+        for(ItemSize itemSize : itemSizeRepository.findAllById(hotStockLedger.getHotItemSizeIds()))
+            hotStockLedger.load(itemSize.getItemSizeId(), itemSize.getStockQuantity());
+        log.info("hot item stock reconciled. flushed journals: " + flushed);
+    }
+
+    /**
+     * 반영 되지 않은 변경 내역이 없을 때까지 재고량에 반영하는 메소드.
+     * @return int 반영한 변경 내역 수.
+     */
+    @Scheduled(fixedDelayString = "${item.stock.hot.flush-delay-ms:200}")
+    public int flush(){
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int flushed = 0;
+        int count;
+        do {
+            count = transactionTemplate.execute(status -> flushBatch());
+            flushed += count;
+        } while(count == BATCH_SIZE);
+        return flushed;
+    }
+
+    @PreDestroy
+    public void close(){
+        if(!hotStockLedger.getHotItemSizeIds().isEmpty())
+            flush();
+    }
+
+    private int flushBatch(){
+        List<StockJournal> journals = stockJournalRepository.findPendingJournals(PageRequest.of(0, BATCH_SIZE));
+        if(journals.isEmpty())
+            return 0;
+
+        // 교착 상태를 피하기 위해 ItemStockService 와 같이 아이디 순서로 반영합니다.
+        Map<Long, Long> itemSizeQuantities = new TreeMap<>();
+        Map<Long, Long> itemQuantities = new TreeMap<>();
+        List<Long> journalIds = new ArrayList<>();
+        for(StockJournal journal : journals){
+            itemSizeQuantities.merge(journal.getItemSizeId(), journal.getQuantity(), Long::sum);
+            itemQuantities.merge(journal.getItemId(), journal.getQuantity(), Long::sum);
+            journalIds.add(journal.getJournalId());
+        }
+
+        // HotStockLedger 에서 이미 주문 가능 여부를 판단 했으므로, 조건 없이 합산한 수량만큼 변경합니다.
+        itemSizeQuantities.forEach((itemSizeId, quantity) -> {
+            if(quantity != 0)
+                itemSizeRepository.increaseStockQuantity(itemSizeId, -quantity);
+        });
+        itemQuantities.forEach((itemId, quantity) -> {
+            if(quantity != 0)
+                itemRepository.increaseStockQuantity(itemId, -quantity);
+        });
+        stockJournalRepository.deleteAllByJournalIds(journalIds);
+        return journals.size();
+    }
+}
@@ -10,7 +10,6 @@ import com.allan.shoppingMall.domains.item.domain.item.ItemRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +18,7 @@ import java.util.stream.Collectors;
 
 /**
  * 상품 정보를 수정 할 때, 수정 이벤트 반응하는 handler 클래스입니다.
+ * 이벤트는 OutboxRelay 의 트랜잭션 안에서 전달 됩니다.
  */
 @Service
 @RequiredArgsConstructor
@@ -27,7 +27,6 @@ public class ItemModifiedEventHandler {
     private final ItemRepository itemRepository;
     private final CartItemRepository cartItemRepository;
 
-    @Async
     @EventListener
     @Transactional(rollbackFor = {Exception.class, Error.class})
     public void handleEvent(ItemModifiedEvent event){
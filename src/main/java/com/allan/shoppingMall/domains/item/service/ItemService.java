@@ -1,16 +1,17 @@
 package com.allan.shoppingMall.domains.item.service;
 
 import com.allan.shoppingMall.common.exception.ErrorCode;
-import com.allan.shoppingMall.common.exception.category.CategoryItemNotFoundException;
 import com.allan.shoppingMall.common.exception.item.ItemNotFoundException;
-import com.allan.shoppingMall.domains.category.domain.*;
 import com.allan.shoppingMall.domains.category.service.CategoryService;
 import com.allan.shoppingMall.domains.item.domain.clothes.SizeLabel;
 import com.allan.shoppingMall.domains.item.domain.item.Item;
 import com.allan.shoppingMall.domains.item.domain.item.ItemRepository;
 import com.allan.shoppingMall.domains.item.domain.item.ItemSummaryDTOForCart;
+import com.allan.shoppingMall.domains.item.domain.model.ItemCursor;
+import com.allan.shoppingMall.domains.item.domain.model.ItemCursorPage;
 import com.allan.shoppingMall.domains.item.domain.model.ItemSummaryDTO;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -29,7 +30,6 @@ public class ItemService {
 
     private final ItemRepository itemRepository;
     private final CategoryService categoryService;
-    private final CategoryItemRepository categoryItemRepository;
 
     /**
      * 카테고리에 해당하는 상품 도메인 리스트를 페이징하여 반환하기 위한 메소드.
@@ -47,40 +47,58 @@ public class ItemService {
         return items;
     }
 
-    public Page<Item> getAllItems(Pageable pageable){
+    /**
+     * 카테고리(하위 카테고리 포함)에 해당하는 상품 요약 정보를 페이징하여 반환하기 위한 메소드.
+     * 상품 목록 페이지에서 사용하며, 상품 엔티티 대신 조회 전용 쿼리로 필요한 정보만 조회합니다.
+     * (기본 페이징 사이즈는 9 입니다.)
+     * @param categoryId 카테고리 도메인 아이디.
+     * @param pageable 페이징 정보.
+     * @return Page<ItemSummaryDTO>
+     */
+    public Page<ItemSummaryDTO> getItemSummaries(Long categoryId, Pageable pageable){
         int page = (pageable.getPageNumber() == 0) ? 0 : (pageable.getPageNumber() - 1);
+        List<Long> categoryIds = categoryService.getCategoryIds(categoryId);
 
-        pageable = PageRequest.of(page, 10, Sort.by(Sort.Direction.DESC, "createdDate"));
-        Page<Item> items = itemRepository.getAllItems(pageable);
+        return itemRepository.getItemSummariesByCategoryIds(categoryIds, PageRequest.of(page, 9));
+    }
 
-        return items;
+    /**
+     * 카테고리(하위 카테고리 포함)에 해당하는 상품 요약 정보를 keyset(seek) 페이징하여 반환하기 위한 메소드.
+     * offset 페이징과 달리 페이지가 깊어져도 조회 비용이 일정하며, 전체 상품 수를 조회하지 않습니다.
+     * (기본 페이징 사이즈는 9 입니다.)
+     * @param categoryId 카테고리 도메인 아이디.
+     * @param cursor 이전 페이지에서 전달 받은 커서 토큰.(첫 페이지인 경우 null 또는 빈값)
+     * @return ItemCursorPage
+     */
+    public ItemCursorPage getItemSummaries(Long categoryId, String cursor){
+        List<Long> categoryIds = categoryService.getCategoryIds(categoryId);
+
+        return itemRepository.getItemSummariesByCategoryIds(categoryIds, ItemCursor.decode(cursor), 9);
     }
 
     /**
-     * 컨트롤러단에서 전달받은 Page<Item> 를 프론트단으로 전송 할 List<ItemSummaryDTO> 반환하기 위한 메소드.
-     * @param items 페이징 한 Item 정보.
-     * @return List<ItemSummaryDTO>
+     * 카테고리(하위 카테고리 포함)에 해당하는 전체 상품 수를 반환하는 메소드.
+     * 상품 수 조회는 비용이 크기 때문에 캐싱하며, 상품 등록/수정시 캐시를 비웁니다.
+     * @param categoryId 카테고리 도메인 아이디.
+     * @return long 상품 수.
      */
-    public List<ItemSummaryDTO> getItemDTOS(List<Item> items){
-        List<ItemSummaryDTO> itemSummaryDTOList = items.stream()
-                .map(item -> {
-
-                    // 카테고리가 의류 또는 악세서리인 상품 카테고리 아이템 정보만 조회.
-                    CategoryItem categoryItem = categoryItemRepository.getCategoryItem(List.of(CategoryCode.CLOTHES, CategoryCode.ACCESSORY), item.getItemId()).orElseThrow(() ->
-                            new CategoryItemNotFoundException(ErrorCode.ENTITY_NOT_FOUND));
-
-                    return ItemSummaryDTO.builder()
-                            .itemId(item.getItemId())
-                            .name(item.getName())
-                            .price(item.getPrice())
-                            .itemColor(item.getColor().getDesc())
-                            .profileImageIds(ItemSummaryDTO.toImagePath(item.getItemImages()))
-                            .categoryId(categoryItem.getCategory().getCategoryId())
-                            .createdDate(item.getCreatedDate())
-                            .build();
-                }).collect(Collectors.toList());
+    @Cacheable(value = "itemCountCaching", key = "#categoryId")
+    public long getItemCount(Long categoryId){
+        List<Long> categoryIds = categoryService.getCategoryIds(categoryId);
+
+        return itemRepository.countItemsByCategoryIds(categoryIds);
+    }
+
+    /**
+     * 모든 상품 요약 정보를 페이징하여 반환하기 위한 메소드.(관리자 상품 목록용)
+     * (기본 페이징 사이즈는 10 입니다.)
+     * @param pageable 페이징 정보.
+     * @return Page<ItemSummaryDTO>
+     */
+    public Page<ItemSummaryDTO> getAllItemSummaries(Pageable pageable){
+        int page = (pageable.getPageNumber() == 0) ? 0 : (pageable.getPageNumber() - 1);
 
-        return itemSummaryDTOList;
+        return itemRepository.getAllItemSummaries(PageRequest.of(page, 10));
     }
 
     /**
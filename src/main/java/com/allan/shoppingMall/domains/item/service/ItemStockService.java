@@ -0,0 +1,169 @@
+package com.allan.shoppingMall.domains.item.service;
+
+import com.allan.shoppingMall.common.exception.ErrorCode;
+import com.allan.shoppingMall.common.exception.order.OrderFailException;
+import com.allan.shoppingMall.domains.item.domain.item.ItemRepository;
+import com.allan.shoppingMall.domains.item.domain.item.ItemSizeRepository;
+import com.allan.shoppingMall.domains.item.domain.item.StockJournal;
+import com.allan.shoppingMall.domains.item.domain.item.StockJournalRepository;
+import com.allan.shoppingMall.domains.item.domain.model.StockLine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+/**
+ * 주문, 주문 취소에 따른 상품 재고량을 변경하는 서비스단.
+ *
+ * 상품(Item), 상품 사이즈(ItemSize) 엔티티를 조회 후 값을 변경하면(dirty checking), 동시에 주문한 경우 먼저 조회한 값으로 덮어쓰게 되어
+ * 재고량 이상 주문이 가능합니다. 그렇기에 재고량은 엔티티가 아닌 조건부 update 쿼리(재고량 >= 주문 수량) 로만 변경하며,
+ * 변경 된 row 가 없으면 재고 부족으로 주문을 실패 처리합니다.
+ * 여러 상품을 주문하는 경우 교착 상태를 피하기 위해, 모든 상품 사이즈를 아이디 순서로 변경한 뒤 상품을 아이디 순서로 변경합니다.
+ * (상품 사이즈 -> 상품 순서로 한 줄씩 변경하면, 서로 다른 상품 사이즈를 주문한 두 주문이 상품 row lock 을 엇갈려 잡을 수 있습니다.)
+ *
+ * 'hot item' 모드로 지정 된 상품 사이즈는 HotStockLedger 에서 재고량을 차감하고 변경 내역(StockJournal) 만 저장하며,
+ * 트랜잭션이 롤백 되면 차감한 재고량을 되돌립니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ItemStockService {
+
+    private final ItemRepository itemRepository;
+    private final ItemSizeRepository itemSizeRepository;
+    private final HotStockLedger hotStockLedger;
+    private final StockJournalRepository stockJournalRepository;
+
+    /**
+     * 주문시 상품 사이즈, 상품의 재고량을 감소하는 메소드.
+     * 재고량이 부족한 경우 OrderFailException 을 던지며, 먼저 감소한 재고량은 트랜잭션 롤백으로 복구됩니다.
+     * @param itemId 상품 도메인 아이디.
+     * @param itemSizeId 상품 사이즈 도메인 아이디.
+     * @param quantity 주문 수량.
+     */
+    @Transactional(rollbackFor = {Exception.class, Error.class})
+    public void decreaseStock(Long itemId, Long itemSizeId, Long quantity){
+        decreaseStocks(List.of(StockLine.of(itemId, itemSizeId, quantity)));
+    }
+
+    /**
+     * 주문시 여러 주문 상품의 상품 사이즈, 상품 재고량을 감소하는 메소드.
+     * 1) 상품 사이즈 아이디 순서로 상품 사이즈 재고량 감소
+     * 2) 상품 별로 합산한 수량만큼 상품 아이디 순서로 상품 재고량 감소
+     * 재고량이 부족한 경우 OrderFailException 을 던지며, 먼저 감소한 재고량은 트랜잭션 롤백으로 복구됩니다.
+     * @param stockLines 주문 상품 리스트. (호출하는 쪽에서 정렬하지 않아도 됩니다.)
+     */
+    @Transactional(rollbackFor = {Exception.class, Error.class})
+    public void decreaseStocks(Collection<StockLine> stockLines){
+        Map<Long, Long> itemQuantities = new TreeMap<>();
+        for(StockLine stockLine : sumByItemSize(stockLines)){
+            if(hotStockLedger.isHot(stockLine.getItemSizeId())){
+                decreaseHotStock(stockLine.getItemId(), stockLine.getItemSizeId(), stockLine.getQuantity());
+                continue;
+            }
+
+            if(itemSizeRepository.decreaseStockQuantity(stockLine.getItemSizeId(), stockLine.getQuantity()) == 0)
+                throw stockQuantityExceeded(stockLine.getItemId(), stockLine.getItemSizeId(), stockLine.getQuantity());
+            itemQuantities.merge(stockLine.getItemId(), stockLine.getQuantity(), Long::sum);
+        }
+
+        for(Map.Entry<Long, Long> entry : itemQuantities.entrySet()){
+            if(itemRepository.decreaseStockQuantity(entry.getKey(), entry.getValue()) == 0)
+                throw stockQuantityExceeded(entry.getKey(), null, entry.getValue());
+        }
+    }
+
+    /**
+     * 주문 취소시 상품 사이즈, 상품의 재고량을 복구하는 메소드.
+     * @param itemId 상품 도메인 아이디.
+     * @param itemSizeId 상품 사이즈 도메인 아이디.
+     * @param quantity 주문 수량.
+     */
+    @Transactional(rollbackFor = {Exception.class, Error.class})
+    public void increaseStock(Long itemId, Long itemSizeId, Long quantity){
+        increaseStocks(List.of(StockLine.of(itemId, itemSizeId, quantity)));
+    }
+
+    /**
+     * 주문 취소시 여러 주문 상품의 상품 사이즈, 상품 재고량을 복구하는 메소드.
+     * decreaseStocks() 와 같은 순서(상품 사이즈 아이디 순 -> 상품 아이디 순) 로 변경합니다.
+     * @param stockLines 주문 상품 리스트. (호출하는 쪽에서 정렬하지 않아도 됩니다.)
+     */
+    @Transactional(rollbackFor = {Exception.class, Error.class})
+    public void increaseStocks(Collection<StockLine> stockLines){
+        Map<Long, Long> itemQuantities = new TreeMap<>();
+        for(StockLine stockLine : sumByItemSize(stockLines)){
+            if(hotStockLedger.isHot(stockLine.getItemSizeId())){
+                increaseHotStock(stockLine.getItemId(), stockLine.getItemSizeId(), stockLine.getQuantity());
+                continue;
+            }
+
+            itemSizeRepository.increaseStockQuantity(stockLine.getItemSizeId(), stockLine.getQuantity());
+            itemQuantities.merge(stockLine.getItemId(), stockLine.getQuantity(), Long::sum);
+        }
+
+        itemQuantities.forEach(itemRepository::increaseStockQuantity);
+    }
+
+    /**
+     * 주문 상품을 상품 사이즈 별로 합산하여 상품 사이즈 아이디 순서로 반환하는 메소드.
+     */
+    private List<StockLine> sumByItemSize(Collection<StockLine> stockLines){
+        Map<Long, StockLine> summed = new TreeMap<>();
+        for(StockLine stockLine : stockLines){
+            validateQuantity(stockLine.getQuantity());
+            summed.merge(stockLine.getItemSizeId(), stockLine, (line, other) ->
+                    StockLine.of(line.getItemId(), line.getItemSizeId(), line.getQuantity() + other.getQuantity()));
+        }
+        return new ArrayList<>(summed.values());
+    }
+
+    private OrderFailException stockQuantityExceeded(Long itemId, Long itemSizeId, Long quantity){
+        log.error("itemId: " + itemId + ", itemSizeId: " + itemSizeId + ", quantity: " + quantity);
+        return new OrderFailException(ErrorCode.ITEM_STOCK_QUANTITY_EXCEEDED.getMessage(), ErrorCode.ITEM_STOCK_QUANTITY_EXCEEDED);
+    }
+
+    private void decreaseHotStock(Long itemId, Long itemSizeId, Long quantity){
+        if(!hotStockLedger.tryAcquire(itemSizeId, quantity))
+            throw stockQuantityExceeded(itemId, itemSizeId, quantity);
+
+        // 주문 트랜잭션이 롤백 되면 변경 내역도 저장되지 않으므로, 차감한 재고량을 되돌립니다.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if(status != STATUS_COMMITTED)
+                    hotStockLedger.release(itemSizeId, quantity);
+            }
+        });
+        stockJournalRepository.save(StockJournal.builder()
+                .itemId(itemId)
+                .itemSizeId(itemSizeId)
+                .quantity(quantity)
+                .build());
+    }
+
+    private void increaseHotStock(Long itemId, Long itemSizeId, Long quantity){
+        stockJournalRepository.save(StockJournal.builder()
+                .itemId(itemId)
+                .itemSizeId(itemSizeId)
+                .quantity(-quantity)
+                .build());
+
+        // 취소가 커밋 된 이후에만 다른 주문에서 사용 할 수 있도록 합니다.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                hotStockLedger.release(itemSizeId, quantity);
+            }
+        });
+    }
+
+    private void validateQuantity(Long quantity){
+        if(quantity == null || quantity <= 0)
+            throw new OrderFailException("주문 수량이 올바르지 않습니다.", ErrorCode.INVALID_ORDER_REQUEST_INPUT_VALUE);
+    }
+}
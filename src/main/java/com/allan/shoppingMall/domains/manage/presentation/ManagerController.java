@@ -7,7 +7,6 @@ import com.allan.shoppingMall.common.exception.category.CategoryNotFoundExceptio
 import com.allan.shoppingMall.domains.category.domain.Category;
 import com.allan.shoppingMall.domains.category.domain.CategoryCode;
 import com.allan.shoppingMall.domains.category.domain.CategoryRepository;
-import com.allan.shoppingMall.domains.item.domain.item.Item;
 import com.allan.shoppingMall.domains.item.domain.model.ItemSummaryDTO;
 import com.allan.shoppingMall.domains.item.service.ItemService;
 import lombok.RequiredArgsConstructor;
@@ -19,7 +18,6 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
-import java.util.List;
 
 @Controller
 @RequiredArgsConstructor
@@ -31,10 +29,9 @@ public class ManagerController {
 
     @GetMapping("/manage/itemList")
     public String getAllClothes(Pageable pageable, Model model){
-        Page<Item> page = itemService.getAllItems(pageable);
+        Page<ItemSummaryDTO> page = itemService.getAllItemSummaries(pageable);
 
-        List<ItemSummaryDTO> itemDTOS = itemService.getItemDTOS(page.getContent());
-        model.addAttribute("itemList", itemDTOS);
+        model.addAttribute("itemList", page.getContent());
         model.addAttribute("pagination", new PageInfo(page.getNumber(), page.getTotalPages(), page.isFirst(), page.isLast())); // 페이징 정보.
 
         return "manage/manageList";
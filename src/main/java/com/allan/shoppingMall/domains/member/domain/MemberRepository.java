@@ -5,5 +5,5 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
-    public Optional<Member> findByAuthIdLike(String authId);
+    public Optional<Member> findByAuthId(String authId);
 }
@@ -24,7 +24,7 @@ public class RestMemberController {
 
     @PostMapping("/member/checkId")
     public ResponseEntity<ApiResponse> checkId(@RequestBody MemberRequest memberRequest) {
-        boolean present = memberRepository.findByAuthIdLike(memberRequest.getAuthId()).isPresent();
+        boolean present = memberRepository.findByAuthId(memberRequest.getAuthId()).isPresent();
         if (present) {
             ApiResponse response = new ApiResponse(MemberResponse.IN_USE.getStatus(), MemberResponse.IN_USE.getMessage());
             return new ResponseEntity<ApiResponse>(response, HttpStatus.OK);
@@ -10,13 +10,13 @@ import com.allan.shoppingMall.domains.member.domain.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 
 /**
  * 회원가입시, 회원가입 이벤트에 반응하는 handler 클래스입니다.
+ * 이벤트는 OutboxRelay 의 트랜잭션 안에서 전달 되며, 이미 장바구니가 있는 회원은 다시 생성하지 않습니다.
  */
 @Service
 @RequiredArgsConstructor
@@ -25,7 +25,6 @@ public class MemberJoinedEventHandler {
     private final CartRepository cartRepository;
     private final MemberRepository memberRepository;
 
-    @Async
     @EventListener
     @Transactional(rollbackFor = {Exception.class, Error.class})
     public void handleEvent(MemberJoinedEvent event){
@@ -35,8 +34,10 @@ public class MemberJoinedEventHandler {
         Member member = memberRepository.findById(event.getMemberId()).orElseThrow(() ->
                 new MemberNotFoundException(ErrorCode.ENTITY_NOT_FOUND));
 
-        if(member != null)
-            cartRepository.save(Cart.builder().member(member).build());
+        if(cartRepository.findByAuthId(member.getAuthId()).isPresent())
+            return;
+
+        cartRepository.save(Cart.builder().member(member).build());
     }
 
 }
@@ -1,9 +1,11 @@
 package com.allan.shoppingMall.domains.member.service;
 
 import com.allan.shoppingMall.common.exception.ErrorCode;
+import com.allan.shoppingMall.common.outbox.OutboxEventRecorder;
 import com.allan.shoppingMall.common.value.Address;
 import com.allan.shoppingMall.domains.member.domain.Gender;
 import com.allan.shoppingMall.domains.member.domain.Member;
+import com.allan.shoppingMall.domains.member.domain.MemberJoinedEvent;
 import com.allan.shoppingMall.domains.member.domain.MemberRepository;
 import com.allan.shoppingMall.domains.member.domain.MemberRole;
 import com.allan.shoppingMall.domains.member.domain.model.MemberForm;
@@ -20,6 +22,7 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final MileageService mileageService;
+    private final OutboxEventRecorder outboxEventRecorder;
 
     @Transactional(rollbackFor = {Exception.class, Error.class})
     public Long join(MemberForm form){
@@ -48,11 +51,14 @@ public class MemberService {
         // 회원가입시, 3000 마일리지 적립.
         mileageService.accumulateMileage("", form.getAuthId(), 3000l, MileageContent.JOIN_MILEAGE_ACCUMULATE);
 
+        // 회원가입 이벤트 저장. (장바구니 생성)
+        outboxEventRecorder.record(new MemberJoinedEvent(member.getMemberId()), member.getMemberId());
+
         return member.getMemberId();
     }
 
     private boolean validateAuthId(String authId){
-        boolean present = memberRepository.findByAuthIdLike(authId).isPresent();
+        boolean present = memberRepository.findByAuthId(authId).isPresent();
         if(!present){
             return true;
         }else{
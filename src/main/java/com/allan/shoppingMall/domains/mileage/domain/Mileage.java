@@ -29,10 +29,14 @@ import javax.persistence.*;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "mileages")
+@Table(name = "mileages", indexes = {
+        @Index(name = "idx_mileages_auth_id", columnList = "auth_id"),
+        @Index(name = "idx_mileages_order_num", columnList = "order_num")
+})
 public class Mileage extends BaseTimeEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "mileages_seq_generator")
+    @SequenceGenerator(name = "mileages_seq_generator", sequenceName = "mileages_seq", allocationSize = 50)
     private Long mileageId;
 
     // 적립 되는 회원 아이디.
@@ -0,0 +1,38 @@
+package com.allan.shoppingMall.domains.mileage.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * 회원별 사용 가능한 마일리지 잔액을 저장하는 엔티티.
+ *
+ * 잔액은 마일리지(Mileage) 를 저장, 삭제하는 트랜잭션에서 함께 변경하며,
+ * 동시에 차감하는 경우에도 잔액이 음수가 되지 않도록 조건부 update 쿼리(MileageBalanceRepository) 로만 변경합니다.
+ * 잔액 row 는 회원가입시 생성되며, 기존 회원의 잔액 row 는 migration(V4__seed_mileage_balances) 에서 마일리지 합계로 생성합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "mileage_balances")
+public class MileageBalance {
+
+    // 회원 아이디. (마일리지와 같이 회원 도메인과 연관관계를 맺지 않습니다.)
+    @Id
+    @Column(name = "auth_id", length = 20)
+    private String authId;
+
+    // 사용 가능한 마일리지 포인트.
+    @Column(nullable = false)
+    private Long balance;
+
+    public MileageBalance(String authId, Long balance) {
+        this.authId = authId;
+        this.balance = balance;
+    }
+}
@@ -0,0 +1,73 @@
+package com.allan.shoppingMall.domains.mileage.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface MileageBalanceRepository extends JpaRepository<MileageBalance, String> {
+
+    /**
+     * 마일리지 잔액을 변경하는 메소드. (적립, 마일리지 삭제시 호출)
+     * @param authId 회원 아이디.
+     * @param point 변경 할 포인트. (음수인 경우 차감)
+     * @return int 변경 된 row 수. (잔액 row 가 없는 경우 0)
+     */
+    @Modifying
+    @Query("update MileageBalance b set b.balance = b.balance + :point where b.authId = :authId")
+    int addPoint(@Param("authId") String authId, @Param("point") Long point);
+
+    /**
+     * 잔액이 차감 할 포인트 이상인 경우에만 잔액을 차감하는 메소드.
+     * 조건 확인과 차감을 하나의 update 쿼리로 처리하므로, 동시에 차감하더라도 잔액이 음수가 되지 않습니다.
+     * @param authId 회원 아이디.
+     * @param point 차감 할 포인트. (양수)
+     * @return int 변경 된 row 수. (잔액이 부족한 경우 0)
+     */
+    @Modifying
+    @Query("update MileageBalance b set b.balance = b.balance - :point where b.authId = :authId and b.balance >= :point")
+    int deductPoint(@Param("authId") String authId, @Param("point") Long point);
+
+    /**
+     * 회원 아이디 리스트의 잔액을 조회하는 메소드.
+     * @param authIds 회원 아이디 리스트.
+     */
+    List<MileageBalance> findAllByAuthIdIn(Collection<String> authIds);
+
+    /**
+     * 잔액 row 에 lock 을 걸고 조회하는 메소드. (잔액 검증 작업에서 잔액을 다시 계산 할 때 사용)
+     * @param authId 회원 아이디.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from MileageBalance b where b.authId = :authId")
+    Optional<MileageBalance> findByAuthIdForUpdate(@Param("authId") String authId);
+
+    /**
+     * 회원 아이디 순으로 잔액 row 에 lock 을 걸고 조회하는 메소드. (마일리지 정리 작업에서 사용)
+     * @param authIds 회원 아이디 리스트.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from MileageBalance b where b.authId in :authIds order by b.authId")
+    List<MileageBalance> findAllByAuthIdInForUpdate(@Param("authIds") Collection<String> authIds);
+
+    /**
+     * 잔액을 다시 계산 한 값으로 변경하는 메소드. (잔액 검증 작업에서만 사용)
+     * @param authId 회원 아이디.
+     * @param balance 마일리지 합계.
+     */
+    @Modifying
+    @Query("update MileageBalance b set b.balance = :balance where b.authId = :authId")
+    int changeBalance(@Param("authId") String authId, @Param("balance") Long balance);
+
+    /**
+     * 마일리지가 없지만 잔액이 0 이 아닌 회원 아이디를 조회하는 메소드.
+     */
+    @Query("select b.authId from MileageBalance b where b.balance <> 0 and not exists (select m.mileageId from Mileage m where m.authId = b.authId)")
+    List<String> findAuthIdsWithoutMileage();
+}
@@ -0,0 +1,15 @@
+package com.allan.shoppingMall.domains.mileage.domain;
+
+/**
+ * 이전 마일리지 합계로 합칠 회원 별 마일리지 조회 결과.
+ */
+public interface MileageCheckpointView {
+
+    String getAuthId();
+
+    // 합칠 마일리지 합계.
+    Long getPoint();
+
+    // 이전 마일리지 합계로 변경 할 마일리지 아이디. (합칠 마일리지 중 가장 최근 마일리지)
+    Long getMileageId();
+}
@@ -0,0 +1,18 @@
+package com.allan.shoppingMall.domains.mileage.domain;
+
+/**
+ * 회원 별 만료 대상 마일리지 계산을 위한 조회 결과.
+ */
+public interface MileageExpiryView {
+
+    String getAuthId();
+
+    // 만료 기준 시간 이전에 적립 된 포인트 합계.
+    Long getExpirable();
+
+    // 차감 된 포인트 합계. (양수)
+    Long getConsumed();
+
+    // 마일리지 합계.
+    Long getPoint();
+}
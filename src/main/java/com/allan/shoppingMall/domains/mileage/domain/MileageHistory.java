@@ -0,0 +1,50 @@
+package com.allan.shoppingMall.domains.mileage.domain;
+
+import com.allan.shoppingMall.domains.mileage.domain.model.MileageContent;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 이전 마일리지 합계(CHECKPOINT_MILEAGE) 로 합쳐진 마일리지 내역을 보관하는 엔티티.
+ * 마일리지 정리 작업(MileageLedgerCompactionJob) 에서 insert-select 쿼리로만 저장하며, 수정하지 않습니다.
+ * 같은 마일리지(이전 마일리지 합계) 가 여러번 보관 될 수 있으므로 별도의 아이디를 사용합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "mileage_histories", indexes = @Index(name = "idx_mileage_histories_order_num", columnList = "order_num"))
+public class MileageHistory {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "mileage_history_id")
+    private Long mileageHistoryId;
+
+    // 보관 된 마일리지 아이디.
+    @Column(name = "mileage_id", nullable = false)
+    private Long mileageId;
+
+    @Column(name = "auth_id", nullable = false)
+    private String authId;
+
+    @Column(name = "order_num", nullable = false)
+    private String orderNum;
+
+    @Column(name = "mileage_content", nullable = false)
+    @Enumerated(value = EnumType.STRING)
+    private MileageContent mileageContent;
+
+    @Column(nullable = false)
+    private Long point;
+
+    // 마일리지 적립, 차감 시간.
+    @Column(name = "created_date", nullable = false)
+    private LocalDateTime createdDate;
+
+    // 보관 시간.
+    @Column(name = "archived_date", nullable = false)
+    private LocalDateTime archivedDate;
+}
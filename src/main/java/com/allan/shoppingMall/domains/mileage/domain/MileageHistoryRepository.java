@@ -0,0 +1,35 @@
+package com.allan.shoppingMall.domains.mileage.domain;
+
+import com.allan.shoppingMall.domains.mileage.domain.model.MileageContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+public interface MileageHistoryRepository extends JpaRepository<MileageHistory, Long> {
+
+    /**
+     * 회원들의 foldBefore 이전 마일리지를 한번에 보관하는 메소드.
+     * @param authIds 회원 아이디 리스트.
+     * @param foldBefore 기준 시간. (이전에 적립, 차감 된 마일리지만 보관)
+     * @param archivedDate 보관 시간.
+     * @return int 보관 된 마일리지 수.
+     */
+    @Modifying
+    @Query(value = "insert into mileage_histories (mileage_id, auth_id, order_num, mileage_content, point, created_date, archived_date) " +
+            "select mileage_id, auth_id, order_num, mileage_content, point, created_date, :archivedDate from mileages " +
+            "where auth_id in :authIds and created_date < :foldBefore", nativeQuery = true)
+    int archiveMileages(@Param("authIds") Collection<String> authIds, @Param("foldBefore") LocalDateTime foldBefore,
+                        @Param("archivedDate") LocalDateTime archivedDate);
+
+    /**
+     * 주문번호와 마일리지 내용으로 가장 최근에 보관 된 마일리지를 조회하는 메소드. (idx_mileage_histories_order_num)
+     * @param orderNum 주문 도메인 주문번호.
+     * @param mileageContent 마일리지 내용.
+     */
+    Optional<MileageHistory> findFirstByOrderNumAndMileageContentOrderByMileageHistoryIdDesc(String orderNum, MileageContent mileageContent);
+}
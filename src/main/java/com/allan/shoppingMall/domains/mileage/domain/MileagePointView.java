@@ -0,0 +1,11 @@
+package com.allan.shoppingMall.domains.mileage.domain;
+
+/**
+ * 회원 아이디 별 마일리지 합계 조회 결과.
+ */
+public interface MileagePointView {
+
+    String getAuthId();
+
+    Long getPoint();
+}
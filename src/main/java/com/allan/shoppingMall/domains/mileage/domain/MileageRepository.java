@@ -1,25 +1,28 @@
 package com.allan.shoppingMall.domains.mileage.domain;
 
 import com.allan.shoppingMall.domains.mileage.domain.model.MileageContent;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface MileageRepository extends JpaRepository<Mileage, Long> {
 
     /**
-     * 로그인 된 아이디에 마일리지를 반환하는 메소드.
+     * 로그인 된 아이디에 마일리지를 반환하는 메소드. (idx_mileages_auth_id)
      * @param authId 회원 도메인 아이디.
      * @return 마일리지 도메인 리스트.
      */
     List<Mileage> findAllByAuthId(String authId);
 
     /**
-     * 주문번호에 해당하는 마일리지 리스트를 반환하는 메소드.
+     * 주문번호에 해당하는 마일리지 리스트를 반환하는 메소드. (idx_mileages_order_num)
      * @param orderNum 주문 도메인 주문번호.
      * @return 마일리지 도메인 리스트.
      */
@@ -42,4 +45,107 @@ public interface MileageRepository extends JpaRepository<Mileage, Long> {
      * @return Optional<Mileage>
      */
     Optional<Mileage> findByOrderNumAndMileageContent(String orderNum, MileageContent mileageContent);
+
+    /**
+     * 주문번호 리스트와 마일리지 내용으로 마일리지를 조회하는 메소드.
+     * @param orderNums 주문 도메인 주문번호 리스트.
+     * @param mileageContent 마일리지 내용.
+     * @return 마일리지 도메인 리스트.
+     */
+    List<Mileage> findAllByOrderNumInAndMileageContent(Collection<String> orderNums, MileageContent mileageContent);
+
+    /**
+     * 주문 아이디 리스트에 해당하는 주문의 마일리지를 삭제하는 메소드.
+     * 결제되지 않고 만료 된 '임시주문' 들의 마일리지를 한번에 삭제하는데 호출 된다.
+     * @param orderIds 주문 도메인 아이디.
+     * @return int 삭제 된 마일리지 수.
+     */
+    @Modifying
+    @Query("delete from Mileage m where m.orderNum in (select o.orderNum from Order o where o.orderId in :orderIds)")
+    int deleteAllByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * 회원의 마일리지 합계를 조회하는 메소드. (마일리지가 없는 경우 0)
+     * @param authId 회원 아이디.
+     */
+    @Query("select coalesce(sum(m.point), 0) from Mileage m where m.authId = :authId")
+    Long sumPointByAuthId(@Param("authId") String authId);
+
+    /**
+     * 회원 아이디 순으로 lastAuthId 이후 회원의 마일리지 합계를 조회하는 메소드.
+     * @param lastAuthId 이전에 조회 한 마지막 회원 아이디.
+     * @param pageable 조회 할 회원 수.
+     */
+    @Query("select m.authId as authId, sum(m.point) as point from Mileage m where m.authId > :lastAuthId group by m.authId order by m.authId")
+    List<MileagePointView> sumPointGroupByAuthId(@Param("lastAuthId") String lastAuthId, Pageable pageable);
+
+    /**
+     * 주문번호에 해당하는 마일리지의 회원 별 합계를 조회하는 메소드.
+     * @param orderNum 주문 도메인 주문번호.
+     */
+    @Query("select m.authId as authId, sum(m.point) as point from Mileage m where m.orderNum = :orderNum group by m.authId")
+    List<MileagePointView> sumPointByOrderNum(@Param("orderNum") String orderNum);
+
+    /**
+     * 주문 아이디 리스트에 해당하는 주문의 마일리지의 회원 별 합계를 조회하는 메소드.
+     * @param orderIds 주문 도메인 아이디.
+     */
+    @Query("select m.authId as authId, sum(m.point) as point from Mileage m " +
+            "where m.orderNum in (select o.orderNum from Order o where o.orderId in :orderIds) group by m.authId")
+    List<MileagePointView> sumPointByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * 회원 아이디 순으로 lastAuthId 이후 회원 중 foldBefore 이전 마일리지가 있는 회원 아이디를 조회하는 메소드.
+     * @param foldBefore 기준 시간.
+     * @param lastAuthId 이전에 조회 한 마지막 회원 아이디.
+     * @param pageable 조회 할 회원 수.
+     */
+    @Query("select distinct m.authId from Mileage m where m.createdDate < :foldBefore and m.authId > :lastAuthId order by m.authId")
+    List<String> findAuthIdsCreatedBefore(@Param("foldBefore") LocalDateTime foldBefore, @Param("lastAuthId") String lastAuthId, Pageable pageable);
+
+    /**
+     * 회원 별 만료 대상 마일리지 계산을 위한 합계를 조회하는 메소드.
+     * @param authIds 회원 아이디 리스트.
+     * @param expireBefore 만료 기준 시간.
+     */
+    @Query("select m.authId as authId, " +
+            "sum(case when m.point > 0 and m.createdDate < :expireBefore then m.point else 0L end) as expirable, " +
+            "sum(case when m.point < 0 then -m.point else 0L end) as consumed, " +
+            "sum(m.point) as point " +
+            "from Mileage m where m.authId in :authIds group by m.authId")
+    List<MileageExpiryView> sumExpirablePoint(@Param("authIds") Collection<String> authIds, @Param("expireBefore") LocalDateTime expireBefore);
+
+    /**
+     * foldBefore 이전 마일리지가 두개 이상인 회원의 마일리지 합계와 가장 최근 마일리지 아이디를 조회하는 메소드.
+     * @param authIds 회원 아이디 리스트.
+     * @param foldBefore 기준 시간.
+     */
+    @Query("select m.authId as authId, sum(m.point) as point, max(m.mileageId) as mileageId " +
+            "from Mileage m where m.authId in :authIds and m.createdDate < :foldBefore group by m.authId having count(m) > 1")
+    List<MileageCheckpointView> findCheckpoints(@Param("authIds") Collection<String> authIds, @Param("foldBefore") LocalDateTime foldBefore);
+
+    /**
+     * 이전 마일리지 합계로 합친 마일리지를 삭제하는 메소드.
+     * @param authIds 회원 아이디 리스트.
+     * @param foldBefore 기준 시간.
+     * @param checkpointIds 이전 마일리지 합계로 변경 할 마일리지 아이디. (삭제하지 않음)
+     * @return int 삭제 된 마일리지 수.
+     */
+    @Modifying
+    @Query("delete from Mileage m where m.authId in :authIds and m.createdDate < :foldBefore and m.mileageId not in :checkpointIds")
+    int deleteFoldedMileages(@Param("authIds") Collection<String> authIds, @Param("foldBefore") LocalDateTime foldBefore,
+                             @Param("checkpointIds") Collection<Long> checkpointIds);
+
+    /**
+     * 마일리지를 이전 마일리지 합계로 변경하는 메소드.
+     * 적립, 차감 시간(createdDate) 은 변경하지 않으므로, 합친 마일리지 중 가장 최근 시간을 유지합니다.
+     * @param mileageId 변경 할 마일리지 아이디.
+     * @param point 합친 마일리지 합계.
+     * @param orderNum 이전 마일리지 합계의 주문번호.
+     */
+    @Modifying
+    @Query("update Mileage m set m.point = :point, m.orderNum = :orderNum, " +
+            "m.mileageContent = com.allan.shoppingMall.domains.mileage.domain.model.MileageContent.CHECKPOINT_MILEAGE " +
+            "where m.mileageId = :mileageId")
+    int changeToCheckpoint(@Param("mileageId") Long mileageId, @Param("point") Long point, @Param("orderNum") String orderNum);
 }
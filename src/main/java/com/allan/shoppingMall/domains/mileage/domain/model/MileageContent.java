@@ -13,7 +13,9 @@ public enum MileageContent {
     PAYMENT_MILEAGE_ACCUMULATE("결제 후 마일리지 적립"),
     REVIEW_MILEAGE_ACCUMULATE("리뷰 후 마일리지 적립"),
     REFUND_MILEAGE_DEDUCTION("환불 후 마일리지 차감"),
-    USED_MILEAGE_DEDUCTION("사용 후 마일리지 차감");
+    USED_MILEAGE_DEDUCTION("사용 후 마일리지 차감"),
+    EXPIRED_MILEAGE_DEDUCTION("유효기간 만료 마일리지 차감"),
+    CHECKPOINT_MILEAGE("이전 마일리지 합계");
 
     private String desc;
 }
\ No newline at end of file
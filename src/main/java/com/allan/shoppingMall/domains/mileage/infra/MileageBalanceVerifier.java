@@ -0,0 +1,145 @@
+package com.allan.shoppingMall.domains.mileage.infra;
+
+import com.allan.shoppingMall.domains.mileage.domain.MileageBalance;
+import com.allan.shoppingMall.domains.mileage.domain.MileageBalanceRepository;
+import com.allan.shoppingMall.domains.mileage.domain.MileagePointView;
+import com.allan.shoppingMall.domains.mileage.domain.MileageRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 회원별 마일리지 잔액(MileageBalance) 이 마일리지 합계와 같은지 확인하는 클래스 입니다.
+ *
+ * 회원 아이디 순으로 500 명씩 마일리지 합계와 잔액을 비교하고, 다른 회원은 잔액 row 에 lock 을 건 뒤 다시 계산하여
+ * 확인하는 동안 변경 된 경우를 제외합니다. 차이가 있는 회원은 로그와 mileage.balance.drift metric 으로 알리며,
+ * mileage.balance.repair 가 true 인 경우에만 잔액을 마일리지 합계로 고칩니다.
+ * 잔액 row 가 없는 회원은 차이로 보지 않습니다. (처음 마일리지가 변경 될 때 생성)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MileageBalanceVerifier {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final MileageRepository mileageRepository;
+    private final MileageBalanceRepository mileageBalanceRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    // 마지막 검증에서 찾은 잔액 차이가 있는 회원 수.
+    private final AtomicLong driftCount = new AtomicLong();
+
+    @Value("${mileage.balance.repair:false}")
+    private boolean repair;
+
+    @PostConstruct
+    public void registerMetric(){
+        Gauge.builder("mileage.balance.drift", driftCount, AtomicLong::get)
+                .description("마일리지 합계와 잔액이 다른 회원 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 매일 새벽 4시 30분에 모든 회원의 마일리지 잔액을 검증합니다.
+     * @return int 잔액 차이가 있는 회원 수.
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public int verify(){
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int drifted = 0;
+        String lastAuthId = "";
+
+        while(true){
+            List<MileagePointView> points = mileageRepository.sumPointGroupByAuthId(lastAuthId, PageRequest.of(0, BATCH_SIZE));
+            if(points.isEmpty())
+                break;
+
+            Map<String, Long> balances = mileageBalanceRepository.findAllByAuthIdIn(points.stream()
+                            .map(MileagePointView::getAuthId)
+                            .collect(Collectors.toList()))
+                    .stream()
+                    .collect(Collectors.toMap(MileageBalance::getAuthId, MileageBalance::getBalance));
+
+            List<String> candidates = new ArrayList<>();
+            for(MileagePointView point : points){
+                Long balance = balances.get(point.getAuthId());
+                if(balance != null && !balance.equals(point.getPoint()))
+                    candidates.add(point.getAuthId());
+                else if(balance == null && repair)
+                    createBalance(transactionTemplate, point.getAuthId());
+            }
+
+            for(String authId : candidates){
+                if(Boolean.TRUE.equals(transactionTemplate.execute(status -> recheck(authId))))
+                    drifted++;
+            }
+
+            lastAuthId = points.get(points.size() - 1).getAuthId();
+            if(points.size() < BATCH_SIZE)
+                break;
+        }
+
+        // 마일리지가 모두 삭제 되었지만 잔액이 남아있는 회원.
+        for(String authId : mileageBalanceRepository.findAuthIdsWithoutMileage()){
+            if(Boolean.TRUE.equals(transactionTemplate.execute(status -> recheck(authId))))
+                drifted++;
+        }
+
+        driftCount.set(drifted);
+        log.info("MileageBalanceVerifier drifted members: " + drifted + " (repair: " + repair + ")");
+        return drifted;
+    }
+
+    /**
+     * 잔액 row 에 lock 을 건 뒤 마일리지 합계를 다시 계산하여 잔액과 비교하는 메소드.
+     * 잔액을 변경하는 트랜잭션은 잔액 row 를 update 하므로, lock 을 얻은 뒤의 합계는 잔액과 같은 시점의 값입니다.
+     * @return boolean 잔액 차이가 있는지 여부.
+     */
+    private boolean recheck(String authId){
+        return mileageBalanceRepository.findByAuthIdForUpdate(authId)
+                .map(balance -> {
+                    long point = mileageRepository.sumPointByAuthId(authId);
+                    if(Objects.equals(balance.getBalance(), point))
+                        return false;
+
+                    log.warn("mileage balance drift. authId: " + authId + ", balance: " + balance.getBalance() + ", mileage sum: " + point);
+                    if(repair)
+                        mileageBalanceRepository.changeBalance(authId, point);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    /**
+     * 잔액 row 가 없는 회원의 잔액 row 를 생성하는 메소드.
+     * 같은 회원의 마일리지가 동시에 변경 되어 이미 생성 된 경우에는 생성하지 않습니다.
+     */
+    private void createBalance(TransactionTemplate transactionTemplate, String authId){
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if(!mileageBalanceRepository.existsById(authId))
+                    mileageBalanceRepository.saveAndFlush(new MileageBalance(authId, mileageRepository.sumPointByAuthId(authId)));
+            });
+        } catch (DataIntegrityViolationException e){
+            log.info("mileage balance already created. authId: " + authId);
+        }
+    }
+}
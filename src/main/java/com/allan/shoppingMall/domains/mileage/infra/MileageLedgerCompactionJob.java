@@ -0,0 +1,153 @@
+package com.allan.shoppingMall.domains.mileage.infra;
+
+import com.allan.shoppingMall.domains.mileage.domain.*;
+import com.allan.shoppingMall.domains.mileage.domain.model.MileageContent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 오래 된 마일리지를 만료하고, 회원 별 이전 마일리지 합계(CHECKPOINT_MILEAGE) 로 합치는 클래스 입니다.
+ *
+ * 회원 아이디 순으로 chunk-size 명씩 나누어 커밋하며, chunk 마다 다음 순서로 처리합니다.
+ * (한 chunk 가 잔액 row 생성 충돌로 실패하더라도, 해당 chunk 만 롤백하고 다음 chunk 를 계속 처리합니다.)
+ * 1) 회원의 잔액 row 에 lock. (마일리지를 변경하는 다른 트랜잭션은 잔액 변경시 대기합니다.)
+ * 2) 만료: expire-months 이전에 적립 된 포인트 중 차감(사용, 만료) 되지 않은 포인트를 만료 마일리지로 차감.
+ *    차감은 먼저 적립 된 포인트부터 사용한 것으로 계산합니다.
+ * 3) 합치기: fold-months 이전 마일리지를 보관 테이블(mileage_histories) 로 복사하고, 가장 최근 마일리지 한 개를
+ *    합계로 변경한 뒤 나머지는 삭제합니다. 합계는 그대로이므로 잔액, 사용 가능한 마일리지 조회 결과는 변경되지 않습니다.
+ * 합친 마일리지는 그 중 가장 최근 적립, 차감 시간을 가지므로, 합쳐진 포인트의 만료는 늦어질 수 있습니다.
+ * 합친 이후에는 주문 취소로 마일리지를 삭제 할 수 없으므로, fold-months 는 주문 취소 가능 기간보다 길어야 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MileageLedgerCompactionJob {
+
+    public static final String EXPIRY_ORDER_NUM = "mileageExpiry";
+    public static final String CHECKPOINT_ORDER_NUM = "mileageCheckpoint";
+
+    private final MileageRepository mileageRepository;
+    private final MileageBalanceRepository mileageBalanceRepository;
+    private final MileageHistoryRepository mileageHistoryRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${mileage.ledger.fold-months:12}")
+    private long foldMonths = 12;
+
+    @Value("${mileage.ledger.expire-months:24}")
+    private long expireMonths = 24;
+
+    @Value("${mileage.ledger.chunk-size:100}")
+    private int chunkSize = 100;
+
+    /**
+     * 매일 새벽 3시에 마일리지를 정리합니다.
+     */
+    @Scheduled(cron = "0 0 3 * * *")
+    public void run(){
+        compact(LocalDateTime.now());
+    }
+
+    /**
+     * 기준 시간으로 모든 회원의 마일리지를 정리하는 메소드.
+     * @param now 기준 시간.
+     * @return int 정리한 회원 수.
+     */
+    public int compact(LocalDateTime now){
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        LocalDateTime foldBefore = now.minusMonths(foldMonths);
+        LocalDateTime expireBefore = now.minusMonths(expireMonths);
+        LocalDateTime scanBefore = foldBefore.isAfter(expireBefore) ? foldBefore : expireBefore;
+
+        int members = 0, expired = 0, folded = 0;
+        String lastAuthId = "";
+        while(true){
+            List<String> authIds = mileageRepository.findAuthIdsCreatedBefore(scanBefore, lastAuthId, PageRequest.of(0, chunkSize));
+            if(authIds.isEmpty())
+                break;
+
+            lastAuthId = authIds.get(authIds.size() - 1);
+            try {
+                ChunkResult result = transactionTemplate.execute(status -> compactChunk(authIds, now, foldBefore, expireBefore));
+                members += authIds.size();
+                expired += result.expired;
+                folded += result.folded;
+            } catch (DataIntegrityViolationException e){
+                // 잔액 row 를 다른 트랜잭션이 동시에 생성한 경우. 이 chunk 는 롤백하고 다음 실행에서 다시 정리합니다.
+                log.warn("MileageLedgerCompactionJob chunk skipped. authIds: " + authIds.get(0) + " ~ " + lastAuthId, e);
+            }
+
+            if(authIds.size() < chunkSize)
+                break;
+        }
+
+        log.info("MileageLedgerCompactionJob members: " + members + ", expired members: " + expired + ", folded mileages: " + folded);
+        return members;
+    }
+
+    private ChunkResult compactChunk(List<String> authIds, LocalDateTime now, LocalDateTime foldBefore, LocalDateTime expireBefore){
+        ChunkResult result = new ChunkResult();
+
+        // 1) 잔액 row lock. 잔액 row 가 없는 회원은 마일리지 합계로 생성.
+        Set<String> lockedAuthIds = mileageBalanceRepository.findAllByAuthIdInForUpdate(authIds)
+                .stream()
+                .map(MileageBalance::getAuthId)
+                .collect(Collectors.toSet());
+        for(String authId : authIds){
+            if(!lockedAuthIds.contains(authId))
+                mileageBalanceRepository.saveAndFlush(new MileageBalance(authId, mileageRepository.sumPointByAuthId(authId)));
+        }
+
+        // 2) 만료. 만료 마일리지도 차감으로 계산 되므로, 다시 실행해도 같은 포인트를 만료하지 않습니다.
+        for(MileageExpiryView view : mileageRepository.sumExpirablePoint(authIds, expireBefore)){
+            long point = Math.min(view.getPoint(), view.getExpirable() - view.getConsumed());
+            if(point <= 0)
+                continue;
+
+            mileageRepository.save(Mileage.builder()
+                    .authId(view.getAuthId())
+                    .orderNum(EXPIRY_ORDER_NUM)
+                    .mileageContent(MileageContent.EXPIRED_MILEAGE_DEDUCTION)
+                    .point(-point)
+                    .build());
+            mileageBalanceRepository.addPoint(view.getAuthId(), -point);
+            result.expired++;
+        }
+
+        // 3) 합치기. 이전 마일리지가 두개 이상인 회원만 합칩니다.
+        List<MileageCheckpointView> checkpoints = mileageRepository.findCheckpoints(authIds, foldBefore);
+        if(checkpoints.isEmpty())
+            return result;
+
+        List<String> foldAuthIds = checkpoints.stream()
+                .map(MileageCheckpointView::getAuthId)
+                .collect(Collectors.toList());
+        List<Long> checkpointIds = checkpoints.stream()
+                .map(MileageCheckpointView::getMileageId)
+                .collect(Collectors.toList());
+
+        mileageHistoryRepository.archiveMileages(foldAuthIds, foldBefore, now);
+        result.folded = mileageRepository.deleteFoldedMileages(foldAuthIds, foldBefore, checkpointIds);
+        for(MileageCheckpointView checkpoint : checkpoints){
+            mileageRepository.changeToCheckpoint(checkpoint.getMileageId(), checkpoint.getPoint(), CHECKPOINT_ORDER_NUM);
+        }
+        return result;
+    }
+
+    private static class ChunkResult {
+        private int expired;
+        private int folded;
+    }
+}
@@ -4,6 +4,11 @@ import com.allan.shoppingMall.common.exception.ErrorCode;
 import com.allan.shoppingMall.common.exception.mileage.MileageDeductFailException;
 import com.allan.shoppingMall.common.exception.mileage.MileageNotFoundException;
 import com.allan.shoppingMall.domains.mileage.domain.Mileage;
+import com.allan.shoppingMall.domains.mileage.domain.MileageBalance;
+import com.allan.shoppingMall.domains.mileage.domain.MileageBalanceRepository;
+import com.allan.shoppingMall.domains.mileage.domain.MileageHistory;
+import com.allan.shoppingMall.domains.mileage.domain.MileageHistoryRepository;
+import com.allan.shoppingMall.domains.mileage.domain.MileagePointView;
 import com.allan.shoppingMall.domains.mileage.domain.MileageRepository;
 import com.allan.shoppingMall.domains.mileage.domain.model.MileageContent;
 import com.allan.shoppingMall.domains.mileage.domain.model.MileageDTO;
@@ -11,7 +16,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,6 +27,8 @@ import java.util.stream.Collectors;
 public class MileageService {
 
     private final MileageRepository mileageRepository;
+    private final MileageBalanceRepository mileageBalanceRepository;
+    private final MileageHistoryRepository mileageHistoryRepository;
 
     /**
      * 마일리지를 적립하기 위한 메소드.
@@ -31,6 +40,8 @@ public class MileageService {
      */
     @Transactional(rollbackFor = {Exception.class, Error.class})
     public Long accumulateMileage(String orderNum, String authId, Long accumulatePoint, MileageContent mileageContent){
+        prepareBalance(authId);
+
         Mileage accumulateMileage = Mileage.builder()
                 .orderNum(orderNum)
                 .authId(authId)
@@ -39,38 +50,32 @@ public class MileageService {
                 .build();
 
         mileageRepository.save(accumulateMileage);
+        mileageBalanceRepository.addPoint(authId, accumulatePoint);
 
         return accumulateMileage.getMileageId();
     }
 
     /**
      * 마일리지를 차감하기 위한 메소드.
+     * 회원의 마일리지 잔액을 조건부 update 로 차감하며, 잔액이 부족한 경우 예외를 발생합니다.
      * @param orderNum 주문 도메인의 주문번호.
      * @param authId 회원 도메인의 아이디.
-     * @param deductPoint 차감 할 포인트.
+     * @param deductPoint 차감 할 포인트. (부호와 상관없이 음수로 저장합니다.)
      * @param mileageContent 마일리지 내용.
      * @return 마일리지 도메인의 id.
      */
     @Transactional(rollbackFor = {Exception.class, Error.class})
     public Long deductMileage(String orderNum, String authId, Long deductPoint, MileageContent mileageContent){
-        List<Mileage> mileageList = mileageRepository.findAllByAuthId(authId);
-
-        if(mileageList.size() > 0){
-            long pointSum = mileageList.stream()
-                    .mapToLong(mileage -> {
-                        return mileage.getPoint();
-                    })
-                    .sum();
-            if(pointSum < deductPoint)
-                throw new MileageDeductFailException(ErrorCode.MILEAGE_POINT_NOT_ENOUGH_FOR_DEDUCT);
-        }else{
+        long point = Math.abs(deductPoint);
+        prepareBalance(authId);
+
+        if(mileageBalanceRepository.deductPoint(authId, point) == 0)
             throw new MileageDeductFailException(ErrorCode.MILEAGE_POINT_NOT_ENOUGH_FOR_DEDUCT);
-        }
 
         Mileage deductMileage = Mileage.builder()
                 .orderNum(orderNum)
                 .authId(authId)
-                .point(deductPoint)
+                .point(-point)
                 .mileageContent(mileageContent)
                 .build();
 
@@ -81,10 +86,14 @@ public class MileageService {
 
     /**
      * 주문번호에 해당하는 모든 마일리지를 조회하여, 삭제하는 메소드.
+     * 삭제 한 마일리지 합계만큼 회원의 마일리지 잔액을 되돌립니다.
      * @param orderNum 주문 도메인의 주문번호.
      */
     @Transactional(rollbackFor = {Exception.class, Error.class})
     public void deleteMileage(String orderNum){
+        List<MileagePointView> points = mileageRepository.sumPointByOrderNum(orderNum);
+        points.forEach(point -> prepareBalance(point.getAuthId()));
+
         List<Long> milegeIds = mileageRepository.findAllByOrderNum(orderNum)
                 .stream()
                 .map(mileage -> {
@@ -92,36 +101,76 @@ public class MileageService {
                 }).collect(Collectors.toList());
 
         mileageRepository.deleteAllByMileageIds(milegeIds);
+        revertBalances(points);
+    }
+
+    /**
+     * 주문 아이디 리스트에 해당하는 주문의 마일리지를 한번에 삭제하는 메소드.
+     * 결제되지 않고 만료 된 '임시주문' 들의 마일리지를 삭제하는데 호출 되며, 회원 별 합계만큼 잔액을 되돌립니다.
+     * @param orderIds 주문 도메인 아이디.
+     * @return int 삭제 된 마일리지 수.
+     */
+    @Transactional(rollbackFor = {Exception.class, Error.class})
+    public int deleteMileageByOrderIds(Collection<Long> orderIds){
+        List<MileagePointView> points = mileageRepository.sumPointByOrderIds(orderIds);
+        points.forEach(point -> prepareBalance(point.getAuthId()));
+
+        int deleted = mileageRepository.deleteAllByOrderIds(orderIds);
+        revertBalances(points);
+        return deleted;
     }
 
     /**
      * 주문번호로 마일리지를 조회하는 메소드.
+     * 이전 마일리지 합계로 합쳐진 마일리지는 보관 된 마일리지 내역에서 조회합니다.
      * @param orderNum 주문 도메인의 주문번호.
      * @param mileageContent 마일리지 내용.
      * @return
      */
     // 조회 안되는 경우, 빈값이 들어가는지 확인 필요.
     public MileageDTO getMileageByOrderNum(String orderNum, MileageContent mileageContent){
-        boolean present = mileageRepository.findByOrderNumAndMileageContent(orderNum, mileageContent).isPresent();
-        if(present){
-            Mileage mileage = mileageRepository.findByOrderNumAndMileageContent(orderNum, mileageContent).get();
-            return new MileageDTO(mileage.getPoint(), mileageContent.getDesc());
-        }else
+        Optional<Long> point = mileageRepository.findByOrderNumAndMileageContent(orderNum, mileageContent)
+                .map(Mileage::getPoint)
+                .or(() -> mileageHistoryRepository.findFirstByOrderNumAndMileageContentOrderByMileageHistoryIdDesc(orderNum, mileageContent)
+                        .map(MileageHistory::getPoint));
+
+        if(point.isPresent())
+            return new MileageDTO(point.get(), mileageContent.getDesc());
+        else
             return new MileageDTO(0l, "");
     }
 
     /**
+     * 회원의 마일리지 잔액을 조회하는 메소드.
+     * 잔액 row 가 아직 없는 회원은 마일리지 합계를 조회합니다.
      * @param authId 회원 도메인의 아이디.
      * @return 사용가능한 총 마일리지 포인트.
      */
     public long getAvailableMileagePoint(String authId){
-        List<Mileage> mileageList = mileageRepository.findAllByAuthId(authId);
-        if(mileageList.size() > 0){
-            long pointSum = mileageList.stream()
-                    .mapToLong(mileage -> mileage.getPoint())
-                    .sum();
-            return pointSum;
-        }else
-            return 0l;
+        return mileageBalanceRepository.findById(authId)
+                .map(MileageBalance::getBalance)
+                .orElseGet(() -> mileageRepository.sumPointByAuthId(authId));
+    }
+
+    /**
+     * 잔액 row 가 없는 회원의 잔액 row 를 현재 마일리지 합계로 생성하는 메소드.
+     * 마일리지를 저장, 삭제하기 전에 호출해야 합니다.
+     * 기존 회원의 잔액 row 는 V4__seed_mileage_balances 에서 미리 생성하므로, 새로 가입하는 회원의 가입 마일리지 적립에서만 생성됩니다.
+     * (가입 트랜잭션에서 생성하므로, 다른 요청과 동시에 같은 row 를 생성하지 않습니다.)
+     */
+    private void prepareBalance(String authId){
+        if(mileageBalanceRepository.existsById(authId))
+            return;
+
+        mileageBalanceRepository.saveAndFlush(new MileageBalance(authId, mileageRepository.sumPointByAuthId(authId)));
+    }
+
+    /**
+     * 삭제 한 마일리지 합계만큼 회원 별 잔액을 되돌리는 메소드.
+     */
+    private void revertBalances(List<MileagePointView> points){
+        for(MileagePointView point : points){
+            mileageBalanceRepository.addPoint(point.getAuthId(), -point.getPoint());
+        }
     }
 }
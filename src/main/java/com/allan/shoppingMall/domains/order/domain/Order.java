@@ -13,7 +13,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import javax.persistence.*;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -25,11 +24,15 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_order_num", columnList = "order_num", unique = true),
+        @Index(name = "idx_orders_member_created", columnList = "member_id, created_date, order_id") // 회원별 주문 목록 keyset 조회.
+})
 @Slf4j
 public class Order extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq_generator")
+    @SequenceGenerator(name = "orders_seq_generator", sequenceName = "orders_seq", allocationSize = 50)
     private Long orderId;
 
     @OneToOne(fetch = FetchType.LAZY)
@@ -50,31 +53,33 @@ public class Order extends BaseEntity {
     @Embedded
     private OrdererInfo ordererInfo;
 
-    @Column(name = "order_num", unique = true)
+    // 저장 전에 OrderNumGenerator 로 생성합니다.
+    @Column(name = "order_num", updatable = false)
     private String orderNum;
 
     @Column(name="payment_num", unique = true)
     private String paymentNum;
 
+    // 주문 금액 정보. (주문 생성시 주문 상품 가격으로 계산해 저장하며, 이후 상품 가격이 변경 되어도 바뀌지 않습니다.)
+    @Column(name = "item_amount")
+    private Long itemAmount; // 주문 상품 금액 합계.
+
+    @Column(name = "delivery_amount")
+    private Long deliveryAmount; // 배송비.
+
+    @Column(name = "used_mileage")
+    private Long usedMileage; // 사용한 마일리지.
+
+    @Column(name = "payable_amount")
+    private Long payableAmount; // 결제 할 금액. (주문 상품 금액 + 배송비 - 사용한 마일리지)
+
     // 주문 생성시, OrderStatus 기본 설정.
     // 주문상태의 기본값은 '임시주문' 상태입니다.
-    // 주문 정보는 order domain id + 날자 정보로 이루어집니다.
     @PrePersist
     public void setUp(){
         this.orderStatus = OrderStatus.ORDER_TEMP;
     }
 
-    // orderId 를 사용해서 주문번호를 생성함.
-    // orderId 는 현재 Identity strategy 를 사용하고 있기 때문에 데이터베이스 저장시점에 생성이 된다.
-    // 그렇기에, 저장된 이후 실행되는 endUp() 를 통해서 저장하도록 한다.
-    @PostPersist
-    public void endUp(){
-        String dateInfo = this.getCreatedDate().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-        String orderNum = "order_uid_" + this.orderId + "_" + dateInfo;
-        this.orderNum = orderNum;
-        log.info(this.orderId + " orderNum: " + orderNum);
-    }
-
     @Builder
     public Order(Member orderer, Delivery delivery, OrdererInfo ordererInfo, String orderNum) {
         this.orderer = orderer;
@@ -102,9 +107,31 @@ public class Order extends BaseEntity {
         }
     }
 
+    /**
+     * 주문 금액 정보를 계산하는 메소드.
+     * 주문 상품을 추가하고 배송비(무료 배송 여부) 를 정한 뒤 호출합니다.
+     * @param usedMileage 주문시 사용한 마일리지.
+     */
+    public void calculateAmount(Long usedMileage){
+        this.itemAmount = this.orderItems.stream()
+                .mapToLong(OrderItem::getOrderItemAmount)
+                .sum();
+        this.deliveryAmount = this.delivery == null ? 0l : this.delivery.getDeliveryAmount();
+        this.usedMileage = usedMileage == null ? 0l : usedMileage;
+        this.payableAmount = this.itemAmount + this.deliveryAmount - this.usedMileage;
+    }
+
+    /**
+     * 주문 금액 정보가 저장 되어 있는지 확인하는 메소드.
+     * (주문 금액 정보를 저장하기 전에 생성 된 주문은 OrderAmountBackfillRunner 로 채웁니다.)
+     */
+    public boolean hasAmount(){
+        return this.payableAmount != null;
+    }
+
     /**
      * 고객이 주문 취소 할때 사용하는 메소드.
-     * orderItem 의 구현체에 따라 다른 메소드를 호출하도록 처리.
+     * 상품 재고량 복구는 OrderService 에서 ItemStockService 를 통해 처리합니다.
      */
     public void cancelOrder(){
         // 주문상태 점검.
@@ -112,9 +139,6 @@ public class Order extends BaseEntity {
             this.orderStatus = OrderStatus.ORDER_CANCEL;
             // 배송 취소.
             this.delivery.cancelDelivery();
-            for(OrderItem orderItem : this.orderItems){
-                orderItem.cancelOrderItem();
-            }
         }else{
             throw new OrderCancelFailException(ErrorCode.ORDER_CANCEL_NOT_ALLOWED);
         }
@@ -1,14 +1,19 @@
 package com.allan.shoppingMall.domains.order.domain;
 
+import com.allan.shoppingMall.common.outbox.OncePerKeyEvent;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 /**
  * 주문 완료 이벤트 클래스 입니다.
+ * handler 가 주문 상품을 장바구니에서 차감하므로, 같은 주문에 대해 한 번만 전달합니다.
  */
 @Getter
 @AllArgsConstructor
-public class OrderCompletedEvent {
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderCompletedEvent implements OncePerKeyEvent {
     private Long orderId;
     private String authId;
 }
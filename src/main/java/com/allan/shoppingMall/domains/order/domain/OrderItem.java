@@ -1,7 +1,6 @@
 package com.allan.shoppingMall.domains.order.domain;
 
 import com.allan.shoppingMall.common.domain.BaseEntity;
-import com.allan.shoppingMall.common.exception.order.OrderFailException;
 import com.allan.shoppingMall.domains.item.domain.item.ItemSize;
 import com.allan.shoppingMall.domains.item.domain.item.Item;
 import lombok.AccessLevel;
@@ -28,7 +27,8 @@ import java.util.Objects;
 @Slf4j
 public class OrderItem extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_items_seq_generator")
+    @SequenceGenerator(name = "order_items_seq_generator", sequenceName = "order_items_seq", allocationSize = 50)
     private Long orderItemId;
 
     @Column(name = "order_quantity", nullable = false)
@@ -50,48 +50,24 @@ public class OrderItem extends BaseEntity {
     @JoinColumn(name = "item_size_id")
     private ItemSize itemSize;
 
+    /**
+     * 주문 상품 도메인을 생성합니다.
+     * 재고량은 동시 주문시 값을 덮어쓰지 않도록 엔티티가 아닌 ItemStockService 에서 변경합니다.
+     */
     @Builder
     public OrderItem(Long orderQuantity, Item item) {
         this.orderQuantity = orderQuantity;
-        setItem(item);
+        this.item = item;
         calculateAmount();
     }
 
     public OrderItem(Long orderQuantity, Item item, ItemSize itemSize){
         this.orderQuantity = orderQuantity;
-        setItem(item); // item stockQunaity 조정.
+        this.item = item;
         calculateAmount();
-        setItemSize(itemSize); // itemSize stockQuantity 조정.
-    }
-
-    /**
-     * 주문시, 상품 사이즈 도메인의 재고량을 줄이기 위한 메소드.
-     */
-    private void setItemSize(ItemSize itemSize){
-        itemSize.subStockQuantity(this.orderQuantity);
         this.itemSize = itemSize;
     }
 
-    /**
-     * 주문시, 상품 도메인의 재고량을 줄이기 위한 메소드.
-     */
-    private void setItem(Item item) throws OrderFailException {
-        item.subtractStockQuantity(this.orderQuantity);
-        this.item = item;
-    }
-
-    /**
-     * 주문 취소에 따른
-     * 상품의 재고량을 수정하는 메소드.
-     */
-    public void cancelOrderItem(){
-        // 사이즈별 재고량 원상복구.
-        this.itemSize.addStockQuantity(this.getOrderQuantity());
-
-        // 상품의 전체 재고량 원상복구.(OrderItem cancelOrderItem() 호출)
-        this.item.addStockQuantity(this.orderQuantity);
-    }
-
     /**
      * 주문 상품의 가격을 계산하는 메소드.
      */
@@ -1,5 +1,6 @@
 package com.allan.shoppingMall.domains.order.domain;
 
+import com.allan.shoppingMall.domains.delivery.domain.DeliveryStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -7,10 +8,11 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderRepositoryCustom {
 
     /**
      * 현재 로그인 한 회원의 주문 리스트 페이징 정보를 반환하는 메소드.
@@ -18,15 +20,21 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      * @param orderStatusList 조회 할 주문의 주문상태 정보.
      * @param pageable 페이징 정보.
      */
-    @Query("select o from Order o where o.orderer.authId like :authId and o.orderStatus in :orderStatusList")
+    @Query("select o from Order o where o.orderer.authId = :authId and o.orderStatus in :orderStatusList")
     public Page<Order> getOrderListByAuthId(@Param("authId") String authId, @Param("orderStatusList") List<OrderStatus> orderStatusList, Pageable pageable);
 
     /**
-     * 현재 로그인 한 회원의 특정 주문번호로 조회 한 주문 도메인.
+     * 주문번호로 주문 도메인을 조회하는 메소드. (idx_orders_order_num)
+     * @param orderNum 주문번호.
+     */
+    public Optional<Order> findByOrderNum(String orderNum);
+
+    /**
+     * 현재 로그인 한 회원의 특정 주문번호로 조회 한 주문 도메인. (idx_orders_order_num)
      * @param authId
      * @param orderNum
      */
-    @Query("select o from Order o where o.orderer.authId like :authId and o.orderNum like :orderNum")
+    @Query("select o from Order o where o.orderer.authId = :authId and o.orderNum = :orderNum")
     public Optional<Order> findByOrderNumAndAuthId(@Param("authId") String authId, @Param("orderNum") String orderNum);
 
     /**
@@ -35,7 +43,58 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      * @param orderStatus
      * @return
      */
-    @Query("select o from Order o where o.orderer.authId like :authId and o.orderStatus = :orderStatus")
+    @Query("select o from Order o where o.orderer.authId = :authId and o.orderStatus = :orderStatus")
     public List<Order> getOrderIdsByAuthId(@Param("authId") String authId, @Param("orderStatus") OrderStatus orderStatus);
 
+    /**
+     * 주문 상태가 fromStatus 인 주문만 toStatus 로 변경하는 메소드.
+     * @param orderIds 주문 도메인 아이디 리스트.
+     * @return int 변경 된 주문 수.
+     */
+    @Modifying
+    @Query("update Order o set o.orderStatus = :toStatus where o.orderId in :orderIds and o.orderStatus = :fromStatus")
+    public int changeOrderStatus(@Param("orderIds") Collection<Long> orderIds, @Param("fromStatus") OrderStatus fromStatus, @Param("toStatus") OrderStatus toStatus);
+
+    /**
+     * 주문 아이디 리스트 중 특정 주문 상태인 주문 아이디를 조회하는 메소드.
+     * @param orderIds 주문 도메인 아이디 리스트.
+     * @param orderStatus 주문 상태.
+     */
+    @Query("select o.orderId from Order o where o.orderId in :orderIds and o.orderStatus = :orderStatus")
+    public List<Long> findOrderIdsByOrderStatus(@Param("orderIds") Collection<Long> orderIds, @Param("orderStatus") OrderStatus orderStatus);
+
+    /**
+     * 주문들의 배송 상태를 변경하는 메소드.
+     * @param orderIds 주문 도메인 아이디 리스트.
+     * @param deliveryStatus 변경 할 배송 상태.
+     * @return int 변경 된 배송 수.
+     */
+    @Modifying
+    @Query("update Delivery d set d.deliveryStatus = :deliveryStatus " +
+            "where d.deliveryId in (select o.delivery.deliveryId from Order o where o.orderId in :orderIds)")
+    public int changeDeliveryStatusByOrderIds(@Param("orderIds") Collection<Long> orderIds, @Param("deliveryStatus") DeliveryStatus deliveryStatus);
+
+    /**
+     * 주문 금액 정보가 저장 되지 않은 주문 아이디를 아이디 순으로 조회하는 메소드.
+     * @param lastOrderId 이전에 조회 한 마지막 주문 아이디.
+     * @param pageable 조회 할 주문 수.
+     */
+    @Query("select o.orderId from Order o where o.payableAmount is null and o.orderId > :lastOrderId order by o.orderId")
+    public List<Long> findOrderIdsWithoutAmount(@Param("lastOrderId") Long lastOrderId, Pageable pageable);
+
+    /**
+     * 주문 아이디 리스트로 주문을 배송, 주문 상품과 함께 조회하는 메소드.
+     * @param orderIds 주문 도메인 아이디 리스트.
+     */
+    @Query("select distinct o from Order o left join fetch o.delivery left join fetch o.orderItems where o.orderId in :orderIds")
+    public List<Order> findAllWithOrderItemsByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * 주문 상태를 조회하면서 주문 row 에 lock 을 거는 메소드.
+     * 영속성 컨텍스트의 주문 엔티티가 아닌, 다른 트랜잭션에서 커밋 된 최신 주문 상태가 필요한 경우 사용합니다.
+     * @param orderId 주문 도메인 아이디.
+     * @return Optional<String> 주문 상태. (OrderStatus name)
+     */
+    @Query(value = "select order_status from orders where order_id = :orderId for update", nativeQuery = true)
+    public Optional<String> lockOrderStatus(@Param("orderId") Long orderId);
 }
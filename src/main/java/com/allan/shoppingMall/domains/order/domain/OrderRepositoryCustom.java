@@ -0,0 +1,26 @@
+package com.allan.shoppingMall.domains.order.domain;
+
+import com.allan.shoppingMall.domains.order.domain.model.OrderCursor;
+import com.allan.shoppingMall.domains.order.domain.model.OrderCursorPage;
+
+import java.util.List;
+
+/**
+ * 주문 목록 페이지에서 사용하는 조회 전용 쿼리를 정의한 인터페이스.
+ * (구현은 Querydsl 을 사용하는 OrderRepositoryImpl 을 참고 해 주세요.)
+ */
+public interface OrderRepositoryCustom {
+
+    /**
+     * 회원의 주문 요약 정보를 keyset(seek) 페이징하여 반환하는 메소드.
+     * 주문, 주문 상품, 상품 엔티티를 로딩하지 않고 주문번호, 주문상태, 주문 날짜, 첫 번째 주문 상품 이름, 주문 상품 수,
+     * 첫 번째 주문 상품의 미리보기 이미지 아이디를 한 번의 쿼리로 조회합니다.
+     * (createdDate, orderId) 내림차순으로 정렬하며, 커서 이후의 주문만 조회합니다.
+     * @param memberId 회원 도메인 아이디.
+     * @param orderStatusList 조회 할 주문의 주문상태 정보.
+     * @param cursor 이전 페이지 마지막 주문의 커서 정보.(첫 페이지인 경우 null)
+     * @param size 페이지 크기.
+     * @return OrderCursorPage
+     */
+    OrderCursorPage getOrderSummariesByMemberId(Long memberId, List<OrderStatus> orderStatusList, OrderCursor cursor, int size);
+}
@@ -0,0 +1,150 @@
+package com.allan.shoppingMall.domains.order.domain;
+
+import com.allan.shoppingMall.domains.item.domain.item.ImageType;
+import com.allan.shoppingMall.domains.mileage.domain.QMileageHistory;
+import com.allan.shoppingMall.domains.mileage.domain.model.MileageContent;
+import com.allan.shoppingMall.domains.order.domain.model.OrderCursor;
+import com.allan.shoppingMall.domains.order.domain.model.OrderCursorPage;
+import com.allan.shoppingMall.domains.order.domain.model.OrderSummaryDTO;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.allan.shoppingMall.domains.delivery.domain.QDelivery.delivery;
+import static com.allan.shoppingMall.domains.item.domain.item.QItem.item;
+import static com.allan.shoppingMall.domains.item.domain.item.QItemImage.itemImage;
+import static com.allan.shoppingMall.domains.mileage.domain.QMileage.mileage;
+import static com.allan.shoppingMall.domains.mileage.domain.QMileageHistory.mileageHistory;
+import static com.allan.shoppingMall.domains.order.domain.QOrder.order;
+
+/**
+ * OrderRepositoryCustom 의 Querydsl 구현체.
+ * 주문 목록 한 페이지를 주문 수와 상관없이 한 번의 쿼리로 조회합니다.
+ * (첫 번째 주문 상품은 주문 상품 아이디가 가장 작은 주문 상품 입니다.)
+ */
+public class OrderRepositoryImpl implements OrderRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    public OrderRepositoryImpl(EntityManager em) {
+        this.queryFactory = new JPAQueryFactory(em);
+    }
+
+    @Override
+    public OrderCursorPage getOrderSummariesByMemberId(Long memberId, List<OrderStatus> orderStatusList, OrderCursor cursor, int size) {
+        QOrderItem firstOrderItem = new QOrderItem("firstOrderItem");
+        QOrderItem minOrderItem = new QOrderItem("minOrderItem");
+        QOrderItem countOrderItem = new QOrderItem("countOrderItem");
+
+        JPQLQuery<Long> orderItemCount = JPAExpressions
+                .select(countOrderItem.count())
+                .from(countOrderItem)
+                .where(countOrderItem.order.eq(order));
+
+        JPQLQuery<Long> previewImageId = JPAExpressions
+                .select(itemImage.itemImageId.min())
+                .from(itemImage)
+                .where(itemImage.item.eq(item), itemImage.imageType.eq(ImageType.PREVIEW));
+
+        NumberExpression<Long> payableAmount = payableAmountOrCalculated();
+
+        // 다음 페이지 존재 여부를 확인하기 위해 한개를 더 조회.
+        // 회원 조건은 orders.member_id 컬럼으로 비교하므로 members 테이블을 join 하지 않습니다.
+        List<Tuple> rows = queryFactory
+                .select(order.orderId, order.orderNum, order.orderStatus, order.createdDate, payableAmount,
+                        item.name, orderItemCount, previewImageId)
+                .from(order)
+                .leftJoin(order.delivery, delivery)
+                .join(order.orderItems, firstOrderItem)
+                .join(firstOrderItem.item, item)
+                .where(order.orderer.memberId.eq(memberId),
+                        order.orderStatus.in(orderStatusList),
+                        firstOrderItem.orderItemId.eq(JPAExpressions
+                                .select(minOrderItem.orderItemId.min())
+                                .from(minOrderItem)
+                                .where(minOrderItem.order.eq(order))),
+                        afterCursor(cursor))
+                .orderBy(order.createdDate.desc(), order.orderId.desc())
+                .limit(size + 1)
+                .fetch();
+
+        OrderCursor nextCursor = null;
+        if(rows.size() > size){
+            rows = rows.subList(0, size);
+            Tuple last = rows.get(size - 1);
+            nextCursor = OrderCursor.of(last.get(order.createdDate), last.get(order.orderId));
+        }
+
+        List<OrderSummaryDTO> content = rows.stream()
+                .map(row -> {
+                    long count = row.get(orderItemCount);
+                    String orderName = count > 1 ? row.get(item.name) + "외 " + (count - 1) + "건" : row.get(item.name);
+
+                    return OrderSummaryDTO.builder()
+                            .orderId(row.get(order.orderId))
+                            .orderNum(row.get(order.orderNum))
+                            .orderStatus(row.get(order.orderStatus).getDesc())
+                            .orderName(orderName)
+                            .orderTotalAmount(row.get(payableAmount))
+                            .profileImgId(row.get(previewImageId))
+                            .createdDate(row.get(order.createdDate))
+                            .build();
+                }).collect(Collectors.toList());
+
+        return new OrderCursorPage(content, nextCursor);
+    }
+
+    /**
+     * 주문의 결제 할 금액을 조회하는 식.
+     * 금액 정보를 저장하기 전에 생성 되어 OrderAmountBackfillRunner 로 아직 채우지 않은 주문은,
+     * OrderService 와 같은 방식으로 (주문 상품 금액 합계 + 배송비 - 사용한 마일리지) 를 계산합니다.
+     * 사용한 마일리지는 마일리지 내역에서 조회하며, 이전 마일리지 합계로 합쳐진 경우 보관 된 마일리지 내역에서 조회합니다.
+     * (사용한 마일리지 내역의 point 는 음수 입니다.)
+     */
+    private NumberExpression<Long> payableAmountOrCalculated(){
+        QOrderItem amountOrderItem = new QOrderItem("amountOrderItem");
+        QMileageHistory lastMileageHistory = new QMileageHistory("lastMileageHistory");
+
+        JPQLQuery<Long> itemAmount = JPAExpressions
+                .select(amountOrderItem.orderItemAmount.sum())
+                .from(amountOrderItem)
+                .where(amountOrderItem.order.eq(order));
+
+        JPQLQuery<Long> usedMileagePoint = JPAExpressions
+                .select(mileage.point.sum())
+                .from(mileage)
+                .where(mileage.orderNum.eq(order.orderNum), mileage.mileageContent.eq(MileageContent.USED_MILEAGE_DEDUCTION));
+
+        JPQLQuery<Long> archivedUsedMileagePoint = JPAExpressions
+                .select(mileageHistory.point)
+                .from(mileageHistory)
+                .where(mileageHistory.mileageHistoryId.eq(JPAExpressions
+                        .select(lastMileageHistory.mileageHistoryId.max())
+                        .from(lastMileageHistory)
+                        .where(lastMileageHistory.orderNum.eq(order.orderNum),
+                                lastMileageHistory.mileageContent.eq(MileageContent.USED_MILEAGE_DEDUCTION))));
+
+        return Expressions.numberTemplate(Long.class, "coalesce({0}, coalesce({1}, 0) + coalesce({2}, 0) + coalesce({3}, {4}, 0))",
+                order.payableAmount, itemAmount, delivery.deliveryAmount, usedMileagePoint, archivedUsedMileagePoint);
+    }
+
+    /**
+     * (createdDate, orderId) 내림차순 기준으로 커서 이후의 주문인지 확인하는 조건.
+     * @param cursor 이전 페이지 마지막 주문의 커서 정보.(첫 페이지인 경우 조건 없음)
+     */
+    private BooleanExpression afterCursor(OrderCursor cursor){
+        if(cursor == null)
+            return null;
+
+        return order.createdDate.lt(cursor.getCreatedDate())
+                .or(order.createdDate.eq(cursor.getCreatedDate()).and(order.orderId.lt(cursor.getOrderId())));
+    }
+}
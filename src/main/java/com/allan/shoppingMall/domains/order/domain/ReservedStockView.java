@@ -0,0 +1,11 @@
+package com.allan.shoppingMall.domains.order.domain;
+
+/**
+ * 상품 사이즈 별 예약 된 재고량 조회 결과. (재고량 metric 용.)
+ */
+public interface ReservedStockView {
+
+    Long getItemSizeId();
+
+    Long getQuantity();
+}
@@ -0,0 +1,55 @@
+package com.allan.shoppingMall.domains.order.domain;
+
+import com.allan.shoppingMall.common.domain.BaseTimeEntity;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * '임시주문' 상태의 주문이 차감한 재고량을 기록하는 엔티티.
+ *
+ * 주문시 재고량을 바로 차감하지만, 결제가 완료되기 전까지는 예약 상태로 보고 만료 시간(expiresAt) 을 기록합니다.
+ * 결제 완료, 주문 취소시 삭제되며, 만료 시간이 지나도록 결제되지 않은 예약은 StockReservationSweeper 에서 재고량을 복구합니다.
+ * 대량으로 복구 할 수 있도록 연관 관계 대신 아이디만 저장합니다.
+ */
+@Entity
+@Table(name = "stock_reservations", indexes = {
+        @Index(name = "idx_stock_reservations_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_stock_reservations_order_id", columnList = "order_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockReservation extends BaseTimeEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_reservations_seq_generator")
+    @SequenceGenerator(name = "stock_reservations_seq_generator", sequenceName = "stock_reservations_seq", allocationSize = 50)
+    private Long reservationId;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    @Column(name = "item_size_id", nullable = false)
+    private Long itemSizeId;
+
+    @Column(name = "quantity", nullable = false)
+    private Long quantity;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Builder
+    public StockReservation(Long orderId, Long itemId, Long itemSizeId, Long quantity, LocalDateTime expiresAt) {
+        this.orderId = orderId;
+        this.itemId = itemId;
+        this.itemSizeId = itemSizeId;
+        this.quantity = quantity;
+        this.expiresAt = expiresAt;
+    }
+}
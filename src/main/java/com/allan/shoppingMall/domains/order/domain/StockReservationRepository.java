@@ -0,0 +1,50 @@
+package com.allan.shoppingMall.domains.order.domain;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    /**
+     * 만료 시간이 지난 재고 예약을 조회하는 메소드.
+     * 결제 완료, 주문 취소와 동시에 처리되지 않도록 조회한 row 에 lock 을 겁니다.
+     * @param now 기준 시간.
+     * @param pageable 조회 할 예약 수.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from StockReservation r where r.expiresAt <= :now order by r.reservationId")
+    List<StockReservation> findExpiredReservations(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 주문의 재고 예약을 삭제하는 메소드.
+     * @param orderId 주문 도메인 아이디.
+     * @return int 삭제 된 예약 수.
+     */
+    @Modifying
+    @Query("delete from StockReservation r where r.orderId = :orderId")
+    int deleteAllByOrderId(@Param("orderId") Long orderId);
+
+    /**
+     * 재고 예약 아이디 리스트로 예약을 삭제하는 메소드.
+     * @param reservationIds 재고 예약 아이디.
+     * @return int 삭제 된 예약 수.
+     */
+    @Modifying
+    @Query("delete from StockReservation r where r.reservationId in :reservationIds")
+    int deleteAllByReservationIds(@Param("reservationIds") Collection<Long> reservationIds);
+
+    /**
+     * 상품 사이즈 별 예약 된 재고량을 조회하는 메소드.
+     */
+    @Query("select r.itemSizeId as itemSizeId, sum(r.quantity) as quantity from StockReservation r group by r.itemSizeId")
+    List<ReservedStockView> sumQuantityByItemSize();
+}
@@ -0,0 +1,59 @@
+package com.allan.shoppingMall.domains.order.domain.model;
+
+import com.allan.shoppingMall.common.exception.BusinessException;
+import com.allan.shoppingMall.common.exception.ErrorCode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 주문 목록 keyset(seek) 페이징에서 사용하는 커서 정보.
+ * 주문 목록은 (createdDate, orderId) 내림차순으로 정렬되며, 커서는 이전 페이지 마지막 주문의 정렬 키를 가지고 있습니다.
+ * 프론트단에는 Base64(URL safe) 로 인코딩 한 토큰으로 전달합니다. (ItemCursor 참고)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class OrderCursor {
+
+    private static final String DELIMITER = "_";
+
+    private LocalDateTime createdDate;
+    private Long orderId;
+
+    public static OrderCursor of(LocalDateTime createdDate, Long orderId){
+        return new OrderCursor(createdDate, orderId);
+    }
+
+    /**
+     * 커서 정보를 프론트단으로 전달 할 토큰으로 변환하는 메소드.
+     * @return String 커서 토큰.
+     */
+    public String encode(){
+        String raw = createdDate.toString() + DELIMITER + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 프론트단에서 전달 된 커서 토큰을 커서 정보로 변환하는 메소드.
+     * 토큰이 비어있는 경우, 첫 페이지를 의미하므로 null 을 반환합니다.
+     * @param token 커서 토큰.
+     * @return OrderCursor
+     */
+    public static OrderCursor decode(String token){
+        if(token == null || token.isBlank())
+            return null;
+
+        try{
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new OrderCursor(LocalDateTime.parse(raw.substring(0, index)), Long.valueOf(raw.substring(index + 1)));
+        }catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e){
+            throw new BusinessException("유효하지 않은 주문 목록 커서입니다.", ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
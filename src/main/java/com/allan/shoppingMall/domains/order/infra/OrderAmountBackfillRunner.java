@@ -0,0 +1,100 @@
+package com.allan.shoppingMall.domains.order.infra;
+
+import com.allan.shoppingMall.domains.mileage.domain.Mileage;
+import com.allan.shoppingMall.domains.mileage.domain.MileageRepository;
+import com.allan.shoppingMall.domains.mileage.domain.model.MileageContent;
+import com.allan.shoppingMall.domains.order.domain.Order;
+import com.allan.shoppingMall.domains.order.domain.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 금액 정보(주문 상품 금액, 배송비, 사용한 마일리지, 결제 할 금액) 를 저장하기 전에 생성 된 주문의 금액 정보를 채우는 클래스 입니다.
+ * --backfill-order-amounts 옵션으로 애플리케이션을 실행한 경우에만 동작하며,
+ * 금액 정보가 없는 주문을 아이디 순으로 100 개씩 나누어 커밋하므로 중간에 중단 되어도 다시 실행하면 남은 주문만 채웁니다.
+ *
+ * 주문 상품 금액은 현재 상품 가격이 아닌 주문 상품에 저장 된 주문 당시 가격으로 계산합니다.
+ * 취소 된 주문은 사용한 마일리지가 이미 삭제 되었으므로, 사용한 마일리지를 0 으로 저장합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderAmountBackfillRunner implements ApplicationRunner {
+
+    public static final String BACKFILL_OPTION = "backfill-order-amounts";
+    private static final int BATCH_SIZE = 100;
+
+    private final OrderRepository orderRepository;
+    private final MileageRepository mileageRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if(!args.containsOption(BACKFILL_OPTION))
+            return;
+
+        log.info("OrderAmountBackfillRunner filled orders: " + backfill());
+    }
+
+    /**
+     * 금액 정보가 없는 주문의 금액 정보를 모두 채우는 메소드.
+     * @return int 금액 정보를 채운 주문 수.
+     */
+    public int backfill(){
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int filled = 0;
+        long lastOrderId = 0l;
+
+        while(true){
+            long fromOrderId = lastOrderId;
+            List<Long> orderIds = transactionTemplate.execute(status -> backfillBatch(fromOrderId));
+            if(orderIds.isEmpty())
+                break;
+
+            filled += orderIds.size();
+            lastOrderId = orderIds.get(orderIds.size() - 1);
+            if(orderIds.size() < BATCH_SIZE)
+                break;
+        }
+        return filled;
+    }
+
+    /**
+     * 주문 아이디가 fromOrderId 보다 큰 주문 중 금액 정보가 없는 주문의 금액 정보를 채우는 메소드.
+     * 주문, 배송, 주문 상품과 사용한 마일리지를 각각 한 번씩 조회합니다.
+     * @return List<Long> 금액 정보를 채운 주문 아이디. (아이디 순)
+     */
+    private List<Long> backfillBatch(long fromOrderId){
+        List<Long> orderIds = orderRepository.findOrderIdsWithoutAmount(fromOrderId, PageRequest.of(0, BATCH_SIZE));
+        if(orderIds.isEmpty())
+            return orderIds;
+
+        List<Order> orders = orderRepository.findAllWithOrderItemsByOrderIds(orderIds);
+        List<String> orderNums = orders.stream()
+                .map(Order::getOrderNum)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        // 사용한 마일리지는 음수로 저장 되어 있습니다.
+        Map<String, Long> usedMileages = orderNums.isEmpty() ? Map.of() : mileageRepository
+                .findAllByOrderNumInAndMileageContent(orderNums, MileageContent.USED_MILEAGE_DEDUCTION)
+                .stream()
+                .collect(Collectors.toMap(Mileage::getOrderNum, mileage -> -mileage.getPoint(), Long::sum));
+
+        for(Order order : orders){
+            order.calculateAmount(order.getOrderNum() == null ? 0l : usedMileages.getOrDefault(order.getOrderNum(), 0l));
+        }
+        return orderIds;
+    }
+}
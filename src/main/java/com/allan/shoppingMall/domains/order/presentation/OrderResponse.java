@@ -18,6 +18,8 @@ public class OrderResponse {
 
     private OrderErrorResponse errorResponse;
 
+    private String ticketId; // 주문 접수 번호. 주문 처리가 끝나지 않은 경우(ORDER_PENDING), 이 번호로 결과를 다시 조회합니다.
+
     public OrderResponse(OrderResult orderResult, String orderNum) {
         this.apiResult = orderResult.getResult();
         this.apiResultMessage = orderResult.getMessage();
@@ -30,4 +32,11 @@ public class OrderResponse {
         this.orderNum = orderNum;
         this.errorResponse = errorResponse;
     }
+
+    public OrderResponse(OrderResult orderResult, String orderNum, String ticketId) {
+        this.apiResult = orderResult.getResult();
+        this.apiResultMessage = orderResult.getMessage();
+        this.orderNum = orderNum;
+        this.ticketId = ticketId;
+    }
 }
@@ -11,6 +11,7 @@ import lombok.Getter;
 public enum OrderResult {
     ORDER_SUCCESS(true,"주문에 성공하였습니다."),
     ORDER_FAIL(false,"주문에 실패하였습니다."),
+    ORDER_PENDING(false, "주문을 처리 중입니다."),
     PAYMENT_SUCCESS(true, "결제에 성공하였습니다."),
     PAYMENT_FAIL(false, "결제에 실패하였습니다."),
     REFUND_SUCCESS(true, "환불에 성공하였습니다."),
@@ -1,13 +1,17 @@
 package com.allan.shoppingMall.domains.order.presentation;
 
+import com.allan.shoppingMall.common.api.IdempotencyStore;
 import com.allan.shoppingMall.common.exception.BusinessException;
 import com.allan.shoppingMall.common.exception.ErrorCode;
+import com.allan.shoppingMall.common.exception.order.OrderIntakeRejectedException;
 import com.allan.shoppingMall.common.exception.order.payment.PaymentFailException;
 import com.allan.shoppingMall.common.exception.order.RefundFailException;
 import com.allan.shoppingMall.common.util.FormatUtil;
 import com.allan.shoppingMall.domains.infra.AuthenticationConverter;
 import com.allan.shoppingMall.domains.member.domain.Member;
 import com.allan.shoppingMall.domains.order.domain.model.OrderRequest;
+import com.allan.shoppingMall.domains.order.service.OrderIntakeQueue;
+import com.allan.shoppingMall.domains.order.service.OrderIntakeTicket;
 import com.allan.shoppingMall.domains.order.service.OrderService;
 import com.allan.shoppingMall.domains.payment.domain.model.iamport.PaymentIamportDTO;
 import com.allan.shoppingMall.domains.payment.domain.model.PaymentRequest;
@@ -18,6 +22,7 @@ import com.siot.IamportRestClient.response.Payment;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -28,6 +33,13 @@ import org.springframework.web.bind.annotation.*;
 import javax.annotation.PostConstruct;
 import javax.validation.Valid;
 import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Pattern;
 
 
@@ -38,6 +50,8 @@ public class RestOrderController {
     private AuthenticationConverter authenticationConverter;
     private OrderService orderService;
     private PaymentService paymentService;
+    private OrderIntakeQueue orderIntakeQueue;
+    private IdempotencyStore idempotencyStore;
     private IamportClient api;
 
     @Value("${payment.iamport.apiKey}")
@@ -46,11 +60,21 @@ public class RestOrderController {
     @Value("${payment.iamport.apiSecret}")
     private String apiSecret;
 
+    // 주문 접수 후 처리 결과를 기다리는 최대 시간. (지나면 접수 번호를 반환합니다.)
+    @Value("${order.intake.await-millis:5000}")
+    private long intakeAwaitMillis;
+
+    // 같은 Idempotency-Key 로 처리 중인 결제 완료 요청을 기다리는 최대 시간.
+    @Value("${idempotency.await-seconds:30}")
+    private long idempotencyAwaitSeconds;
+
     @Autowired(required = false)
-    public RestOrderController(AuthenticationConverter authenticationConverter, OrderService orderService, PaymentService paymentService){
+    public RestOrderController(AuthenticationConverter authenticationConverter, OrderService orderService, PaymentService paymentService, OrderIntakeQueue orderIntakeQueue, IdempotencyStore idempotencyStore){
         this.authenticationConverter = authenticationConverter;
         this.orderService = orderService;
         this.paymentService = paymentService;
+        this.orderIntakeQueue = orderIntakeQueue;
+        this.idempotencyStore = idempotencyStore;
         this.api = new IamportClient(apiKey, apiSecret);
     }
 
@@ -58,10 +82,12 @@ public class RestOrderController {
      * test용. 생성자.
      */
     @Autowired(required = false)
-    public RestOrderController(AuthenticationConverter authenticationConverter, OrderService orderService, PaymentService paymentService, IamportClient iamportClient){
+    public RestOrderController(AuthenticationConverter authenticationConverter, OrderService orderService, PaymentService paymentService, OrderIntakeQueue orderIntakeQueue, IdempotencyStore idempotencyStore, IamportClient iamportClient){
         this.authenticationConverter = authenticationConverter;
         this.orderService = orderService;
         this.paymentService = paymentService;
+        this.orderIntakeQueue = orderIntakeQueue;
+        this.idempotencyStore = idempotencyStore;
         this.api = iamportClient;
     }
 
@@ -76,10 +102,18 @@ public class RestOrderController {
 
     /**
      * 주문 메소드.
+     * 유효성 검사를 마친 주문은 주문 접수 큐(OrderIntakeQueue) 에서 처리하며, 요청 스레드는 결과를 기다리지 않습니다.
+     * order.intake.await-millis 안에 처리가 끝나면 주문번호를, 끝나지 않으면 접수 번호(ticketId) 를 반환하며,
+     * 큐가 가득 찬 경우 429 응답을 반환합니다.
+     * Idempotency-Key 헤더로 다시 요청한 경우, 주문을 다시 접수하지 않고 처음 접수한 주문의 처리 결과를 반환하며,
+     * 처음 요청의 주문이 처리 중인 경우 그 결과를 기다립니다. (일시적인 실패로 끝난 주문은 같은 키로 다시 접수 할 수 있습니다.)
      * @param request
+     * @param idempotencyKey 재시도 요청을 구분하기 위해 클라이언트에서 생성한 키.
      */
     @PostMapping("/order")
-    public ResponseEntity<OrderResponse> order(@RequestBody @Valid OrderRequest request, BindingResult bindingResult, Authentication authentication){
+    public CompletableFuture<ResponseEntity<OrderResponse>> order(@RequestBody @Valid OrderRequest request, BindingResult bindingResult,
+                                                                  @RequestHeader(value = IdempotencyStore.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                                                  Authentication authentication){
 
         // 유효성 검사를 위한 표현식.
         String NAME_PATTERN = "^[가-힣]{2,16}$";
@@ -122,8 +156,8 @@ public class RestOrderController {
                 log.error(error.getDefaultMessage());
             }
             log.error("======================================");
-            return new ResponseEntity<OrderResponse>(new OrderResponse(OrderResult.ORDER_FAIL, "empty", OrderErrorResponse.of(ErrorCode.INVALID_ORDER_REQUEST_INPUT_VALUE, bindingResult)),
-                    HttpStatus.OK);
+            return CompletableFuture.completedFuture(new ResponseEntity<OrderResponse>(new OrderResponse(OrderResult.ORDER_FAIL, "empty", OrderErrorResponse.of(ErrorCode.INVALID_ORDER_REQUEST_INPUT_VALUE, bindingResult)),
+                    HttpStatus.OK));
         }
 
         request.setAddress(request.getRoadAddress() + " " + request.getJibunAddress());
@@ -146,23 +180,137 @@ public class RestOrderController {
             log.info(request.getOrdererEmail());
         }
 
+        if(idempotencyKey == null){
+            return submitOrder(request, findMember)
+                    .thenCompose(findTicket -> awaitOrderResult(findTicket, intakeAwaitMillis))
+                    .exceptionally(this::toOrderFailResponse);
+        }
+
+        // 접수 번호가 아닌 주문 처리 결과가 나온 뒤에 응답을 보관합니다.
+        // 큐가 가득 차 거절된 요청, lock 충돌 같은 일시적인 실패로 끝난 주문은 보관하지 않으므로 같은 키로 다시 접수 할 수 있습니다.
+        AtomicReference<OrderIntakeTicket> submitted = new AtomicReference<>();
+        CompletableFuture<OrderIntakeTicket> processed = idempotencyStore.execute("order:" + authentication.getName() + ":" + idempotencyKey,
+                () -> submitOrder(request, findMember).thenCompose(findTicket -> {
+                    submitted.set(findTicket);
+                    return findTicket.getResult().handle((orderNum, throwable) -> findTicket);
+                }),
+                this::isStorableOrderResult);
+
+        // 처음 요청한 경우.
+        if(submitted.get() != null)
+            return awaitOrderResult(submitted.get(), intakeAwaitMillis);
+
+        // 같은 키로 다시 요청한 경우, 처음 요청의 주문 처리 결과를 기다립니다.
+        return processed
+                .thenCompose(findTicket -> awaitOrderResult(findTicket, 0l))
+                .completeOnTimeout(new ResponseEntity<OrderResponse>(new OrderResponse(OrderResult.ORDER_FAIL, "empty", OrderErrorResponse.of(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS)),
+                        HttpStatus.CONFLICT), idempotencyAwaitSeconds, TimeUnit.SECONDS)
+                .exceptionally(this::toOrderFailResponse);
+    }
+
+    /**
+     * 주문 처리 결과를 Idempotency-Key 응답으로 보관 할지 판단하는 메소드.
+     * 주문 성공, 재고 부족 같은 주문 자체의 실패(BusinessException) 만 보관합니다.
+     */
+    private boolean isStorableOrderResult(OrderIntakeTicket ticket){
+        return ticket.getResult()
+                .handle((orderNum, throwable) -> throwable == null ||
+                        (throwable instanceof CompletionException ? throwable.getCause() : throwable) instanceof BusinessException)
+                .join();
+    }
+
+    private ResponseEntity<OrderResponse> toOrderFailResponse(Throwable throwable){
+        Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+        ErrorCode errorCode = cause instanceof BusinessException ? ((BusinessException) cause).getErrorCode() : ErrorCode.INTERNAL_SERVER_ERROR;
+        HttpHeaders headers = new HttpHeaders();
+        if(errorCode == ErrorCode.ORDER_INTAKE_QUEUE_FULL)
+            headers.set(HttpHeaders.RETRY_AFTER, "1");
+        return new ResponseEntity<OrderResponse>(new OrderResponse(OrderResult.ORDER_FAIL, "empty", OrderErrorResponse.of(errorCode)),
+                headers, HttpStatus.valueOf(errorCode.getStatus()));
+    }
+
+    private CompletableFuture<OrderIntakeTicket> submitOrder(OrderRequest request, Member member){
         try{
-            String orderNum = orderService.order(request, findMember);
-            return new ResponseEntity<OrderResponse>(new OrderResponse(OrderResult.ORDER_SUCCESS, orderNum), HttpStatus.OK);
-        }catch (BusinessException e){
-            return new ResponseEntity<OrderResponse>(new OrderResponse(OrderResult.ORDER_FAIL, "empty", OrderErrorResponse.of(e.getErrorCode())),
-                    HttpStatus.OK);
+            return CompletableFuture.completedFuture(orderIntakeQueue.submit(request, member));
+        }catch (OrderIntakeRejectedException e){
+            return CompletableFuture.failedFuture(e);
         }
     }
 
+    /**
+     * 주문 접수 번호로 주문 처리 결과를 조회하는 메소드.
+     * @param ticketId 주문 접수 번호.
+     * @param awaitMillis 처리 결과를 기다릴 시간. (최대 order.intake.await-millis)
+     */
+    @GetMapping("/order/intake/{ticketId}")
+    public CompletableFuture<ResponseEntity<OrderResponse>> getOrderIntakeResult(@PathVariable("ticketId") String ticketId,
+                                                                                @RequestParam(value = "awaitMillis", defaultValue = "0") long awaitMillis,
+                                                                                Authentication authentication){
+        Optional<OrderIntakeTicket> ticket = orderIntakeQueue.getTicket(ticketId)
+                .filter(findTicket -> findTicket.isOwnedBy(authentication.getName()));
+
+        if(ticket.isEmpty()){
+            return CompletableFuture.completedFuture(new ResponseEntity<OrderResponse>(new OrderResponse(OrderResult.ORDER_FAIL, "empty", OrderErrorResponse.of(ErrorCode.ORDER_INTAKE_TICKET_NOT_FOUND)),
+                    HttpStatus.OK));
+        }
+        return awaitOrderResult(ticket.get(), Math.max(0l, Math.min(awaitMillis, intakeAwaitMillis)));
+    }
+
+    /**
+     * 주문 처리 결과를 응답으로 변환하며, awaitMillis 가 지나도록 처리되지 않은 경우 접수 번호를 반환합니다.
+     */
+    private CompletableFuture<ResponseEntity<OrderResponse>> awaitOrderResult(OrderIntakeTicket ticket, long awaitMillis){
+        return ticket.getResult()
+                .handle((orderNum, throwable) -> {
+                    if(throwable == null)
+                        return new ResponseEntity<OrderResponse>(new OrderResponse(OrderResult.ORDER_SUCCESS, orderNum), HttpStatus.OK);
+
+                    Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+                    ErrorCode errorCode = cause instanceof BusinessException ? ((BusinessException) cause).getErrorCode() : ErrorCode.INTERNAL_SERVER_ERROR;
+                    return new ResponseEntity<OrderResponse>(new OrderResponse(OrderResult.ORDER_FAIL, "empty", OrderErrorResponse.of(errorCode)),
+                            HttpStatus.OK);
+                })
+                .completeOnTimeout(new ResponseEntity<OrderResponse>(new OrderResponse(OrderResult.ORDER_PENDING, "empty", ticket.getTicketId()), HttpStatus.OK),
+                        awaitMillis, TimeUnit.MILLISECONDS);
+    }
+
     /**
      * 결제 완료 후, 주문번호와 결제번호를 통해 유효성 검사를 실시합니다.(유효성 검사의 내용은 OrderService validatePaymentByIamport() 를 참조).
      * 유효성 검사 실패시, 환불 및 관련 주문 도메인을 삭제 처리합니다.
+     * Idempotency-Key 헤더로 다시 요청한 경우, 결제 검증과 Iamport 조회를 다시 하지 않고 처음 요청의 응답을 반환하며
+     * 처음 요청이 처리 중인 경우 그 결과를 기다립니다. (Iamport 오류 응답은 다시 요청 할 수 있도록 보관하지 않습니다.)
      * @param request
+     * @param idempotencyKey 재시도 요청을 구분하기 위해 클라이언트에서 생성한 키.
      * @return OrderResponse
      */
     @PostMapping("/order/complete")
-    public ResponseEntity<OrderResponse> validatePaymentAfter(@RequestBody PaymentRequest request, Authentication authentication) throws IOException, IamportResponseException {
+    public ResponseEntity<OrderResponse> validatePaymentAfter(@RequestBody PaymentRequest request,
+                                                              @RequestHeader(value = IdempotencyStore.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                                              Authentication authentication) throws IOException, IamportResponseException {
+        if(idempotencyKey == null)
+            return completePayment(request, authentication);
+
+        try{
+            return idempotencyStore.execute("order/complete:" + authentication.getName() + ":" + idempotencyKey,
+                    () -> CompletableFuture.completedFuture(completePayment(request, authentication)),
+                    response -> response.getBody().getErrorResponse() == null ||
+                            !ErrorCode.IAMPORT_ERROR.getCode().equals(response.getBody().getErrorResponse().getErrorCode()))
+                    .get(idempotencyAwaitSeconds, TimeUnit.SECONDS);
+        }catch (TimeoutException e){
+            log.error("validatePaymentAfter() idempotent request is still in progress. key: " + idempotencyKey);
+            return new ResponseEntity<OrderResponse>(new OrderResponse(OrderResult.PAYMENT_FAIL, "empty", OrderErrorResponse.of(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS)),
+                    HttpStatus.CONFLICT);
+        }catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }catch (ExecutionException e){
+            if(e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private ResponseEntity<OrderResponse> completePayment(PaymentRequest request, Authentication authentication){
         Payment iamportPayment = null;
         try{
             iamportPayment = api.paymentByImpUid(request.getImp_uid()).getResponse();
@@ -173,6 +321,8 @@ public class RestOrderController {
                     .payMethod(iamportPayment.getPayMethod())
                     .payStatus(iamportPayment.getStatus())
                     .name(iamportPayment.getName())
+                    .cardName(iamportPayment.getCardName())
+                    .cardNum(iamportPayment.getCardNumber())
                     .build();
             orderService.validatePaymentByIamport(paymentDTO, authentication.getName());
             // 결제 성공.
@@ -11,7 +11,6 @@ import com.allan.shoppingMall.domains.order.domain.OrderRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +20,8 @@ import java.util.stream.Collectors;
 /**
  * 주문완료시, 주문결제 완료 이벤트에 반응하는 handler 클래스입니다.
  * 주문완료시, 결제된 상품을 장바구니에서 차감합니다.
+ * 이벤트는 OutboxRelay 의 트랜잭션 안에서 전달 되며, 처리 완료와 함께 커밋 됩니다.
+ * 같은 주문의 이벤트가 중복으로 저장 되더라도 OncePerKeyEvent 이므로 한 번만 전달 되어, 한 번만 차감합니다.
  */
 @Service
 @RequiredArgsConstructor
@@ -29,9 +30,8 @@ public class OrderCompletedEventHandler {
     private final CartRepository cartRepository;
     private final OrderRepository orderRepository;
 
-    @Async
     @EventListener
-    @Transactional
+    @Transactional(rollbackFor = {Exception.class, Error.class})
     public void handleEvent(OrderCompletedEvent event){
         log.info("OrderCompletedEvent handler call!");
         log.info("thread: " + Thread.currentThread());
@@ -0,0 +1,204 @@
+package com.allan.shoppingMall.domains.order.service;
+
+import com.allan.shoppingMall.common.exception.BusinessException;
+import com.allan.shoppingMall.common.exception.ErrorCode;
+import com.allan.shoppingMall.common.exception.order.OrderIntakeRejectedException;
+import com.allan.shoppingMall.domains.member.domain.Member;
+import com.allan.shoppingMall.domains.order.domain.model.OrderRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 주문 요청을 요청 스레드가 아닌 별도의 작업 스레드에서 처리하는 주문 접수 큐 입니다.
+ *
+ * 요청이 몰리면 요청 스레드 마다 트랜잭션을 열어 connection pool 을 기다리게 되므로,
+ * 유효성 검사를 마친 주문 요청은 크기가 정해진 큐에 넣고 접수 번호(OrderIntakeTicket) 를 반환합니다.
+ * 작업 스레드는 큐에 쌓인 주문을 최대 batch-size 개씩 꺼내 한 트랜잭션으로 저장(group commit) 하며,
+ * 큐가 가득 찬 경우에는 기다리지 않고 OrderIntakeRejectedException 을 던집니다.
+ * 작업 스레드 끼리 묶음 주문의 lock 이 충돌하면, 충돌한 묶음은 주문 마다 트랜잭션을 나누어 다시 저장합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderIntakeQueue {
+
+    // 주문 마다 나누어 저장 할 때, lock 충돌로 실패한 주문을 다시 저장하는 횟수.
+    private static final int LOCK_RETRY_COUNT = 3;
+
+    private final OrderService orderService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${order.intake.capacity:500}")
+    private int capacity;
+
+    @Value("${order.intake.workers:2}")
+    private int workerCount;
+
+    @Value("${order.intake.batch-size:20}")
+    private int batchSize;
+
+    @Value("${order.intake.ticket-ttl-seconds:300}")
+    private long ticketTtlSeconds;
+
+    private BlockingQueue<OrderIntakeTicket> queue;
+    private final Map<String, OrderIntakeTicket> tickets = new ConcurrentHashMap<>();
+    private ExecutorService workers;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start(){
+        queue = new ArrayBlockingQueue<>(capacity);
+        workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "orderIntakeWorker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        for(int i = 0; i < workerCount; i++)
+            workers.execute(this::work);
+    }
+
+    /**
+     * 남은 주문을 처리 할 수 있도록 큐가 빌 때까지 기다린 뒤 작업 스레드를 종료합니다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        workers.shutdown();
+        if(!workers.awaitTermination(30, TimeUnit.SECONDS))
+            workers.shutdownNow();
+    }
+
+    /**
+     * 주문 요청을 큐에 넣는 메소드.
+     * @param request 유효성 검사를 마친 주문 요청.
+     * @param member 주문하는 회원 도메인.
+     * @return OrderIntakeTicket 접수 번호와 처리 결과.
+     * @throws OrderIntakeRejectedException 큐가 가득 찬 경우.
+     */
+    public OrderIntakeTicket submit(OrderRequest request, Member member){
+        OrderIntakeTicket ticket = new OrderIntakeTicket(request, member);
+        tickets.put(ticket.getTicketId(), ticket);
+        if(!running || !queue.offer(ticket)){
+            tickets.remove(ticket.getTicketId());
+            log.error("order intake queue is full. size: " + queue.size());
+            throw new OrderIntakeRejectedException(ErrorCode.ORDER_INTAKE_QUEUE_FULL);
+        }
+        return ticket;
+    }
+
+    /**
+     * 접수 번호로 주문 처리 결과를 조회하는 메소드.
+     * 처리가 끝난 접수 내역은 ticket-ttl-seconds 동안만 보관합니다.
+     * @param ticketId 접수 번호.
+     */
+    public Optional<OrderIntakeTicket> getTicket(String ticketId){
+        return Optional.ofNullable(tickets.get(ticketId));
+    }
+
+    private void work(){
+        List<OrderIntakeTicket> batch = new ArrayList<>(batchSize);
+        while(running || !queue.isEmpty()){
+            try {
+                OrderIntakeTicket first = queue.poll(1, TimeUnit.SECONDS);
+                if(first == null)
+                    continue;
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e){
+                log.error("order intake worker error: " + e.getMessage());
+                for(OrderIntakeTicket ticket : batch)
+                    ticket.fail(e);
+            } finally {
+                batch.clear();
+                removeExpiredTickets();
+            }
+        }
+    }
+
+    /**
+     * 주문들을 한 트랜잭션으로 저장하는 메소드.
+     * 재고 부족처럼 주문 자체가 실패(BusinessException) 한 경우, 트랜잭션 전체가 롤백되므로 실패한 주문만 실패 처리 후 나머지 주문으로 다시 저장합니다.
+     * lock 충돌, 커밋 실패처럼 주문과 상관없이 실패한 경우에는 어느 주문의 문제인지 알 수 없으므로,
+     * 주문을 실패 처리하지 않고 주문 마다 트랜잭션을 나누어 다시 저장합니다. (processEach)
+     * 주문번호는 커밋이 끝난 후에 전달합니다.
+     * @param batch 큐에서 꺼낸 주문들.
+     */
+    void process(List<OrderIntakeTicket> batch){
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<OrderIntakeTicket> remaining = new ArrayList<>(batch);
+
+        while(!remaining.isEmpty()){
+            List<String> orderNums = new ArrayList<>(remaining.size());
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    for(OrderIntakeTicket ticket : remaining)
+                        orderNums.add(orderService.order(ticket.getRequest(), ticket.getMember()));
+                });
+            } catch (BusinessException e){
+                if(orderNums.size() < remaining.size()){
+                    // 주문 처리 중 실패한 경우.
+                    remaining.remove(orderNums.size()).fail(e);
+                    continue;
+                }
+                processEach(transactionTemplate, remaining);
+                return;
+            } catch (RuntimeException e){
+                // 다른 작업 스레드의 묶음 주문과 재고 row lock 을 엇갈려 잡은 경우 등.
+                log.warn("order intake group commit fail. retry each order. size: " + remaining.size() + ", message: " + e.getMessage());
+                processEach(transactionTemplate, remaining);
+                return;
+            }
+
+            for(int i = 0; i < remaining.size(); i++)
+                remaining.get(i).complete(orderNums.get(i));
+            return;
+        }
+    }
+
+    /**
+     * 주문 마다 트랜잭션을 나누어 저장하는 메소드.
+     * 한 주문의 재고량 변경은 ItemStockService 에서 정해진 순서로 lock 을 잡으므로 교착 상태가 발생하지 않으며,
+     * lock 대기 시간 초과(PessimisticLockingFailureException) 는 LOCK_RETRY_COUNT 번까지 다시 저장합니다.
+     * @param tickets 저장 할 주문들.
+     */
+    private void processEach(TransactionTemplate transactionTemplate, List<OrderIntakeTicket> tickets){
+        for(OrderIntakeTicket ticket : tickets){
+            for(int attempt = 1; ; attempt++){
+                try {
+                    ticket.complete(transactionTemplate.execute(status -> orderService.order(ticket.getRequest(), ticket.getMember())));
+                    break;
+                } catch (PessimisticLockingFailureException e){
+                    if(attempt < LOCK_RETRY_COUNT)
+                        continue;
+                    log.error("order intake lock fail!! ticketId: " + ticket.getTicketId() + ", message: " + e.getMessage());
+                    ticket.fail(e);
+                    break;
+                } catch (RuntimeException e){
+                    ticket.fail(e);
+                    break;
+                }
+            }
+        }
+    }
+
+    private void removeExpiredTickets(){
+        long now = System.currentTimeMillis();
+        long ttlMillis = TimeUnit.SECONDS.toMillis(ticketTtlSeconds);
+        tickets.values().removeIf(ticket -> ticket.isExpired(now, ttlMillis));
+    }
+}
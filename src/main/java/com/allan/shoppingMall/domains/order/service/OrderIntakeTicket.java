@@ -0,0 +1,50 @@
+package com.allan.shoppingMall.domains.order.service;
+
+import com.allan.shoppingMall.domains.member.domain.Member;
+import com.allan.shoppingMall.domains.order.domain.model.OrderRequest;
+import lombok.Getter;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 주문 접수 큐에 들어간 주문 요청과 처리 결과를 담는 클래스 입니다.
+ * result 는 주문이 커밋 된 후 주문번호로 완료되며, 주문에 실패한 경우 예외로 완료됩니다.
+ */
+@Getter
+public class OrderIntakeTicket {
+
+    private final String ticketId;
+    private final OrderRequest request;
+    private final Member member;
+    private final CompletableFuture<String> result = new CompletableFuture<>();
+    private volatile long completedMillis;
+
+    public OrderIntakeTicket(OrderRequest request, Member member) {
+        this.ticketId = UUID.randomUUID().toString();
+        this.request = request;
+        this.member = member;
+    }
+
+    /**
+     * 주문을 요청한 회원인지 확인하는 메소드.
+     * @param authId 현재 로그인 한 회원 아이디.
+     */
+    public boolean isOwnedBy(String authId){
+        return member.getAuthId() != null && member.getAuthId().equals(authId);
+    }
+
+    void complete(String orderNum){
+        completedMillis = System.currentTimeMillis();
+        result.complete(orderNum);
+    }
+
+    void fail(Throwable cause){
+        completedMillis = System.currentTimeMillis();
+        result.completeExceptionally(cause);
+    }
+
+    boolean isExpired(long now, long ttlMillis){
+        return result.isDone() && now - completedMillis > ttlMillis;
+    }
+}
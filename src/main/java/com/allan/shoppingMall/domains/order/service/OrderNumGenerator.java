@@ -0,0 +1,59 @@
+package com.allan.shoppingMall.domains.order.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문 저장 전에 주문번호를 생성하는 클래스 입니다.
+ *
+ * 주문번호는 IDENTITY 로 생성 된 주문 아이디 대신 시간 순서로 증가하는 64bit 값(Snowflake) 을 사용하므로,
+ * 저장 후 주문번호를 다시 update 하지 않아도 됩니다.
+ * [41bit 기준 시간 이후 ms][10bit 서버 번호(order.num.node-id)][12bit 순번] 으로 구성되며,
+ * 같은 ms 에 순번(4096 개) 을 모두 사용하거나 서버 시간이 뒤로 바뀐 경우에는 다음 ms 값을 이어서 사용합니다.
+ * Iamport merchant_uid 로 사용하므로, 기존과 같이 'order_uid_' 로 시작합니다.
+ */
+@Component
+public class OrderNumGenerator {
+
+    public static final String ORDER_NUM_PREFIX = "order_uid_";
+
+    private static final long EPOCH_MILLIS = Instant.parse("2021-01-01T00:00:00Z").toEpochMilli();
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1l << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1l << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+
+    // 마지막으로 사용한 (ms << SEQUENCE_BITS | 순번) 값.
+    private final AtomicLong lastState = new AtomicLong();
+
+    public OrderNumGenerator(@Value("${order.num.node-id:0}") long nodeId) {
+        if(nodeId < 0 || nodeId > MAX_NODE_ID)
+            throw new IllegalArgumentException("order.num.node-id must be between 0 and " + MAX_NODE_ID + ". nodeId: " + nodeId);
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * 주문번호를 생성하는 메소드.
+     * @return String 'order_uid_' + 생성 된 번호.
+     */
+    public String generate(){
+        return ORDER_NUM_PREFIX + nextId();
+    }
+
+    /**
+     * lock 없이 CAS 로 (ms, 순번) 을 증가시켜 번호를 생성하는 메소드.
+     */
+    long nextId(){
+        long minState = (System.currentTimeMillis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        long state = lastState.accumulateAndGet(minState, (last, min) -> Math.max(last + 1, min));
+
+        long elapsedMillis = state >>> SEQUENCE_BITS;
+        long sequence = state & SEQUENCE_MASK;
+        return (elapsedMillis << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+}
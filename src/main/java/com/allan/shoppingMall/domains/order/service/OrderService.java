@@ -1,13 +1,17 @@
 package com.allan.shoppingMall.domains.order.service;
 
 import com.allan.shoppingMall.common.exception.ErrorCode;
+import com.allan.shoppingMall.common.exception.PaymentNotFoundException;
 import com.allan.shoppingMall.common.exception.category.CategoryNotFoundException;
 import com.allan.shoppingMall.common.exception.item.ItemNotFoundException;
 import com.allan.shoppingMall.common.exception.item.ItemSizeNotFoundException;
+import com.allan.shoppingMall.common.exception.order.OrderCancelFailException;
 import com.allan.shoppingMall.common.exception.order.OrderFailException;
 import com.allan.shoppingMall.common.exception.order.OrderNotFoundException;
 import com.allan.shoppingMall.common.exception.order.payment.PaymentFailByValidatedAmountException;
+import com.allan.shoppingMall.common.exception.order.payment.PaymentFailByValidatedOrderStatusException;
 import com.allan.shoppingMall.common.exception.order.payment.PaymentFailException;
+import com.allan.shoppingMall.common.outbox.OutboxEventRecorder;
 import com.allan.shoppingMall.common.value.Address;
 import com.allan.shoppingMall.domains.category.domain.Category;
 import com.allan.shoppingMall.domains.category.domain.CategoryCode;
@@ -19,8 +23,11 @@ import com.allan.shoppingMall.domains.item.domain.accessory.AccessoryRepository;
 import com.allan.shoppingMall.domains.item.domain.clothes.ClothesRepository;
 import com.allan.shoppingMall.domains.item.domain.clothes.Clothes;
 import com.allan.shoppingMall.domains.item.domain.item.Item;
+import com.allan.shoppingMall.domains.item.domain.clothes.SizeLabel;
 import com.allan.shoppingMall.domains.item.domain.item.ItemSize;
 import com.allan.shoppingMall.domains.item.domain.item.ItemSizeRepository;
+import com.allan.shoppingMall.domains.item.domain.model.StockLine;
+import com.allan.shoppingMall.domains.item.service.ItemStockService;
 import com.allan.shoppingMall.domains.member.domain.Member;
 import com.allan.shoppingMall.domains.mileage.domain.model.MileageContent;
 import com.allan.shoppingMall.domains.mileage.domain.model.MileageDTO;
@@ -34,15 +41,18 @@ import com.allan.shoppingMall.domains.payment.domain.model.iamport.PaymentIampor
 import com.allan.shoppingMall.domains.payment.service.PaymentService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -59,6 +69,13 @@ public class OrderService {
     private final PaymentService paymentService;
     private final MileageService mileageService;
     private final CategoryRepository categoryRepository;
+    private final ItemStockService itemStockService;
+    private final StockReservationService stockReservationService;
+    private final OrderNumGenerator orderNumGenerator;
+    private final OutboxEventRecorder outboxEventRecorder;
+
+    @Value("${order.detail.payment-timeout-ms:2000}")
+    private long paymentTimeoutMillis;
 
     /**
      * 상품 상세페이지를 통해서 바로 주문하는 경우 사용하는 주문 메소드.
@@ -72,6 +89,7 @@ public class OrderService {
         // 카테고리에 따른 분기 처리가 필요. 카테고리 추가시 코드 수정이 필요하다.
 
         Order order = Order.builder()
+                .orderNum(orderNumGenerator.generate())
                 .orderer(member)
                 .delivery(Delivery.builder()
                         .address(Address.builder()
@@ -91,46 +109,26 @@ public class OrderService {
                                 .build())
                 .build();
 
-        List<OrderItem> orderItems = request.getOrderItems()
-                .stream()
-                .map(orderLineRequest -> {
-                    // findItem 의 카테고리를 확인 해서 분기 처리가 필요하다.(카테고리 추가 후 로직 변경 필요.)
-                    Category findCategory = categoryRepository.findById(orderLineRequest.getCategoryId()).orElseThrow(() ->
-                            new CategoryNotFoundException(ErrorCode.ENTITY_NOT_FOUND));
-
-                    Item item = null;
-                    ItemSize itemSize = null;
-                    if(findCategory.getCategoryCode().getCode() == CategoryCode.CLOTHES.getCode()) {
-                        // clothes 상품인 경우.
-                        item = clothesRepository.findById(orderLineRequest.getItemId()).orElseThrow(()
-                                -> new ItemNotFoundException(ErrorCode.ENTITY_NOT_FOUND));
-                        itemSize = itemSizeRepository.getItemSizebySizelabel(item, orderLineRequest.getSize()).orElseThrow(()
-                                -> new ItemSizeNotFoundException("주문 가능한 상품 사이즈가 아닙니다.", ErrorCode.ENTITY_NOT_FOUND));
-
-                    }else if(findCategory.getCategoryCode().getCode() == CategoryCode.ACCESSORY.getCode()){
-                        // accessory 상품인 경우.
-                        item = accessoryRepository.findById(orderLineRequest.getItemId()).orElseThrow(() ->
-                                new ItemNotFoundException(ErrorCode.ENTITY_NOT_FOUND));
-                        itemSize = itemSizeRepository.getItemSizebySizelabel(item, orderLineRequest.getSize()).orElseThrow(()
-                                -> new ItemSizeNotFoundException("주문 가능한 상품 사이즈가 아닙니다.", ErrorCode.ENTITY_NOT_FOUND));
-
-                    }else{
-                        throw new OrderFailException("주문 가능한 상품이 아닙니다.", ErrorCode.INVALID_ORDER_REQUEST_INPUT_VALUE);
-                    }
-
-                    return new OrderItem(orderLineRequest.getOrderQuantity(), item, itemSize);
-                    // 그외의 상품인 경우.
-                }).collect(Collectors.toList());
+        List<OrderItem> orderItems = resolveOrderItems(request.getOrderItems());
         order.changeOrderItems(orderItems);
 
+        // 재고량 감소. (재고량이 부족한 경우 OrderFailException)
+        itemStockService.decreaseStocks(toStockLines(order.getOrderItems()));
+
         // 배송비 무료 판단.
         long orderAmountSum = orderItems.stream()
-                .mapToLong(orderItem -> orderItem.getItem().getPrice() * orderItem.getOrderQuantity())
+                .mapToLong(OrderItem::getOrderItemAmount)
                 .sum();
         order.getDelivery().freeDelivery(orderAmountSum);
 
+        // 주문 금액 정보 저장. (결제 검증, 주문 취소, 주문 상세 조회시 상품 가격을 다시 계산하지 않습니다.)
+        order.calculateAmount(request.getUsedMileage() != null && request.getUsedMileage() > 0 ? request.getUsedMileage() : 0l);
+
         orderRepository.save(order);
 
+        // 결제 완료 전까지 차감한 재고량은 만료 시간이 있는 예약으로 기록.
+        stockReservationService.reserve(order);
+
         // 주문시, 마일리지 차감.
         if(request.getUsedMileage() != null && request.getUsedMileage() > 0){
             mileageService.deductMileage(order.getOrderNum(), member.getAuthId(), -request.getUsedMileage(), MileageContent.USED_MILEAGE_DEDUCTION);
@@ -150,67 +148,42 @@ public class OrderService {
         Order findOrder = orderRepository.findByOrderNumAndAuthId(authId, orderNum).orElseThrow(()
                 -> new OrderNotFoundException(ErrorCode.ENTITY_NOT_FOUND));
 
-        long orderItemsTotalPrice = findOrder.getOrderItems()
-                .stream()
-                .mapToLong(orderItem -> {
-                    return (orderItem.getItem().getPrice() * orderItem.getOrderQuantity());
-                }).sum();
+        // 마일리지를 삭제하기 전에 환불 할 금액을 확인합니다.
+        long payableAmount = getPayableAmount(findOrder);
+
+        // 결제 대기 시간이 만료되어 이미 취소 된 주문인 경우.
+        if(!stockReservationService.release(findOrder.getOrderId()))
+            throw new OrderCancelFailException(ErrorCode.ORDER_CANCEL_NOT_ALLOWED);
 
         findOrder.cancelOrder();
+        restoreStock(findOrder);
 
         // 마일리지 삭제.
         mileageService.deleteMileage(findOrder.getOrderNum());
 
         //주문 전체금액 환불처리.
-        paymentService.refundPayment(findOrder.getPaymentNum(), orderItemsTotalPrice);
+        paymentService.refundPayment(findOrder.getPaymentNum(), payableAmount);
 
         return findOrder.getOrderId();
     }
 
     /**
-     * 자신의 주문 리스트를 페이징하여 반환하기 위한 메소드.
+     * 자신의 주문 요약 정보를 keyset(seek) 페이징하여 반환하기 위한 메소드.
+     * 주문 상품, 상품, 이미지 엔티티를 로딩하지 않고 한 번의 쿼리로 조회합니다. (OrderRepositoryImpl 참고)
      * (기본 페이징 사이즈는 10 입니다.)
-     * @param authId 사용자 아이디.
-     * @param pageable 페이지 정보.
-     */
-    public Page<Order> getMyOrderSummaryList(String authId, Pageable pageable){
-
-        int page = (pageable.getPageNumber() == 0) ? 0 : (pageable.getPageNumber() - 1);
-        pageable = PageRequest.of(page, 10, Sort.by(Sort.Direction.DESC, "createdDate"));
-        Page<Order> orderPage = orderRepository.getOrderListByAuthId(authId, List.of(OrderStatus.ORDER_ITEM_READY, OrderStatus.ORDER_COMPLETE, OrderStatus.ORDER_CANCEL), pageable);
-
-        return orderPage;
-    }
-
-    /**
-     * 컨트롤러단에서 전달받은 Page<Order> 를 프론트단으로 전송 할 List<OrderSummaryDTO> 반환하기 위한 메소드.
-     * @param orders 페이징 한 Order 정보.
-     * @return List<OrderSummaryDTO>
+     * @param memberId 회원 도메인 아이디.
+     * @param cursor 이전 페이지에서 전달 받은 커서 토큰.(첫 페이지인 경우 null 또는 빈값)
+     * @return OrderCursorPage
      */
-    public List<OrderSummaryDTO> getOrderSummaryDTO(List<Order> orders){
-        return
-                orders.stream()
-                        .map(order -> {
-                            String orderItemsName = "";
-                            if(order.getOrderItems().size() > 1)
-                                orderItemsName = order.getOrderItems().get(0).getItem().getName() + "외 " + (order.getOrderItems().size()-1) + "건";
-                            else
-                                orderItemsName = order.getOrderItems().get(0).getItem().getName();
-
-                            return OrderSummaryDTO.builder()
-                                    .orderId(order.getOrderId())
-                                    .orderNum(order.getOrderNum())
-                                    .orderStatus(order.getOrderStatus().getDesc())
-                                    .orderName(orderItemsName)
-                                    .profileImgId(order.getOrderItems().get(0).getItem().getItemImages().get(0).getItemImageId())
-                                    .createdDate(order.getCreatedDate())
-                                    .build();
-                        })
-                        .collect(Collectors.toList());
+    public OrderCursorPage getMyOrderSummaries(Long memberId, String cursor){
+        return orderRepository.getOrderSummariesByMemberId(memberId,
+                List.of(OrderStatus.ORDER_ITEM_READY, OrderStatus.ORDER_COMPLETE, OrderStatus.ORDER_CANCEL), OrderCursor.decode(cursor), 10);
     }
 
     /**
      * 주문 1건에 대한 상세 주문정보를 반환하는 메소드.
+     * Iamport 결제 정보 조회를 orderDetailExecutor 에서 먼저 시작한 뒤, 응답을 기다리는 동안 주문 상품 정보를 조회합니다.
+     * 결제 정보 조회가 order.detail.payment-timeout-ms 안에 끝나지 않는 경우, 주문시 저장한 금액으로 결제 정보를 대신합니다.
      * @param authId 로그인 한 회원 아이디.
      * @param orderNum 주문 도메인 주문번호.
      * @return OrderDetailDTO
@@ -219,13 +192,16 @@ public class OrderService {
         Order findOrder = orderRepository.findByOrderNumAndAuthId(authId, orderNum).orElseThrow(()
                 -> new OrderNotFoundException(ErrorCode.ENTITY_NOT_FOUND));
 
+        // 결제 정보 조회 시작.
+        CompletableFuture<PaymentDTO> paymentFuture = requestPaymentDetail(findOrder.getPaymentNum());
+
         // 주문 상품 정보)
         List<OrderItemDTO> orderItemDTOS = findOrder.getOrderItems()
                 .stream()
                 .map(orderItem -> {
                     OrderItemDTO orderItemDTO = OrderItemDTO.builder()
                             .name(orderItem.getItem().getName())
-                            .price(orderItem.getItem().getPrice())
+                            .price(orderItem.getOrderItemAmount() / orderItem.getOrderQuantity()) // 주문 당시 상품 가격.
                             .color(orderItem.getItem().getColor().getDesc())
                             .profileImg(orderItem.getItem().getItemImages().get(0).getItemImageId())
                             .orderQuantity(orderItem.getOrderQuantity())
@@ -240,23 +216,13 @@ public class OrderService {
                 .collect(Collectors.toList());
 
         // 결제 정보)
-        // 1-1 기본 결제정보.
-        PaymentDTO payment = paymentService.getPamentDetail(findOrder.getPaymentNum());
-        // 1-2 배송비.
-        payment.setDeliveryAmount(findOrder.getDelivery().getDeliveryAmount());
-
-        // 1-3 상품가격.
-        long itemAmount = findOrder.getOrderItems()
-                .stream()
-                .mapToLong(orderItem -> {
-                    return orderItem.getItem().getPrice() * orderItem.getOrderQuantity();
-                })
-                .sum();
-        payment.setItemAmount(itemAmount);
-
-        // 1-4 마일리지 정보.
-        MileageDTO mileage = mileageService.getMileageByOrderNum(findOrder.getOrderNum(), MileageContent.USED_MILEAGE_DEDUCTION);
-        payment.setMileagePoint(mileage.getMileagePoint());
+        // 1-1 배송비, 상품가격, 마일리지 정보. (주문시 저장한 금액 정보)
+        fillAmount(findOrder);
+        // 1-2 기본 결제정보.
+        PaymentDTO payment = awaitPaymentDetail(findOrder, paymentFuture);
+        payment.setDeliveryAmount(findOrder.getDeliveryAmount());
+        payment.setItemAmount(findOrder.getItemAmount());
+        payment.setMileagePoint(-findOrder.getUsedMileage());
 
         // 주소 정보등 그외 정보).
         OrderDetailDTO orderDetailDTO = OrderDetailDTO.builder()
@@ -274,13 +240,57 @@ public class OrderService {
                         .build())
                 .deliveryMemo(findOrder.getDelivery().getDeliveryMemo())
                 .orderNum(findOrder.getOrderNum())
-                .deliveryAmount(findOrder.getDelivery().getDeliveryAmount())
+                .deliveryAmount(findOrder.getDeliveryAmount())
                 .paymentInfo(payment)
                 .build();
 
         return orderDetailDTO;
     }
 
+    /**
+     * orderDetailExecutor 에서 결제 정보 조회를 시작하는 메소드.
+     * @param paymentNum 주문 도메인 결제번호.
+     * @return CompletableFuture<PaymentDTO> 결제 정보 조회 결과. (Executor 의 작업 큐가 가득 찬 경우 null 로 완료)
+     */
+    private CompletableFuture<PaymentDTO> requestPaymentDetail(String paymentNum){
+        try {
+            return paymentService.getPaymentDetailAsync(paymentNum);
+        } catch (TaskRejectedException exception) {
+            log.warn("orderDetailExecutor rejected payment detail request. paymentNum: " + paymentNum);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * 결제 정보 조회 결과를 기다리는 메소드.
+     * 제한 시간 안에 조회하지 못한 경우, 주문시 저장한 결제 할 금액만 가진 결제 정보를 반환합니다.
+     * @param order 주문 도메인.
+     * @param paymentFuture 결제 정보 조회 결과.
+     * @return PaymentDTO
+     */
+    private PaymentDTO awaitPaymentDetail(Order order, CompletableFuture<PaymentDTO> paymentFuture){
+        try {
+            PaymentDTO payment = paymentFuture.get(paymentTimeoutMillis, TimeUnit.MILLISECONDS);
+            if(payment != null)
+                return payment;
+        } catch (TimeoutException exception) {
+            log.warn("payment detail request timed out. orderNum: " + order.getOrderNum() + ", timeout: " + paymentTimeoutMillis + "ms");
+        } catch (ExecutionException exception) {
+            // Iamport 조회 실패는 기존과 같이 PaymentNotFoundException 으로 처리합니다.
+            if(exception.getCause() instanceof RuntimeException)
+                throw (RuntimeException) exception.getCause();
+            throw new PaymentNotFoundException(exception.getMessage(), ErrorCode.IAMPORT_ERROR);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+
+        PaymentDTO payment = PaymentDTO.builder()
+                .totalAmount(order.getPayableAmount())
+                .build();
+        payment.setDelayed(true);
+        return payment;
+    }
+
     /**
      * 결제 유효성 검사 메소드.
      * 유효성 검사 이후, 결제 도메인(Payment) 객체를 생성 후 주문 도메인(Order) 주문상태를 변경한다(payOrder() method 참고).
@@ -296,25 +306,15 @@ public class OrderService {
         Order findOrder = orderRepository.findByOrderNumAndAuthId(authId, paymentDTO.getMerchantUid()).orElseThrow(()
                 -> new PaymentFailException(ErrorCode.ORDER_NOT_FOUND));
 
-        long orderITemsAmount = findOrder.getOrderItems()
-                .stream()
-                .mapToLong( orderItem -> (orderItem.getItem().getPrice() * orderItem.getOrderQuantity()) )
-                .sum();
-
-        // 배송비.
-        long deliveryAmount = findOrder.getDelivery().getDeliveryAmount();
-
-        // 마일리지.
-        long mileagePoint = mileageService.getMileageByOrderNum(findOrder.getOrderNum(), MileageContent.USED_MILEAGE_DEDUCTION).getMileagePoint();
-
-        // 총금액.
-        long orderTotalAmount = orderITemsAmount + deliveryAmount + mileagePoint;
-
-        // 주문 금액과 결제 총금액 확인
-        if(paymentDTO.getPaymentAmount() != orderTotalAmount){
+        // 주문 금액과 결제 총금액 확인. (주문시 저장한 결제 할 금액과 비교합니다.)
+        if(paymentDTO.getPaymentAmount() != getPayableAmount(findOrder)){
             throw new PaymentFailByValidatedAmountException(ErrorCode.PAYMENT_AMOUNT_IS_NOT_EQUAL_BY_ORDER_AMOUNT);
         }else{
-            return new CompletdOrderInfo(completeOrder(paymentDTO, authId), authId);
+            Long orderId = completeOrder(paymentDTO, authId);
+
+            // 주문완료 이벤트 저장. (장바구니에서 결제한 상품 차감)
+            outboxEventRecorder.record(new OrderCompletedEvent(orderId, authId), orderId);
+            return new CompletdOrderInfo(orderId, authId);
         }
     }
 
@@ -331,6 +331,10 @@ public class OrderService {
         Order findOrder = orderRepository.findByOrderNumAndAuthId(authId, paymentDTO.getMerchantUid()).orElseThrow(()
                 -> new PaymentFailException(ErrorCode.ORDER_NOT_FOUND));
 
+        // 재고 예약 확정. (결제 대기 시간이 만료되어 이미 취소 된 주문인 경우 결제 실패)
+        if(!stockReservationService.release(findOrder.getOrderId()))
+            throw new PaymentFailByValidatedOrderStatusException(ErrorCode.PAYMENT_INVALID_ORDER_STATUS);
+
         // 주문 상태 변경.
         findOrder.payOrder(paymentDTO.getImpUid());
 
@@ -342,6 +346,8 @@ public class OrderService {
                 .payStatus(paymentDTO.getPayStatus())
                 .payAmount(paymentDTO.getPaymentAmount())
                 .orderName(paymentDTO.getName())
+                .cardName(paymentDTO.getCardName())
+                .cardNum(paymentDTO.getCardNum())
                 .build();
 
         //결제시, 상품금액의 10퍼센트 마일리지 적립.
@@ -361,10 +367,14 @@ public class OrderService {
      */
     @Transactional(rollbackFor = {Exception.class, Error.class})
     public void deleteTempOrder(String orderNum, String authId){
-        orderRepository.findByOrderNumAndAuthId(orderNum, authId).ifPresent(order -> {
+        orderRepository.findByOrderNumAndAuthId(authId, orderNum).ifPresent(order -> {
             if(order.getOrderStatus() == OrderStatus.ORDER_TEMP){
-                mileageService.deleteMileage(order.getOrderNum()); // 마일리지 삭제.
-                order.cancelOrder(); // 상품 재고량 복구.
+                // 결제 대기 시간이 만료 된 주문은 재고량, 마일리지가 이미 복구 되었으므로 주문만 삭제.
+                if(stockReservationService.release(order.getOrderId())){
+                    mileageService.deleteMileage(order.getOrderNum()); // 마일리지 삭제.
+                    order.cancelOrder();
+                    restoreStock(order); // 상품 재고량 복구.
+                }
                 orderRepository.delete(order);
             }else{
                 log.error("결제 취소시, 임시상태 주문을 삭제하는데 실패하였습니다.");
@@ -385,10 +395,129 @@ public class OrderService {
         List<Order> findTempOrders = orderRepository.getOrderIdsByAuthId(authId, OrderStatus.ORDER_TEMP);
         if(!findTempOrders.isEmpty()){
             for(Order order: findTempOrders){
-                mileageService.deleteMileage(order.getOrderNum()); // 마일리지 삭제.
-                order.cancelOrder(); // 상품 재고량 복구.
+                // 결제 대기 시간이 만료 된 주문은 재고량, 마일리지가 이미 복구 되었으므로 주문만 삭제.
+                if(stockReservationService.release(order.getOrderId())){
+                    mileageService.deleteMileage(order.getOrderNum()); // 마일리지 삭제.
+                    order.cancelOrder();
+                    restoreStock(order); // 상품 재고량 복구.
+                }
                 orderRepository.delete(order);
             }
         }
     }
+
+    /**
+     * 주문 상품 요청 리스트를 주문 상품 도메인 리스트로 변환하는 메소드.
+     * 주문 상품 마다 카테고리, 상품, 사이즈를 조회하면 주문 상품 수의 3배 만큼 쿼리가 실행되므로,
+     * 카테고리(아이디), 의상/잡화 상품(아이디), 상품 사이즈(상품 아이디) 를 각각 한번에 조회한 뒤 주문 상품 요청 순서대로 검증합니다.
+     * (주문 상품 수와 상관없이 최대 4번 조회합니다.)
+     * @param orderLineRequests 주문 상품 요청 리스트.
+     * @return List<OrderItem>
+     */
+    private List<OrderItem> resolveOrderItems(List<OrderLineRequest> orderLineRequests){
+        Map<Long, Category> categories = categoryRepository.findAllById(orderLineRequests.stream()
+                        .map(OrderLineRequest::getCategoryId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Category::getCategoryId, Function.identity()));
+
+        // findItem 의 카테고리를 확인 해서 분기 처리가 필요하다.(카테고리 추가 후 로직 변경 필요.)
+        Set<Long> clothesIds = new HashSet<>();
+        Set<Long> accessoryIds = new HashSet<>();
+        for(OrderLineRequest orderLineRequest : orderLineRequests){
+            Category category = categories.get(orderLineRequest.getCategoryId());
+            if(category == null || orderLineRequest.getItemId() == null)
+                continue;
+            if(category.getCategoryCode().getCode() == CategoryCode.CLOTHES.getCode())
+                clothesIds.add(orderLineRequest.getItemId());
+            else if(category.getCategoryCode().getCode() == CategoryCode.ACCESSORY.getCode())
+                accessoryIds.add(orderLineRequest.getItemId());
+        }
+
+        Map<Long, Clothes> clothes = clothesIds.isEmpty() ? Map.of() : clothesRepository.findAllById(clothesIds)
+                .stream()
+                .collect(Collectors.toMap(Item::getItemId, Function.identity()));
+        Map<Long, Accessory> accessories = accessoryIds.isEmpty() ? Map.of() : accessoryRepository.findAllById(accessoryIds)
+                .stream()
+                .collect(Collectors.toMap(Item::getItemId, Function.identity()));
+
+        // 상품 아이디, 사이즈 라벨 별 상품 사이즈.
+        Set<Long> itemIds = new HashSet<>(clothes.keySet());
+        itemIds.addAll(accessories.keySet());
+        Map<Long, Map<SizeLabel, ItemSize>> itemSizes = new HashMap<>();
+        if(!itemIds.isEmpty()){
+            for(ItemSize itemSize : itemSizeRepository.getItemSizesByItemIds(itemIds)){
+                itemSizes.computeIfAbsent(itemSize.getItem().getItemId(), itemId -> new HashMap<>())
+                        .put(itemSize.getSizeLabel(), itemSize);
+            }
+        }
+
+        return orderLineRequests
+                .stream()
+                .map(orderLineRequest -> {
+                    Category findCategory = Optional.ofNullable(categories.get(orderLineRequest.getCategoryId())).orElseThrow(() ->
+                            new CategoryNotFoundException(ErrorCode.ENTITY_NOT_FOUND));
+
+                    Item item = null;
+                    if(findCategory.getCategoryCode().getCode() == CategoryCode.CLOTHES.getCode()) {
+                        // clothes 상품인 경우.
+                        item = Optional.ofNullable(clothes.get(orderLineRequest.getItemId())).orElseThrow(()
+                                -> new ItemNotFoundException(ErrorCode.ENTITY_NOT_FOUND));
+                    }else if(findCategory.getCategoryCode().getCode() == CategoryCode.ACCESSORY.getCode()){
+                        // accessory 상품인 경우.
+                        item = Optional.ofNullable(accessories.get(orderLineRequest.getItemId())).orElseThrow(()
+                                -> new ItemNotFoundException(ErrorCode.ENTITY_NOT_FOUND));
+                    }else{
+                        // 그외의 상품인 경우.
+                        throw new OrderFailException("주문 가능한 상품이 아닙니다.", ErrorCode.INVALID_ORDER_REQUEST_INPUT_VALUE);
+                    }
+
+                    ItemSize itemSize = Optional.ofNullable(itemSizes.getOrDefault(item.getItemId(), Map.of()).get(orderLineRequest.getSize()))
+                            .orElseThrow(() -> new ItemSizeNotFoundException("주문 가능한 상품 사이즈가 아닙니다.", ErrorCode.ENTITY_NOT_FOUND));
+
+                    return new OrderItem(orderLineRequest.getOrderQuantity(), item, itemSize);
+                }).collect(Collectors.toList());
+    }
+
+    /**
+     * 주문의 결제 할 금액을 반환하는 메소드.
+     * @param order 주문 도메인.
+     * @return long 주문 상품 금액 + 배송비 - 사용한 마일리지.
+     */
+    private long getPayableAmount(Order order){
+        fillAmount(order);
+        return order.getPayableAmount();
+    }
+
+    /**
+     * 주문 금액 정보가 없는 주문(금액 정보를 저장하기 전에 생성 된 주문) 의 금액 정보를 계산하는 메소드.
+     * OrderAmountBackfillRunner 로 채우기 전에 조회 된 주문에만 사용 된 마일리지를 조회합니다.
+     * @param order 주문 도메인.
+     */
+    private void fillAmount(Order order){
+        if(order.hasAmount())
+            return;
+
+        MileageDTO mileage = mileageService.getMileageByOrderNum(order.getOrderNum(), MileageContent.USED_MILEAGE_DEDUCTION);
+        order.calculateAmount(-mileage.getMileagePoint());
+    }
+
+    /**
+     * 취소 된 주문의 주문 상품 수량만큼 재고량을 복구하는 메소드.
+     * @param order 취소 된 주문 도메인.
+     */
+    private void restoreStock(Order order){
+        itemStockService.increaseStocks(toStockLines(order.getOrderItems()));
+    }
+
+    /**
+     * 주문 상품을 재고량 변경 정보로 변환하는 메소드.
+     * 교착 상태를 피하기 위한 row lock 순서는 ItemStockService 에서 맞춥니다.
+     */
+    private List<StockLine> toStockLines(List<OrderItem> orderItems){
+        return orderItems.stream()
+                .map(orderItem -> StockLine.of(orderItem.getItem().getItemId(), orderItem.getItemSize().getItemSizeId(), orderItem.getOrderQuantity()))
+                .collect(Collectors.toList());
+    }
 }
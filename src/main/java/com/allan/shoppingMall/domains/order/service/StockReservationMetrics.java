@@ -0,0 +1,63 @@
+package com.allan.shoppingMall.domains.order.service;
+
+import com.allan.shoppingMall.domains.item.domain.item.ItemSizeRepository;
+import com.allan.shoppingMall.domains.item.domain.item.ItemSizeStockView;
+import com.allan.shoppingMall.domains.order.domain.ReservedStockView;
+import com.allan.shoppingMall.domains.order.domain.StockReservationRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 사이즈 별 예약 재고량, 주문 가능 재고량 metric.
+ * item.stock.reserved: 결제 대기 중인 주문이 예약한 수량.
+ * item.stock.available: 주문 가능한 재고량. (예약 수량은 이미 차감 된 ItemSize 재고량)
+ * 값은 StockReservationSweeper 실행시 갱신합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StockReservationMetrics {
+
+    private final StockReservationRepository stockReservationRepository;
+    private final ItemSizeRepository itemSizeRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, StockGauge> gauges = new ConcurrentHashMap<>();
+
+    @Transactional(readOnly = true)
+    public void refresh(){
+        Map<Long, Long> reservedQuantities = stockReservationRepository.sumQuantityByItemSize()
+                .stream()
+                .collect(Collectors.toMap(ReservedStockView::getItemSizeId, ReservedStockView::getQuantity));
+
+        for(ItemSizeStockView itemSize : itemSizeRepository.findAllStockQuantities()){
+            StockGauge gauge = gauges.computeIfAbsent(itemSize.getItemSizeId(), this::register);
+            gauge.reserved = reservedQuantities.getOrDefault(itemSize.getItemSizeId(), 0l);
+            gauge.available = itemSize.getStockQuantity() == null ? 0l : itemSize.getStockQuantity();
+        }
+    }
+
+    private StockGauge register(Long itemSizeId){
+        StockGauge gauge = new StockGauge();
+        Gauge.builder("item.stock.reserved", gauge, stockGauge -> stockGauge.reserved)
+                .tag("itemSizeId", String.valueOf(itemSizeId))
+                .description("결제 대기 중인 주문이 예약한 재고량")
+                .register(meterRegistry);
+        Gauge.builder("item.stock.available", gauge, stockGauge -> stockGauge.available)
+                .tag("itemSizeId", String.valueOf(itemSizeId))
+                .description("주문 가능한 재고량")
+                .register(meterRegistry);
+        return gauge;
+    }
+
+    private static class StockGauge {
+        private volatile long reserved;
+        private volatile long available;
+    }
+}
@@ -0,0 +1,120 @@
+package com.allan.shoppingMall.domains.order.service;
+
+import com.allan.shoppingMall.domains.delivery.domain.DeliveryStatus;
+import com.allan.shoppingMall.domains.item.domain.model.StockLine;
+import com.allan.shoppingMall.domains.item.service.ItemStockService;
+import com.allan.shoppingMall.domains.mileage.service.MileageService;
+import com.allan.shoppingMall.domains.order.domain.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * '임시주문' 상태 주문의 재고 예약을 관리하는 서비스단.
+ *
+ * 주문시 차감한 재고량은 결제 완료 전까지 만료 시간이 있는 예약(StockReservation) 으로 기록하며,
+ * 결제 완료, 주문 취소시 예약을 삭제합니다. 결제되지 않고 만료 된 예약은 releaseExpiredReservations() 에서
+ * 주문 마다 cancelOrder(), delete 를 호출하지 않고, 상품 사이즈 별 합계와 bulk 쿼리로 한번에 복구합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockReservationService {
+
+    private final StockReservationRepository stockReservationRepository;
+    private final OrderRepository orderRepository;
+    private final MileageService mileageService;
+    private final ItemStockService itemStockService;
+
+    // 재고 예약 유지 시간.(분)
+    @Value("${order.reservation.ttl-minutes:30}")
+    private long reservationTtlMinutes = 30;
+
+    /**
+     * 주문 상품 마다 재고 예약을 저장하는 메소드.
+     * @param order 저장 된 주문 도메인.
+     */
+    @Transactional(rollbackFor = {Exception.class, Error.class})
+    public void reserve(Order order){
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(reservationTtlMinutes);
+        List<StockReservation> reservations = order.getOrderItems()
+                .stream()
+                .map(orderItem -> StockReservation.builder()
+                        .orderId(order.getOrderId())
+                        .itemId(orderItem.getItem().getItemId())
+                        .itemSizeId(orderItem.getItemSize().getItemSizeId())
+                        .quantity(orderItem.getOrderQuantity())
+                        .expiresAt(expiresAt)
+                        .build())
+                .collect(Collectors.toList());
+
+        stockReservationRepository.saveAll(reservations);
+    }
+
+    /**
+     * 결제 완료, 주문 취소시 주문의 재고 예약을 삭제하는 메소드.
+     * 만료 처리와 동시에 호출 될 수 있으므로, 삭제 된 예약이 없는 경우 최신 주문 상태로 이미 만료 처리 되었는지 확인합니다.
+     * @param orderId 주문 도메인 아이디.
+     * @return boolean 호출한 쪽에서 주문을 계속 처리 할 수 있는지 여부. (만료 처리로 이미 취소 된 주문인 경우 false)
+     */
+    @Transactional(rollbackFor = {Exception.class, Error.class})
+    public boolean release(Long orderId){
+        if(stockReservationRepository.deleteAllByOrderId(orderId) > 0)
+            return true;
+
+        return orderRepository.lockOrderStatus(orderId)
+                .map(orderStatus -> !OrderStatus.ORDER_CANCEL.name().equals(orderStatus))
+                .orElse(false);
+    }
+
+    /**
+     * 만료 된 재고 예약을 복구하는 메소드.
+     * 1) 만료 된 예약을 조회 (row lock)
+     * 2) '임시주문' 상태인 주문만 '주문취소' 로 변경, 배송 취소, 사용한 마일리지 삭제
+     * 3) 취소 된 주문의 예약 수량을 상품 사이즈 별로 합산하여 재고량 복구 (상품 사이즈 아이디 순 -> 상품 아이디 순)
+     * 4) 예약 삭제
+     * @param now 기준 시간.
+     * @param batchSize 한번에 처리 할 예약 수.
+     * @return int 처리한 예약 수.
+     */
+    @Transactional(rollbackFor = {Exception.class, Error.class})
+    public int releaseExpiredReservations(LocalDateTime now, int batchSize){
+        List<StockReservation> expiredReservations = stockReservationRepository.findExpiredReservations(now, PageRequest.of(0, batchSize));
+        if(expiredReservations.isEmpty())
+            return 0;
+
+        Set<Long> orderIds = expiredReservations.stream()
+                .map(StockReservation::getOrderId)
+                .collect(Collectors.toSet());
+
+        orderRepository.changeOrderStatus(orderIds, OrderStatus.ORDER_TEMP, OrderStatus.ORDER_CANCEL);
+        Set<Long> cancelledOrderIds = new HashSet<>(orderRepository.findOrderIdsByOrderStatus(orderIds, OrderStatus.ORDER_CANCEL));
+
+        if(!cancelledOrderIds.isEmpty()){
+            orderRepository.changeDeliveryStatusByOrderIds(cancelledOrderIds, DeliveryStatus.DELIVERY_CANCEL);
+            mileageService.deleteMileageByOrderIds(cancelledOrderIds);
+        }
+
+        // 상품 사이즈 별 합산과 row lock 순서(상품 사이즈 -> 상품) 는 ItemStockService 에서 맞춥니다.
+        List<StockLine> stockLines = expiredReservations.stream()
+                .filter(reservation -> cancelledOrderIds.contains(reservation.getOrderId()))
+                .map(reservation -> StockLine.of(reservation.getItemId(), reservation.getItemSizeId(), reservation.getQuantity()))
+                .collect(Collectors.toList());
+        if(!stockLines.isEmpty())
+            itemStockService.increaseStocks(stockLines);
+
+        stockReservationRepository.deleteAllByReservationIds(expiredReservations.stream()
+                .map(StockReservation::getReservationId)
+                .collect(Collectors.toList()));
+
+        log.info("StockReservationService released reservations: " + expiredReservations.size() + ", cancelled orders: " + cancelledOrderIds.size());
+        return expiredReservations.size();
+    }
+}
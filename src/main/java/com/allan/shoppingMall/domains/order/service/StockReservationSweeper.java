@@ -0,0 +1,40 @@
+package com.allan.shoppingMall.domains.order.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제되지 않고 만료 된 '임시주문' 의 재고 예약을 주기적으로 복구하는 클래스 입니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockReservationSweeper {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final StockReservationService stockReservationService;
+    private final StockReservationMetrics stockReservationMetrics;
+
+    /**
+     * 1분 마다 만료 된 재고 예약을 100 건씩 나누어 복구하고, 재고량 metric 을 갱신합니다.
+     * @return int 복구한 예약 수.
+     */
+    @Scheduled(fixedDelay = 60000)
+    public int sweep(){
+        LocalDateTime now = LocalDateTime.now();
+        int released = 0;
+        int count;
+        do {
+            count = stockReservationService.releaseExpiredReservations(now, BATCH_SIZE);
+            released += count;
+        } while(count == BATCH_SIZE);
+
+        stockReservationMetrics.refresh();
+        return released;
+    }
+}
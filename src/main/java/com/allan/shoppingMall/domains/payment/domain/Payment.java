@@ -59,13 +59,22 @@ public class Payment extends BaseEntity {
     @Column(name= "discount_amount")
     private Long discountAmount;
 
+    // 카드 이름. (카드 결제인 경우, 결제 완료시 iamport api 에서 조회한 값)
+    @Column(name = "card_name")
+    private String cardName;
+
+    // 카드 번호. (카드 결제인 경우, 결제 완료시 iamport api 에서 조회한 값)
+    @Column(name = "card_num")
+    private String cardNum;
+
     @PrePersist
     public void setUp(){
         this.cancelAmount = 0l;
     }
 
     @Builder
-    public Payment(String paymentNum, String orderNum, String payMethod, Long payAmount, String payStatus, String orderName, Long discountAmount) {
+    public Payment(String paymentNum, String orderNum, String payMethod, Long payAmount, String payStatus, String orderName, Long discountAmount,
+                   String cardName, String cardNum) {
         this.paymentNum = paymentNum;
         this.orderNum = orderNum;
         this.payMethod = payMethod;
@@ -73,6 +82,16 @@ public class Payment extends BaseEntity {
         this.payStatus = payStatus;
         this.orderName = orderName;
         this.discountAmount = discountAmount;
+        this.cardName = cardName;
+        this.cardNum = cardNum;
+    }
+
+    /**
+     * 주문 상세 페이지에 표시 할 결제 정보가 모두 저장 되어 있는지 확인하는 메소드.
+     * (카드 정보를 저장하기 전에 결제 된 카드 결제는 iamport api 로 조회합니다.)
+     */
+    public boolean hasDetail(){
+        return !"card".equals(this.payMethod) || this.cardNum != null;
     }
 
     /**
@@ -37,6 +37,9 @@ public class PaymentDTO {
     // 사용한 마일리지.
     Long mileagePoint;
 
+    // 결제 정보 조회 지연 여부. (Iamport 응답이 늦은 경우, 결제 방식 없이 주문시 저장한 금액만 전달합니다.)
+    boolean delayed;
+
     @Builder
     public PaymentDTO(String payMethod, Long totalAmount, Long itemAmount, Long deliveryAmount) {
         setPayMethod(payMethod);
@@ -46,7 +49,7 @@ public class PaymentDTO {
     }
 
     private void setPayMethod(String payMethod){
-        if(payMethod.equals("card"))
+        if("card".equals(payMethod))
             this.payMethod = "카드결제";
     }
 
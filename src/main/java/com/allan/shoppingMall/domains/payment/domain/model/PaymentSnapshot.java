@@ -0,0 +1,48 @@
+package com.allan.shoppingMall.domains.payment.domain.model;
+
+import com.allan.shoppingMall.domains.payment.domain.Payment;
+import lombok.Getter;
+
+import java.io.Serializable;
+
+/**
+ * 결제 완료 된 결제 정보 중 주문 상세 페이지에 표시하는 정보를 보관하는 Object.
+ * 결제 완료 후에는 바뀌지 않는 값이므로, PaymentDetailCache 에 보관하여 Iamport api 를 다시 호출하지 않습니다.
+ * (PaymentDTO 는 주문 금액 정보를 추가로 설정하므로, 캐시에는 변경 할 수 없는 이 Object 를 보관합니다.)
+ */
+@Getter
+public class PaymentSnapshot implements Serializable {
+
+    private final String payMethod;
+    private final String cardName;
+    private final String cardNum;
+    private final Long payAmount;
+
+    public PaymentSnapshot(String payMethod, String cardName, String cardNum, Long payAmount) {
+        this.payMethod = payMethod;
+        this.cardName = cardName;
+        this.cardNum = cardNum;
+        this.payAmount = payAmount;
+    }
+
+    public static PaymentSnapshot of(Payment payment){
+        return new PaymentSnapshot(payment.getPayMethod(), payment.getCardName(), payment.getCardNum(), payment.getPayAmount());
+    }
+
+    /**
+     * 사용자에게 전달 할 결제 정보 Object 로 변환하는 메소드.
+     * @return PaymentDTO
+     */
+    public PaymentDTO toPaymentDTO(){
+        PaymentDTO payment = PaymentDTO.builder()
+                .payMethod(payMethod)
+                .totalAmount(payAmount)
+                .build();
+        // card 결제정보.
+        if("card".equals(payMethod)){
+            payment.setCardInfo(cardNum, cardName);
+            payment.setCardName(cardName);
+        }
+        return payment;
+    }
+}
@@ -18,14 +18,19 @@ public class PaymentIamportDTO {
     private String payStatus;
     private String payMethod;
     private String name;
+    private String cardName; // 카드 결제인 경우 카드 이름.
+    private String cardNum; // 카드 결제인 경우 카드 번호.
 
     @Builder
-    public PaymentIamportDTO(Long paymentAmount, String impUid, String merchantUid, String payStatus, String payMethod, String name) {
+    public PaymentIamportDTO(Long paymentAmount, String impUid, String merchantUid, String payStatus, String payMethod, String name,
+                             String cardName, String cardNum) {
         this.paymentAmount = paymentAmount;
         this.impUid = impUid;
         this.merchantUid = merchantUid;
         this.payStatus = payStatus;
         this.payMethod = payMethod;
         this.name = name;
+        this.cardName = cardName;
+        this.cardNum = cardNum;
     }
 }
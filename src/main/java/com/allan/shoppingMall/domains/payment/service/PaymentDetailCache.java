@@ -0,0 +1,65 @@
+package com.allan.shoppingMall.domains.payment.service;
+
+import com.allan.shoppingMall.domains.payment.domain.model.PaymentSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+/**
+ * 결제번호(imp_uid) 로 결제 완료 된 결제 정보(PaymentSnapshot) 를 조회하는 캐시 클래스 입니다.
+ * 결제 완료 된 결제 정보는 바뀌지 않으므로 만료 시간 없이 paymentDetailCaching 캐시(LRU) 에 보관하며,
+ * 환불(PaymentService.refundPayment) 한 경우에만 제거합니다. (캐시 설정은 CacheConfig 클래스를 참고 해 주세요.)
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentDetailCache {
+
+    public static final String CACHE_NAME = "paymentDetailCaching";
+
+    private final CacheManager cacheManager;
+
+    /**
+     * 결제 정보를 조회하는 메소드.
+     * @param paymentNum 결제번호.
+     * @return Optional<PaymentSnapshot> 캐시에 보관 된 결제 정보.
+     */
+    public Optional<PaymentSnapshot> get(String paymentNum){
+        return Optional.ofNullable(getCache().get(paymentNum, PaymentSnapshot.class));
+    }
+
+    /**
+     * 결제 정보를 캐시에 저장하는 메소드.
+     * @param paymentNum 결제번호.
+     * @param snapshot 결제 완료 된 결제 정보.
+     */
+    public void put(String paymentNum, PaymentSnapshot snapshot){
+        getCache().put(paymentNum, snapshot);
+    }
+
+    /**
+     * 결제 정보를 캐시에서 제거하는 메소드.
+     * 트랜잭션 안에서 호출 된 경우, 커밋 전에 다른 요청이 이전 결제 정보를 다시 저장 할 수 있으므로 커밋 후 한 번 더 제거합니다.
+     * @param paymentNum 결제번호.
+     */
+    public void evict(String paymentNum){
+        getCache().evict(paymentNum);
+        if(!TransactionSynchronizationManager.isSynchronizationActive())
+            return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                getCache().evict(paymentNum);
+            }
+        });
+    }
+
+    private Cache getCache(){
+        return cacheManager.getCache(CACHE_NAME);
+    }
+}
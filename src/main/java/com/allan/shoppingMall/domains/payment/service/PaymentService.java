@@ -5,6 +5,7 @@ import com.allan.shoppingMall.common.exception.PaymentNotFoundException;
 import com.allan.shoppingMall.common.exception.order.RefundFailException;
 import com.allan.shoppingMall.domains.payment.domain.PaymentRepository;
 import com.allan.shoppingMall.domains.payment.domain.model.PaymentDTO;
+import com.allan.shoppingMall.domains.payment.domain.model.PaymentSnapshot;
 import com.google.gson.annotations.SerializedName;
 import com.siot.IamportRestClient.IamportClient;
 import com.siot.IamportRestClient.exception.IamportResponseException;
@@ -16,12 +17,15 @@ import com.siot.IamportRestClient.response.PaymentCancelDetail;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import javax.annotation.PostConstruct;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 결제 도메인 서비스단 코드입니다.(IamPort api 에 의존하고 있습니다.)
@@ -31,7 +35,10 @@ import java.util.Arrays;
 @Slf4j
 public class PaymentService {
 
+    private static final String PAID_STATUS = "paid";
+
     private PaymentRepository paymentRepository;
+    private PaymentDetailCache paymentDetailCache;
     private IamportClient api;
 
     @Value("${payment.iamport.apiKey}")
@@ -41,8 +48,9 @@ public class PaymentService {
     private String apiSecret;
 
     @Autowired(required = false)
-    public PaymentService(PaymentRepository paymentRepository) {
+    public PaymentService(PaymentRepository paymentRepository, PaymentDetailCache paymentDetailCache) {
         this.paymentRepository = paymentRepository;
+        this.paymentDetailCache = paymentDetailCache;
     }
 
     /**
@@ -51,8 +59,9 @@ public class PaymentService {
      * 운용시에도 잘 동작하는 지 테스트 요망.
      */
     @Autowired(required = false)
-    public PaymentService(PaymentRepository paymentRepository, IamportClient client) {
+    public PaymentService(PaymentRepository paymentRepository, PaymentDetailCache paymentDetailCache, IamportClient client) {
         this.paymentRepository = paymentRepository;
+        this.paymentDetailCache = paymentDetailCache;
         this.api = client;
     }
 
@@ -119,6 +128,8 @@ public class PaymentService {
             if(cancelResponse == null){
                 throw new RefundFailException(payment_response.getMessage(), ErrorCode.IAMPORT_ERROR);
             }else{
+                // 환불 된 결제 정보는 캐시에서 제거합니다.
+                paymentDetailCache.evict(impUid);
                 Payment finalCacelResponse1 = cancelResponse;
                 paymentRepository.findByPaymentNum(impUid).ifPresent(payment ->
                 {
@@ -136,10 +147,24 @@ public class PaymentService {
     }
 
     /**
+     * 결제 정보를 조회하는 메소드.
+     * PaymentDetailCache, 결제 완료시 저장한 결제 도메인 순서로 조회하며, 둘 다 없는 경우에만 iamport api 로 조회합니다.
      * @param impUid
      * @return paymentDTO 사용자에게 결제 정보를 전달하기 위한 Object
      */
     public PaymentDTO getPamentDetail(String impUid){
+        if(impUid != null){
+            Optional<PaymentSnapshot> snapshot = paymentDetailCache.get(impUid);
+            if(snapshot.isEmpty()){
+                snapshot = paymentRepository.findByPaymentNum(impUid)
+                        .filter(com.allan.shoppingMall.domains.payment.domain.Payment::hasDetail)
+                        .map(PaymentSnapshot::of);
+                snapshot.ifPresent(paymentSnapshot -> paymentDetailCache.put(impUid, paymentSnapshot));
+            }
+            if(snapshot.isPresent())
+                return snapshot.get().toPaymentDTO();
+        }
+
         Payment iamportPayment = null;
         PaymentDTO payment = null;
         try{
@@ -151,19 +176,26 @@ public class PaymentService {
         }
 
         if(iamportPayment != null){
-            payment = PaymentDTO.builder()
-                    .payMethod(iamportPayment.getPayMethod())
-                    .totalAmount(iamportPayment.getAmount().longValue())
-                    .build();
-            // card 결제정보.
-            if(iamportPayment.getPayMethod().equals("card")){
-                payment.setCardInfo(iamportPayment.getCardNumber(), iamportPayment.getCardName());
-                payment.setCardName(iamportPayment.getCardName());
-            }
+            PaymentSnapshot snapshot = new PaymentSnapshot(iamportPayment.getPayMethod(), iamportPayment.getCardName(),
+                    iamportPayment.getCardNumber(), iamportPayment.getAmount().longValue());
+            payment = snapshot.toPaymentDTO();
 
+            // 결제 완료 된 결제 정보만 캐시에 저장합니다.
+            if(PAID_STATUS.equals(iamportPayment.getStatus()))
+                paymentDetailCache.put(impUid, snapshot);
         }
         return payment;
     }
 
+    /**
+     * 결제 정보를 orderDetailExecutor 에서 조회하는 메소드.
+     * 주문 상세 조회시 Iamport api 응답을 기다리는 동안 주문 상품 정보를 조회 할 수 있도록 사용합니다.
+     * @param impUid iamport api 결제 시 제공하는 고유 결제 번호입니다.
+     * @return CompletableFuture<PaymentDTO> 결제 정보 조회 결과.
+     */
+    @Async("orderDetailExecutor")
+    public CompletableFuture<PaymentDTO> getPaymentDetailAsync(String impUid){
+        return CompletableFuture.completedFuture(getPamentDetail(impUid));
+    }
 
 }
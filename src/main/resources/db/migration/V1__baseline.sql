@@ -0,0 +1,288 @@
+-- 스키마 관리 기준점. (flyway 도입 이전, ddl-auto: update 로 생성 되던 스키마)
+-- ddl-auto 로 생성 된 기존 database 는 baseline-on-migrate 로 이 버전을 건너뛰고, V2 부터 적용합니다.
+-- 이후 추가 된 테이블, 컬럼, sequence, index 는 V2 이후 migration 에 있습니다.
+
+-- 회원.
+create table member (
+    member_id bigint generated by default as identity,
+    created_date timestamp not null,
+    updated_date timestamp,
+    created_by varchar(255) not null,
+    updated_by varchar(255),
+    age integer not null,
+    name varchar(255) not null,
+    nick_name varchar(255) not null,
+    auth_id varchar(20) not null,
+    pwd varchar(20) not null,
+    jibun_address varchar(255),
+    road_address varchar(255),
+    post_code varchar(255),
+    detail_address varchar(255) not null,
+    extra_address varchar(255),
+    address varchar(255),
+    gender varchar(255) not null,
+    role varchar(255) not null,
+    email varchar(255) not null,
+    phone varchar(255) not null,
+    date_of_birth varchar(255) not null,
+    primary key (member_id),
+    constraint uk_member_auth_id unique (auth_id)
+);
+
+-- 상품. (SINGLE_TABLE: Clothes, Accessory)
+create table items (
+    dtype varchar(31) not null,
+    item_id bigint generated by default as identity,
+    created_date timestamp not null,
+    updated_date timestamp,
+    created_by varchar(255) not null,
+    updated_by varchar(255),
+    name varchar(255) not null,
+    price bigint not null,
+    item_color varchar(255),
+    stock_quantity bigint not null,
+    eng_name varchar(255),
+    etc varchar(255),
+    primary key (item_id)
+);
+
+-- 상품 사이즈. (SINGLE_TABLE: ClothesSize, AccessorySize)
+create table item_sizes (
+    dtype varchar(31) not null,
+    item_size_id bigint generated by default as identity,
+    created_date timestamp not null,
+    updated_date timestamp,
+    created_by varchar(255) not null,
+    updated_by varchar(255),
+    item_id bigint,
+    clothes_size varchar(255),
+    size_stock_quantiy bigint,
+    back_length double,
+    chest_width double,
+    shoulder_width double,
+    sleeve_length double,
+    waist_width double,
+    heap_width double,
+    bottom_width double,
+    width_length double,
+    height_length double,
+    primary key (item_size_id),
+    constraint fk_item_sizes_item_id foreign key (item_id) references items (item_id)
+);
+
+create table item_images (
+    item_image_id bigint generated by default as identity,
+    created_date timestamp not null,
+    updated_date timestamp,
+    created_by varchar(255) not null,
+    updated_by varchar(255),
+    item_id bigint,
+    image_name varchar(255) not null,
+    image_path varchar(255) not null,
+    image_type varchar(255) not null,
+    image_size bigint not null,
+    primary key (item_image_id),
+    constraint fk_item_images_item_id foreign key (item_id) references items (item_id)
+);
+
+create table item_fabrics (
+    item_fabric_id bigint generated by default as identity,
+    created_date timestamp not null,
+    updated_date timestamp,
+    created_by varchar(255) not null,
+    updated_by varchar(255),
+    item_id bigint,
+    materail_part varchar(255),
+    material_desc varchar(255),
+    primary key (item_fabric_id),
+    constraint fk_item_fabrics_item_id foreign key (item_id) references items (item_id)
+);
+
+create table item_details (
+    item_detail_id bigint generated by default as identity,
+    created_date timestamp not null,
+    updated_date timestamp,
+    created_by varchar(255) not null,
+    updated_by varchar(255),
+    item_id bigint,
+    detail_desc varchar(255),
+    primary key (item_detail_id),
+    constraint fk_item_details_item_id foreign key (item_id) references items (item_id)
+);
+
+create table model_sizes (
+    model_size_id bigint generated by default as identity,
+    created_date timestamp not null,
+    updated_date timestamp,
+    created_by varchar(255) not null,
+    updated_by varchar(255),
+    item_id bigint,
+    model_shoulder_size double,
+    model_waist_size double,
+    model_heap double,
+    model_height double,
+    model_weight double,
+    primary key (model_size_id),
+    constraint fk_model_sizes_item_id foreign key (item_id) references items (item_id)
+);
+
+-- 카테고리.
+create table categories (
+    category_id bigint generated by default as identity,
+    created_date timestamp not null,
+    updated_date timestamp,
+    name varchar(255),
+    parent_category_id bigint,
+    branch varchar(255) not null,
+    depth integer not null,
+    category_code varchar(255),
+    primary key (category_id),
+    constraint fk_categories_parent_category_id foreign key (parent_category_id) references categories (category_id)
+);
+
+create table category_items (
+    category_item_id bigint generated by default as identity,
+    created_date timestamp not null,
+    updated_date timestamp,
+    item_id bigint,
+    category_id bigint,
+    primary key (category_item_id),
+    constraint fk_category_items_item_id foreign key (item_id) references items (item_id),
+    constraint fk_category_items_category_id foreign key (category_id) references categories (category_id)
+);
+
+-- 장바구니.
+create table cart (
+    cart_id bigint generated by default as identity,
+    created_date timestamp not null,
+    updated_date timestamp,
+    created_by varchar(255) not null,
+    updated_by varchar(255),
+    member_id bigint,
+    cookie_id varchar(255),
+    primary key (cart_id),
+    constraint uk_cart_member_id unique (member_id),
+    constraint uk_cart_cookie_id unique (cookie_id),
+    constraint fk_cart_member_id foreign key (member_id) references member (member_id)
+);
+
+create table cart_item (
+    cart_item_id bigint generated by default as identity,
+    created_date timestamp not null,
+    updated_date timestamp,
+    created_by varchar(255) not null,
+    updated_by varchar(255),
+    cart_id bigint,
+    item_id bigint,
+    cart_quantity bigint not null,
+    item_size varchar(255),
+    primary key (cart_item_id),
+    constraint fk_cart_item_cart_id foreign key (cart_id) references cart (cart_id),
+    constraint fk_cart_item_item_id foreign key (item_id) references items (item_id)
+);
+
+-- 배송.
+create table delivery (
+    delivery_id bigint generated by default as identity,
+    created_date timestamp not null,
+    updated_date timestamp,
+    created_by varchar(255) not null,
+    updated_by varchar(255),
+    delivery_status varchar(255) not null,
+    jibun_address varchar(255),
+    road_address varchar(255),
+    post_code varchar(255),
+    detail_address varchar(255) not null,
+    extra_address varchar(255),
+    address varchar(255),
+    recipient varchar(255) not null,
+    recipient_phone varchar(255) not null,
+    delivery_memo varchar(255) not null,
+    delivery_amount bigint,
+    primary key (delivery_id)
+);
+
+-- 주문.
+create table orders (
+    order_id bigint generated by default as identity,
+    created_date timestamp not null,
+    updated_date timestamp,
+    created_by varchar(255) not null,
+    updated_by varchar(255),
+    member_id bigint,
+    order_status varchar(255) not null,
+    delivery_id bigint,
+    orderer_name varchar(255) not null,
+    orderer_phone varchar(255) not null,
+    orderer_email varchar(255) not null,
+    order_num varchar(255),
+    payment_num varchar(255),
+    primary key (order_id),
+    constraint uk_orders_order_num unique (order_num),
+    constraint uk_orders_payment_num unique (payment_num),
+    constraint fk_orders_member_id foreign key (member_id) references member (member_id),
+    constraint fk_orders_delivery_id foreign key (delivery_id) references delivery (delivery_id)
+);
+
+-- 주문 상품. (SINGLE_TABLE)
+create table order_items (
+    dtype varchar(31) not null,
+    order_item_id bigint generated by default as identity,
+    created_date timestamp not null,
+    updated_date timestamp,
+    created_by varchar(255) not null,
+    updated_by varchar(255),
+    order_quantity bigint not null,
+    order_item_amount bigint not null,
+    order_id bigint,
+    item_id bigint,
+    item_size_id bigint,
+    primary key (order_item_id),
+    constraint fk_order_items_order_id foreign key (order_id) references orders (order_id),
+    constraint fk_order_items_item_id foreign key (item_id) references items (item_id),
+    constraint fk_order_items_item_size_id foreign key (item_size_id) references item_sizes (item_size_id)
+);
+
+-- 결제.
+create table payments (
+    payment_id bigint generated by default as identity,
+    created_date timestamp not null,
+    updated_date timestamp,
+    created_by varchar(255) not null,
+    updated_by varchar(255),
+    payment_num varchar(255) not null,
+    order_num varchar(255) not null,
+    pay_method varchar(255) not null,
+    pay_amount bigint not null,
+    pay_status varchar(255) not null,
+    order_name varchar(255) not null,
+    cancel_amount bigint not null,
+    discount_amount bigint,
+    primary key (payment_id),
+    constraint uk_payments_payment_num unique (payment_num),
+    constraint uk_payments_order_num unique (order_num)
+);
+
+create table refund (
+    refund_id bigint generated by default as identity,
+    created_date timestamp not null,
+    updated_date timestamp,
+    created_by varchar(255) not null,
+    updated_by varchar(255),
+    refund_amount bigint,
+    primary key (refund_id)
+);
+
+-- 마일리지.
+create table mileages (
+    mileage_id bigint generated by default as identity,
+    created_date timestamp not null,
+    updated_date timestamp,
+    created_by varchar(255) not null,
+    updated_by varchar(255) not null,
+    auth_id varchar(255) not null,
+    order_num varchar(255) not null,
+    mileage_content varchar(255) not null,
+    point bigint not null,
+    primary key (mileage_id)
+);
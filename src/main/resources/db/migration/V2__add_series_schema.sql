@@ -0,0 +1,96 @@
+-- V1(baseline) 이후 추가 된 테이블, 컬럼, sequence, index.
+-- flyway 도입 전에 ddl-auto: update 로 이미 생성 되었을 수 있으므로 모두 if not exists 로 생성합니다.
+
+-- 아이디 생성 sequence. (IDENTITY -> SEQUENCE, pooled optimizer)
+-- 기존 row 가 있는 테이블의 sequence 는 애플리케이션 시작시 SequenceAlignmentInitializer 가 최대 아이디 이후로 맞춥니다.
+create sequence if not exists items_seq start with 1 increment by 50;
+create sequence if not exists item_sizes_seq start with 1 increment by 50;
+create sequence if not exists item_images_seq start with 1 increment by 50;
+create sequence if not exists item_fabrics_seq start with 1 increment by 50;
+create sequence if not exists item_details_seq start with 1 increment by 50;
+create sequence if not exists model_sizes_seq start with 1 increment by 50;
+create sequence if not exists cart_items_seq start with 1 increment by 50;
+create sequence if not exists deliveries_seq start with 1 increment by 50;
+create sequence if not exists orders_seq start with 1 increment by 50;
+create sequence if not exists order_items_seq start with 1 increment by 50;
+create sequence if not exists mileages_seq start with 1 increment by 50;
+
+-- 상품 이미지 내용 해시. (같은 이미지는 한 번만 저장)
+alter table item_images add column if not exists content_hash varchar(64);
+create index if not exists idx_item_images_content_hash on item_images (content_hash);
+
+-- 주문 금액 정보. (기존 주문은 OrderAmountBackfillRunner 가 채웁니다.)
+alter table orders add column if not exists item_amount bigint;
+alter table orders add column if not exists delivery_amount bigint;
+alter table orders add column if not exists used_mileage bigint;
+alter table orders add column if not exists payable_amount bigint;
+create unique index if not exists idx_orders_order_num on orders (order_num);
+
+-- 결제 카드 정보.
+alter table payments add column if not exists card_name varchar(255);
+alter table payments add column if not exists card_num varchar(255);
+
+-- 재고 예약.
+create sequence if not exists stock_reservations_seq start with 1 increment by 50;
+create table if not exists stock_reservations (
+    reservation_id bigint not null,
+    created_date timestamp not null,
+    updated_date timestamp,
+    order_id bigint not null,
+    item_id bigint not null,
+    item_size_id bigint not null,
+    quantity bigint not null,
+    expires_at timestamp not null,
+    primary key (reservation_id)
+);
+create index if not exists idx_stock_reservations_expires_at on stock_reservations (expires_at);
+create index if not exists idx_stock_reservations_order_id on stock_reservations (order_id);
+
+-- hot item 재고 차감 journal.
+create sequence if not exists stock_journals_seq start with 1 increment by 50;
+create table if not exists stock_journals (
+    journal_id bigint not null,
+    item_id bigint not null,
+    item_size_id bigint not null,
+    quantity bigint not null,
+    primary key (journal_id)
+);
+
+-- 마일리지 잔액, 보관 마일리지 내역.
+create table if not exists mileage_balances (
+    auth_id varchar(20) not null,
+    balance bigint not null,
+    primary key (auth_id)
+);
+
+create table if not exists mileage_histories (
+    mileage_history_id bigint generated by default as identity,
+    mileage_id bigint not null,
+    auth_id varchar(255) not null,
+    order_num varchar(255) not null,
+    mileage_content varchar(255) not null,
+    point bigint not null,
+    created_date timestamp not null,
+    archived_date timestamp not null,
+    primary key (mileage_history_id)
+);
+create index if not exists idx_mileage_histories_order_num on mileage_histories (order_num);
+
+-- outbox 이벤트.
+create sequence if not exists outbox_events_seq start with 1 increment by 50;
+create table if not exists outbox_events (
+    outbox_event_id bigint not null,
+    created_date timestamp not null,
+    updated_date timestamp,
+    event_type varchar(255) not null,
+    event_key varchar(100) not null,
+    payload varchar(2000) not null,
+    status varchar(255) not null,
+    attempts integer not null,
+    next_attempt_at timestamp not null,
+    published_at timestamp,
+    last_error varchar(500),
+    primary key (outbox_event_id)
+);
+create index if not exists idx_outbox_events_status_next_attempt on outbox_events (status, next_attempt_at);
+create index if not exists idx_outbox_events_type_key on outbox_events (event_type, event_key);
@@ -0,0 +1,12 @@
+-- 자주 실행 되는 조회 쿼리의 index.
+-- ddl-auto: update 로 운영하던 database 에는 이미 생성 되어 있을 수 있으므로 if not exists 로 생성합니다.
+
+-- 회원별 주문 목록 keyset 조회. (member_id = ? order by created_date desc, order_id desc)
+create index if not exists idx_orders_member_created on orders (member_id, created_date, order_id);
+
+-- 회원별, 주문번호별 마일리지 조회.
+create index if not exists idx_mileages_auth_id on mileages (auth_id);
+create index if not exists idx_mileages_order_num on mileages (order_num);
+
+-- 상품 아이디, 사이즈로 상품 사이즈 조회.
+create index if not exists idx_item_sizes_item_size on item_sizes (item_id, clothes_size);
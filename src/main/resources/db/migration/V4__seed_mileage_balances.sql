@@ -0,0 +1,11 @@
+-- 잔액 row 가 없는 회원의 마일리지 잔액을 현재 마일리지 합계로 생성합니다.
+-- 잔액 row 를 처음 마일리지가 변경 될 때 생성하면, 동시에 변경하는 요청 중 하나가 기본키 중복으로 실패하므로 미리 생성합니다.
+-- (이후 가입하는 회원은 가입 마일리지를 적립 할 때 잔액 row 가 생성됩니다.)
+insert into mileage_balances (auth_id, balance)
+select a.auth_id, coalesce((select sum(m.point) from mileages m where m.auth_id = a.auth_id), 0)
+from (
+    select auth_id from member
+    union
+    select distinct auth_id from mileages
+) a
+where not exists (select b.auth_id from mileage_balances b where b.auth_id = a.auth_id);
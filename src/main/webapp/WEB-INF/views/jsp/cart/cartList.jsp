@@ -242,7 +242,7 @@
              htmls += '<div class="modalCartItemWrap">';
              htmls += '  <div class="modalCartItemInfo row">';
              htmls += '      <div class="col-md-2">';
-             htmls += '          <img class="p-1" src="${pageContext.request.contextPath}/image/' + result.itemInfo.profileImgId + '" width="80px" height="80px"/>';
+             htmls += '          <img class="p-1" src="${pageContext.request.contextPath}/image/' + result.itemInfo.profileImgId + '?w=240" width="80px" height="80px"/>';
              htmls += '      </div>';
              htmls += '      <div class="col-md-8 text-start">';
              htmls += '          <p id="modal_cartItem_name">' + result.itemInfo.name + '</p>';
@@ -567,7 +567,7 @@
                     htmls += '<div class="cartItemWrap">';
                     htmls += '  <div class="row cartItem border-top border-bottom m-2" id="cartItem' + cartItem.itemId + '">';
                     htmls += '       <div class="cartItemInfo col-sm-4 row p-0">';
-                    htmls += '           <div class="col-sm-4 py-3"><img class="p-1" src="${pageContext.request.contextPath}/image/' + cartItem.itemProfileImg +  '" width="80px" height="80px"/></div>';
+                    htmls += '           <div class="col-sm-4 py-3"><img class="p-1" src="${pageContext.request.contextPath}/image/' + cartItem.itemProfileImg +  '?w=240" width="80px" height="80px"/></div>';
                     htmls += '           <div class="col-sm-7 py-3 text-start">';
                     htmls += '             <div>상품이름: ' + cartItem.itemName + '</div>';
                     $.each(cartItem.requiredOptions, function(index, requiredOption){
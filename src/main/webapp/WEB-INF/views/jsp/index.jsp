@@ -127,7 +127,7 @@
                                   <!-- Portfolio item 1-->
                                   <div class="clothes-item">
                                       <a class="clothes-link" href="${pageContext.request.contextPath}/item?categoryId=${clothes.categoryId}&itemId=${clothes.clothesId}">
-                                          <img class="img-fluid" src=<c:out value="${pageContext.request.contextPath}/image/${clothes.profileImageIds[0]}" /> alt="..." />
+                                          <img class="img-fluid" src=<c:out value="${pageContext.request.contextPath}/image/${clothes.profileImageIds[0]}?w=480" /> alt="..." />
                                       </a>
                                       <div class="clothes-caption">
                                           <div class="clothes-caption-heading"><c:out value="${clothes.clothesName}(${clothes.clothesColor})" /></div>
@@ -69,7 +69,7 @@
                            <div class="orderItemWrap border mb-2">
                              <div class="row orderItem com-md-12">
                                 <div class="orderProfileImg col-md-2 p-0">
-                                    <img class="p-1" src="${pageContext.request.contextPath}/image/${item.profileImageIds[0]}" width="90px" height="90px"/>
+                                    <img class="p-1" src="${pageContext.request.contextPath}/image/${item.profileImageIds[0]}?w=240" width="90px" height="90px"/>
                                 </div>
                                 <div class="orderInfoWrap col-md-6 text-start mt-1">
                                     <div class="orderInfo_by_orderName_orderNumWrap">
@@ -12,30 +12,11 @@
 		location.href = url;
 	}
 
-    $(document).on('click', '#btnPrev', function(e){
-        e.preventDefault();
-        var url = "#";
-        <c:if test="${pagination.isPrev}">
-            url = "${pageContext.request.contextPath}/myOrder/list?page=${pagination.page} - 1";
-        </c:if>
-
-        location.href = url;
-    });
-
-    $(document).on('click', '#btnPage', function(e){
-        e.preventDefault();
-        var page = $(this).text();
-        console.log("page: " + page);
-        var url = "${pageContext.request.contextPath}/myOrder/list?page=" + page;
-
-        location.href = url;
-    });
-
     $(document).on('click', '#btnNext', function(e){
         e.preventDefault();
         var url = "#"
-        <c:if test="${pagination.isNext}">
-            url = "${pageContext.request.contextPath}/myOrder/list?page=${pagination.page} + 1";
+        <c:if test="${hasNext}">
+            url = "${pageContext.request.contextPath}/myOrder/list?cursor=${nextCursor}";
         </c:if>
 
         location.href = url;
@@ -69,7 +50,7 @@
                            <div class="orderItemWrap border mb-2">
                              <div class="row orderItem com-md-12">
                                 <div class="orderProfileImg col-md-2 p-0">
-                                    <img class="p-1" src="${pageContext.request.contextPath}/image/${list.profileImgId}" width="90px" height="90px"/>
+                                    <img class="p-1" src="${pageContext.request.contextPath}/image/${list.profileImgId}?w=240" width="90px" height="90px"/>
                                 </div>
                                 <div class="orderInfoWrap col-md-6 text-start mt-1">
                                     <div class="orderInfo_by_orderName_orderNumWrap">
@@ -104,13 +85,8 @@
 		<!-- pagination{s} -->
 		<div id="paginationBoxWrap">
 		    <div class="btn-group" role="group" >
-                <c:if test="${pagination.isPrev}">
-                    <button type="button" class="btn btn-dark" id="btnPrev">이전</button>
-                </c:if>
-                <c:forEach begin="${pagination.startPage}" end="${pagination.endPage}" var="idx">
-                    <button type="button" class="btn btn-dark" id="btnPage">${idx}</button>
-                </c:forEach>
-                <c:if test="${pagination.isNext}">
+                <%-- keyset 페이징(cursor) 조회이므로, 다음 페이지 버튼만 표시. --%>
+                <c:if test="${hasNext}">
                     <button type="button" class="btn btn-dark" id="btnNext">다음</button>
                 </c:if>
 		    </div>
@@ -87,10 +87,17 @@
                    <p class="mb-1">결제방식</p>
                    <p class="mb-1">${orderInfo.paymentInfo.payMethod}</p>
                   </div>
+                  <c:if test="${orderInfo.paymentInfo.delayed}">
+                  <div class="deliveryInfoBody col-md-6 p-2 text-start bg-white">
+                   <p class="mb-1">결제사 응답이 지연되어 결제 방식을 불러오지 못했습니다. 잠시 후 다시 확인 해 주세요.</p>
+                  </div>
+                  </c:if>
+                  <c:if test="${!orderInfo.paymentInfo.delayed}">
                   <div class="deliveryInfoBody col-md-6 p-2 text-start bg-white">
                    <p class="mb-1">카드이름: ${orderInfo.paymentInfo.cardName}</p>
                    <p class="mb-1">카드번호: ${orderInfo.paymentInfo.cardNum}</p>
                   </div>
+                  </c:if>
                   <div class="ordererInfo col-md-4 p-2 text-start">
                    <h5>결제금액 정보</h5>
                    <p class="mb-1">상품금액: <fmt:formatNumber type="number" maxFractionDigits="3" value="${orderInfo.paymentInfo.itemAmount}" />원</p>
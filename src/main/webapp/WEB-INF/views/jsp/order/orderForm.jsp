@@ -19,7 +19,7 @@
                             </c:if>
                             <div class="row col-md-12 p-3">
                                 <div class="col-md-3 item_img_wrap p-0">
-                                    <img class="orderItemImg" src="${pageContext.request.contextPath}/image/${orderItem.previewImg}" width="90" height="90" />
+                                    <img class="orderItemImg" src="${pageContext.request.contextPath}/image/${orderItem.previewImg}?w=240" width="90" height="90" />
                                 </div>
                                 <div class="col-md-8 item_info_wrap p-0">
                                     <div class="text-start" style="font-size:16px;"><span>${orderItem.itemName}</span></div>
@@ -357,8 +357,13 @@
                                         "usedMileage": usedMileage
         });
 
+        // 재시도한 주문 요청이 다시 접수되지 않도록, 주문 결과를 받기 전까지 같은 키를 사용합니다.
+        if(!orderIdempotencyKey){
+            orderIdempotencyKey = Date.now() + "_" + Math.random().toString(36).substring(2);
+        }
         var headers = {"Content-Type" : "application/json; charset=UTF-8;"
-              , "X-HTTP-Method-Override" : "POST"};
+              , "X-HTTP-Method-Override" : "POST"
+              , "Idempotency-Key" : orderIdempotencyKey};
         $.ajax({
           url: "${pageContext.request.contextPath}/order"
           , headers : headers
@@ -366,29 +371,57 @@
           , type : 'POST'
           , dataType : 'json'
           , success: function(result){
-              if(result.apiResultMessage === "주문에 성공하였습니다." && result.apiResult === true){
-                // 결제 요청.
-                requestPay(result.orderNum);
-              }else{
-                // order domain create fail
-                if(result.errorResponse.fieldErrors.length < 1){
-                    paymentAlert("알림", result.apiResultMessage + "\n 사유: " + result.errorResponse.errMsg);
-                }
-                else {
-                    $(result.errorResponse.fieldErrors).each(function(){
-                        $('#' + this.field + 'Error').text(this.reason);
-                        $('#' + this.field + 'Error').css("display", "block");
-                    });	//each end
-                }
-              }
+              handleOrderResult(result);
           }
           , error:function(request,status,error){
             console.log("error: " + error);
+            if(request.status === 429){
+                // 주문 접수 큐가 가득 찬 경우.
+                paymentAlert("알림", request.responseJSON.errorResponse.errMsg, "warning");
+                return;
+            }
             paymentAlert("알림", "주문에 실패했습니다.", "warning");
           }
         });
   	});
 
+    // 주문 요청 멱등키.
+    var orderIdempotencyKey = null;
+
+    // 주문 결과 처리 메소드. (주문 처리 중인 경우 접수 번호로 결과를 다시 조회합니다.)
+    function handleOrderResult(result){
+        if(result.apiResultMessage !== "주문을 처리 중입니다."){
+            // 결과를 받은 이후의 주문 요청은 새로운 주문으로 처리합니다.
+            orderIdempotencyKey = null;
+        }
+        if(result.apiResultMessage === "주문에 성공하였습니다." && result.apiResult === true){
+            // 결제 요청.
+            requestPay(result.orderNum);
+        }else if(result.apiResultMessage === "주문을 처리 중입니다." && result.ticketId){
+            $.ajax({
+              url: "${pageContext.request.contextPath}/order/intake/" + result.ticketId + "?awaitMillis=5000"
+              , type : 'GET'
+              , dataType : 'json'
+              , success: handleOrderResult
+              , error:function(request,status,error){
+                console.log("error: " + error);
+                paymentAlert("알림", "주문에 실패했습니다.", "warning");
+              }
+            });
+        }else{
+            // order domain create fail
+            if(result.errorResponse.fieldErrors.length < 1){
+                paymentAlert("알림", result.apiResultMessage + "\n 사유: " + result.errorResponse.errMsg);
+            }
+            else {
+                $(result.errorResponse.fieldErrors).each(function(){
+                    $('#' + this.field + 'Error').text(this.reason);
+                    $('#' + this.field + 'Error').css("display", "block");
+                });	//each end
+            }
+        }
+    }
+
     // 결제 요청 메소드.
   	function requestPay(orderId) {
   	      var IMP = window.IMP;
@@ -423,8 +456,10 @@
           }, function (rsp) { // callback
               // iamport 결제 응답 성공.
               if (rsp.success) {
+                  // 같은 결제에 대한 재요청은 결제 검증을 다시 하지 않도록 결제번호를 멱등키로 사용합니다.
                   var headers = {"Content-Type" : "application/json; charset=UTF-8;"
-                                , "X-HTTP-Method-Override" : "POST"};
+                                , "X-HTTP-Method-Override" : "POST"
+                                , "Idempotency-Key" : "complete_" + rsp.imp_uid};
                   var paramData = JSON.stringify({"imp_uid": rsp.imp_uid,
                                                   "merchant_uid": rsp.merchant_uid
                   });
@@ -100,7 +100,7 @@
                                     <td>
                                         <div class="itemInfoImageWrap row col-md-12 m-0">
                                             <div class="itemImgWrap col-md-2 p-1 m-2">
-                                                <img src="${pageContext.request.contextPath}/image/${orderItem.profileImg}" class="col-md-12"  height="90" width="90" />
+                                                <img src="${pageContext.request.contextPath}/image/${orderItem.profileImg}?w=240" class="col-md-12"  height="90" width="90" />
                                             </div>
                                             <div class="itemInfoWrap col-md-8 p-1 text-start">
                                                 <p class="m-0">${orderItem.name}</p>
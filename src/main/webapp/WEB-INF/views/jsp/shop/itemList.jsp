@@ -39,6 +39,16 @@
 
         location.href = url;
     });
+
+    $(document).on('click', '#btnNextCursor', function(e){
+        e.preventDefault();
+        var url = "#"
+        <c:if test="${hasNext}">
+            url = "${pageContext.request.contextPath}/shop?categoryId=${categoryId}&cursor=${nextCursor}";
+        </c:if>
+
+        location.href = url;
+    });
 </script>
 
 
@@ -73,7 +83,7 @@
                                   <!-- Portfolio item 1-->
                                   <div class="item-item">
                                       <a class="item-link" href="${pageContext.request.contextPath}/item?categoryId=${item.categoryId}&itemId=${item.itemId}">
-                                          <img class="img-fluid" src=<c:out value="${pageContext.request.contextPath}/image/${item.profileImageIds[0]}" /> alt="..." />
+                                          <img class="img-fluid" src=<c:out value="${pageContext.request.contextPath}/image/${item.profileImageIds[0]}?w=480" /> alt="..." />
                                       </a>
                                       <div class="item-caption">
                                           <div class="item-caption-heading"><c:out value="${item.name}(${item.itemColor})" /></div>
@@ -100,15 +110,25 @@
 		<!-- pagination{s} -->
 		<div id="paginationBoxWrap">
 		    <div class="btn-group" role="group" >
-		        <c:if test="${pagination.isPrev}">
-                    <button type="button" class="btn btn-dark" id="btnPrev">이전</button>
-		        </c:if>
-                <c:forEach begin="${pagination.startPage}" end="${pagination.endPage}" var="idx">
-                    <button type="button" class="btn btn-dark" id="btnPage">${idx}</button>
-                </c:forEach>
-                <c:if test="${pagination.isNext}">
-                    <button type="button" class="btn btn-dark" id="btnNext">다음</button>
-                </c:if>
+		        <c:choose>
+		            <c:when test="${!empty pagination}">
+		                <c:if test="${pagination.isPrev}">
+                            <button type="button" class="btn btn-dark" id="btnPrev">이전</button>
+		                </c:if>
+                        <c:forEach begin="${pagination.startPage}" end="${pagination.endPage}" var="idx">
+                            <button type="button" class="btn btn-dark" id="btnPage">${idx}</button>
+                        </c:forEach>
+                        <c:if test="${pagination.isNext}">
+                            <button type="button" class="btn btn-dark" id="btnNext">다음</button>
+                        </c:if>
+		            </c:when>
+		            <c:otherwise>
+		                <%-- keyset 페이징(cursor) 조회시, 다음 페이지 버튼만 표시. --%>
+		                <c:if test="${hasNext}">
+                            <button type="button" class="btn btn-dark" id="btnNextCursor">다음</button>
+		                </c:if>
+		            </c:otherwise>
+		        </c:choose>
 		    </div>
 		</div>
 		<!-- pagination{e} -->
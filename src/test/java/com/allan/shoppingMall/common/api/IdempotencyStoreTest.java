@@ -0,0 +1,91 @@
+package com.allan.shoppingMall.common.api;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class IdempotencyStoreTest {
+
+    IdempotencyStore idempotencyStore;
+
+    @BeforeEach
+    public void setUp() {
+        idempotencyStore = new IdempotencyStore();
+        ReflectionTestUtils.setField(idempotencyStore, "ttlSeconds", 60l);
+        ReflectionTestUtils.setField(idempotencyStore, "maxEntries", 2);
+    }
+
+    @Test
+    public void 처리중인_요청과_같은_키로_요청시_결과_공유_테스트() throws Exception {
+        //given
+        AtomicInteger executeCount = new AtomicInteger();
+        CompletableFuture<String> TEST_IN_FLIGHT = new CompletableFuture<>();
+
+        //when
+        CompletableFuture<String> first = idempotencyStore.execute("testKey", () -> {
+            executeCount.incrementAndGet();
+            return TEST_IN_FLIGHT;
+        });
+        CompletableFuture<String> second = idempotencyStore.execute("testKey", () -> {
+            executeCount.incrementAndGet();
+            return CompletableFuture.completedFuture("duplicated");
+        });
+        TEST_IN_FLIGHT.complete("testResult");
+
+        //then
+        assertThat(executeCount.get(), is(1));
+        assertThat(first.get(), is("testResult"));
+        assertThat(second.get(), is("testResult"));
+    }
+
+    @Test
+    public void 예외로_끝난_요청_재실행_테스트() throws Exception {
+        //given
+        CompletableFuture<String> failed = idempotencyStore.execute("testKey", () -> {
+            throw new IllegalStateException("test");
+        });
+
+        //when
+        CompletableFuture<String> retried = idempotencyStore.execute("testKey", () -> CompletableFuture.completedFuture("testResult"));
+
+        //then
+        assertThrows(ExecutionException.class, () -> failed.get());
+        assertThat(retried.get(), is("testResult"));
+    }
+
+    @Test
+    public void 보관하지_않는_결과_재실행_테스트() throws Exception {
+        //given
+        idempotencyStore.execute("testKey", () -> CompletableFuture.completedFuture("retryable"), result -> !result.equals("retryable"));
+
+        //when
+        CompletableFuture<String> retried = idempotencyStore.execute("testKey", () -> CompletableFuture.completedFuture("testResult"));
+
+        //then
+        assertThat(retried.get(), is("testResult"));
+    }
+
+    @Test
+    public void 보관수_초과시_오래된_결과_삭제_테스트() throws Exception {
+        //given
+        idempotencyStore.execute("testKey1", () -> CompletableFuture.completedFuture("testResult1"));
+        Thread.sleep(5);
+        idempotencyStore.execute("testKey2", () -> CompletableFuture.completedFuture("testResult2"));
+        Thread.sleep(5);
+
+        //when
+        idempotencyStore.execute("testKey3", () -> CompletableFuture.completedFuture("testResult3"));
+        CompletableFuture<String> replayed = idempotencyStore.execute("testKey1", () -> CompletableFuture.completedFuture("executedAgain"));
+
+        //then
+        assertThat(replayed.get(), is("executedAgain"));
+    }
+}
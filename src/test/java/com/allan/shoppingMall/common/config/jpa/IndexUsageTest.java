@@ -0,0 +1,136 @@
+package com.allan.shoppingMall.common.config.jpa;
+
+import com.allan.shoppingMall.common.config.jpa.auditing.JpaAuditingConfig;
+import com.allan.shoppingMall.domains.item.domain.item.ImageType;
+import com.allan.shoppingMall.domains.mileage.domain.model.MileageContent;
+import com.allan.shoppingMall.domains.order.domain.OrderRepository;
+import com.allan.shoppingMall.domains.order.domain.OrderStatus;
+import com.allan.shoppingMall.domains.order.domain.model.OrderCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+
+/**
+ * 자주 실행 되는 조회 쿼리가 table scan 이 아닌 index 로 조회 되는지 H2 EXPLAIN 실행 계획으로 확인합니다.
+ * (H2 는 index 를 사용하지 않는 경우 실행 계획에 'tableScan' 을 표시합니다.)
+ * 주문 조회는 repository 메소드가 생성한 SQL 을 SqlCaptureInspector 로 기록해서, 바인딩 값과 함께 실행 계획을 확인합니다.
+ */
+@DataJpaTest(
+        includeFilters = @ComponentScan.Filter(
+                type = FilterType.ASSIGNABLE_TYPE,
+                classes = JpaAuditingConfig.class
+        ),
+        properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.allan.shoppingMall.common.config.jpa.SqlCaptureInspector"
+)
+public class IndexUsageTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    OrderRepository orderRepository;
+
+    @BeforeEach
+    public void setUp(){
+        SqlCaptureInspector.clear();
+    }
+
+    @Test
+    public void 로그인_아이디로_회원_조회_테스트() throws Exception {
+        //when
+        String plan = explain("select * from member where auth_id = 'testAuthId'");
+
+        //then
+        assertThat(plan, not(containsString("tableScan")));
+    }
+
+    @Test
+    public void 주문번호와_로그인_아이디로_주문_조회_테스트() throws Exception {
+        //given
+        orderRepository.findByOrderNumAndAuthId("testAuthId", "testOrderNum");
+
+        //when
+        // 바인딩 순서: auth_id, order_num
+        String plan = explain(SqlCaptureInspector.lastSelect(), "testAuthId", "testOrderNum");
+
+        //then
+        assertThat(plan, containsString("IDX_ORDERS_ORDER_NUM"));
+        assertThat(plan, not(containsString("tableScan")));
+    }
+
+    @Test
+    public void 회원별_주문_목록_조회_테스트() throws Exception {
+        //given
+        List<OrderStatus> orderStatusList = List.of(OrderStatus.ORDER_ITEM_READY, OrderStatus.ORDER_COMPLETE, OrderStatus.ORDER_CANCEL);
+        LocalDateTime cursorDate = LocalDateTime.now();
+
+        orderRepository.getOrderSummariesByMemberId(1l, orderStatusList, null, 10);
+        String firstPageSql = SqlCaptureInspector.lastSelect();
+
+        orderRepository.getOrderSummariesByMemberId(1l, orderStatusList, OrderCursor.of(cursorDate, 100l), 10);
+        String nextPageSql = SqlCaptureInspector.lastSelect();
+
+        //when
+        // 바인딩 순서: 사용한 마일리지 내용 2개, 대표 이미지 타입(select 절), member_id, order_status 목록, (커서 조건), limit
+        String firstPagePlan = explain(firstPageSql, MileageContent.USED_MILEAGE_DEDUCTION.name(), MileageContent.USED_MILEAGE_DEDUCTION.name(),
+                ImageType.PREVIEW.name(), 1l,
+                OrderStatus.ORDER_ITEM_READY.name(), OrderStatus.ORDER_COMPLETE.name(), OrderStatus.ORDER_CANCEL.name(), 11);
+        String nextPagePlan = explain(nextPageSql, MileageContent.USED_MILEAGE_DEDUCTION.name(), MileageContent.USED_MILEAGE_DEDUCTION.name(),
+                ImageType.PREVIEW.name(), 1l,
+                OrderStatus.ORDER_ITEM_READY.name(), OrderStatus.ORDER_COMPLETE.name(), OrderStatus.ORDER_CANCEL.name(),
+                Timestamp.valueOf(cursorDate), Timestamp.valueOf(cursorDate), 100l, 11);
+
+        //then
+        assertThat(firstPagePlan, containsString("IDX_ORDERS_MEMBER_CREATED"));
+        assertThat(firstPagePlan, not(containsString("ORDERS.tableScan")));
+        assertThat(nextPagePlan, containsString("IDX_ORDERS_MEMBER_CREATED"));
+        assertThat(nextPagePlan, not(containsString("ORDERS.tableScan")));
+    }
+
+    @Test
+    public void 마일리지_조회_테스트() throws Exception {
+        //when
+        String authIdPlan = explain("select * from mileages where auth_id = 'testAuthId'");
+        String orderNumPlan = explain("select * from mileages where order_num = 'testOrderNum'");
+
+        //then
+        assertThat(authIdPlan, containsString("IDX_MILEAGES_AUTH_ID"));
+        assertThat(orderNumPlan, containsString("IDX_MILEAGES_ORDER_NUM"));
+    }
+
+    @Test
+    public void 장바구니_조회_테스트() throws Exception {
+        //when
+        String cookiePlan = explain("select * from cart where cookie_id = 'testCookieId'");
+        String authIdPlan = explain("select c.* from cart c join member m on c.member_id = m.member_id where m.auth_id = 'testAuthId'");
+
+        //then
+        assertThat(cookiePlan, not(containsString("tableScan")));
+        assertThat(authIdPlan, not(containsString("tableScan")));
+    }
+
+    @Test
+    public void 상품_사이즈_조회_테스트() throws Exception {
+        //when
+        String plan = explain("select * from item_sizes where item_id = 1 and clothes_size = 'M'");
+
+        //then
+        assertThat(plan, not(containsString("tableScan")));
+    }
+
+    private String explain(String sql, Object... args){
+        return jdbcTemplate.queryForObject("explain " + sql, String.class, args);
+    }
+}
@@ -0,0 +1,37 @@
+package com.allan.shoppingMall.common.config.jpa;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Hibernate 가 실행하는 SQL 을 기록하는 StatementInspector.
+ * repository 메소드가 실제로 생성한 SQL 의 실행 계획을 확인 할 때 사용합니다. (IndexUsageTest 참고)
+ */
+public class SqlCaptureInspector implements StatementInspector {
+
+    private static final List<String> capturedSqls = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        capturedSqls.add(sql);
+        return sql;
+    }
+
+    public static void clear(){
+        capturedSqls.clear();
+    }
+
+    /**
+     * 기록 된 SQL 중 마지막 select 문을 반환하는 메소드.
+     */
+    public static String lastSelect(){
+        for(int i = capturedSqls.size() - 1; i >= 0; i--){
+            String sql = capturedSqls.get(i);
+            if(sql.trim().toLowerCase().startsWith("select"))
+                return sql;
+        }
+        throw new IllegalStateException("no select statement captured.");
+    }
+}
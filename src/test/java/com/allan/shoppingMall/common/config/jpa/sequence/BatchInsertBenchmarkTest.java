@@ -0,0 +1,184 @@
+package com.allan.shoppingMall.common.config.jpa.sequence;
+
+import com.allan.shoppingMall.common.config.jpa.auditing.JpaAuditingConfig;
+import com.allan.shoppingMall.common.value.Address;
+import com.allan.shoppingMall.domains.delivery.domain.Delivery;
+import com.allan.shoppingMall.domains.delivery.domain.DeliveryStatus;
+import com.allan.shoppingMall.domains.item.domain.clothes.Clothes;
+import com.allan.shoppingMall.domains.item.domain.clothes.ClothesSize;
+import com.allan.shoppingMall.domains.item.domain.clothes.ModelSize;
+import com.allan.shoppingMall.domains.item.domain.clothes.SizeLabel;
+import com.allan.shoppingMall.domains.item.domain.item.*;
+import com.allan.shoppingMall.domains.member.domain.Gender;
+import com.allan.shoppingMall.domains.member.domain.Member;
+import com.allan.shoppingMall.domains.member.domain.MemberRole;
+import com.allan.shoppingMall.domains.order.domain.Order;
+import com.allan.shoppingMall.domains.order.domain.OrderItem;
+import com.allan.shoppingMall.domains.order.domain.OrdererInfo;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * 의상 상품 저장, 10 개 상품 주문 저장시 실행 되는 statement 수를 insert 한 row 수와 함께 출력합니다.
+ * statement 수가 row 수보다 적으면 jdbc batch 로 여러 row 를 한 번에 insert 한 것입니다.
+ * (IDENTITY 매핑과의 비교 측정은 아닙니다.)
+ * 일반 테스트에서는 제외되며, ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+@DataJpaTest(
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true",
+        includeFilters = @ComponentScan.Filter(
+                type = FilterType.ASSIGNABLE_TYPE,
+                classes = {JpaAuditingConfig.class}
+        )
+)
+@WithMockUser
+public class BatchInsertBenchmarkTest {
+
+    @Autowired
+    TestEntityManager testEntityManager;
+
+    @Test
+    public void 의상상품_저장_statement_수() throws Exception {
+        Clothes clothes = createClothes("testClothes");
+        clothes.changeItemSizes(List.of(
+                createClothesSize(SizeLabel.S), createClothesSize(SizeLabel.M),
+                createClothesSize(SizeLabel.L), createClothesSize(SizeLabel.FREE)));
+        clothes.changeItemFabrics(List.of(
+                ItemFabric.builder().materialPart("겉감").materialDesc("면 100%").build(),
+                ItemFabric.builder().materialPart("안감").materialDesc("폴리 100%").build(),
+                ItemFabric.builder().materialPart("배색").materialDesc("나일론 100%").build()));
+        clothes.changeItemDetails(List.of(
+                ItemDetail.builder().detailDesc("detail1").build(),
+                ItemDetail.builder().detailDesc("detail2").build(),
+                ItemDetail.builder().detailDesc("detail3").build(),
+                ItemDetail.builder().detailDesc("detail4").build()));
+        clothes.changeModelSizes(List.of(
+                ModelSize.builder().modelHeight(180d).modelWeight(70d).build(),
+                ModelSize.builder().modelHeight(165d).modelWeight(50d).build()));
+        List<ItemImage> itemImages = new ArrayList<>();
+        for(int i = 0; i < 6; i++){
+            itemImages.add(ItemImage.builder()
+                    .originalItemImageName("image" + i + ".jpg")
+                    .itemImagePath("images/item/blobs/image" + i + ".jpg")
+                    .imageType(i == 0 ? ImageType.PREVIEW : ImageType.PRODUCT)
+                    .imageSize(1000l)
+                    .build());
+        }
+        clothes.changeItemImages(itemImages);
+
+        Statistics statistics = clearStatistics();
+        testEntityManager.persist(clothes);
+        testEntityManager.flush();
+
+        report("clothes (4 sizes, 3 fabrics, 4 details, 2 model sizes, 6 images)", statistics);
+    }
+
+    @Test
+    public void 주문_10건_저장_statement_수() throws Exception {
+        Member member = testEntityManager.persist(createMember());
+        List<OrderItem> orderItems = new ArrayList<>();
+        for(int i = 0; i < 10; i++){
+            Clothes clothes = createClothes("testClothes" + i);
+            ClothesSize clothesSize = createClothesSize(SizeLabel.M);
+            clothes.changeItemSizes(List.of(clothesSize));
+            testEntityManager.persist(clothes);
+            orderItems.add(new OrderItem(1l, clothes, clothesSize));
+        }
+        testEntityManager.flush();
+
+        Order order = Order.builder()
+                .orderNum("order_uid_benchmark")
+                .orderer(member)
+                .delivery(Delivery.builder()
+                        .deliveryStatus(DeliveryStatus.DELIVERY_READY)
+                        .deliveryMemo("testMemo")
+                        .address(Address.builder()
+                                .address("testAddress")
+                                .detailAddress("testDetailAddress")
+                                .postCode("65000")
+                                .build())
+                        .recipient("testRecipient")
+                        .recipientPhone("000-0000-0000")
+                        .build())
+                .ordererInfo(OrdererInfo.builder()
+                        .ordererName("testOrdererName")
+                        .ordererEmail("testOrdererEmail")
+                        .ordererPhone("000-0000-0000")
+                        .build())
+                .build();
+        order.changeOrderItems(orderItems);
+
+        Statistics statistics = clearStatistics();
+        testEntityManager.persist(order);
+        testEntityManager.flush();
+
+        report("order (10 lines)", statistics);
+    }
+
+    private Statistics clearStatistics(){
+        Statistics statistics = testEntityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private void report(String name, Statistics statistics){
+        long insertedRows = statistics.getEntityInsertCount();
+        long statements = statistics.getPrepareStatementCount();
+        System.out.println(String.format("[benchmark] %s", name));
+        System.out.println(String.format("[benchmark]   inserted rows        : %d", insertedRows));
+        System.out.println(String.format("[benchmark]   prepared statements  : %d", statements));
+        assertThat(statements, is(lessThan(insertedRows)));
+    }
+
+    private Clothes createClothes(String name) {
+        return Clothes.builder()
+                .name(name)
+                .engName(name)
+                .price(1000l)
+                .color(Color.RED)
+                .build();
+    }
+
+    private ClothesSize createClothesSize(SizeLabel sizeLabel) {
+        return ClothesSize.builder()
+                .sizeLabel(sizeLabel)
+                .stockQuantity(10l)
+                .build();
+    }
+
+    private Member createMember() {
+        return Member.builder()
+                .name("testName")
+                .authId("testId")
+                .pwd("testPwd")
+                .age(20)
+                .gender(Gender.MAN)
+                .email("testEmail@email")
+                .phone("000-0000-0000")
+                .dateOfBirth("1993-09-09")
+                .role(MemberRole.ACTIVATED_USER)
+                .address(Address.builder()
+                        .address("testAddress")
+                        .detailAddress("testDetailAddress")
+                        .postCode("65000")
+                        .build())
+                .build();
+    }
+}
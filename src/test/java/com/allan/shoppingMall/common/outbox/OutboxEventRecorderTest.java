@@ -0,0 +1,48 @@
+package com.allan.shoppingMall.common.outbox;
+
+import com.allan.shoppingMall.domains.item.domain.item.ItemModifiedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxEventRecorderTest {
+
+    @Mock
+    OutboxEventRepository outboxEventRepository;
+
+    OutboxEventRecorder outboxEventRecorder;
+
+    @BeforeEach
+    public void setUp(){
+        outboxEventRecorder = new OutboxEventRecorder(outboxEventRepository, new ObjectMapper());
+    }
+
+    @Test
+    public void 같은_대상의_이벤트가_대기중이어도_저장_테스트() throws Exception {
+        //given
+        ItemModifiedEvent TEST_FIRST_EVENT = new ItemModifiedEvent(1l);
+        ItemModifiedEvent TEST_SECOND_EVENT = new ItemModifiedEvent(1l);
+
+        //when
+        outboxEventRecorder.record(TEST_FIRST_EVENT, 1l);
+        outboxEventRecorder.record(TEST_SECOND_EVENT, 1l);
+
+        //then
+        ArgumentCaptor<OutboxEvent> outboxEventCaptor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository, times(2)).save(outboxEventCaptor.capture());
+
+        assertThat(outboxEventCaptor.getAllValues().get(1).getEventType(), is(ItemModifiedEvent.class.getName()));
+        assertThat(outboxEventCaptor.getAllValues().get(1).getEventKey(), is("1"));
+        assertThat(outboxEventCaptor.getAllValues().get(1).getStatus(), is(OutboxEventStatus.PENDING));
+    }
+}
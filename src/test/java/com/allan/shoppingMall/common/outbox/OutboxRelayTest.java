@@ -0,0 +1,177 @@
+package com.allan.shoppingMall.common.outbox;
+
+import com.allan.shoppingMall.domains.item.domain.item.ItemModifiedEvent;
+import com.allan.shoppingMall.domains.member.domain.MemberJoinedEvent;
+import com.allan.shoppingMall.domains.order.domain.OrderCompletedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxRelayTest {
+
+    @Mock
+    OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    OutboxRelay outboxRelay;
+
+    @BeforeEach
+    public void setUp(){
+        outboxRelay = new OutboxRelay(outboxEventRepository, eventPublisher, objectMapper, transactionManager, new SimpleMeterRegistry());
+        outboxRelay.registerMetrics();
+    }
+
+    @Test
+    public void 이벤트_전달_테스트() throws Exception {
+        //given
+        OutboxEvent TEST_OUTBOX_EVENT = createOutboxEvent(new MemberJoinedEvent(1l));
+
+        stubDispatchable(1l, TEST_OUTBOX_EVENT);
+
+        //when
+        int published = outboxRelay.relay();
+
+        //then
+        ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(1)).publishEvent(eventCaptor.capture());
+
+        assertThat(published, is(1));
+        assertThat(eventCaptor.getValue(), instanceOf(MemberJoinedEvent.class));
+        assertThat(((MemberJoinedEvent) eventCaptor.getValue()).getMemberId(), is(1l));
+        assertThat(TEST_OUTBOX_EVENT.getStatus(), is(OutboxEventStatus.PUBLISHED));
+        assertThat(TEST_OUTBOX_EVENT.getAttempts(), is(1));
+    }
+
+    @Test
+    public void 이벤트_처리_실패시_재시도_예약_테스트() throws Exception {
+        //given
+        OutboxEvent TEST_OUTBOX_EVENT = createOutboxEvent(new MemberJoinedEvent(1l));
+
+        stubDispatchable(1l, TEST_OUTBOX_EVENT);
+        when(outboxEventRepository.findById(1l)).thenReturn(Optional.of(TEST_OUTBOX_EVENT));
+        doThrow(new IllegalStateException("handler fail")).when(eventPublisher).publishEvent(any(Object.class));
+
+        LocalDateTime before = LocalDateTime.now();
+
+        //when
+        int published = outboxRelay.relay();
+
+        //then
+        assertThat(published, is(0));
+        assertThat(TEST_OUTBOX_EVENT.getStatus(), is(OutboxEventStatus.PENDING));
+        assertThat(TEST_OUTBOX_EVENT.getAttempts(), is(1));
+        assertThat(TEST_OUTBOX_EVENT.getNextAttemptAt().isAfter(before), is(true));
+        assertThat(TEST_OUTBOX_EVENT.getLastError(), containsString("handler fail"));
+    }
+
+    @Test
+    public void 이미_처리된_이벤트_재전달_방지_테스트() throws Exception {
+        //given
+        OutboxEvent TEST_OUTBOX_EVENT = createOutboxEvent(new MemberJoinedEvent(1l));
+        TEST_OUTBOX_EVENT.published(LocalDateTime.now());
+
+        stubDispatchable(1l, TEST_OUTBOX_EVENT);
+
+        //when
+        int published = outboxRelay.relay();
+
+        //then
+        assertThat(published, is(0));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    public void 같은_주문의_주문완료_이벤트_중복_전달_방지_테스트() throws Exception {
+        //given
+        OutboxEvent TEST_OUTBOX_EVENT_1 = createOutboxEvent(new OrderCompletedEvent(1l, "testAuthId"));
+        OutboxEvent TEST_OUTBOX_EVENT_2 = createOutboxEvent(new OrderCompletedEvent(1l, "testAuthId"));
+
+        when(outboxEventRepository.findDispatchableIds(any(), any())).thenReturn(List.of(1l, 2l));
+        when(outboxEventRepository.findByIdForUpdate(1l)).thenReturn(Optional.of(TEST_OUTBOX_EVENT_1));
+        when(outboxEventRepository.findByIdForUpdate(2l)).thenReturn(Optional.of(TEST_OUTBOX_EVENT_2));
+        // 첫번째 이벤트가 처리 완료 된 이후에는 처리 완료 이벤트가 있습니다.
+        when(outboxEventRepository.existsByEventTypeAndEventKeyAndStatus(OrderCompletedEvent.class.getName(), "1", OutboxEventStatus.PUBLISHED))
+                .thenReturn(false, true);
+
+        //when
+        outboxRelay.relay();
+
+        //then
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+        assertThat(TEST_OUTBOX_EVENT_1.getStatus(), is(OutboxEventStatus.PUBLISHED));
+        assertThat(TEST_OUTBOX_EVENT_2.getStatus(), is(OutboxEventStatus.PUBLISHED));
+    }
+
+    @Test
+    public void 같은_상품의_수정_이벤트는_모두_전달_테스트() throws Exception {
+        //given
+        OutboxEvent TEST_OUTBOX_EVENT_1 = createOutboxEvent(new ItemModifiedEvent(1l));
+        OutboxEvent TEST_OUTBOX_EVENT_2 = createOutboxEvent(new ItemModifiedEvent(1l));
+
+        when(outboxEventRepository.findDispatchableIds(any(), any())).thenReturn(List.of(1l, 2l));
+        when(outboxEventRepository.findByIdForUpdate(1l)).thenReturn(Optional.of(TEST_OUTBOX_EVENT_1));
+        when(outboxEventRepository.findByIdForUpdate(2l)).thenReturn(Optional.of(TEST_OUTBOX_EVENT_2));
+
+        //when
+        int published = outboxRelay.relay();
+
+        //then
+        // 상품 수정 handler 는 현재 상태를 다시 조회하므로, 이후 변경 사항이 유실되지 않도록 모두 전달합니다.
+        assertThat(published, is(2));
+        verify(eventPublisher, times(2)).publishEvent(any(Object.class));
+        verify(outboxEventRepository, never()).existsByEventTypeAndEventKeyAndStatus(any(), any(), any());
+    }
+
+    @Test
+    public void 최대_시도_횟수_초과시_실패_처리_테스트() throws Exception {
+        //given
+        OutboxEvent TEST_OUTBOX_EVENT = createOutboxEvent(new MemberJoinedEvent(1l));
+
+        //when
+        for(int i = 0; i < 10; i++){
+            TEST_OUTBOX_EVENT.failed("handler fail", LocalDateTime.now(), 10);
+        }
+
+        //then
+        assertThat(TEST_OUTBOX_EVENT.getStatus(), is(OutboxEventStatus.FAILED));
+        assertThat(TEST_OUTBOX_EVENT.getAttempts(), is(10));
+    }
+
+    private void stubDispatchable(Long outboxEventId, OutboxEvent outboxEvent){
+        when(outboxEventRepository.findDispatchableIds(any(), any())).thenReturn(List.of(outboxEventId));
+        when(outboxEventRepository.findByIdForUpdate(outboxEventId)).thenReturn(Optional.of(outboxEvent));
+    }
+
+    private OutboxEvent createOutboxEvent(Object event) throws Exception {
+        return OutboxEvent.builder()
+                .eventType(event.getClass().getName())
+                .eventKey("1")
+                .payload(objectMapper.writeValueAsString(event))
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+}
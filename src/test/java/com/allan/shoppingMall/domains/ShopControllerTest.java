@@ -6,8 +6,7 @@ import com.allan.shoppingMall.domains.cart.service.CartService;
 import com.allan.shoppingMall.domains.category.domain.Category;
 import com.allan.shoppingMall.domains.category.domain.CategoryRepository;
 import com.allan.shoppingMall.domains.infra.AuthenticationConverter;
-import com.allan.shoppingMall.domains.item.domain.item.Color;
-import com.allan.shoppingMall.domains.item.domain.item.Item;
+import com.allan.shoppingMall.domains.item.domain.model.ItemCursorPage;
 import com.allan.shoppingMall.domains.item.domain.model.ItemSummaryDTO;
 import com.allan.shoppingMall.domains.item.service.ItemService;
 import com.allan.shoppingMall.domains.mileage.service.MileageService;
@@ -23,6 +22,7 @@ import org.springframework.context.annotation.FilterType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
@@ -70,20 +70,16 @@ public class ShopControllerTest {
         given(categoryRepository.findById(any()))
                 .willReturn(Optional.of(TEST_CATEGORY));
 
-        Item TEST_ITEM = new Item("testName", 1000l, Color.RED);
-        Page<Item> itemPage = mock(Page.class);
+        List<ItemSummaryDTO> TEST_ITEM_SUMMARY_DTO = new ArrayList<>();
+        Page<ItemSummaryDTO> itemPage = mock(Page.class);
         given(itemPage.getTotalElements())
                 .willReturn(1l);
         given(itemPage.getContent())
-                .willReturn(List.of(TEST_ITEM));
+                .willReturn(TEST_ITEM_SUMMARY_DTO);
 
-        given(itemService.getItems(any(), any()))
+        given(itemService.getItemSummaries(any(), any(Pageable.class)))
                 .willReturn(itemPage);
 
-        List<ItemSummaryDTO> TEST_ITEM_SUMMARY_DTO = new ArrayList<>();
-        given(itemService.getItemDTOS(any()))
-                .willReturn(TEST_ITEM_SUMMARY_DTO);
-
         //when
         ResultActions resultActions = mvc.perform(get("/shop")
                 .param("categoryId", "1")
@@ -91,8 +87,7 @@ public class ShopControllerTest {
 
         //then
         verify(categoryRepository, atLeastOnce()).findById(any());
-        verify(itemService, atLeastOnce()).getItems(any(), any());
-        verify(itemService, atLeastOnce()).getItemDTOS(any());
+        verify(itemService, atLeastOnce()).getItemSummaries(any(), any(Pageable.class));
 
         resultActions
                 .andExpect(status().isOk())
@@ -103,4 +98,43 @@ public class ShopControllerTest {
                 .andExpect(model().attributeExists("pagination"))
                 .andExpect(view().name("shop/itemList"));
     }
+
+    /**
+     * cursor 파라미터로 특정 카테고리 상품을 keyset 페이징 조회하는 테스트 입니다.
+     */
+    @Test
+    public void 카테고리별_상품_목록_커서_조회_테스트() throws Exception {
+        //given
+        Category TEST_CATEGORY = Category.builder()
+                .name("testCategoryName")
+                .build();
+        ReflectionTestUtils.setField(TEST_CATEGORY, "categoryId", 1l);
+
+        given(categoryRepository.findById(any()))
+                .willReturn(Optional.of(TEST_CATEGORY));
+
+        given(itemService.getItemSummaries(any(), anyString()))
+                .willReturn(new ItemCursorPage(new ArrayList<>(), null));
+
+        given(itemService.getItemCount(any()))
+                .willReturn(0l);
+
+        //when
+        ResultActions resultActions = mvc.perform(get("/shop")
+                .param("categoryId", "1")
+                .param("cursor", ""));
+
+        //then
+        verify(itemService, atLeastOnce()).getItemSummaries(any(), anyString());
+        verify(itemService, atLeastOnce()).getItemCount(any());
+        verify(itemService, never()).getItemSummaries(any(), any(Pageable.class));
+
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(model().attributeExists("itemQunatity"))
+                .andExpect(model().attributeExists("itemList"))
+                .andExpect(model().attribute("hasNext", false))
+                .andExpect(model().attributeDoesNotExist("pagination"))
+                .andExpect(view().name("shop/itemList"));
+    }
 }
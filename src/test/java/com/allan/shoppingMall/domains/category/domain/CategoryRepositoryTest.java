@@ -1,6 +1,7 @@
 package com.allan.shoppingMall.domains.category.domain;
 
 import com.allan.shoppingMall.common.config.jpa.auditing.JpaAuditingConfig;
+import com.allan.shoppingMall.domains.category.domain.model.CategoryNode;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -12,6 +13,7 @@ import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest(
@@ -62,6 +64,42 @@ public class CategoryRepositoryTest {
         assertTrue(exists);
     }
 
+    /**
+     * 카테고리 그룹의 모든 카테고리를 부모 아이디와 함께 평탄하게 조회하는 테스트 입니다.
+     */
+    @Test
+    public void 카테고리_그룹_노드_조회테스트() throws Exception {
+        //given
+        Category ROOT_CATEGORY = createCategory("testBranch", "ROOT", 0);
+        testEntityManager.persist(ROOT_CATEGORY);
+
+        Category CHILD_CATEGORY = Category.builder()
+                .name("child")
+                .branch("testBranch")
+                .depth(1)
+                .parentCategory(ROOT_CATEGORY)
+                .categoryCode(CategoryCode.CLOTHES)
+                .build();
+        testEntityManager.persist(CHILD_CATEGORY);
+        testEntityManager.persist(createCategory("otherBranch", "ROOT", 0));
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        //when
+        List<CategoryNode> nodes = categoryRepository.findCategoryNodesByBranch("testBranch");
+        List<String> branches = categoryRepository.findAllBranches();
+
+        //then
+        assertThat(nodes.size(), is(2));
+        assertThat(nodes.get(0).getCategoryId(), is(ROOT_CATEGORY.getCategoryId()));
+        assertThat(nodes.get(0).getParentCategoryId(), is(nullValue()));
+        assertThat(nodes.get(1).getCategoryId(), is(CHILD_CATEGORY.getCategoryId()));
+        assertThat(nodes.get(1).getParentCategoryId(), is(ROOT_CATEGORY.getCategoryId()));
+        assertThat(nodes.get(1).getCategoryCode(), is(CategoryCode.CLOTHES));
+        assertThat(branches.size(), is(2));
+    }
+
     private Category createCategory(String branch, String name, int depth){
         return Category.builder()
                 .name(name)
@@ -0,0 +1,81 @@
+package com.allan.shoppingMall.domains.category.presentation;
+
+import com.allan.shoppingMall.domains.cart.service.CartService;
+import com.allan.shoppingMall.domains.category.domain.CategoryTree;
+import com.allan.shoppingMall.domains.category.domain.model.CategoryDTOAssembler;
+import com.allan.shoppingMall.domains.category.domain.model.CategoryNode;
+import com.allan.shoppingMall.domains.category.service.CategoryService;
+import com.allan.shoppingMall.domains.category.service.CategoryTreeHolder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(
+        controllers = RestCategoryController.class
+)
+@Import(CategoryResponseCache.class)
+@AutoConfigureMockMvc
+public class RestCategoryControllerTest {
+
+    @MockBean
+    CategoryService categoryService;
+
+    @MockBean
+    CategoryTreeHolder categoryTreeHolder;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    // securityConfig.class 의 SignInSuccessHandler 에서 사용 할 cartService.
+    @MockBean
+    CartService cartService;
+
+    /**
+     * 카테고리가 변경되지 않은 경우, 직렬화를 다시 하지 않고 ETag 로 304 응답을 반환하는 테스트 입니다.
+     */
+    @Test
+    public void 카테고리_조회_ETag_테스트() throws Exception {
+        //given
+        List<CategoryNode> TEST_NODES = List.of(
+                new CategoryNode(1l, null, "testBranch", 0, "ROOT", null),
+                new CategoryNode(2l, 1l, "testBranch", 1, "top", null));
+        CategoryTree TEST_CATEGORY_TREE = CategoryTree.of(Map.of("testBranch", TEST_NODES));
+
+        given(categoryTreeHolder.getTree())
+                .willReturn(TEST_CATEGORY_TREE);
+        given(categoryService.getEntireCategoryByBranch("testBranch"))
+                .willReturn(CategoryDTOAssembler.assemble(TEST_NODES, 1l));
+
+        //when
+        MvcResult result = mockMvc.perform(get("/category/testBranch"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("apiResult").value(CategoryResult.GET_CATEGORY_SUCCESS.getResult()))
+                .andExpect(jsonPath("$.category.child['2'].parentCategoryName").value("ROOT"))
+                .andReturn();
+        String eTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+        //then
+        mockMvc.perform(get("/category/testBranch").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+        verify(categoryService, times(1)).getEntireCategoryByBranch("testBranch");
+    }
+}
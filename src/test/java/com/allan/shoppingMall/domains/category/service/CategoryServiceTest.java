@@ -1,23 +1,30 @@
 package com.allan.shoppingMall.domains.category.service;
 
+import com.allan.shoppingMall.common.exception.category.CategoryNotFoundException;
 import com.allan.shoppingMall.domains.category.domain.Category;
 import com.allan.shoppingMall.domains.category.domain.CategoryRepository;
+import com.allan.shoppingMall.domains.category.domain.CategoryTree;
+import com.allan.shoppingMall.domains.category.domain.model.CategoryDTO;
+import com.allan.shoppingMall.domains.category.domain.model.CategoryNode;
 import com.allan.shoppingMall.domains.category.domain.model.CategoryRequest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +34,12 @@ public class CategoryServiceTest {
     @Mock
     CategoryRepository categoryRepository;
 
+    @Mock
+    CategoryTreeHolder categoryTreeHolder;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     CategoryService categoryService;
 
@@ -140,53 +153,63 @@ public class CategoryServiceTest {
     @Test
     public void 조회한_모든_카테고리_아이디_테스트() throws Exception {
         //given
-        Category KNIT_CATEGORY = Category.builder()
-                .branch("shop")
-                .name("knit")
-                .depth(2)
-                .build();
-        ReflectionTestUtils.setField(KNIT_CATEGORY, "categoryId", 5l);
+        CategoryTree TEST_CATEGORY_TREE = CategoryTree.of(Map.of("shop", List.of(
+                new CategoryNode(1l, null, "shop", 0, "shop", null),
+                new CategoryNode(2l, 1l, "shop", 1, "top", null),
+                new CategoryNode(3l, 1l, "shop", 1, "bottom", null),
+                new CategoryNode(4l, 2l, "shop", 2, "shirt", null),
+                new CategoryNode(5l, 2l, "shop", 2, "knit", null)
+        )));
 
-        Category SHIRT_CATEGORY = Category.builder()
-                .branch("shop")
-                .name("shirt")
-                .depth(2)
-                .build();
-        ReflectionTestUtils.setField(SHIRT_CATEGORY, "categoryId", 4l);
+        given(categoryTreeHolder.getTree())
+                .willReturn(TEST_CATEGORY_TREE);
 
-        Category BOTTOM_CATEGORY = Category.builder()
-                .branch("shop")
-                .name("bottom")
-                .depth(1)
-                .build();
-        ReflectionTestUtils.setField(BOTTOM_CATEGORY, "categoryId", 3l);
+        //when
+        List<Long> categoryIdList = categoryService.getCategoryIds(2l);
 
-        Category TOP_CATEGORY = Category.builder()
-                .branch("shop")
-                .name("top")
-                .depth(1)
-                .build();
-        ReflectionTestUtils.setField(TOP_CATEGORY, "categoryId", 2l);
-        ReflectionTestUtils.setField(TOP_CATEGORY, "childCategory", List.of(SHIRT_CATEGORY, KNIT_CATEGORY));
+        //then
+        assertThat(categoryIdList.size(), is(3));
+        assertThat(categoryIdList.get(0), is(2l));
+        assertThat(categoryIdList.get(1), is(4l));
+        assertThat(categoryIdList.get(2), is(5l));
+        verify(categoryRepository, never()).findById(any());
+    }
 
-        Category SHOP_CATEGORY = Category.builder()
-                .branch("shop")
-                .name("shop")
-                .depth(0)
-                .build();
-        ReflectionTestUtils.setField(SHOP_CATEGORY, "categoryId", 1l);
-        ReflectionTestUtils.setField(SHOP_CATEGORY, "childCategory", List.of(TOP_CATEGORY, BOTTOM_CATEGORY));
+    @Test
+    public void 카테고리_트리에_없는_카테고리_아이디_조회_테스트() throws Exception {
+        //given
+        given(categoryTreeHolder.getTree())
+                .willReturn(CategoryTree.empty());
 
-        given(categoryRepository.findById(any()))
-                .willReturn(Optional.of(TOP_CATEGORY));
+        //when, then
+        assertThrows(CategoryNotFoundException.class, () -> {
+            categoryService.getCategoryIds(1l);
+        });
+    }
+
+    /**
+     * 한번에 조회한 카테고리 행 정보로 그룹 전체 카테고리 DTO 트리를 구성하는 테스트 입니다.
+     */
+    @Test
+    public void 카테고리_그룹_전체_조회_테스트() throws Exception {
+        //given
+        CategoryTree TEST_CATEGORY_TREE = CategoryTree.of(Map.of("shop", List.of(
+                new CategoryNode(1l, null, "shop", 0, "ROOT", null),
+                new CategoryNode(2l, 1l, "shop", 1, "top", null),
+                new CategoryNode(3l, 2l, "shop", 2, "shirt", null)
+        )));
+
+        given(categoryTreeHolder.getTree())
+                .willReturn(TEST_CATEGORY_TREE);
 
         //when
-        List<Long> categoryIdList = categoryService.getCategoryIds(any());
+        CategoryDTO categoryDTO = categoryService.getEntireCategoryByBranch("shop");
 
         //then
-        assertThat(categoryIdList.size(), is(3));
-        assertThat(categoryIdList.get(0), is(TOP_CATEGORY.getCategoryId()));
-        assertThat(categoryIdList.get(1), is(SHIRT_CATEGORY.getCategoryId()));
-        assertThat(categoryIdList.get(2), is(KNIT_CATEGORY.getCategoryId()));
+        assertThat(categoryDTO.getName(), is("ROOT"));
+        assertThat(categoryDTO.getParentCategoryName(), is("대분류"));
+        assertThat(categoryDTO.getChild().get(2l).getParentCategoryName(), is("ROOT"));
+        assertThat(categoryDTO.getChild().get(2l).getChild().get(3l).getName(), is("shirt"));
+        verify(categoryRepository, never()).findByBranchAndName(any(), any());
     }
 }
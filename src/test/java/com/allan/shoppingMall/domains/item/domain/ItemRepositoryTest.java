@@ -5,9 +5,12 @@ import com.allan.shoppingMall.domains.category.domain.Category;
 import com.allan.shoppingMall.domains.category.domain.CategoryCode;
 import com.allan.shoppingMall.domains.category.domain.CategoryItem;
 import com.allan.shoppingMall.domains.item.domain.clothes.Clothes;
-import com.allan.shoppingMall.domains.item.domain.item.Color;
-import com.allan.shoppingMall.domains.item.domain.item.Item;
-import com.allan.shoppingMall.domains.item.domain.item.ItemRepository;
+import com.allan.shoppingMall.domains.item.domain.item.*;
+import com.allan.shoppingMall.domains.item.domain.model.ItemCursor;
+import com.allan.shoppingMall.domains.item.domain.model.ItemCursorPage;
+import com.allan.shoppingMall.domains.item.domain.model.ItemSummaryDTO;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,12 +24,17 @@ import org.springframework.data.domain.Sort;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.annotation.Rollback;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 
 @DataJpaTest(
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true",
         includeFilters = @ComponentScan.Filter(
                 type = FilterType.ASSIGNABLE_TYPE,
                 classes = JpaAuditingConfig.class
@@ -235,6 +243,101 @@ public class ItemRepositoryTest {
         }
     }
 
+    /**
+     * 상품 목록 한 페이지를 조회 할 때 실행되는 쿼리 수를 확인하는 테스트입니다.
+     * 상품 수와 관계없이 상품 조회, 미리보기 이미지 조회, 카운트 조회 쿼리만 실행되어야 합니다.
+     */
+    @Test
+    public void 상품_요약정보_페이징_쿼리수_테스트() throws Exception {
+        //given
+        List<Category> categories = List.of(TEST_CATEGORY_TOP, TEST_CATEGORY_SHIRT, TEST_CATEGORY_KNIT);
+        for(int i = 0; i < 12; i++){
+            Clothes clothes = createClothes("testName" + i, "testEngName" + i, categories.get(i % categories.size()));
+            clothes.changeItemImages(List.of(
+                    createItemImage(ImageType.PREVIEW),
+                    createItemImage(ImageType.PREVIEW),
+                    createItemImage(ImageType.PRODUCT)));
+            testEntityManager.persist(clothes);
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        List<Long> categoryIds = List.of(TEST_CATEGORY_TOP.getCategoryId(), TEST_CATEGORY_SHIRT.getCategoryId(), TEST_CATEGORY_KNIT.getCategoryId());
+        Statistics statistics = testEntityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        Page<ItemSummaryDTO> firstPage = itemRepository.getItemSummariesByCategoryIds(categoryIds, PageRequest.of(0, 9));
+        long firstPageStatementCount = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        Page<ItemSummaryDTO> lastPage = itemRepository.getItemSummariesByCategoryIds(categoryIds, PageRequest.of(1, 9));
+        long lastPageStatementCount = statistics.getPrepareStatementCount();
+
+        //then
+        assertThat(firstPage.getContent().size(), is(9));
+        assertThat(firstPage.getTotalElements(), is(12l));
+        assertThat(firstPage.getContent().get(0).getProfileImageIds().size(), is(2)); // 미리보기 이미지만 조회 했는가.?
+        assertThat(firstPageStatementCount, is(3l)); // 상품 조회 + 이미지 조회 + 카운트 조회.
+
+        assertThat(lastPage.getContent().size(), is(3));
+        assertThat(lastPageStatementCount, is(2l)); // 마지막 페이지는 카운트 쿼리를 생략.
+    }
+
+    /**
+     * 상품 목록을 keyset(seek) 페이징하는 테스트입니다.
+     * 커서를 따라 모든 페이지를 조회 했을 때, 중복이나 누락 없이 (createdDate, itemId) 내림차순으로 조회되어야 합니다.
+     */
+    @Test
+    public void 상품_요약정보_커서_페이징_테스트() throws Exception {
+        //given
+        List<Category> categories = List.of(TEST_CATEGORY_TOP, TEST_CATEGORY_SHIRT, TEST_CATEGORY_KNIT);
+        for(int i = 0; i < 12; i++){
+            testEntityManager.persist(createClothes("testName" + i, "testEngName" + i, categories.get(i % categories.size())));
+        }
+        // 다른 카테고리 상품.
+        testEntityManager.persist(createClothes("testBottom", "testBottomEngName", TEST_CATEGORY_BOTTOM));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        List<Long> categoryIds = List.of(TEST_CATEGORY_TOP.getCategoryId(), TEST_CATEGORY_SHIRT.getCategoryId(), TEST_CATEGORY_KNIT.getCategoryId());
+
+        //when
+        ItemCursorPage firstPage = itemRepository.getItemSummariesByCategoryIds(categoryIds, null, 5);
+        ItemCursorPage secondPage = itemRepository.getItemSummariesByCategoryIds(categoryIds, ItemCursor.decode(firstPage.getNextCursor()), 5);
+        ItemCursorPage lastPage = itemRepository.getItemSummariesByCategoryIds(categoryIds, ItemCursor.decode(secondPage.getNextCursor()), 5);
+
+        //then
+        assertThat(firstPage.getContent().size(), is(5));
+        assertThat(firstPage.isHasNext(), is(true));
+        assertThat(secondPage.getContent().size(), is(5));
+        assertThat(secondPage.isHasNext(), is(true));
+        assertThat(lastPage.getContent().size(), is(2));
+        assertThat(lastPage.isHasNext(), is(false));
+        assertThat(lastPage.getNextCursor(), is(nullValue()));
+
+        List<Long> itemIds = new ArrayList<>();
+        firstPage.getContent().forEach(itemSummary -> itemIds.add(itemSummary.getItemId()));
+        secondPage.getContent().forEach(itemSummary -> itemIds.add(itemSummary.getItemId()));
+        lastPage.getContent().forEach(itemSummary -> itemIds.add(itemSummary.getItemId()));
+
+        List<Long> expectedItemIds = new ArrayList<>(itemIds);
+        expectedItemIds.sort(Comparator.reverseOrder());
+        assertThat(itemIds, is(expectedItemIds)); // 같은 시간에 등록 된 상품은 itemId 내림차순.
+        assertThat(new HashSet<>(itemIds).size(), is(12)); // 중복 없이 모두 조회 했는가.?
+        assertThat(itemRepository.countItemsByCategoryIds(categoryIds), is(12l));
+    }
+
+    private ItemImage createItemImage(ImageType imageType){
+        return ItemImage.builder()
+                .originalItemImageName("testImage.jpeg")
+                .itemImagePath("testPath")
+                .imageType(imageType)
+                .imageSize(1000l)
+                .build();
+    }
+
     private Clothes createClothes(String name, String engName, Category category){
         Clothes clothes = Clothes.builder()
                 .name(name)
@@ -0,0 +1,90 @@
+package com.allan.shoppingMall.domains.item.infra;
+
+import com.allan.shoppingMall.domains.item.domain.item.ItemImageRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class ContentAddressedImageStorageTest {
+
+    @Mock
+    ItemImageRepository itemImageRepository;
+
+    ContentAddressedImageStorage imageStorage = new ContentAddressedImageStorage();
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        FileSystemUtils.deleteRecursively(imageStorage.toFile(ContentAddressedImageStorage.BLOB_PATH));
+        FileSystemUtils.deleteRecursively(imageStorage.toFile(ContentAddressedImageStorage.TEMP_PATH));
+    }
+
+    @Test
+    public void 같은_이미지_중복_저장_테스트() throws Exception {
+        //given
+        byte[] TEST_IMAGE_BYTES = "testImage".getBytes();
+
+        //when
+        StoredImage first = imageStorage.store(new ByteArrayInputStream(TEST_IMAGE_BYTES), ".jpeg");
+        StoredImage second = imageStorage.store(new ByteArrayInputStream(TEST_IMAGE_BYTES), ".jpeg");
+        StoredImage other = imageStorage.store(new ByteArrayInputStream("otherImage".getBytes()), ".jpeg");
+
+        //then
+        assertThat(first.getItemImagePath(), is(second.getItemImagePath()));
+        assertThat(first.getContentHash(), is(second.getContentHash()));
+        assertThat(first.getContentHash(), is(not(other.getContentHash())));
+        assertThat(first.getContentHash().length(), is(64));
+        assertThat(first.getSize(), is((long) TEST_IMAGE_BYTES.length));
+        assertThat(Files.readAllBytes(imageStorage.toFile(first.getItemImagePath()).toPath()), is(TEST_IMAGE_BYTES));
+        assertThat(imageStorage.toFile(ContentAddressedImageStorage.TEMP_PATH).list().length, is(0));
+    }
+
+    @Test
+    public void 참조되지_않는_이미지_정리_테스트() throws Exception {
+        //given
+        StoredImage referenced = imageStorage.store(new ByteArrayInputStream("referenced".getBytes()), ".jpeg");
+        StoredImage orphan = imageStorage.store(new ByteArrayInputStream("orphan".getBytes()), ".png");
+        StoredImage recentOrphan = imageStorage.store(new ByteArrayInputStream("recentOrphan".getBytes()), ".png");
+
+        long oldTime = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(2);
+        File referencedFile = imageStorage.toFile(referenced.getItemImagePath());
+        File orphanFile = imageStorage.toFile(orphan.getItemImagePath());
+        File orphanVariantFile = new ImageVariantGenerator().getVariantFile(orphanFile, 240);
+        Files.write(orphanVariantFile.toPath(), "variant".getBytes());
+
+        referencedFile.setLastModified(oldTime);
+        orphanFile.setLastModified(oldTime);
+        orphanVariantFile.setLastModified(oldTime);
+
+        given(itemImageRepository.findAllContentHashes())
+                .willReturn(Set.of(referenced.getContentHash()));
+        given(itemImageRepository.countByContentHash(orphan.getContentHash()))
+                .willReturn(0l);
+
+        OrphanImageBlobSweeper sweeper = new OrphanImageBlobSweeper(itemImageRepository, imageStorage);
+
+        //when
+        int deleted = sweeper.sweep();
+
+        //then
+        assertThat(deleted, is(2));
+        assertThat(referencedFile.exists(), is(true));
+        assertThat(orphanFile.exists(), is(false));
+        assertThat(orphanVariantFile.exists(), is(false));
+        assertThat(imageStorage.toFile(recentOrphan.getItemImagePath()).exists(), is(true));
+    }
+}
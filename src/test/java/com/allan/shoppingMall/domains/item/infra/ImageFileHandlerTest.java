@@ -1,19 +1,65 @@
 package com.allan.shoppingMall.domains.item.infra;
 
 
+import com.allan.shoppingMall.domains.item.domain.item.ImageType;
+import com.allan.shoppingMall.domains.item.domain.item.ItemImage;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.File;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class ImageFileHandlerTest {
 
+    @Mock
+    ItemImageStorage itemImageStorage;
+
+    @Mock
+    ItemImageMetadataCache itemImageMetadataCache;
+
+    @Mock
+    ImageVariantGenerator imageVariantGenerator;
+
+    @InjectMocks
+    ImageFileHandler imageFileHandler;
+
     @Test
     public void 이미지_파일_변환_테스트() throws Exception {
         //given
+        MockMultipartFile TEST_IMAGE_FILE = new MockMultipartFile("profileImageFiles", "test.jpeg", "image/jpeg", "testImage".getBytes());
+        StoredImage TEST_STORED_IMAGE = new StoredImage("images/item/blobs/ab/cd/abcd.jpeg", "abcd", 9l);
+
+        given(itemImageStorage.store(any(), eq(".jpeg")))
+                .willReturn(TEST_STORED_IMAGE);
+        given(itemImageStorage.toFile(any()))
+                .willReturn(new File(TEST_STORED_IMAGE.getItemImagePath()));
+        given(itemImageStorage.load(any()))
+                .willReturn(Optional.of(new ByteArrayResource("testImage".getBytes())));
 
         //when
+        List<ItemImage> itemImages = imageFileHandler.parseImageInfo(List.of(TEST_IMAGE_FILE, TEST_IMAGE_FILE), ImageType.PREVIEW);
 
         //then
+        assertThat(itemImages.size(), is(2));
+        assertThat(itemImages.get(0).getItemImagePath(), is(TEST_STORED_IMAGE.getItemImagePath()));
+        assertThat(itemImages.get(0).getContentHash(), is(TEST_STORED_IMAGE.getContentHash()));
+        assertThat(itemImages.get(0).getOriginalItemImageName(), is("test.jpeg"));
+        verify(imageVariantGenerator, times(2)).generateVariants(any(), any());
+        verify(itemImageMetadataCache, times(2)).putAfterCommit(any());
     }
 }
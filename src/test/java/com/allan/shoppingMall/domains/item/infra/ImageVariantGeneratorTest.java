@@ -0,0 +1,100 @@
+package com.allan.shoppingMall.domains.item.infra;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class ImageVariantGeneratorTest {
+
+    ImageVariantGenerator imageVariantGenerator = new ImageVariantGenerator();
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    public void 이미지_variant_생성_테스트() throws Exception {
+        //given
+        File TEST_ORIGINAL_FILE = createImage(1200, 600, "original.png");
+
+        //when
+        Optional<File> variantFile = imageVariantGenerator.getVariant(new FileSystemResource(TEST_ORIGINAL_FILE), TEST_ORIGINAL_FILE, 300);
+
+        //then
+        assertThat(variantFile.isPresent(), is(true));
+        assertThat(variantFile.get().getName(), is("original_w480.jpeg"));
+
+        BufferedImage variant = ImageIO.read(variantFile.get());
+        assertThat(variant.getWidth(), is(480));
+        assertThat(variant.getHeight(), is(240));
+    }
+
+    @Test
+    public void 원본보다_큰_variant_요청_테스트() throws Exception {
+        //given
+        File TEST_ORIGINAL_FILE = createImage(200, 100, "small.png");
+
+        //when
+        Optional<File> variantFile = imageVariantGenerator.getVariant(new FileSystemResource(TEST_ORIGINAL_FILE), TEST_ORIGINAL_FILE, 240);
+
+        //then
+        assertThat(variantFile.isPresent(), is(false));
+        assertThat(imageVariantGenerator.getVariantFile(TEST_ORIGINAL_FILE, 240).exists(), is(false));
+    }
+
+    @Test
+    public void 원본보다_큰_variant_반복_요청시_원본_디코딩_생략_테스트() throws Exception {
+        //given
+        File TEST_ORIGINAL_FILE = createImage(200, 100, "small.png");
+        AtomicInteger readCount = new AtomicInteger();
+        FileSystemResource TEST_ORIGINAL = new FileSystemResource(TEST_ORIGINAL_FILE) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                readCount.incrementAndGet();
+                return super.getInputStream();
+            }
+        };
+
+        //when
+        Optional<File> first = imageVariantGenerator.getVariant(TEST_ORIGINAL, TEST_ORIGINAL_FILE, 240);
+        Optional<File> second = imageVariantGenerator.getVariant(TEST_ORIGINAL, TEST_ORIGINAL_FILE, 480);
+        Optional<File> third = imageVariantGenerator.getVariant(TEST_ORIGINAL, TEST_ORIGINAL_FILE, 240);
+
+        //then
+        assertThat(first.isPresent(), is(false));
+        assertThat(second.isPresent(), is(false));
+        assertThat(third.isPresent(), is(false));
+        assertThat(readCount.get(), is(1));
+        assertThat(imageVariantGenerator.getOriginalWidthFile(TEST_ORIGINAL_FILE).isFile(), is(true));
+    }
+
+    @Test
+    public void 모든_variant_생성_테스트() throws Exception {
+        //given
+        File TEST_ORIGINAL_FILE = createImage(1000, 1000, "all.png");
+
+        //when
+        imageVariantGenerator.generateVariants(new FileSystemResource(TEST_ORIGINAL_FILE), TEST_ORIGINAL_FILE);
+
+        //then
+        for(int width : ImageVariantGenerator.VARIANT_WIDTHS){
+            assertThat(imageVariantGenerator.getVariantFile(TEST_ORIGINAL_FILE, width).isFile(), is(true));
+        }
+    }
+
+    private File createImage(int width, int height, String fileName) throws Exception {
+        File imageFile = new File(tempDir, fileName);
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", imageFile);
+        return imageFile;
+    }
+}
@@ -0,0 +1,89 @@
+package com.allan.shoppingMall.domains.item.infra;
+
+import com.allan.shoppingMall.domains.item.domain.item.ImageType;
+import com.allan.shoppingMall.domains.item.domain.item.ItemImage;
+import com.allan.shoppingMall.domains.item.domain.item.ItemImageRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ItemImageMetadataCacheTest {
+
+    private static final String TEST_IMAGE_PATH = "images/item/test/testMetadataImage.png";
+
+    @Mock
+    ItemImageRepository itemImageRepository;
+
+    ItemImageMetadataCache itemImageMetadataCache;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Path imagePath = new File(TEST_IMAGE_PATH).getAbsoluteFile().toPath();
+        Files.createDirectories(imagePath.getParent());
+        Files.write(imagePath, "testImage".getBytes());
+
+        itemImageMetadataCache = new ItemImageMetadataCache(itemImageRepository,
+                new ConcurrentMapCacheManager(ItemImageMetadataCache.CACHE_NAME, ItemImageMetadataCache.MISSING_CACHE_NAME),
+                new ContentAddressedImageStorage());
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(new File(TEST_IMAGE_PATH).getAbsoluteFile().toPath());
+    }
+
+    @Test
+    public void 이미지_메타데이터_캐싱_테스트() throws Exception {
+        //given
+        ItemImage TEST_ITEM_IMAGE = ItemImage.builder()
+                .itemImagePath(TEST_IMAGE_PATH)
+                .imageType(ImageType.PREVIEW)
+                .build();
+        ReflectionTestUtils.setField(TEST_ITEM_IMAGE, "itemImageId", 1l);
+
+        given(itemImageRepository.findById(1l))
+                .willReturn(Optional.of(TEST_ITEM_IMAGE));
+
+        //when
+        ItemImageMetadata metadata = itemImageMetadataCache.get(1l).get();
+        itemImageMetadataCache.get(1l);
+
+        //then
+        assertThat(metadata.getMimeType(), is("image/png"));
+        assertThat(metadata.getSize(), is((long) "testImage".length()));
+        verify(itemImageRepository, times(1)).findById(1l);
+    }
+
+    @Test
+    public void 존재하지_않는_이미지_네거티브_캐싱_테스트() throws Exception {
+        //given
+        given(itemImageRepository.findById(99l))
+                .willReturn(Optional.empty());
+
+        //when
+        Optional<ItemImageMetadata> first = itemImageMetadataCache.get(99l);
+        Optional<ItemImageMetadata> second = itemImageMetadataCache.get(99l);
+
+        //then
+        assertThat(first.isPresent(), is(false));
+        assertThat(second.isPresent(), is(false));
+        verify(itemImageRepository, times(1)).findById(99l);
+    }
+}
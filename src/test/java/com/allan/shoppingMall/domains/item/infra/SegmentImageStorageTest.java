@@ -0,0 +1,182 @@
+package com.allan.shoppingMall.domains.item.infra;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class SegmentImageStorageTest {
+
+    // 레코드 2개가 들어가지 않는 크기로 설정하여, 이미지 마다 새로운 segment 에 저장되도록 합니다.
+    private static final long TEST_MAX_SEGMENT_SIZE = 150l;
+
+    @TempDir
+    File tempDir;
+
+    SegmentImageStorage imageStorage;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        imageStorage = new SegmentImageStorage(tempDir, TEST_MAX_SEGMENT_SIZE);
+        imageStorage.open();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        imageStorage.close();
+    }
+
+    @Test
+    public void 이미지_저장_조회_테스트() throws Exception {
+        //given
+        byte[] TEST_IMAGE_BYTES = "testImage".getBytes();
+
+        //when
+        StoredImage first = imageStorage.store(new ByteArrayInputStream(TEST_IMAGE_BYTES), ".jpeg");
+        StoredImage second = imageStorage.store(new ByteArrayInputStream(TEST_IMAGE_BYTES), ".jpeg");
+        Optional<Resource> resource = imageStorage.load(first.getItemImagePath());
+
+        //then
+        assertThat(first.getItemImagePath(), is(second.getItemImagePath()));
+        assertThat(SegmentImageStorage.isSegmentPath(first.getItemImagePath()), is(true));
+        assertThat(countSegments(), is(1));
+        assertThat(resource.isPresent(), is(true));
+        assertThat(resource.get().contentLength(), is((long) TEST_IMAGE_BYTES.length));
+        assertThat(readBytes(resource.get()), is(TEST_IMAGE_BYTES));
+    }
+
+    @Test
+    public void 재시작시_인덱스_복구_테스트() throws Exception {
+        //given
+        StoredImage first = imageStorage.store(new ByteArrayInputStream("first".getBytes()), ".jpeg");
+        StoredImage second = imageStorage.store(new ByteArrayInputStream("second".getBytes()), ".png");
+        imageStorage.close();
+
+        // 마지막 segment 끝에 쓰다 만 레코드를 추가.
+        File lastSegment = new File(tempDir, SegmentImageStorage.SEGMENT_PATH + File.separator + "segment-000002.dat");
+        long lastSegmentSize = lastSegment.length();
+        Files.write(lastSegment.toPath(), "broken".getBytes(), StandardOpenOption.APPEND);
+
+        //when
+        imageStorage = new SegmentImageStorage(tempDir, TEST_MAX_SEGMENT_SIZE);
+        imageStorage.open();
+
+        //then
+        assertThat(readBytes(imageStorage.load(first.getItemImagePath()).get()), is("first".getBytes()));
+        assertThat(readBytes(imageStorage.load(second.getItemImagePath()).get()), is("second".getBytes()));
+        assertThat(lastSegment.length(), is(lastSegmentSize));
+    }
+
+    @Test
+    public void 참조되지_않는_이미지_segment_정리_테스트() throws Exception {
+        //given
+        StoredImage referenced = imageStorage.store(new ByteArrayInputStream("referenced".getBytes()), ".jpeg");
+        StoredImage orphan = imageStorage.store(new ByteArrayInputStream("orphan".getBytes()), ".jpeg");
+        StoredImage active = imageStorage.store(new ByteArrayInputStream("active".getBytes()), ".jpeg");
+
+        File orphanVariant = new ImageVariantGenerator().getVariantFile(imageStorage.toFile(orphan.getItemImagePath()), 240);
+        Files.createDirectories(orphanVariant.getParentFile().toPath());
+        Files.write(orphanVariant.toPath(), "variant".getBytes());
+
+        //when
+        int compacted = imageStorage.compact(contentHash -> contentHash.equals(referenced.getContentHash()), 0l);
+
+        //then
+        assertThat(compacted, is(1));
+        assertThat(imageStorage.load(orphan.getItemImagePath()).isPresent(), is(false));
+        assertThat(orphanVariant.exists(), is(false));
+        assertThat(readBytes(imageStorage.load(referenced.getItemImagePath()).get()), is("referenced".getBytes()));
+        assertThat(readBytes(imageStorage.load(active.getItemImagePath()).get()), is("active".getBytes()));
+        assertThat(countSegments(), is(2));
+    }
+
+    @Test
+    public void 재업로드_이미지_저장시간_갱신_테스트() throws Exception {
+        //given
+        long TEST_GRACE_MILLIS = 500l;
+        StoredImage reuploaded = imageStorage.store(new ByteArrayInputStream("reuploaded".getBytes()), ".jpeg");
+        StoredImage orphan = imageStorage.store(new ByteArrayInputStream("orphan".getBytes()), ".jpeg");
+        imageStorage.store(new ByteArrayInputStream("active".getBytes()), ".jpeg");
+        Thread.sleep(TEST_GRACE_MILLIS * 2);
+
+        //when
+        imageStorage.store(new ByteArrayInputStream("reuploaded".getBytes()), ".jpeg");
+
+        // 재시작 후에도 갱신 된 저장 시간이 유지되는지 확인.
+        imageStorage.close();
+        imageStorage = new SegmentImageStorage(tempDir, TEST_MAX_SEGMENT_SIZE);
+        imageStorage.open();
+        imageStorage.compact(contentHash -> false, TEST_GRACE_MILLIS);
+
+        //then
+        assertThat(readBytes(imageStorage.load(reuploaded.getItemImagePath()).get()), is("reuploaded".getBytes()));
+        assertThat(imageStorage.load(orphan.getItemImagePath()).isPresent(), is(false));
+    }
+
+    @Test
+    public void 동일한_이미지_동시_저장_테스트() throws Exception {
+        //given
+        int TEST_THREAD_COUNT = 8;
+        byte[] TEST_IMAGE_BYTES = "testImage".getBytes();
+        ExecutorService executorService = Executors.newFixedThreadPool(TEST_THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<StoredImage>> futures = new ArrayList<>();
+
+        //when
+        for(int i = 0; i < TEST_THREAD_COUNT; i++){
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                return imageStorage.store(new ByteArrayInputStream(TEST_IMAGE_BYTES), ".jpeg");
+            }));
+        }
+        startLatch.countDown();
+        for(Future<StoredImage> future : futures)
+            future.get(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        //then
+        // 레코드가 한번만 이어 붙여진 경우, segment 는 하나만 생성됩니다.
+        assertThat(countSegments(), is(1));
+        assertThat(readBytes(imageStorage.load(futures.get(0).get().getItemImagePath()).get()), is(TEST_IMAGE_BYTES));
+    }
+
+    @Test
+    public void 기존_파일_이미지_조회_테스트() throws Exception {
+        //given
+        File TEST_LEGACY_FILE = new File(tempDir, "images" + File.separator + "item" + File.separator + "20220101" + File.separator + "legacy.jpeg");
+        Files.createDirectories(TEST_LEGACY_FILE.getParentFile().toPath());
+        Files.write(TEST_LEGACY_FILE.toPath(), "legacy".getBytes());
+
+        //when
+        Optional<Resource> resource = imageStorage.load("images" + File.separator + "item" + File.separator + "20220101" + File.separator + "legacy.jpeg");
+
+        //then
+        assertThat(resource.isPresent(), is(true));
+        assertThat(readBytes(resource.get()), is("legacy".getBytes()));
+    }
+
+    private int countSegments(){
+        return new File(tempDir, SegmentImageStorage.SEGMENT_PATH).list().length;
+    }
+
+    private byte[] readBytes(Resource resource) throws Exception {
+        try (InputStream in = resource.getInputStream()) {
+            return StreamUtils.copyToByteArray(in);
+        }
+    }
+}
@@ -3,20 +3,34 @@ package com.allan.shoppingMall.domains.item.presentation;
 import com.allan.shoppingMall.domains.cart.service.CartService;
 import com.allan.shoppingMall.domains.item.domain.item.ItemImage;
 import com.allan.shoppingMall.domains.item.domain.item.ItemImageRepository;
+import com.allan.shoppingMall.domains.item.infra.ImageVariantGenerator;
+import com.allan.shoppingMall.domains.item.infra.ItemImageMetadata;
+import com.allan.shoppingMall.domains.item.infra.ItemImageMetadataCache;
+import com.allan.shoppingMall.domains.item.infra.ItemImageStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -34,25 +48,115 @@ public class ItemImageControllerTest {
     @MockBean
     ItemImageRepository itemImageRepository;
 
+    @MockBean
+    ItemImageMetadataCache itemImageMetadataCache;
+
+    @MockBean
+    ImageVariantGenerator imageVariantGenerator;
+
+    @MockBean
+    ItemImageStorage itemImageStorage;
+
     // securityConfig.class 의 SignInSuccessHandler 에서 사용 할 cartService.
     @MockBean
     CartService cartService;
 
+    private static final String TEST_IMAGE_PATH = "images/item/test/testImage.jpeg";
+
+    private static final String TEST_VARIANT_PATH = "images/item/test/testImage_w480.jpeg";
+
+    private static final byte[] TEST_IMAGE_BYTES = "0123456789".getBytes();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Path imagePath = new File(TEST_IMAGE_PATH).getAbsoluteFile().toPath();
+        Files.createDirectories(imagePath.getParent());
+        Files.write(imagePath, TEST_IMAGE_BYTES);
+
+        given(itemImageStorage.load(any()))
+                .willAnswer(invocation -> Optional.of(new FileSystemResource(imagePath)));
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(new File(TEST_IMAGE_PATH).getAbsoluteFile().toPath());
+        Files.deleteIfExists(new File(TEST_VARIANT_PATH).getAbsoluteFile().toPath());
+    }
+
     @Test
     public void 상품_이미지_테스트() throws Exception {
         //given
-        ItemImage TEST_ITEM_IMAGE = createItemImage();
-        given(itemImageRepository.findById(any()))
-                .willReturn(Optional.of(TEST_ITEM_IMAGE));
+        given(itemImageMetadataCache.get(any()))
+                .willReturn(Optional.of(createItemImageMetadata()));
 
         //when
         ResultActions resultActions = mvc.perform(get("/image/2"));
 
         //then
-        verify(itemImageRepository,atLeastOnce()).findById(any());
+        verify(itemImageMetadataCache,atLeastOnce()).get(any());
+        verify(itemImageRepository, never()).findById(any());
         resultActions
                 .andExpect(status().isOk())
-                .andExpect(header().string("Content-Type","image/jpeg"));
+                .andExpect(header().string("Content-Type","image/jpeg"))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(content().bytes(TEST_IMAGE_BYTES));
+    }
+
+    @Test
+    public void 상품_이미지_조건부_조회_테스트() throws Exception {
+        //given
+        given(itemImageMetadataCache.get(any()))
+                .willReturn(Optional.of(createItemImageMetadata()));
+
+        MvcResult result = mvc.perform(get("/image/2")).andReturn();
+        String eTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+        //when
+        ResultActions resultActions = mvc.perform(get("/image/2").header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+        //then
+        resultActions
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+    }
+
+    @Test
+    public void 상품_이미지_범위_조회_테스트() throws Exception {
+        //given
+        given(itemImageMetadataCache.get(any()))
+                .willReturn(Optional.of(createItemImageMetadata()));
+
+        //when
+        ResultActions resultActions = mvc.perform(get("/image/2").header(HttpHeaders.RANGE, "bytes=2-5"));
+
+        //then
+        resultActions
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/" + TEST_IMAGE_BYTES.length))
+                .andExpect(content().bytes("2345".getBytes()));
+    }
+
+    @Test
+    public void 상품_이미지_variant_조회_테스트() throws Exception {
+        //given
+        byte[] TEST_VARIANT_BYTES = "variant".getBytes();
+        File TEST_VARIANT_FILE = new File(TEST_VARIANT_PATH).getAbsoluteFile();
+        Files.write(TEST_VARIANT_FILE.toPath(), TEST_VARIANT_BYTES);
+
+        given(itemImageMetadataCache.get(any()))
+                .willReturn(Optional.of(createItemImageMetadata()));
+        given(imageVariantGenerator.getVariant(any(), any(), eq(300)))
+                .willReturn(Optional.of(TEST_VARIANT_FILE));
+
+        //when
+        ResultActions resultActions = mvc.perform(get("/image/2").param("w", "300"));
+
+        //then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type","image/jpeg"))
+                .andExpect(content().bytes(TEST_VARIANT_BYTES));
     }
 
     @Test
@@ -72,9 +176,13 @@ public class ItemImageControllerTest {
                 .andExpect(header().string("Content-Type","image/jpeg"));
     }
 
+    private ItemImageMetadata createItemImageMetadata() {
+        return ItemImageMetadata.of(2l, new File(TEST_IMAGE_PATH).getAbsoluteFile());
+    }
+
     private ItemImage createItemImage() {
         return ItemImage.builder()
-                .itemImagePath("images/item/20211125/1193583152716179.jpeg")
+                .itemImagePath(TEST_IMAGE_PATH)
                 .build();
     }
 }
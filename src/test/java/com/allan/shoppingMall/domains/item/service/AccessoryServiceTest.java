@@ -1,5 +1,6 @@
 package com.allan.shoppingMall.domains.item.service;
 
+import com.allan.shoppingMall.common.outbox.OutboxEventRecorder;
 import com.allan.shoppingMall.domains.category.domain.*;
 import com.allan.shoppingMall.domains.item.domain.accessory.Accessory;
 import com.allan.shoppingMall.domains.item.domain.accessory.AccessoryRepository;
@@ -46,6 +47,9 @@ public class AccessoryServiceTest {
     @Mock
     CategoryItemRepository categoryItemRepository;
 
+    @Mock
+    OutboxEventRecorder outboxEventRecorder;
+
     @InjectMocks
     AccessoryService accessoryService;
 
@@ -155,6 +159,7 @@ public class AccessoryServiceTest {
         //then
         verify(accessoryRepository, atLeastOnce()).findById(any());
         verify(categoryRepository, atLeastOnce()).findById(any());
+        verify(outboxEventRecorder, atLeastOnce()).record(any(), any());
         assertThat(TEST_ACCESSORY.getItemFabrics().size(), is(1));
         assertThat(TEST_ACCESSORY.getItemDetails().size(), is(2));
         assertThat(TEST_ACCESSORY.getItemDetails().get(0).getDetailDesc(), is("clothesDetailDesc1"));
@@ -1,5 +1,6 @@
 package com.allan.shoppingMall.domains.item.service;
 
+import com.allan.shoppingMall.common.outbox.OutboxEventRecorder;
 import com.allan.shoppingMall.domains.category.domain.*;
 import com.allan.shoppingMall.domains.item.domain.clothes.*;
 import com.allan.shoppingMall.domains.item.domain.item.*;
@@ -41,6 +42,9 @@ public class ClothesServiceTest {
     @Mock
     CategoryItemRepository categoryItemRepository;
 
+    @Mock
+    OutboxEventRecorder outboxEventRecorder;
+
     @InjectMocks
     ClothesService clothesService;
 
@@ -258,6 +262,7 @@ public class ClothesServiceTest {
         //then
         verify(clothesRepository, atLeastOnce()).findById(any());
         verify(categoryRepository, atLeastOnce()).findById(any());
+        verify(outboxEventRecorder, atLeastOnce()).record(any(), any());
         assertThat(TEST_CLOTHES.getItemFabrics().size(), is(1));
         assertThat(TEST_CLOTHES.getItemDetails().size(), is(1));
         assertThat(TEST_CLOTHES.getModelSizes().size(), is(1));
@@ -0,0 +1,142 @@
+package com.allan.shoppingMall.domains.item.service;
+
+import com.allan.shoppingMall.common.config.jpa.auditing.JpaAuditingConfig;
+import com.allan.shoppingMall.common.exception.order.OrderFailException;
+import com.allan.shoppingMall.domains.item.domain.clothes.Clothes;
+import com.allan.shoppingMall.domains.item.domain.clothes.ClothesSize;
+import com.allan.shoppingMall.domains.item.domain.clothes.SizeLabel;
+import com.allan.shoppingMall.domains.item.domain.item.ItemRepository;
+import com.allan.shoppingMall.domains.item.domain.item.ItemSizeRepository;
+import com.allan.shoppingMall.domains.item.domain.item.StockJournalRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * 한 상품 사이즈에 주문이 몰리는 경우, hot item 모드 사용 여부에 따른 초당 주문 처리 수를 비교합니다.
+ * 일반 테스트에서는 제외되며, ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+@DataJpaTest(
+        includeFilters = @ComponentScan.Filter(
+                type = FilterType.ASSIGNABLE_TYPE,
+                classes = {JpaAuditingConfig.class}
+        )
+)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@WithMockUser
+public class HotStockBenchmarkTest {
+
+    private static final long STOCK_QUANTITY = 2000l;
+    private static final int REQUEST_COUNT = 4000;
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @Autowired
+    ItemSizeRepository itemSizeRepository;
+
+    @Autowired
+    StockJournalRepository stockJournalRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    public void tearDown() {
+        stockJournalRepository.deleteAll();
+        itemRepository.deleteAll();
+    }
+
+    @Test
+    public void 단일상품_초당_주문처리수_비교() throws Exception {
+        double dbOrdersPerSecond = run(false);
+        double hotOrdersPerSecond = run(true);
+
+        System.out.println(String.format("[benchmark] single sku, %d threads, %d requests, stock %d", THREAD_COUNT, REQUEST_COUNT, STOCK_QUANTITY));
+        System.out.println(String.format("[benchmark] db conditional update : %.1f accepted orders/sec", dbOrdersPerSecond));
+        System.out.println(String.format("[benchmark] hot item ledger        : %.1f accepted orders/sec", hotOrdersPerSecond));
+    }
+
+    private double run(boolean hotItem) throws Exception {
+        ClothesSize clothesSize = createClothesSize(STOCK_QUANTITY);
+        Clothes clothes = itemRepository.save(createClothes(clothesSize));
+
+        HotStockLedger hotStockLedger = new HotStockLedger(hotItem ? Set.of(clothesSize.getItemSizeId()) : Collections.emptySet(), 8);
+        ItemStockService itemStockService = new ItemStockService(itemRepository, itemSizeRepository, hotStockLedger, stockJournalRepository);
+        HotStockWriteBack hotStockWriteBack = new HotStockWriteBack(stockJournalRepository, itemSizeRepository, itemRepository, hotStockLedger, transactionManager);
+        hotStockWriteBack.reconcile();
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger successCount = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for(int i = 0; i < REQUEST_COUNT; i++){
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        itemStockService.decreaseStock(clothes.getItemId(), clothesSize.getItemSizeId(), 1l);
+                    });
+                    successCount.incrementAndGet();
+                } catch (OrderFailException exception) {
+                    // 재고량 부족.
+                }
+                return null;
+            }));
+        }
+
+        long startTime = System.nanoTime();
+        startLatch.countDown();
+        for(Future<?> future : futures)
+            future.get(60, TimeUnit.SECONDS);
+        long elapsedNanos = System.nanoTime() - startTime;
+        executorService.shutdown();
+
+        // 비동기 반영까지 끝난 뒤의 재고량도 정확해야 합니다.
+        hotStockWriteBack.flush();
+        assertThat(successCount.get(), is((int) STOCK_QUANTITY));
+        assertThat(itemSizeRepository.findById(clothesSize.getItemSizeId()).get().getStockQuantity(), is(0l));
+
+        return successCount.get() / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    private ClothesSize createClothesSize(Long stockQuantity) {
+        return ClothesSize.builder()
+                .sizeLabel(SizeLabel.M)
+                .stockQuantity(stockQuantity)
+                .build();
+    }
+
+    private Clothes createClothes(ClothesSize clothesSize) {
+        Clothes clothes = Clothes.builder()
+                .name("testName")
+                .engName("testEngName")
+                .price(1000l)
+                .build();
+        clothes.changeItemSizes(List.of(clothesSize));
+        return clothes;
+    }
+}
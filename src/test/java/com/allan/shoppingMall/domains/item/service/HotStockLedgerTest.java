@@ -0,0 +1,90 @@
+package com.allan.shoppingMall.domains.item.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class HotStockLedgerTest {
+
+    @Test
+    public void 동시_차감시_재고량_초과_차감_방지_테스트() throws Exception {
+        //given
+        long TEST_STOCK_QUANTITY = 1000l;
+        int TEST_REQUEST_COUNT = 5000;
+        HotStockLedger hotStockLedger = new HotStockLedger(Set.of(1l), 8);
+        hotStockLedger.load(1l, TEST_STOCK_QUANTITY);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger successCount = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for(int i = 0; i < TEST_REQUEST_COUNT; i++){
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                if(hotStockLedger.tryAcquire(1l, 1l))
+                    successCount.incrementAndGet();
+                return null;
+            }));
+        }
+
+        //when
+        startLatch.countDown();
+        for(Future<?> future : futures)
+            future.get(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        //then
+        assertThat(successCount.get(), is((int) TEST_STOCK_QUANTITY));
+        assertThat(hotStockLedger.getAvailable(1l), is(0l));
+    }
+
+    @Test
+    public void 여러칸에_나뉜_재고량_합산_차감_테스트() throws Exception {
+        //given
+        HotStockLedger hotStockLedger = new HotStockLedger(Set.of(1l), 8);
+        hotStockLedger.load(1l, 10l); // 칸 마다 1 ~ 2 개씩 나누어 저장.
+
+        //when
+        boolean acquired = hotStockLedger.tryAcquire(1l, 7l);
+        boolean exceeded = hotStockLedger.tryAcquire(1l, 4l);
+
+        //then
+        assertThat(acquired, is(true));
+        assertThat(exceeded, is(false));
+        assertThat(hotStockLedger.getAvailable(1l), is(3l));
+    }
+
+    @Test
+    public void 차감_재고량_되돌리기_테스트() throws Exception {
+        //given
+        HotStockLedger hotStockLedger = new HotStockLedger(Set.of(1l), 4);
+        hotStockLedger.load(1l, 5l);
+        hotStockLedger.tryAcquire(1l, 5l);
+
+        //when
+        hotStockLedger.release(1l, 2l);
+
+        //then
+        assertThat(hotStockLedger.getAvailable(1l), is(2l));
+        assertThat(hotStockLedger.tryAcquire(1l, 2l), is(true));
+    }
+
+    @Test
+    public void 초기화_되지_않은_상품사이즈_차감_실패_테스트() throws Exception {
+        //given
+        HotStockLedger hotStockLedger = new HotStockLedger(Set.of(1l), 4);
+
+        //when, then
+        assertThat(hotStockLedger.isHot(1l), is(true));
+        assertThat(hotStockLedger.isHot(2l), is(false));
+        assertThat(hotStockLedger.tryAcquire(1l, 1l), is(false));
+    }
+}
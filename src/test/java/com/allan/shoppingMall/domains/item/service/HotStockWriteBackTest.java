@@ -0,0 +1,151 @@
+package com.allan.shoppingMall.domains.item.service;
+
+import com.allan.shoppingMall.common.config.jpa.auditing.JpaAuditingConfig;
+import com.allan.shoppingMall.domains.item.domain.clothes.Clothes;
+import com.allan.shoppingMall.domains.item.domain.clothes.ClothesSize;
+import com.allan.shoppingMall.domains.item.domain.clothes.SizeLabel;
+import com.allan.shoppingMall.domains.item.domain.item.ItemRepository;
+import com.allan.shoppingMall.domains.item.domain.item.ItemSizeRepository;
+import com.allan.shoppingMall.domains.item.domain.item.StockJournalRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * hot item 으로 지정할 상품 사이즈 아이디는 저장 후에 알 수 있으므로, HotStockLedger 와 서비스는 직접 생성합니다.
+ * 생성한 서비스는 트랜잭션 proxy 가 아니므로, TransactionTemplate 으로 주문 트랜잭션을 대신합니다.
+ */
+@DataJpaTest(
+        includeFilters = @ComponentScan.Filter(
+                type = FilterType.ASSIGNABLE_TYPE,
+                classes = {JpaAuditingConfig.class}
+        )
+)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@WithMockUser
+public class HotStockWriteBackTest {
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @Autowired
+    ItemSizeRepository itemSizeRepository;
+
+    @Autowired
+    StockJournalRepository stockJournalRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    public void tearDown() {
+        stockJournalRepository.deleteAll();
+        itemRepository.deleteAll();
+    }
+
+    @Test
+    public void hot_item_재고량_비동기_반영_테스트() throws Exception {
+        //given
+        ClothesSize TEST_CLOTHES_SIZE = createClothesSize(10l);
+        Clothes TEST_CLOTHES = itemRepository.save(createClothes(TEST_CLOTHES_SIZE));
+        HotStockLedger hotStockLedger = new HotStockLedger(Set.of(TEST_CLOTHES_SIZE.getItemSizeId()), 4);
+        ItemStockService itemStockService = new ItemStockService(itemRepository, itemSizeRepository, hotStockLedger, stockJournalRepository);
+        HotStockWriteBack hotStockWriteBack = new HotStockWriteBack(stockJournalRepository, itemSizeRepository, itemRepository, hotStockLedger, transactionManager);
+        hotStockWriteBack.reconcile();
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            itemStockService.decreaseStock(TEST_CLOTHES.getItemId(), TEST_CLOTHES_SIZE.getItemSizeId(), 3l);
+        });
+
+        //when
+        long beforeFlushQuantity = itemSizeRepository.findById(TEST_CLOTHES_SIZE.getItemSizeId()).get().getStockQuantity();
+        int flushed = hotStockWriteBack.flush();
+
+        //then
+        assertThat(hotStockLedger.getAvailable(TEST_CLOTHES_SIZE.getItemSizeId()), is(7l));
+        assertThat(beforeFlushQuantity, is(10l));
+        assertThat(flushed, is(1));
+        assertThat(itemSizeRepository.findById(TEST_CLOTHES_SIZE.getItemSizeId()).get().getStockQuantity(), is(7l));
+        assertThat(itemRepository.findById(TEST_CLOTHES.getItemId()).get().getStockQuantity(), is(7l));
+        assertThat(stockJournalRepository.count(), is(0l));
+    }
+
+    @Test
+    public void 주문_롤백시_hot_item_재고량_복구_테스트() throws Exception {
+        //given
+        ClothesSize TEST_CLOTHES_SIZE = createClothesSize(10l);
+        Clothes TEST_CLOTHES = itemRepository.save(createClothes(TEST_CLOTHES_SIZE));
+        HotStockLedger hotStockLedger = new HotStockLedger(Set.of(TEST_CLOTHES_SIZE.getItemSizeId()), 4);
+        ItemStockService itemStockService = new ItemStockService(itemRepository, itemSizeRepository, hotStockLedger, stockJournalRepository);
+        HotStockWriteBack hotStockWriteBack = new HotStockWriteBack(stockJournalRepository, itemSizeRepository, itemRepository, hotStockLedger, transactionManager);
+        hotStockWriteBack.reconcile();
+
+        //when
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            itemStockService.decreaseStock(TEST_CLOTHES.getItemId(), TEST_CLOTHES_SIZE.getItemSizeId(), 3l);
+            status.setRollbackOnly();
+        });
+
+        //then
+        assertThat(hotStockLedger.getAvailable(TEST_CLOTHES_SIZE.getItemSizeId()), is(10l));
+        assertThat(stockJournalRepository.count(), is(0l));
+    }
+
+    @Test
+    public void 재시작시_남은_변경내역_반영_후_재고량_초기화_테스트() throws Exception {
+        //given
+        ClothesSize TEST_CLOTHES_SIZE = createClothesSize(10l);
+        Clothes TEST_CLOTHES = itemRepository.save(createClothes(TEST_CLOTHES_SIZE));
+        HotStockLedger hotStockLedger = new HotStockLedger(Set.of(TEST_CLOTHES_SIZE.getItemSizeId()), 4);
+        ItemStockService itemStockService = new ItemStockService(itemRepository, itemSizeRepository, hotStockLedger, stockJournalRepository);
+        new HotStockWriteBack(stockJournalRepository, itemSizeRepository, itemRepository, hotStockLedger, transactionManager).reconcile();
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            itemStockService.decreaseStock(TEST_CLOTHES.getItemId(), TEST_CLOTHES_SIZE.getItemSizeId(), 4l);
+        });
+
+        //when
+        // 반영 전에 종료 된 경우, 새로운 인스턴스는 메모리 재고량 없이 시작합니다.
+        HotStockLedger restartedLedger = new HotStockLedger(Set.of(TEST_CLOTHES_SIZE.getItemSizeId()), 4);
+        new HotStockWriteBack(stockJournalRepository, itemSizeRepository, itemRepository, restartedLedger, transactionManager).reconcile();
+
+        //then
+        assertThat(restartedLedger.getAvailable(TEST_CLOTHES_SIZE.getItemSizeId()), is(6l));
+        assertThat(itemSizeRepository.findById(TEST_CLOTHES_SIZE.getItemSizeId()).get().getStockQuantity(), is(6l));
+        assertThat(itemRepository.findById(TEST_CLOTHES.getItemId()).get().getStockQuantity(), is(6l));
+    }
+
+    private ClothesSize createClothesSize(Long stockQuantity) {
+        return ClothesSize.builder()
+                .sizeLabel(SizeLabel.M)
+                .stockQuantity(stockQuantity)
+                .build();
+    }
+
+    private Clothes createClothes(ClothesSize clothesSize) {
+        Clothes clothes = Clothes.builder()
+                .name("testName")
+                .engName("testEngName")
+                .price(1000l)
+                .build();
+        clothes.changeItemSizes(List.of(clothesSize));
+        return clothes;
+    }
+}
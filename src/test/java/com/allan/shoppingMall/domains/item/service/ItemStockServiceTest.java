@@ -0,0 +1,226 @@
+package com.allan.shoppingMall.domains.item.service;
+
+import com.allan.shoppingMall.common.config.jpa.auditing.JpaAuditingConfig;
+import com.allan.shoppingMall.common.exception.order.OrderFailException;
+import com.allan.shoppingMall.domains.item.domain.clothes.Clothes;
+import com.allan.shoppingMall.domains.item.domain.clothes.ClothesSize;
+import com.allan.shoppingMall.domains.item.domain.clothes.SizeLabel;
+import com.allan.shoppingMall.domains.item.domain.item.ItemRepository;
+import com.allan.shoppingMall.domains.item.domain.item.ItemSize;
+import com.allan.shoppingMall.domains.item.domain.item.ItemSizeRepository;
+import com.allan.shoppingMall.domains.item.domain.model.StockLine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 재고량 변경은 스레드 마다 별도의 트랜잭션으로 커밋되어야 하므로, 테스트 트랜잭션을 사용하지 않습니다.
+ */
+@DataJpaTest(
+        includeFilters = @ComponentScan.Filter(
+                type = FilterType.ASSIGNABLE_TYPE,
+                classes = {JpaAuditingConfig.class, ItemStockService.class, HotStockLedger.class}
+        )
+)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@WithMockUser
+public class ItemStockServiceTest {
+
+    @Autowired
+    ItemStockService itemStockService;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @Autowired
+    ItemSizeRepository itemSizeRepository;
+
+    @AfterEach
+    public void tearDown() {
+        itemRepository.deleteAll();
+    }
+
+    @Test
+    public void 동시_주문시_재고량_초과_감소_방지_테스트() throws Exception {
+        //given
+        long TEST_STOCK_QUANTITY = 50l;
+        int TEST_REQUEST_COUNT = 200;
+        ClothesSize TEST_CLOTHES_SIZE = createClothesSize(TEST_STOCK_QUANTITY);
+        Clothes TEST_CLOTHES = itemRepository.save(createClothes(TEST_CLOTHES_SIZE));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for(int i = 0; i < TEST_REQUEST_COUNT; i++){
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                try {
+                    itemStockService.decreaseStock(TEST_CLOTHES.getItemId(), TEST_CLOTHES_SIZE.getItemSizeId(), 1l);
+                    successCount.incrementAndGet();
+                } catch (OrderFailException exception) {
+                    failCount.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        //when
+        long startTime = System.currentTimeMillis();
+        startLatch.countDown();
+        for(Future<?> future : futures)
+            future.get(30, TimeUnit.SECONDS);
+        long elapsedMillis = System.currentTimeMillis() - startTime;
+        executorService.shutdown();
+
+        //then
+        assertThat(successCount.get(), is((int) TEST_STOCK_QUANTITY));
+        assertThat(failCount.get(), is(TEST_REQUEST_COUNT - (int) TEST_STOCK_QUANTITY));
+        assertThat(itemSizeRepository.findById(TEST_CLOTHES_SIZE.getItemSizeId()).get().getStockQuantity(), is(0l));
+        assertThat(itemRepository.findById(TEST_CLOTHES.getItemId()).get().getStockQuantity(), is(0l));
+        // row lock 을 짧게 잡는 update 쿼리 두 번이므로, 요청 200 건은 수 초 안에 처리되어야 합니다.
+        assertThat(elapsedMillis, is(lessThan(10000l)));
+    }
+
+    @Test
+    public void 재고량_부족시_주문_실패_테스트() throws Exception {
+        //given
+        ClothesSize TEST_CLOTHES_SIZE = createClothesSize(3l);
+        Clothes TEST_CLOTHES = itemRepository.save(createClothes(TEST_CLOTHES_SIZE));
+
+        //when, then
+        assertThrows(OrderFailException.class, () -> {
+            itemStockService.decreaseStock(TEST_CLOTHES.getItemId(), TEST_CLOTHES_SIZE.getItemSizeId(), 4l);
+        });
+        assertThat(itemSizeRepository.findById(TEST_CLOTHES_SIZE.getItemSizeId()).get().getStockQuantity(), is(3l));
+        assertThat(itemRepository.findById(TEST_CLOTHES.getItemId()).get().getStockQuantity(), is(3l));
+    }
+
+    @Test
+    public void 주문_취소시_재고량_복구_테스트() throws Exception {
+        //given
+        ClothesSize TEST_CLOTHES_SIZE = createClothesSize(10l);
+        Clothes TEST_CLOTHES = itemRepository.save(createClothes(TEST_CLOTHES_SIZE));
+        itemStockService.decreaseStock(TEST_CLOTHES.getItemId(), TEST_CLOTHES_SIZE.getItemSizeId(), 4l);
+
+        //when
+        itemStockService.increaseStock(TEST_CLOTHES.getItemId(), TEST_CLOTHES_SIZE.getItemSizeId(), 4l);
+
+        //then
+        assertThat(itemSizeRepository.findById(TEST_CLOTHES_SIZE.getItemSizeId()).get().getStockQuantity(), is(10l));
+        assertThat(itemRepository.findById(TEST_CLOTHES.getItemId()).get().getStockQuantity(), is(10l));
+    }
+
+    @Test
+    public void 여러_상품_동시_주문시_교착_상태_방지_테스트() throws Exception {
+        //given
+        // 상품 사이즈 아이디가 상품 별로 엇갈리도록 저장. (상품 X: x1, x2 / 상품 Y: y1, 아이디 순서 x1 < y1 < x2)
+        long TEST_STOCK_QUANTITY = 1000l;
+        int TEST_REQUEST_COUNT = 200;
+        Clothes TEST_CLOTHES_X = itemRepository.save(createClothes(createClothesSize(SizeLabel.S, TEST_STOCK_QUANTITY)));
+        Clothes TEST_CLOTHES_Y = itemRepository.save(createClothes(createClothesSize(SizeLabel.S, TEST_STOCK_QUANTITY)));
+        TEST_CLOTHES_X.changeItemSizes(List.of(createClothesSize(SizeLabel.L, TEST_STOCK_QUANTITY)));
+        itemRepository.save(TEST_CLOTHES_X);
+
+        Map<SizeLabel, Long> TEST_X_SIZE_IDS = itemSizeRepository.getItemSizesByItemIds(List.of(TEST_CLOTHES_X.getItemId()))
+                .stream()
+                .collect(Collectors.toMap(ItemSize::getSizeLabel, ItemSize::getItemSizeId));
+        Long X1 = TEST_X_SIZE_IDS.get(SizeLabel.S);
+        Long X2 = TEST_X_SIZE_IDS.get(SizeLabel.L);
+        Long Y1 = TEST_CLOTHES_Y.getItemSizes().get(0).getItemSizeId();
+        Long X = TEST_CLOTHES_X.getItemId();
+        Long Y = TEST_CLOTHES_Y.getItemId();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        CountDownLatch startLatch = new CountDownLatch(1);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for(int i = 0; i < TEST_REQUEST_COUNT; i++){
+            // 주문 A: x1 -> 상품 X, y1 -> 상품 Y / 주문 B: y1 -> 상품 Y, x2 -> 상품 X
+            // 한 줄씩 (상품 사이즈 -> 상품) 순서로 변경하면, A 는 X 를 잡고 Y 를 기다리고 B 는 Y 를 잡고 X 를 기다립니다.
+            List<StockLine> stockLines = i % 2 == 0
+                    ? List.of(StockLine.of(X, X1, 1l), StockLine.of(Y, Y1, 1l))
+                    : List.of(StockLine.of(Y, Y1, 1l), StockLine.of(X, X2, 1l));
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                itemStockService.decreaseStocks(stockLines);
+                return null;
+            }));
+        }
+
+        //when
+        startLatch.countDown();
+        // 교착 상태가 발생하면 lock timeout 예외로 실패합니다.
+        for(Future<?> future : futures)
+            future.get(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        //then
+        long orderCount = TEST_REQUEST_COUNT / 2;
+        assertThat(itemSizeRepository.findById(X1).get().getStockQuantity(), is(TEST_STOCK_QUANTITY - orderCount));
+        assertThat(itemSizeRepository.findById(X2).get().getStockQuantity(), is(TEST_STOCK_QUANTITY - orderCount));
+        assertThat(itemSizeRepository.findById(Y1).get().getStockQuantity(), is(TEST_STOCK_QUANTITY - orderCount * 2));
+        assertThat(itemRepository.findById(X).get().getStockQuantity(), is(TEST_STOCK_QUANTITY * 2 - orderCount * 2));
+        assertThat(itemRepository.findById(Y).get().getStockQuantity(), is(TEST_STOCK_QUANTITY - orderCount * 2));
+    }
+
+    @Test
+    public void 여러_상품_주문시_재고량_부족하면_모두_롤백_테스트() throws Exception {
+        //given
+        Clothes TEST_CLOTHES_X = itemRepository.save(createClothes(createClothesSize(SizeLabel.S, 10l)));
+        Clothes TEST_CLOTHES_Y = itemRepository.save(createClothes(createClothesSize(SizeLabel.S, 1l)));
+        Long X1 = TEST_CLOTHES_X.getItemSizes().get(0).getItemSizeId();
+        Long Y1 = TEST_CLOTHES_Y.getItemSizes().get(0).getItemSizeId();
+
+        //when, then
+        assertThrows(OrderFailException.class, () -> {
+            itemStockService.decreaseStocks(List.of(
+                    StockLine.of(TEST_CLOTHES_X.getItemId(), X1, 3l),
+                    StockLine.of(TEST_CLOTHES_Y.getItemId(), Y1, 2l)));
+        });
+        assertThat(itemSizeRepository.findById(X1).get().getStockQuantity(), is(10l));
+        assertThat(itemRepository.findById(TEST_CLOTHES_X.getItemId()).get().getStockQuantity(), is(10l));
+        assertThat(itemSizeRepository.findById(Y1).get().getStockQuantity(), is(1l));
+    }
+
+    private ClothesSize createClothesSize(Long stockQuantity) {
+        return createClothesSize(SizeLabel.M, stockQuantity);
+    }
+
+    private ClothesSize createClothesSize(SizeLabel sizeLabel, Long stockQuantity) {
+        return ClothesSize.builder()
+                .sizeLabel(sizeLabel)
+                .stockQuantity(stockQuantity)
+                .build();
+    }
+
+    private Clothes createClothes(ClothesSize clothesSize) {
+        Clothes clothes = Clothes.builder()
+                .name("testName")
+                .engName("testEngName")
+                .price(1000l)
+                .build();
+        clothes.changeItemSizes(List.of(clothesSize));
+        return clothes;
+    }
+}
@@ -50,7 +50,7 @@ public class RestMemberControllerTest {
         //given
         Member TEST_MEMBER = createMember();
         CheckId TEST_API_REQUEST = new CheckId("checkId");
-        given(memberRepository.findByAuthIdLike(any()))
+        given(memberRepository.findByAuthId(any()))
                 .willReturn(Optional.of(TEST_MEMBER));
 
         //when
@@ -59,7 +59,7 @@ public class RestMemberControllerTest {
                                             .content(asJsonString(TEST_API_REQUEST)));
 
         //then
-        verify(memberRepository, atLeastOnce()).findByAuthIdLike(any());
+        verify(memberRepository, atLeastOnce()).findByAuthId(any());
         resultActions
                 .andExpect(result -> {
                     MockHttpServletResponse response = result.getResponse();
@@ -1,6 +1,6 @@
 package com.allan.shoppingMall.domains.member.service;
 
-import com.allan.shoppingMall.common.config.aop.MemberJoinedEventPublishAop;
+import com.allan.shoppingMall.common.outbox.OutboxEventRecorder;
 import com.allan.shoppingMall.domains.member.domain.MemberRepository;
 import com.allan.shoppingMall.domains.member.domain.model.MemberForm;
 import com.allan.shoppingMall.domains.mileage.domain.model.MileageContent;
@@ -26,6 +26,9 @@ public class MemberServiceTest {
     @Mock
     MileageService mileageService;
 
+    @Mock
+    OutboxEventRecorder outboxEventRecorder;
+
     @InjectMocks
     MemberService memberService;
 
@@ -51,7 +54,8 @@ public class MemberServiceTest {
 
         //then
         verify(memberRepository, atLeastOnce()).save(any());
-        verify(memberRepository, atLeastOnce()).findByAuthIdLike(any());
+        verify(memberRepository, atLeastOnce()).findByAuthId(any());
         verify(mileageService, atLeastOnce()).accumulateMileage("", "testAuthId", 3000l, MileageContent.JOIN_MILEAGE_ACCUMULATE);
+        verify(outboxEventRecorder, atLeastOnce()).record(any(), any());
     }
 }
@@ -0,0 +1,71 @@
+package com.allan.shoppingMall.domains.mileage.domain;
+
+import com.allan.shoppingMall.common.config.jpa.auditing.JpaAuditingConfig;
+import com.allan.shoppingMall.domains.mileage.domain.model.MileageContent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@DataJpaTest(
+        includeFilters = @ComponentScan.Filter(
+                type = FilterType.ASSIGNABLE_TYPE,
+                classes = JpaAuditingConfig.class
+        )
+)
+@WithMockUser
+public class MileageBalanceRepositoryTest {
+
+    @Autowired
+    TestEntityManager testEntityManager;
+
+    @Autowired
+    MileageBalanceRepository mileageBalanceRepository;
+
+    @Test
+    public void 잔액_조건부_차감_테스트() throws Exception {
+        //given
+        testEntityManager.persist(new MileageBalance("testAuthId", 3000l));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        //when
+        int deducted = mileageBalanceRepository.deductPoint("testAuthId", 2000l);
+        int overdrawn = mileageBalanceRepository.deductPoint("testAuthId", 2000l); // 잔액 1000 보다 큰 포인트.
+        testEntityManager.clear();
+
+        //then
+        assertThat(deducted, is(1));
+        assertThat(overdrawn, is(0));
+        assertThat(mileageBalanceRepository.findById("testAuthId").get().getBalance(), is(1000l));
+    }
+
+    @Test
+    public void 마일리지가_없는_잔액_조회_테스트() throws Exception {
+        //given
+        testEntityManager.persist(new MileageBalance("testAuthId1", 1000l));
+        testEntityManager.persist(new MileageBalance("testAuthId2", 1000l));
+        testEntityManager.persist(Mileage.builder()
+                .authId("testAuthId1")
+                .orderNum("testOrderNum1")
+                .mileageContent(MileageContent.PAYMENT_MILEAGE_ACCUMULATE)
+                .point(1000l)
+                .build());
+        testEntityManager.flush();
+
+        //when
+        List<String> authIds = mileageBalanceRepository.findAuthIdsWithoutMileage();
+
+        //then
+        // 마일리지가 모두 삭제 되었지만 잔액이 남아있는 회원만 조회.
+        assertThat(authIds, is(List.of("testAuthId2")));
+    }
+}
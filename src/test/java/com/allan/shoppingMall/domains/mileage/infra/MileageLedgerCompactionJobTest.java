@@ -0,0 +1,113 @@
+package com.allan.shoppingMall.domains.mileage.infra;
+
+import com.allan.shoppingMall.common.config.jpa.auditing.JpaAuditingConfig;
+import com.allan.shoppingMall.domains.mileage.domain.*;
+import com.allan.shoppingMall.domains.mileage.domain.model.MileageContent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@DataJpaTest(
+        includeFilters = @ComponentScan.Filter(
+                type = FilterType.ASSIGNABLE_TYPE,
+                classes = {JpaAuditingConfig.class, MileageLedgerCompactionJob.class}
+        )
+)
+@WithMockUser
+public class MileageLedgerCompactionJobTest {
+
+    @Autowired
+    TestEntityManager testEntityManager;
+
+    @Autowired
+    MileageLedgerCompactionJob mileageLedgerCompactionJob;
+
+    @Autowired
+    MileageRepository mileageRepository;
+
+    @Autowired
+    MileageBalanceRepository mileageBalanceRepository;
+
+    @Autowired
+    MileageHistoryRepository mileageHistoryRepository;
+
+    @Test
+    public void 마일리지_만료_및_합치기_테스트() throws Exception {
+        //given
+        LocalDateTime now = LocalDateTime.now();
+        persistMileage("testOrderNum1", MileageContent.PAYMENT_MILEAGE_ACCUMULATE, 1000l, now.minusMonths(30));
+        persistMileage("testOrderNum2", MileageContent.PAYMENT_MILEAGE_ACCUMULATE, 500l, now.minusMonths(14));
+        persistMileage("testOrderNum3", MileageContent.USED_MILEAGE_DEDUCTION, -300l, now.minusMonths(13));
+        persistMileage("testOrderNum4", MileageContent.PAYMENT_MILEAGE_ACCUMULATE, 200l, now.minusMonths(1));
+        testEntityManager.persist(new MileageBalance("testAuthId", 1400l));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        //when
+        mileageLedgerCompactionJob.compact(now);
+        testEntityManager.clear();
+
+        //then
+        // 24개월 이전 적립 포인트(1000) 중 사용하지 않은 700 만료.
+        assertThat(mileageBalanceRepository.findById("testAuthId").get().getBalance(), is(700l));
+        assertThat(mileageRepository.sumPointByAuthId("testAuthId"), is(700l));
+
+        // 12개월 이전 마일리지 3개는 합계 한개로 합치고, 보관 테이블로 복사.
+        List<Mileage> mileages = mileageRepository.findAllByAuthId("testAuthId");
+        assertThat(mileages.size(), is(3));
+        assertThat(mileages.stream().filter(mileage -> mileage.getMileageContent() == MileageContent.CHECKPOINT_MILEAGE)
+                .findFirst().get().getPoint(), is(1200l));
+        assertThat(mileageHistoryRepository.count(), is(3l));
+        assertThat(mileageHistoryRepository.findFirstByOrderNumAndMileageContentOrderByMileageHistoryIdDesc(
+                "testOrderNum3", MileageContent.USED_MILEAGE_DEDUCTION).get().getPoint(), is(-300l));
+    }
+
+    @Test
+    public void 마일리지_정리_재실행_테스트() throws Exception {
+        //given
+        LocalDateTime now = LocalDateTime.now();
+        persistMileage("testOrderNum1", MileageContent.PAYMENT_MILEAGE_ACCUMULATE, 1000l, now.minusMonths(30));
+        persistMileage("testOrderNum2", MileageContent.USED_MILEAGE_DEDUCTION, -400l, now.minusMonths(26));
+        testEntityManager.persist(new MileageBalance("testAuthId", 600l));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        //when
+        mileageLedgerCompactionJob.compact(now);
+        mileageLedgerCompactionJob.compact(now);
+        testEntityManager.clear();
+
+        //then
+        // 두번 실행해도 한번만 만료.
+        assertThat(mileageBalanceRepository.findById("testAuthId").get().getBalance(), is(0l));
+        assertThat(mileageRepository.sumPointByAuthId("testAuthId"), is(0l));
+    }
+
+    private void persistMileage(String orderNum, MileageContent mileageContent, Long point, LocalDateTime createdDate){
+        Mileage mileage = Mileage.builder()
+                .authId("testAuthId")
+                .orderNum(orderNum)
+                .mileageContent(mileageContent)
+                .point(point)
+                .build();
+        testEntityManager.persist(mileage);
+        testEntityManager.flush();
+
+        // 적립, 차감 시간은 auditing 으로 저장되므로 직접 변경.
+        testEntityManager.getEntityManager()
+                .createNativeQuery("update mileages set created_date = :createdDate where mileage_id = :mileageId")
+                .setParameter("createdDate", createdDate)
+                .setParameter("mileageId", mileage.getMileageId())
+                .executeUpdate();
+    }
+}
@@ -2,10 +2,14 @@ package com.allan.shoppingMall.domains.mileage.service;
 
 import com.allan.shoppingMall.common.exception.mileage.MileageDeductFailException;
 import com.allan.shoppingMall.domains.mileage.domain.Mileage;
+import com.allan.shoppingMall.domains.mileage.domain.MileageBalance;
+import com.allan.shoppingMall.domains.mileage.domain.MileageBalanceRepository;
+import com.allan.shoppingMall.domains.mileage.domain.MileagePointView;
 import com.allan.shoppingMall.domains.mileage.domain.MileageRepository;
 import com.allan.shoppingMall.domains.mileage.domain.model.MileageContent;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -19,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.hamcrest.Matchers.is;
 
@@ -29,83 +34,78 @@ public class MileageServiceTest {
     @Mock
     MileageRepository mileageRepository;
 
+    @Mock
+    MileageBalanceRepository mileageBalanceRepository;
+
     @InjectMocks
     MileageService mileageService;
 
     @Test
     public void 마일리지_적립_테스트() throws Exception {
-        //given, //when
+        //given
+        given(mileageBalanceRepository.existsById("testAuthId"))
+                .willReturn(true);
+
+        //when
         mileageService.accumulateMileage("testOrderNum", "testAuthId", 100l, MileageContent.PAYMENT_MILEAGE_ACCUMULATE);
 
         //then
         verify(mileageRepository, atLeastOnce()).save(any());
+        verify(mileageBalanceRepository, atLeastOnce()).addPoint("testAuthId", 100l);
     }
 
     @Test
     public void 마일리지_차감_테스트() throws Exception {
         //given
-        List<Mileage> TEST_MILEAGE_LIST = List.of(
-                Mileage.builder()
-                        .authId("testAuthId")
-                        .orderNum("testOrderNum1")
-                        .mileageContent(MileageContent.PAYMENT_MILEAGE_ACCUMULATE)
-                        .point(1000l)
-                        .build(),
-                Mileage.builder()
-                        .authId("testAuthId")
-                        .orderNum("testOrderNum2")
-                        .mileageContent(MileageContent.PAYMENT_MILEAGE_ACCUMULATE)
-                        .point(2000l)
-                        .build()
-        );
-        given(mileageRepository.findAllByAuthId(any()))
-                .willReturn(TEST_MILEAGE_LIST);
+        given(mileageBalanceRepository.existsById("testAuthId"))
+                .willReturn(true);
+        given(mileageBalanceRepository.deductPoint("testAuthId", 1000l))
+                .willReturn(1);
 
         //when
-        mileageService.deductMileage("testOrderNum1", "testAuthId", 1000l, MileageContent.USED_MILEAGE_DEDUCTION);
+        mileageService.deductMileage("testOrderNum1", "testAuthId", -1000l, MileageContent.USED_MILEAGE_DEDUCTION);
 
         //then
-        verify(mileageRepository, atLeastOnce()).save(any());
+        ArgumentCaptor<Mileage> mileageCaptor = ArgumentCaptor.forClass(Mileage.class);
+        verify(mileageRepository, atLeastOnce()).save(mileageCaptor.capture());
+        assertThat(mileageCaptor.getValue().getPoint(), is(-1000l)); // 사용한 마일리지는 음수로 저장.
     }
 
     @Test
     public void 포인트부족으로_인한_마일리지_차감_실패테스트() throws Exception {
         //given
-        List<Mileage> TEST_MILEAGE_LIST = List.of(
-                Mileage.builder()
-                        .authId("testAuthId")
-                        .orderNum("testOrderNum1")
-                        .mileageContent(MileageContent.PAYMENT_MILEAGE_ACCUMULATE)
-                        .point(1000l)
-                        .build(),
-                Mileage.builder()
-                        .authId("testAuthId")
-                        .orderNum("testOrderNum2")
-                        .mileageContent(MileageContent.PAYMENT_MILEAGE_ACCUMULATE)
-                        .point(2000l)
-                        .build()
-        );
-        given(mileageRepository.findAllByAuthId(any()))
-                .willReturn(TEST_MILEAGE_LIST);
+        given(mileageBalanceRepository.existsById("testAuthId"))
+                .willReturn(true);
+        // 잔액(3000) 보다 큰 포인트를 차감하는 경우, 조건부 update 로 변경 된 row 가 없습니다.
+        given(mileageBalanceRepository.deductPoint("testAuthId", 4000l))
+                .willReturn(0);
 
         //when, then
         assertThrows(MileageDeductFailException.class, () -> {
             mileageService.deductMileage("testOrderNum1", "testAuthId", 4000l, MileageContent.USED_MILEAGE_DEDUCTION);
         });
+        verify(mileageRepository, never()).save(any());
     }
 
     @Test
     public void 마일리지_조회_실패로_인한_마일리지_차감_실패테스트() throws Exception {
         //given
-        List<Mileage> TEST_MILEAGE_LIST = List.of(
-        );
-        given(mileageRepository.findAllByAuthId(any()))
-                .willReturn(TEST_MILEAGE_LIST);
+        // 잔액 row 가 없는 회원은 마일리지 합계(0)로 잔액 row 를 생성합니다.
+        given(mileageBalanceRepository.existsById("testAuthId"))
+                .willReturn(false);
+        given(mileageRepository.sumPointByAuthId("testAuthId"))
+                .willReturn(0l);
+        given(mileageBalanceRepository.deductPoint("testAuthId", 4000l))
+                .willReturn(0);
 
         //when, then
         assertThrows(MileageDeductFailException.class, () -> {
             mileageService.deductMileage("testOrderNum1", "testAuthId", 4000l, MileageContent.USED_MILEAGE_DEDUCTION);
         });
+
+        ArgumentCaptor<MileageBalance> balanceCaptor = ArgumentCaptor.forClass(MileageBalance.class);
+        verify(mileageBalanceRepository, atLeastOnce()).saveAndFlush(balanceCaptor.capture());
+        assertThat(balanceCaptor.getValue().getBalance(), is(0l));
     }
 
     @Test
@@ -125,14 +125,19 @@ public class MileageServiceTest {
                         .point(-500l)
                         .build()
         );
-        given(mileageRepository.findAllByOrderNum(any()))
+        given(mileageRepository.findAllByOrderNum("testOrderNum1"))
                 .willReturn(TEST_MILEAGE_LIST);
+        given(mileageRepository.sumPointByOrderNum("testOrderNum1"))
+                .willReturn(List.of(createPointView("testAuthId", 500l)));
+        given(mileageBalanceRepository.existsById("testAuthId"))
+                .willReturn(true);
 
         //when
-        mileageService.deleteMileage(any());
+        mileageService.deleteMileage("testOrderNum1");
 
         //then
         verify(mileageRepository, atLeastOnce()).deleteAllByMileageIds(any());
+        verify(mileageBalanceRepository, atLeastOnce()).addPoint("testAuthId", -500l); // 삭제 한 합계만큼 잔액을 되돌립니다.
     }
 
 
@@ -158,35 +163,43 @@ public class MileageServiceTest {
     @Test
     public void 사용가능한_총마일리지_조회테스트() throws Exception {
         //given
-        Mileage TEST_MILEAGE_1 = Mileage.builder()
-                .orderNum("testOrderNum1")
-                .authId("testAuthId")
-                .mileageContent(MileageContent.JOIN_MILEAGE_ACCUMULATE)
-                .point(1000l)
-                .build();
+        given(mileageBalanceRepository.findById("testAuthId"))
+                .willReturn(Optional.of(new MileageBalance("testAuthId", 3200l)));
 
-        Mileage TEST_MILEAGE_2 = Mileage.builder()
-                .orderNum("testOrderNum2")
-                .authId("testAuthId")
-                .mileageContent(MileageContent.JOIN_MILEAGE_ACCUMULATE)
-                .point(2500l)
-                .build();
+        //when
+        long mileagePoint = mileageService.getAvailableMileagePoint("testAuthId");
 
-        Mileage TEST_MILEAGE_3 = Mileage.builder()
-                .orderNum("testOrderNum2")
-                .authId("testAuthId")
-                .mileageContent(MileageContent.PAYMENT_MILEAGE_ACCUMULATE)
-                .point(-300l)
-                .build();
+        //then
+        verify(mileageRepository, never()).findAllByAuthId(any()); // 마일리지 전체를 조회하지 않습니다.
+        assertThat(mileagePoint, is(3200l));
+    }
 
-        given(mileageRepository.findAllByAuthId("testAuthId"))
-                .willReturn(List.of(TEST_MILEAGE_1, TEST_MILEAGE_2, TEST_MILEAGE_3));
+    @Test
+    public void 잔액이_없는_회원의_사용가능한_총마일리지_조회테스트() throws Exception {
+        //given
+        given(mileageBalanceRepository.findById("testAuthId"))
+                .willReturn(Optional.empty());
+        given(mileageRepository.sumPointByAuthId("testAuthId"))
+                .willReturn(3200l);
 
         //when
         long mileagePoint = mileageService.getAvailableMileagePoint("testAuthId");
 
         //then
-        verify(mileageRepository, atLeastOnce()).findAllByAuthId("testAuthId");
-        assertThat(mileagePoint, is(TEST_MILEAGE_1.getPoint() + TEST_MILEAGE_2.getPoint() + TEST_MILEAGE_3.getPoint()));
+        assertThat(mileagePoint, is(3200l));
+    }
+
+    private MileagePointView createPointView(String authId, Long point){
+        return new MileagePointView() {
+            @Override
+            public String getAuthId() {
+                return authId;
+            }
+
+            @Override
+            public Long getPoint() {
+                return point;
+            }
+        };
     }
 }
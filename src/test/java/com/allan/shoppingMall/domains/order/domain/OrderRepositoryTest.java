@@ -13,6 +13,10 @@ import com.allan.shoppingMall.domains.item.domain.clothes.SizeLabel;
 import com.allan.shoppingMall.domains.member.domain.Gender;
 import com.allan.shoppingMall.domains.member.domain.Member;
 import com.allan.shoppingMall.domains.member.domain.MemberRole;
+import com.allan.shoppingMall.domains.mileage.domain.Mileage;
+import com.allan.shoppingMall.domains.mileage.domain.model.MileageContent;
+import com.allan.shoppingMall.domains.order.domain.model.OrderCursor;
+import com.allan.shoppingMall.domains.order.domain.model.OrderCursorPage;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -324,6 +328,141 @@ public class OrderRepositoryTest {
         assertThat(orders.get(2).getOrderItems().get(0).getItem().getName(), is(TEST_ORDER_4.getOrderItems().get(0).getItem().getName()));
     }
 
+    @Test
+    public void 회원아이디로_주문_요약_커서_페이징_테스트() throws Exception {
+        //given
+        Member TEST_MEMBER = Member.builder()
+                .name("testName")
+                .authId("testId")
+                .pwd("testPwd")
+                .age(10)
+                .gender(Gender.MAN)
+                .email("testEmail@email")
+                .phone("000-0000-0000")
+                .dateOfBirth("1993-09-09")
+                .role(MemberRole.ACTIVATED_USER)
+                .address(Address.builder()
+                        .address("testAddress")
+                        .detailAddress("testDetailAddress")
+                        .postCode("65000")
+                        .build())
+                .build();
+
+        Clothes TEST_CLOTHES1 = createClothes(1000l, "testClothesName", "testClothesEngName", Color.RED);
+        Clothes TEST_CLOTHES2 = createClothes(100l, "testClothesName2", "testClothesEngName2", Color.BLUE);
+
+        ItemSize TEST_CLOTHES_SIZE_1 = createClothesSize(SizeLabel.S, 10l);
+        ItemSize TEST_CLOTHES_SIZE_2 = createClothesSize(SizeLabel.M, 20l);
+
+        TEST_CLOTHES1.changeItemSizes(List.of(TEST_CLOTHES_SIZE_1));
+        TEST_CLOTHES2.changeItemSizes(List.of(TEST_CLOTHES_SIZE_2));
+
+        Order TEST_ORDER_1 = createOrder(TEST_MEMBER);
+        TEST_ORDER_1.changeOrderItems(List.of(
+                new OrderItem(1l, TEST_CLOTHES1, TEST_CLOTHES_SIZE_1),
+                new OrderItem(2l, TEST_CLOTHES2, TEST_CLOTHES_SIZE_2)));
+
+        Order TEST_ORDER_2 = createOrder(TEST_MEMBER);
+        TEST_ORDER_2.changeOrderItems(List.of(new OrderItem(1l, TEST_CLOTHES2, TEST_CLOTHES_SIZE_2)));
+
+        Order TEST_ORDER_3 = createOrder(TEST_MEMBER);
+        TEST_ORDER_3.changeOrderItems(List.of(new OrderItem(1l, TEST_CLOTHES1, TEST_CLOTHES_SIZE_1)));
+
+        testEntityManager.persist(TEST_MEMBER);
+        testEntityManager.persist(TEST_CLOTHES1);
+        testEntityManager.persist(TEST_CLOTHES2);
+        testEntityManager.persist(TEST_ORDER_1);
+        testEntityManager.persist(TEST_ORDER_2);
+        testEntityManager.persist(TEST_ORDER_3);
+
+        setOrderStatus(List.of(TEST_ORDER_1, TEST_ORDER_2, TEST_ORDER_3));
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        //when
+        // 최신 주문 부터 2개씩 조회.
+        OrderCursorPage firstPage = orderRepository.getOrderSummariesByMemberId(TEST_MEMBER.getMemberId(),
+                List.of(OrderStatus.ORDER_COMPLETE), null, 2);
+        OrderCursorPage secondPage = orderRepository.getOrderSummariesByMemberId(TEST_MEMBER.getMemberId(),
+                List.of(OrderStatus.ORDER_COMPLETE), OrderCursor.decode(firstPage.getNextCursor()), 2);
+
+        //then
+        assertThat(firstPage.getContent().size(), is(2));
+        assertThat(firstPage.isHasNext(), is(true));
+        assertThat(firstPage.getContent().get(0).getOrderId(), is(TEST_ORDER_3.getOrderId()));
+        assertThat(firstPage.getContent().get(1).getOrderId(), is(TEST_ORDER_2.getOrderId()));
+
+        // 이전 페이지와 겹치지 않고, 첫 번째 주문 상품 이름으로 주문명을 만드는가.?
+        assertThat(secondPage.getContent().size(), is(1));
+        assertThat(secondPage.isHasNext(), is(false));
+        assertThat(secondPage.getContent().get(0).getOrderId(), is(TEST_ORDER_1.getOrderId()));
+        assertThat(secondPage.getContent().get(0).getOrderName(), is("testClothesName외 1건"));
+    }
+
+    @Test
+    public void 금액_정보가_없는_주문_요약_결제금액_계산_테스트() throws Exception {
+        //given
+        Member TEST_MEMBER = Member.builder()
+                .name("testName")
+                .authId("testId")
+                .pwd("testPwd")
+                .age(10)
+                .gender(Gender.MAN)
+                .email("testEmail@email")
+                .phone("000-0000-0000")
+                .dateOfBirth("1993-09-09")
+                .role(MemberRole.ACTIVATED_USER)
+                .address(Address.builder()
+                        .address("testAddress")
+                        .detailAddress("testDetailAddress")
+                        .postCode("65000")
+                        .build())
+                .build();
+
+        Clothes TEST_CLOTHES1 = createClothes(1000l, "testClothesName", "testClothesEngName", Color.RED);
+        ItemSize TEST_CLOTHES_SIZE_1 = createClothesSize(SizeLabel.S, 10l);
+        TEST_CLOTHES1.changeItemSizes(List.of(TEST_CLOTHES_SIZE_1));
+
+        // 금액 정보를 저장하기 전에 생성 된 주문. (payableAmount 가 null)
+        Order TEST_LEGACY_ORDER = createOrder(TEST_MEMBER);
+        ReflectionTestUtils.setField(TEST_LEGACY_ORDER, "orderNum", "testLegacyOrderNum");
+        TEST_LEGACY_ORDER.changeOrderItems(List.of(new OrderItem(2l, TEST_CLOTHES1, TEST_CLOTHES_SIZE_1)));
+
+        // 금액 정보가 저장 된 주문.
+        Order TEST_ORDER = createOrder(TEST_MEMBER);
+        TEST_ORDER.changeOrderItems(List.of(new OrderItem(1l, TEST_CLOTHES1, TEST_CLOTHES_SIZE_1)));
+        TEST_ORDER.calculateAmount(100l);
+
+        testEntityManager.persist(TEST_MEMBER);
+        testEntityManager.persist(TEST_CLOTHES1);
+        testEntityManager.persist(TEST_LEGACY_ORDER);
+        testEntityManager.persist(TEST_ORDER);
+        testEntityManager.persist(Mileage.builder()
+                .authId(TEST_MEMBER.getAuthId())
+                .orderNum("testLegacyOrderNum")
+                .mileageContent(MileageContent.USED_MILEAGE_DEDUCTION)
+                .point(-500l)
+                .build());
+
+        setOrderStatus(List.of(TEST_LEGACY_ORDER, TEST_ORDER));
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        //when
+        OrderCursorPage page = orderRepository.getOrderSummariesByMemberId(TEST_MEMBER.getMemberId(),
+                List.of(OrderStatus.ORDER_COMPLETE), null, 10);
+
+        //then
+        // 주문 상품 금액 2000 + 배송비 3000 - 사용한 마일리지 500.
+        assertThat(page.getContent().size(), is(2));
+        assertThat(page.getContent().get(1).getOrderId(), is(TEST_LEGACY_ORDER.getOrderId()));
+        assertThat(page.getContent().get(1).getOrderTotalAmount(), is(4500l));
+        // 금액 정보가 저장 된 주문은 저장 된 금액을 사용합니다. (1000 + 3000 - 100)
+        assertThat(page.getContent().get(0).getOrderTotalAmount(), is(3900l));
+    }
+
     @Test
     public void 로그인_아이디와_주문번호로_주문조회_성공_테스트() throws Exception {
         //given
@@ -377,6 +516,7 @@ public class OrderRepositoryTest {
         TEST_CLOTHES2.changeItemSizes(List.of(TEST_CLOTHES_SIZE_4, TEST_CLOTHES_SIZE_5, TEST_CLOTHES_SIZE_6));
 
         Order TEST_ORDER = Order.builder()
+                .orderNum("order_uid_test")
                 .orderer(TEST_MEMBER_1)
                 .delivery(Delivery.builder()
                         .deliveryMemo("testMemo1")
@@ -496,6 +636,7 @@ public class OrderRepositoryTest {
         TEST_CLOTHES2.changeItemSizes(List.of(TEST_CLOTHES_SIZE_4, TEST_CLOTHES_SIZE_5, TEST_CLOTHES_SIZE_6));
 
         Order TEST_ORDER = Order.builder()
+                .orderNum("order_uid_test")
                 .orderer(TEST_MEMBER_1)
                 .delivery(Delivery.builder()
                         .deliveryMemo("testMemo1")
@@ -896,6 +1037,30 @@ public class OrderRepositoryTest {
         return new ItemSize(sizeLabel, stockQuantity);
     }
 
+    private Order createOrder(Member orderer){
+        return Order.builder()
+                .orderer(orderer)
+                .delivery(Delivery.builder()
+                        .deliveryMemo("testMemo")
+                        .deliveryStatus(DeliveryStatus.DELIVERY_READY)
+                        .address(Address.builder()
+                                .address("testAddress")
+                                .detailAddress("testDetailAddress")
+                                .postCode("65000")
+                                .build())
+                        .recipient("testRecipient")
+                        .recipientPhone("000-0000-0000")
+                        .build())
+                .ordererInfo(
+                        OrdererInfo.builder()
+                                .ordererName("testOrdererName")
+                                .ordererEmail("testOrdererEmail")
+                                .ordererPhone("000-0000-0000")
+                                .build()
+                )
+                .build();
+    }
+
     private void setOrderStatus(List<Order> orders){
         for(Order order : orders){
             ReflectionTestUtils.setField(order, "orderStatus", OrderStatus.ORDER_COMPLETE);
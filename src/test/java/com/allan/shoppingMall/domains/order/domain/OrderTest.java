@@ -86,11 +86,6 @@ public class OrderTest {
         testEntityManager.flush();
         testEntityManager.clear();
 
-        // 주문 시 재고량 확인.
-        assertThat(TEST_CLOTHES.getStockQuantity(), is(26l));
-        assertThat(TEST_CLOTHES_SIZE1.getStockQuantity(), is(13l));
-        assertThat(TEST_CLOTHES_SIZE2.getStockQuantity(), is(13l));
-
         // 주문 결제.
         TEST_ORDER.payOrder("testImpUid");
         assertThat(TEST_ORDER.getOrderStatus(), is(OrderStatus.ORDER_COMPLETE));
@@ -100,10 +95,9 @@ public class OrderTest {
         TEST_ORDER.cancelOrder();
 
         //then
-        // 주문 취소 시 재고량 복구 확인.
-        assertThat(TEST_CLOTHES.getStockQuantity(), is(30l));
-        assertThat(TEST_CLOTHES_SIZE1.getStockQuantity(), is(15l));
-        assertThat(TEST_CLOTHES_SIZE2.getStockQuantity(), is(15l));
+        // 주문 취소 시 주문, 배송 상태 확인. (재고량 복구는 OrderService, ItemStockService 에서 처리합니다.)
+        assertThat(TEST_ORDER.getOrderStatus(), is(OrderStatus.ORDER_CANCEL));
+        assertThat(TEST_ORDER.getDelivery().getDeliveryStatus(), is(DeliveryStatus.DELIVERY_CANCEL));
     }
 
     /**
@@ -127,17 +121,13 @@ public class OrderTest {
         testEntityManager.persist(TEST_ORDER);
         testEntityManager.flush();
         testEntityManager.clear();
-        assertThat(TEST_CLOTHES.getStockQuantity(), is(26l));
-        assertThat(TEST_CLOTHES_SIZE1.getStockQuantity(), is(13l));
-        assertThat(TEST_CLOTHES_SIZE2.getStockQuantity(), is(13l));
 
         //when
         TEST_ORDER.cancelOrder();
 
         //then
-        assertThat(TEST_CLOTHES.getStockQuantity(), is(30l));
-        assertThat(TEST_CLOTHES_SIZE1.getStockQuantity(), is(15l));
-        assertThat(TEST_CLOTHES_SIZE2.getStockQuantity(), is(15l));
+        assertThat(TEST_ORDER.getOrderStatus(), is(OrderStatus.ORDER_CANCEL));
+        assertThat(TEST_ORDER.getDelivery().getDeliveryStatus(), is(DeliveryStatus.DELIVERY_CANCEL));
     }
 
     @Test
@@ -194,6 +184,40 @@ public class OrderTest {
         });
     }
 
+    /**
+     * 주문 금액 정보는 주문 상품에 저장 된 주문 당시 가격으로 계산하여 저장합니다.
+     */
+    @Test
+    public void 주문_금액_정보_저장_테스트() throws Exception {
+        //given
+        Member TEST_ORDERER = createMember();
+        ItemSize TEST_CLOTHES_SIZE1 = createClothesSize(SizeLabel.S, 15l);
+        ItemSize TEST_CLOTHES_SIZE2 = createClothesSize(SizeLabel.M, 15l);
+        Clothes TEST_CLOTHES = createClothes(List.of(TEST_CLOTHES_SIZE1, TEST_CLOTHES_SIZE2));
+
+        Order TEST_ORDER = createOrderByMember(TEST_ORDERER);
+        TEST_ORDER.changeOrderItems(List.of(new OrderItem(2l, TEST_CLOTHES, TEST_CLOTHES_SIZE1),
+                new OrderItem(3l, TEST_CLOTHES, TEST_CLOTHES_SIZE2)));
+        assertThat(TEST_ORDER.hasAmount(), is(false));
+
+        //when
+        TEST_ORDER.calculateAmount(100l);
+        testEntityManager.persist(TEST_ORDERER);
+        testEntityManager.persist(TEST_CLOTHES);
+        testEntityManager.persist(TEST_ORDER);
+        ReflectionTestUtils.setField(TEST_CLOTHES, "price", 1000l); // 주문 이후 상품 가격 변경.
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        //then
+        Order findOrder = testEntityManager.find(Order.class, TEST_ORDER.getOrderId());
+        assertThat(findOrder.hasAmount(), is(true));
+        assertThat(findOrder.getItemAmount(), is(500l));
+        assertThat(findOrder.getDeliveryAmount(), is(3000l));
+        assertThat(findOrder.getUsedMileage(), is(100l));
+        assertThat(findOrder.getPayableAmount(), is(3400l));
+    }
+
     private Member createMember() {
         return Member.builder()
                 .name("testMemberName")
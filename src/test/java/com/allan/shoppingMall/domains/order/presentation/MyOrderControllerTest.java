@@ -3,15 +3,13 @@ package com.allan.shoppingMall.domains.order.presentation;
 import com.allan.shoppingMall.domains.cart.service.CartService;
 import com.allan.shoppingMall.domains.infra.AuthenticationConverter;
 import com.allan.shoppingMall.domains.member.domain.Member;
-import com.allan.shoppingMall.domains.order.domain.Order;
+import com.allan.shoppingMall.domains.order.domain.model.OrderCursorPage;
 import com.allan.shoppingMall.domains.order.service.OrderService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
@@ -53,20 +51,18 @@ public class MyOrderControllerTest {
         given(authenticationConverter.getMemberFromAuthentication(any()))
                 .willReturn(TEST_MEMBER);
 
-        Order TEST_ORDER = Order.builder().build();
-        Page<Order> TEST_PAGE = new PageImpl<>(List.of(TEST_ORDER));
-        given(orderService.getMyOrderSummaryList(any(), any()))
-                .willReturn(TEST_PAGE);
+        OrderCursorPage TEST_CURSOR_PAGE = new OrderCursorPage(List.of(), null);
+        given(orderService.getMyOrderSummaries(any(), any()))
+                .willReturn(TEST_CURSOR_PAGE);
 
         //when
-        ResultActions resultActions = mvc.perform(get("/myOrder/list")
-                                                    .param("page", "1"));
+        ResultActions resultActions = mvc.perform(get("/myOrder/list"));
 
         //then
         resultActions
                 .andExpect(status().isOk())
                 .andExpect(model().attributeExists("myOrderList"))
-                .andExpect(model().attributeExists("pagination"))
+                .andExpect(model().attributeExists("hasNext"))
                 .andExpect(view().name("order/myOrderList"));
     }
 }
@@ -1,6 +1,8 @@
 package com.allan.shoppingMall.domains.order.presentation;
 
+import com.allan.shoppingMall.common.api.IdempotencyStore;
 import com.allan.shoppingMall.common.exception.ErrorCode;
+import com.allan.shoppingMall.common.exception.order.OrderIntakeRejectedException;
 import com.allan.shoppingMall.common.exception.order.payment.PaymentFailByValidatedAmountException;
 import com.allan.shoppingMall.common.exception.order.payment.PaymentFailByValidatedOrderStatusException;
 import com.allan.shoppingMall.common.exception.order.payment.PaymentFailException;
@@ -10,6 +12,8 @@ import com.allan.shoppingMall.domains.infra.AuthenticationConverter;
 import com.allan.shoppingMall.domains.member.domain.Member;
 import com.allan.shoppingMall.domains.order.domain.model.CompletdOrderInfo;
 import com.allan.shoppingMall.domains.order.domain.model.OrderRequest;
+import com.allan.shoppingMall.domains.order.service.OrderIntakeQueue;
+import com.allan.shoppingMall.domains.order.service.OrderIntakeTicket;
 import com.allan.shoppingMall.domains.order.service.OrderService;
 import com.allan.shoppingMall.domains.payment.domain.model.PaymentRequest;
 import com.allan.shoppingMall.domains.payment.service.PaymentService;
@@ -22,20 +26,26 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.CannotAcquireLockException;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
 import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -44,6 +54,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 )
 @AutoConfigureMockMvc
 @WithMockUser
+@Import(IdempotencyStore.class)
 public class RestOrderControllerTest {
 
     @MockBean
@@ -58,6 +69,9 @@ public class RestOrderControllerTest {
     @MockBean
     private IamportClient iamportClient;
 
+    @MockBean
+    private OrderIntakeQueue orderIntakeQueue;
+
     @Autowired
     MockMvc mvc;
 
@@ -80,8 +94,12 @@ public class RestOrderControllerTest {
 
         String TEST_ORDER_NUM = "testOrderNum";
 
-        given(orderService.order(any(), any()))
-                .willReturn(TEST_ORDER_NUM);
+        OrderIntakeTicket TEST_TICKET = mock(OrderIntakeTicket.class);
+        given(TEST_TICKET.getResult())
+                .willReturn(CompletableFuture.completedFuture(TEST_ORDER_NUM));
+
+        given(orderIntakeQueue.submit(any(), any()))
+                .willReturn(TEST_TICKET);
 
         OrderRequest TEST_ORDER_REQUEST = new OrderRequest();
         TEST_ORDER_REQUEST.setOrdererName("테스터");
@@ -95,9 +113,11 @@ public class RestOrderControllerTest {
 
 
         //when
-        ResultActions resultActions = mvc.perform(post("/order")
+        MvcResult mvcResult = mvc.perform(post("/order")
                                             .contentType(MediaType.APPLICATION_JSON)
-                                            .content(asJsonString(TEST_ORDER_REQUEST)));
+                                            .content(asJsonString(TEST_ORDER_REQUEST)))
+                                .andReturn();
+        ResultActions resultActions = mvc.perform(asyncDispatch(mvcResult));
 
         //then
         resultActions
@@ -107,6 +127,190 @@ public class RestOrderControllerTest {
                 .andExpect(jsonPath("orderNum").value(TEST_ORDER_NUM));
     }
 
+    @Test
+    public void 주문_접수_큐_초과시_주문_거절_테스트() throws Exception {
+        //given
+        Member TEST_MEMBER = Member
+                .builder()
+                .name("testName")
+                .phone("010-0000-0000")
+                .email("testEmail")
+                .build();
+
+        given(authenticationConverter.getMemberFromAuthentication(any()))
+                .willReturn(TEST_MEMBER);
+
+        given(orderIntakeQueue.submit(any(), any()))
+                .willThrow(new OrderIntakeRejectedException(ErrorCode.ORDER_INTAKE_QUEUE_FULL));
+
+        OrderRequest TEST_ORDER_REQUEST = new OrderRequest();
+        TEST_ORDER_REQUEST.setOrdererName("테스터");
+        TEST_ORDER_REQUEST.setOrdererPhone("01000000000");
+        TEST_ORDER_REQUEST.setOrdererEmail("test@test.com");
+        TEST_ORDER_REQUEST.setRecipientName("테스터");
+        TEST_ORDER_REQUEST.setRecipientPhone("01011112222");
+        TEST_ORDER_REQUEST.setPostcode("65044");
+        TEST_ORDER_REQUEST.setAddress("testAddress");
+        TEST_ORDER_REQUEST.setDetailAddress("testDetailAddress");
+
+        //when
+        MvcResult mvcResult = mvc.perform(post("/order")
+                                            .contentType(MediaType.APPLICATION_JSON)
+                                            .content(asJsonString(TEST_ORDER_REQUEST)))
+                                .andReturn();
+        ResultActions resultActions = mvc.perform(asyncDispatch(mvcResult));
+
+        //then
+        resultActions
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("apiResult").value(OrderResult.ORDER_FAIL.getResult()))
+                .andExpect(jsonPath("errorResponse.errorCode").value(ErrorCode.ORDER_INTAKE_QUEUE_FULL.getCode()));
+    }
+
+    @Test
+    public void 동일한_멱등키로_주문_재요청시_주문_재접수_방지_테스트() throws Exception {
+        //given
+        Member TEST_MEMBER = Member
+                .builder()
+                .name("testName")
+                .phone("010-0000-0000")
+                .email("testEmail")
+                .build();
+
+        given(authenticationConverter.getMemberFromAuthentication(any()))
+                .willReturn(TEST_MEMBER);
+
+        String TEST_ORDER_NUM = "testOrderNum";
+        OrderIntakeTicket TEST_TICKET = mock(OrderIntakeTicket.class);
+        given(TEST_TICKET.getResult())
+                .willReturn(CompletableFuture.completedFuture(TEST_ORDER_NUM));
+
+        given(orderIntakeQueue.submit(any(), any()))
+                .willReturn(TEST_TICKET);
+
+        OrderRequest TEST_ORDER_REQUEST = new OrderRequest();
+        TEST_ORDER_REQUEST.setOrdererName("테스터");
+        TEST_ORDER_REQUEST.setOrdererPhone("01000000000");
+        TEST_ORDER_REQUEST.setOrdererEmail("test@test.com");
+        TEST_ORDER_REQUEST.setRecipientName("테스터");
+        TEST_ORDER_REQUEST.setRecipientPhone("01011112222");
+        TEST_ORDER_REQUEST.setPostcode("65044");
+        TEST_ORDER_REQUEST.setAddress("testAddress");
+        TEST_ORDER_REQUEST.setDetailAddress("testDetailAddress");
+
+        //when
+        for(int i = 0; i < 2; i++){
+            MvcResult mvcResult = mvc.perform(post("/order")
+                                                .header(IdempotencyStore.IDEMPOTENCY_KEY_HEADER, "testOrderKey")
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(asJsonString(TEST_ORDER_REQUEST)))
+                                    .andReturn();
+
+            //then
+            mvc.perform(asyncDispatch(mvcResult))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("apiResult").value(OrderResult.ORDER_SUCCESS.getResult()))
+                    .andExpect(jsonPath("orderNum").value(TEST_ORDER_NUM));
+        }
+        verify(orderIntakeQueue, times(1)).submit(any(), any());
+    }
+
+    @Test
+    public void 일시적인_실패로_끝난_주문은_동일한_멱등키로_재접수_테스트() throws Exception {
+        //given
+        Member TEST_MEMBER = Member
+                .builder()
+                .name("testName")
+                .phone("010-0000-0000")
+                .email("testEmail")
+                .build();
+
+        given(authenticationConverter.getMemberFromAuthentication(any()))
+                .willReturn(TEST_MEMBER);
+
+        String TEST_ORDER_NUM = "testOrderNum";
+        OrderIntakeTicket TEST_FAILED_TICKET = mock(OrderIntakeTicket.class);
+        given(TEST_FAILED_TICKET.getResult())
+                .willReturn(CompletableFuture.failedFuture(new CannotAcquireLockException("lock timeout")));
+        OrderIntakeTicket TEST_TICKET = mock(OrderIntakeTicket.class);
+        given(TEST_TICKET.getResult())
+                .willReturn(CompletableFuture.completedFuture(TEST_ORDER_NUM));
+
+        given(orderIntakeQueue.submit(any(), any()))
+                .willReturn(TEST_FAILED_TICKET, TEST_TICKET);
+
+        OrderRequest TEST_ORDER_REQUEST = new OrderRequest();
+        TEST_ORDER_REQUEST.setOrdererName("테스터");
+        TEST_ORDER_REQUEST.setOrdererPhone("01000000000");
+        TEST_ORDER_REQUEST.setOrdererEmail("test@test.com");
+        TEST_ORDER_REQUEST.setRecipientName("테스터");
+        TEST_ORDER_REQUEST.setRecipientPhone("01011112222");
+        TEST_ORDER_REQUEST.setPostcode("65044");
+        TEST_ORDER_REQUEST.setAddress("testAddress");
+        TEST_ORDER_REQUEST.setDetailAddress("testDetailAddress");
+
+        //when
+        MvcResult failedResult = mvc.perform(post("/order")
+                                            .header(IdempotencyStore.IDEMPOTENCY_KEY_HEADER, "testRetryOrderKey")
+                                            .contentType(MediaType.APPLICATION_JSON)
+                                            .content(asJsonString(TEST_ORDER_REQUEST)))
+                                .andReturn();
+        ResultActions failedActions = mvc.perform(asyncDispatch(failedResult));
+
+        MvcResult retriedResult = mvc.perform(post("/order")
+                                            .header(IdempotencyStore.IDEMPOTENCY_KEY_HEADER, "testRetryOrderKey")
+                                            .contentType(MediaType.APPLICATION_JSON)
+                                            .content(asJsonString(TEST_ORDER_REQUEST)))
+                                .andReturn();
+        ResultActions retriedActions = mvc.perform(asyncDispatch(retriedResult));
+
+        //then
+        failedActions
+                .andExpect(jsonPath("apiResult").value(OrderResult.ORDER_FAIL.getResult()));
+        // lock 충돌로 실패한 주문은 보관하지 않으므로, 같은 키로 다시 접수합니다.
+        retriedActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("apiResult").value(OrderResult.ORDER_SUCCESS.getResult()))
+                .andExpect(jsonPath("orderNum").value(TEST_ORDER_NUM));
+        verify(orderIntakeQueue, times(2)).submit(any(), any());
+    }
+
+    @Test
+    public void 동일한_멱등키로_결제완료_재요청시_결제검증_재실행_방지_테스트() throws Exception {
+        //given
+        Payment TEST_PAYMENT = createPayment();
+
+        IamportResponse<Payment> TEST_IAMPORT_RESOURCE = new IamportResponse<Payment>();
+        ReflectionTestUtils.setField(TEST_IAMPORT_RESOURCE, "response", TEST_PAYMENT);
+
+        given(iamportClient.paymentByImpUid(any()))
+                .willReturn(TEST_IAMPORT_RESOURCE);
+
+        given(orderService.validatePaymentByIamport(any(), any()))
+                .willReturn(new CompletdOrderInfo(1l, "testAuthId"));
+
+        PaymentRequest TEST_PAYMENT_REQUEST = new PaymentRequest();
+        TEST_PAYMENT_REQUEST.setImp_uid("test_imp_uid");
+        TEST_PAYMENT_REQUEST.setMerchant_uid("test_merchantUid_uid");
+
+        //when
+        for(int i = 0; i < 2; i++){
+            ResultActions resultActions = mvc.perform(post("/order/complete")
+                                                .header(IdempotencyStore.IDEMPOTENCY_KEY_HEADER, "testPaymentKey")
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(asJsonString(TEST_PAYMENT_REQUEST)));
+
+            //then
+            resultActions
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("apiResult").value(OrderResult.PAYMENT_SUCCESS.getResult()))
+                    .andExpect(jsonPath("orderNum").value(TEST_PAYMENT.getMerchantUid()));
+        }
+        verify(iamportClient, times(1)).paymentByImpUid(any());
+        verify(orderService, times(1)).validatePaymentByIamport(any(), any());
+    }
+
     @Test
     public void 주문_결제정보_유효성검사_성공_테스트() throws Exception {
         //given
@@ -0,0 +1,175 @@
+package com.allan.shoppingMall.domains.order.service;
+
+import com.allan.shoppingMall.common.exception.ErrorCode;
+import com.allan.shoppingMall.common.exception.order.OrderFailException;
+import com.allan.shoppingMall.common.exception.order.OrderIntakeRejectedException;
+import com.allan.shoppingMall.domains.member.domain.Member;
+import com.allan.shoppingMall.domains.order.domain.model.OrderRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OrderIntakeQueueTest {
+
+    @Mock
+    OrderService orderService;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    OrderIntakeQueue orderIntakeQueue;
+
+    @Test
+    public void 주문_접수_후_처리결과_조회_테스트() throws Exception {
+        //given
+        ReflectionTestUtils.setField(orderIntakeQueue, "capacity", 10);
+        ReflectionTestUtils.setField(orderIntakeQueue, "workerCount", 1);
+        ReflectionTestUtils.setField(orderIntakeQueue, "batchSize", 10);
+        ReflectionTestUtils.setField(orderIntakeQueue, "ticketTtlSeconds", 300l);
+        orderIntakeQueue.start();
+
+        OrderRequest TEST_ORDER_REQUEST = new OrderRequest();
+        given(orderService.order(eq(TEST_ORDER_REQUEST), any()))
+                .willReturn("testOrderNum");
+
+        //when
+        OrderIntakeTicket ticket = orderIntakeQueue.submit(TEST_ORDER_REQUEST, createMember());
+        String orderNum = ticket.getResult().get(5, TimeUnit.SECONDS);
+        orderIntakeQueue.stop();
+
+        //then
+        assertThat(orderNum, is("testOrderNum"));
+        assertThat(orderIntakeQueue.getTicket(ticket.getTicketId()).get(), is(ticket));
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    public void 주문_접수_큐_초과시_주문_거절_테스트() throws Exception {
+        //given
+        ReflectionTestUtils.setField(orderIntakeQueue, "queue", new ArrayBlockingQueue<OrderIntakeTicket>(1));
+        ReflectionTestUtils.setField(orderIntakeQueue, "running", true);
+        orderIntakeQueue.submit(new OrderRequest(), createMember());
+
+        //when
+        OrderIntakeRejectedException exception = assertThrows(OrderIntakeRejectedException.class, () -> {
+            orderIntakeQueue.submit(new OrderRequest(), createMember());
+        });
+
+        //then
+        assertThat(exception.getErrorCode(), is(ErrorCode.ORDER_INTAKE_QUEUE_FULL));
+        verify(orderService, never()).order(any(), any());
+    }
+
+    @Test
+    public void 묶음_주문중_실패한_주문만_제외하고_저장_테스트() throws Exception {
+        //given
+        Member TEST_MEMBER = createMember();
+        OrderRequest TEST_ORDER_REQUEST_1 = new OrderRequest();
+        OrderRequest TEST_ORDER_REQUEST_2 = new OrderRequest();
+        OrderRequest TEST_ORDER_REQUEST_3 = new OrderRequest();
+        OrderIntakeTicket TEST_TICKET_1 = new OrderIntakeTicket(TEST_ORDER_REQUEST_1, TEST_MEMBER);
+        OrderIntakeTicket TEST_TICKET_2 = new OrderIntakeTicket(TEST_ORDER_REQUEST_2, TEST_MEMBER);
+        OrderIntakeTicket TEST_TICKET_3 = new OrderIntakeTicket(TEST_ORDER_REQUEST_3, TEST_MEMBER);
+
+        given(orderService.order(TEST_ORDER_REQUEST_1, TEST_MEMBER))
+                .willReturn("testOrderNum1");
+        given(orderService.order(TEST_ORDER_REQUEST_2, TEST_MEMBER))
+                .willThrow(new OrderFailException(ErrorCode.ITEM_STOCK_QUANTITY_EXCEEDED.getMessage(), ErrorCode.ITEM_STOCK_QUANTITY_EXCEEDED));
+        given(orderService.order(TEST_ORDER_REQUEST_3, TEST_MEMBER))
+                .willReturn("testOrderNum3");
+
+        //when
+        orderIntakeQueue.process(List.of(TEST_TICKET_1, TEST_TICKET_2, TEST_TICKET_3));
+
+        //then
+        assertThat(TEST_TICKET_1.getResult().get(), is("testOrderNum1"));
+        assertThat(TEST_TICKET_3.getResult().get(), is("testOrderNum3"));
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> TEST_TICKET_2.getResult().get());
+        assertThat(exception.getCause(), is(instanceOf(OrderFailException.class)));
+
+        // 실패한 주문이 포함 된 트랜잭션은 롤백 후, 나머지 주문으로 다시 저장.
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+        verify(orderService, times(2)).order(TEST_ORDER_REQUEST_1, TEST_MEMBER);
+    }
+
+    @Test
+    public void 묶음_주문중_lock_충돌시_주문별로_다시_저장_테스트() throws Exception {
+        //given
+        Member TEST_MEMBER = createMember();
+        OrderRequest TEST_ORDER_REQUEST_1 = new OrderRequest();
+        OrderRequest TEST_ORDER_REQUEST_2 = new OrderRequest();
+        OrderIntakeTicket TEST_TICKET_1 = new OrderIntakeTicket(TEST_ORDER_REQUEST_1, TEST_MEMBER);
+        OrderIntakeTicket TEST_TICKET_2 = new OrderIntakeTicket(TEST_ORDER_REQUEST_2, TEST_MEMBER);
+
+        // 다른 작업 스레드의 묶음 주문과 lock 이 충돌한 경우.
+        given(orderService.order(TEST_ORDER_REQUEST_1, TEST_MEMBER))
+                .willThrow(new CannotAcquireLockException("lock timeout"))
+                .willReturn("testOrderNum1");
+        given(orderService.order(TEST_ORDER_REQUEST_2, TEST_MEMBER))
+                .willReturn("testOrderNum2");
+
+        //when
+        orderIntakeQueue.process(List.of(TEST_TICKET_1, TEST_TICKET_2));
+
+        //then
+        // lock 충돌은 주문의 문제가 아니므로, 어떤 주문도 실패 처리하지 않습니다.
+        assertThat(TEST_TICKET_1.getResult().get(), is("testOrderNum1"));
+        assertThat(TEST_TICKET_2.getResult().get(), is("testOrderNum2"));
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    public void 주문별로_다시_저장시_lock_충돌이_계속되면_주문_실패_테스트() throws Exception {
+        //given
+        Member TEST_MEMBER = createMember();
+        OrderRequest TEST_ORDER_REQUEST_1 = new OrderRequest();
+        OrderRequest TEST_ORDER_REQUEST_2 = new OrderRequest();
+        OrderIntakeTicket TEST_TICKET_1 = new OrderIntakeTicket(TEST_ORDER_REQUEST_1, TEST_MEMBER);
+        OrderIntakeTicket TEST_TICKET_2 = new OrderIntakeTicket(TEST_ORDER_REQUEST_2, TEST_MEMBER);
+
+        given(orderService.order(TEST_ORDER_REQUEST_1, TEST_MEMBER))
+                .willReturn("testOrderNum1");
+        given(orderService.order(TEST_ORDER_REQUEST_2, TEST_MEMBER))
+                .willThrow(new CannotAcquireLockException("lock timeout"));
+
+        //when
+        orderIntakeQueue.process(List.of(TEST_TICKET_1, TEST_TICKET_2));
+
+        //then
+        assertThat(TEST_TICKET_1.getResult().get(), is("testOrderNum1"));
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> TEST_TICKET_2.getResult().get());
+        assertThat(exception.getCause(), is(instanceOf(CannotAcquireLockException.class)));
+        // 묶음 저장 1번 + 주문별 저장 3번.
+        verify(orderService, times(4)).order(TEST_ORDER_REQUEST_2, TEST_MEMBER);
+    }
+
+    private Member createMember() {
+        return Member.builder()
+                .authId("testAuthId")
+                .name("testName")
+                .build();
+    }
+}
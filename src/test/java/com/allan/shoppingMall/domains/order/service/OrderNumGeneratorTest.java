@@ -0,0 +1,77 @@
+package com.allan.shoppingMall.domains.order.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class OrderNumGeneratorTest {
+
+    @Test
+    public void 주문번호_생성_테스트() throws Exception {
+        //given
+        OrderNumGenerator orderNumGenerator = new OrderNumGenerator(1l);
+
+        //when
+        String orderNum = orderNumGenerator.generate();
+
+        //then
+        assertThat(orderNum, startsWith(OrderNumGenerator.ORDER_NUM_PREFIX));
+        long id = Long.parseLong(orderNum.substring(OrderNumGenerator.ORDER_NUM_PREFIX.length()));
+        assertThat((id >>> 12) & 1023l, is(1l)); // 서버 번호.
+    }
+
+    @Test
+    public void 주문번호_시간순_증가_테스트() throws Exception {
+        //given
+        OrderNumGenerator orderNumGenerator = new OrderNumGenerator(0l);
+        long lastId = orderNumGenerator.nextId();
+
+        //when, then
+        // 같은 ms 안에서 순번(4096 개) 을 모두 사용하는 경우에도 증가해야 합니다.
+        for(int i = 0; i < 10000; i++){
+            long id = orderNumGenerator.nextId();
+            assertThat(id, is(greaterThan(lastId)));
+            lastId = id;
+        }
+    }
+
+    @Test
+    public void 동시_주문번호_생성시_중복_방지_테스트() throws Exception {
+        //given
+        OrderNumGenerator orderNumGenerator = new OrderNumGenerator(0l);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        Set<String> orderNums = ConcurrentHashMap.newKeySet();
+        int TEST_REQUEST_COUNT = 8;
+        int TEST_ORDER_NUM_COUNT = 20000;
+
+        //when
+        List<Future<?>> futures = new ArrayList<>();
+        for(int i = 0; i < TEST_REQUEST_COUNT; i++){
+            futures.add(executorService.submit(() -> {
+                for(int j = 0; j < TEST_ORDER_NUM_COUNT; j++)
+                    orderNums.add(orderNumGenerator.generate());
+            }));
+        }
+        for(Future<?> future : futures)
+            future.get(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        //then
+        assertThat(orderNums.size(), is(TEST_REQUEST_COUNT * TEST_ORDER_NUM_COUNT));
+    }
+
+    @Test
+    public void 서버번호_범위_초과_테스트() throws Exception {
+        //when, then
+        assertThrows(IllegalArgumentException.class, () -> new OrderNumGenerator(1024l));
+    }
+}
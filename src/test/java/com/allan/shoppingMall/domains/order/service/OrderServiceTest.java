@@ -1,5 +1,7 @@
 package com.allan.shoppingMall.domains.order.service;
 
+import com.allan.shoppingMall.common.outbox.OutboxEventRecorder;
+import com.allan.shoppingMall.common.exception.item.ItemSizeNotFoundException;
 import com.allan.shoppingMall.common.exception.order.payment.PaymentFailByValidatedOrderStatusException;
 import com.allan.shoppingMall.common.exception.order.payment.PaymentFailException;
 import com.allan.shoppingMall.common.value.Address;
@@ -13,33 +15,39 @@ import com.allan.shoppingMall.domains.item.domain.item.ItemImage;
 import com.allan.shoppingMall.domains.item.domain.clothes.*;
 import com.allan.shoppingMall.domains.item.domain.item.ItemSize;
 import com.allan.shoppingMall.domains.item.domain.item.ItemSizeRepository;
+import com.allan.shoppingMall.domains.item.domain.model.StockLine;
+import com.allan.shoppingMall.domains.item.service.ItemStockService;
 import com.allan.shoppingMall.domains.member.domain.Member;
 import com.allan.shoppingMall.domains.mileage.domain.model.MileageContent;
 import com.allan.shoppingMall.domains.mileage.domain.model.MileageDTO;
 import com.allan.shoppingMall.domains.mileage.service.MileageService;
 import com.allan.shoppingMall.domains.order.domain.*;
+import com.allan.shoppingMall.domains.order.domain.model.OrderCursorPage;
+import com.allan.shoppingMall.domains.order.domain.model.OrderDetailDTO;
 import com.allan.shoppingMall.domains.order.domain.model.OrderLineRequest;
 import com.allan.shoppingMall.domains.order.domain.model.OrderRequest;
+import com.allan.shoppingMall.domains.order.domain.model.OrderSummaryDTO;
 import com.allan.shoppingMall.domains.payment.domain.PaymentRepository;
 import com.allan.shoppingMall.domains.payment.domain.model.PaymentDTO;
 import com.allan.shoppingMall.domains.payment.domain.model.iamport.PaymentIamportDTO;
 import com.allan.shoppingMall.domains.payment.service.PaymentService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.test.util.ReflectionTestUtils;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.*;
@@ -70,6 +78,18 @@ public class OrderServiceTest {
     @Mock
     CategoryRepository categoryRepository;
 
+    @Mock
+    ItemStockService itemStockService;
+
+    @Mock
+    StockReservationService stockReservationService;
+
+    @Mock
+    OrderNumGenerator orderNumGenerator;
+
+    @Mock
+    OutboxEventRecorder outboxEventRecorder;
+
     @InjectMocks
     OrderService orderService;
 
@@ -88,17 +108,17 @@ public class OrderServiceTest {
                 .stockQuantity(10l)
                 .build();
 
-        given(itemSizeRepository.getItemSizebySizelabel(any(), any()))
-                .willReturn(Optional.of(TEST_CLOTHES_SIZE_1));
-
         Clothes TEST_CLOTHES = Clothes.builder()
                 .price(15000l)
                 .build();
+        ReflectionTestUtils.setField(TEST_CLOTHES, "itemId", 1l);
         // clothes 엔티티의 재고량을 조절하기 위해선 changeClotehsSizes() 를 활용해야 합니다.
         // 자세한 정보는 Clothes 엔티티를 참고 해 주세요.
         TEST_CLOTHES.changeClothesSize(List.of(TEST_CLOTHES_SIZE_1, TEST_CLOTHES_SIZE_2));
-        given(clothesRepository.findById(any()))
-                .willReturn(Optional.of(TEST_CLOTHES));
+        given(clothesRepository.findAllById(any()))
+                .willReturn(List.of(TEST_CLOTHES));
+        given(itemSizeRepository.getItemSizesByItemIds(any()))
+                .willReturn(List.of(TEST_CLOTHES_SIZE_1, TEST_CLOTHES_SIZE_2));
 
         assertThat(TEST_CLOTHES.getStockQuantity(), is(30l));
 
@@ -119,27 +139,83 @@ public class OrderServiceTest {
         TEST_ORDER_REQUEST.setRecipientPhone("1111111111");
         TEST_ORDER_REQUEST.setUsedMileage(1000l);
 
-        Category TEST_CATEGROY = Category.builder().build();
-        given(categoryRepository.findById(any()))
-                .willReturn(Optional.of(TEST_CATEGROY));
-
         Category TEST_CATEGORY = Category.builder()
                 .categoryCode(CategoryCode.CLOTHES)
                 .build();
         ReflectionTestUtils.setField(TEST_CATEGORY, "categoryId", 1l);
 
-        given(categoryRepository.findById(any()))
-                .willReturn(Optional.of(TEST_CATEGORY));
+        given(categoryRepository.findAllById(any()))
+                .willReturn(List.of(TEST_CATEGORY));
+
+        given(orderNumGenerator.generate())
+                .willReturn("order_uid_1");
 
         //when
-        orderService.order(TEST_ORDER_REQUEST, TEST_MEMBER);
+        String orderNum = orderService.order(TEST_ORDER_REQUEST, TEST_MEMBER);
 
         //then
-        verify(orderRepository, atLeastOnce()).save(any());
+        ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
+        verify(orderRepository, atLeastOnce()).save(orderCaptor.capture());
         verify(mileageService, atLeastOnce()).deductMileage(any(), any(), any(), any());
-        assertThat(TEST_CLOTHES.getStockQuantity(), is(20l));
-        assertThat(TEST_CLOTHES_SIZE_1.getStockQuantity(), is(10l));
-        assertThat(TEST_CLOTHES_SIZE_2.getStockQuantity(), is(10l));
+        ArgumentCaptor<Collection<StockLine>> stockLineCaptor = stockLineCaptor();
+        verify(itemStockService, times(1)).decreaseStocks(stockLineCaptor.capture());
+        verify(stockReservationService, times(1)).reserve(any());
+        assertThat(orderNum, is("order_uid_1"));
+        assertThat(stockLineCaptor.getValue().size(), is(1));
+        assertThat(stockLineCaptor.getValue().iterator().next().getQuantity(), is(10l));
+        // 주문 금액 정보 저장. (15000 * 10, 50000 원 초과 주문은 배송비 무료)
+        assertThat(orderCaptor.getValue().getItemAmount(), is(150000l));
+        assertThat(orderCaptor.getValue().getDeliveryAmount(), is(0l));
+        assertThat(orderCaptor.getValue().getUsedMileage(), is(1000l));
+        assertThat(orderCaptor.getValue().getPayableAmount(), is(149000l));
+        // 재고량은 update 쿼리로 변경하므로, 엔티티의 재고량은 변경하지 않습니다.
+        assertThat(TEST_CLOTHES.getStockQuantity(), is(30l));
+    }
+
+    @Test
+    public void 주문_가능한_사이즈가_없는_상품_주문_테스트() throws Exception {
+        //given
+        ClothesSize TEST_CLOTHES_SIZE = ClothesSize.builder()
+                .sizeLabel(SizeLabel.S)
+                .stockQuantity(10l)
+                .build();
+
+        Clothes TEST_CLOTHES = Clothes.builder()
+                .price(15000l)
+                .build();
+        ReflectionTestUtils.setField(TEST_CLOTHES, "itemId", 1l);
+        TEST_CLOTHES.changeClothesSize(List.of(TEST_CLOTHES_SIZE));
+
+        Category TEST_CATEGORY = Category.builder()
+                .categoryCode(CategoryCode.CLOTHES)
+                .build();
+        ReflectionTestUtils.setField(TEST_CATEGORY, "categoryId", 1l);
+
+        given(categoryRepository.findAllById(any()))
+                .willReturn(List.of(TEST_CATEGORY));
+        given(clothesRepository.findAllById(any()))
+                .willReturn(List.of(TEST_CLOTHES));
+        given(itemSizeRepository.getItemSizesByItemIds(any()))
+                .willReturn(List.of(TEST_CLOTHES_SIZE));
+
+        OrderRequest TEST_ORDER_REQUEST = new OrderRequest();
+        TEST_ORDER_REQUEST.setOrderItems(createOrderLineRequest()); // M 사이즈 주문.
+        TEST_ORDER_REQUEST.setOrdererName("testOrdererName");
+        TEST_ORDER_REQUEST.setOrdererPhone("0000000000");
+        TEST_ORDER_REQUEST.setOrdererEmail("testOrdererEmail");
+        TEST_ORDER_REQUEST.setPostcode("222-3333");
+        TEST_ORDER_REQUEST.setAddress("testAddress");
+        TEST_ORDER_REQUEST.setDetailAddress("testDetailAddress");
+        TEST_ORDER_REQUEST.setDeliveryMemo("testMemo");
+        TEST_ORDER_REQUEST.setRecipientName("testRecipient");
+        TEST_ORDER_REQUEST.setRecipientPhone("1111111111");
+
+        //when, then
+        assertThrows(ItemSizeNotFoundException.class, () -> {
+            orderService.order(TEST_ORDER_REQUEST, Member.builder().build());
+        });
+        verify(orderRepository, never()).save(any());
+        verify(itemStockService, never()).decreaseStocks(any());
     }
 
 
@@ -174,54 +250,49 @@ public class OrderServiceTest {
         ReflectionTestUtils.setField(TEST_ORDER, "paymentNum", "testPaymentNum");
 
         TEST_ORDER.changeOrderItems(List.of(new OrderItem(5l, TEST_CLOTHES, TEST_CLOTHES_SIZE_S), new OrderItem(10l, TEST_CLOTHES, TEST_CLOTHES_SIZE_M)));
+        TEST_ORDER.calculateAmount(500l);
+
+        // 주문 이후 상품 가격이 변경 되어도, 주문시 저장한 금액으로 환불합니다.
+        ReflectionTestUtils.setField(TEST_CLOTHES, "price", 2000l);
 
         given(orderRepository.findByOrderNumAndAuthId(any(), any()))
                 .willReturn(Optional.of(TEST_ORDER));
 
+        given(stockReservationService.release(any()))
+                .willReturn(true);
+
         //when
         orderService.cancelMyOrder(any(), any());
 
         //then
         verify(orderRepository, atLeastOnce()).findByOrderNumAndAuthId(any(), any());
         verify(mileageService,atLeastOnce()).deleteMileage(any());
-        verify(paymentService, atLeastOnce()).refundPayment("testPaymentNum", 15000l); // 취소되는 결제 금액 확인.
+        verify(paymentService, atLeastOnce()).refundPayment("testPaymentNum", 15000l + 3000l - 500l); // 취소되는 결제 금액 확인.
+        verify(mileageService, never()).getMileageByOrderNum(any(), any());
+        ArgumentCaptor<Collection<StockLine>> stockLineCaptor = stockLineCaptor();
+        verify(itemStockService, times(1)).increaseStocks(stockLineCaptor.capture());
+        assertThat(stockLineCaptor.getValue().size(), is(2)); // 주문 상품 2건을 한 번에 복구.
     }
 
     @Test
-    public void 현재_자신의_주문_목록_페이징_테스트() throws Exception {
+    public void 현재_자신의_주문_목록_커서_페이징_테스트() throws Exception {
         //given
-        ItemImage TEST_ITEM_IMAGE = ItemImage.builder()
-                .build();
-
-        ClothesSize TEST_CLOTHES_SIZE = ClothesSize.builder()
-                .stockQuantity(10l)
-                .build();
-
-        Clothes TEST_CLOTHES = Clothes.builder()
-                .name("testClothesName")
-                .price(1000l)
-                .build();
-        TEST_CLOTHES.changeItemSizes(List.of(TEST_CLOTHES_SIZE));
-        TEST_CLOTHES.changeItemImages(List.of(TEST_ITEM_IMAGE));
-
-        OrderItem TEST_ORDER_CLOTHES = new OrderItem(10l, TEST_CLOTHES, TEST_CLOTHES_SIZE);
-
-        Order TEST_ORDER = Order.builder()
+        OrderSummaryDTO TEST_ORDER_SUMMARY = OrderSummaryDTO.builder()
+                .orderId(1l)
+                .orderNum("testOrderNum")
                 .build();
+        OrderCursorPage TEST_CURSOR_PAGE = new OrderCursorPage(List.of(TEST_ORDER_SUMMARY), null);
 
-        TEST_ORDER.changeOrderItems(List.of(TEST_ORDER_CLOTHES));
-        Page<Order> TEST_PAGE_RESPONSE = new PageImpl<>(List.of(TEST_ORDER));
-
-        given(orderRepository.getOrderListByAuthId(any(), any(), any()))
-                .willReturn(TEST_PAGE_RESPONSE);
-
-        PageRequest TEST_PAGE_REQUEST = PageRequest.of(1, 10);
+        given(orderRepository.getOrderSummariesByMemberId(any(), any(), any(), anyInt()))
+                .willReturn(TEST_CURSOR_PAGE);
 
         //when
-        Page<Order> page = orderService.getMyOrderSummaryList("testAuthId", TEST_PAGE_REQUEST);
+        OrderCursorPage page = orderService.getMyOrderSummaries(1l, null);
 
         //then
-        verify(orderRepository, atLeastOnce()).getOrderListByAuthId(any(), any(), any());
+        verify(orderRepository, atLeastOnce()).getOrderSummariesByMemberId(any(), any(), any(), anyInt());
+        assertThat(page.getContent().size(), is(1));
+        assertThat(page.isHasNext(), is(false));
     }
 
     @Test
@@ -259,6 +330,7 @@ public class OrderServiceTest {
                         .build())
                 .build();
         TEST_ORDER.changeOrderItems(List.of(TEST_ORDER_CLOTHES));
+        TEST_ORDER.calculateAmount(300l);
 
         // OrderStatus 는 insert 시점에 자동으로 설정되기 때문에
         // 테스트를 위해서 따로 값을 추가.
@@ -270,20 +342,70 @@ public class OrderServiceTest {
         PaymentDTO TEST_PAYMENT_DTO = PaymentDTO.builder()
                 .payMethod("card")
                 .build();
-        given(paymentService.getPamentDetail(any()))
-                .willReturn(TEST_PAYMENT_DTO);
-
-        MileageDTO TEST_MILEAGE_DTO = new MileageDTO(300l, MileageContent.USED_MILEAGE_DEDUCTION.getDesc());
-        given(mileageService.getMileageByOrderNum(any(), any()))
-                .willReturn(TEST_MILEAGE_DTO);
+        given(paymentService.getPaymentDetailAsync(any()))
+                .willReturn(CompletableFuture.completedFuture(TEST_PAYMENT_DTO));
 
         //when
-        orderService.getOrderDetailDTO("testAuthId", "testOrderNum");
+        OrderDetailDTO orderDetailDTO = orderService.getOrderDetailDTO("testAuthId", "testOrderNum");
 
         //then
         verify(orderRepository, atLeastOnce()).findByOrderNumAndAuthId(any(), any());
-        verify(paymentService, atLeastOnce()).getPamentDetail(any());
-        verify(mileageService, atLeastOnce()).getMileageByOrderNum(any(), any());
+        verify(paymentService, atLeastOnce()).getPaymentDetailAsync(any());
+        verify(mileageService, never()).getMileageByOrderNum(any(), any());
+        assertThat(orderDetailDTO.getPaymentInfo().getPayMethod(), is("카드결제"));
+        assertThat(orderDetailDTO.getPaymentInfo().isDelayed(), is(false));
+        assertThat(orderDetailDTO.getPaymentInfo().getItemAmount(), is(10000l));
+        assertThat(orderDetailDTO.getPaymentInfo().getDeliveryAmount(), is(3000l));
+        assertThat(orderDetailDTO.getPaymentInfo().getMileagePoint(), is(-300l));
+    }
+
+    @Test
+    public void 상세_주문_내역_결제정보_조회_지연_테스트() throws Exception {
+        //given
+        ClothesSize TEST_CLOTHES_SIZE = ClothesSize.builder()
+                .stockQuantity(20l)
+                .build();
+        ItemImage TEST_ITEM_IMAGE = ItemImage.builder().build();
+        Clothes TEST_CLOTHES = Clothes.builder()
+                .name("testClothesName")
+                .color(Color.RED)
+                .price(1000l)
+                .build();
+
+        TEST_CLOTHES.changeItemImages(List.of(TEST_ITEM_IMAGE));
+        TEST_CLOTHES.changeItemSizes(List.of(TEST_CLOTHES_SIZE));
+
+        Order TEST_ORDER = Order.builder()
+                .orderNum("testOrderNum")
+                .delivery(Delivery.builder()
+                        .address(Address.builder()
+                                .postCode("65000")
+                                .build())
+                        .build())
+                .ordererInfo(OrdererInfo.builder()
+                        .ordererName("testOrdererName")
+                        .build())
+                .build();
+        TEST_ORDER.changeOrderItems(List.of(new OrderItem(10l, TEST_CLOTHES, TEST_CLOTHES_SIZE)));
+        TEST_ORDER.calculateAmount(300l);
+        ReflectionTestUtils.setField(TEST_ORDER, "orderStatus", OrderStatus.ORDER_COMPLETE);
+
+        given(orderRepository.findByOrderNumAndAuthId("testAuthId", "testOrderNum"))
+                .willReturn(Optional.of(TEST_ORDER));
+
+        // Iamport 응답이 제한 시간 안에 오지 않는 경우.
+        given(paymentService.getPaymentDetailAsync(any()))
+                .willReturn(new CompletableFuture<>());
+        ReflectionTestUtils.setField(orderService, "paymentTimeoutMillis", 50l);
+
+        //when
+        OrderDetailDTO orderDetailDTO = orderService.getOrderDetailDTO("testAuthId", "testOrderNum");
+
+        //then
+        assertThat(orderDetailDTO.getPaymentInfo().isDelayed(), is(true));
+        assertThat(orderDetailDTO.getPaymentInfo().getTotalAmount(), is(10000l + 3000l - 300l));
+        assertThat(orderDetailDTO.getPaymentInfo().getItemAmount(), is(10000l));
+        assertThat(orderDetailDTO.getOrderItems().size(), is(1));
     }
 
     @Test
@@ -319,6 +441,7 @@ public class OrderServiceTest {
         given(orderRepository.findByOrderNumAndAuthId(any(), any()))
                 .willReturn(Optional.of(TEST_ORDER));
 
+        // 주문 금액 정보가 없는 주문은 사용한 마일리지를 조회해 결제 할 금액을 계산합니다.
         MileageDTO TEST_MILEAGE_DTO = new MileageDTO(0l, "");
         given(mileageService.getMileageByOrderNum(TEST_ORDER.getOrderNum(), MileageContent.USED_MILEAGE_DEDUCTION))
                 .willReturn(TEST_MILEAGE_DTO);
@@ -372,6 +495,7 @@ public class OrderServiceTest {
                 .build();
 
         TEST_ORDER.changeOrderItems(TEST_ORDER_CLOTHES_LIST);
+        TEST_ORDER.calculateAmount(200l);
 
         Long paymentAmount = TEST_ORDER_CLOTHES_LIST.stream()
                 .mapToLong(orderItem ->{
@@ -379,16 +503,15 @@ public class OrderServiceTest {
                 })
                 .sum();
 
-        MileageDTO TEST_MILEAGE_DTO = new MileageDTO(-200l, "");
-        given(mileageService.getMileageByOrderNum(TEST_ORDER.getOrderNum(), MileageContent.USED_MILEAGE_DEDUCTION))
-                .willReturn(TEST_MILEAGE_DTO);
+        // 주문 이후 상품 가격이 변경 되어도, 주문시 저장한 금액으로 검증합니다.
+        ReflectionTestUtils.setField(TEST_CLOTHES, "price", 5000l);
 
         PaymentIamportDTO TEST_PAYMENT_DTO = PaymentIamportDTO.builder()
                 .payStatus("paid")
                 .payMethod("card")
                 .merchantUid("testOrderNum")
                 .impUid("testPaymentNum")
-                .paymentAmount(paymentAmount + TEST_ORDER.getDelivery().getDeliveryAmount() + TEST_MILEAGE_DTO.getMileagePoint())
+                .paymentAmount(paymentAmount + TEST_ORDER.getDelivery().getDeliveryAmount() - 200l)
                 .build();
 
         given(orderRepository.findByOrderNumAndAuthId(any(), any()))
@@ -398,15 +521,19 @@ public class OrderServiceTest {
         // 테스트를 위해서 따로 값을 추가.
         ReflectionTestUtils.setField(TEST_ORDER, "orderStatus", OrderStatus.ORDER_TEMP);
 
+        given(stockReservationService.release(any()))
+                .willReturn(true);
+
         //when
         orderService.validatePaymentByIamport(TEST_PAYMENT_DTO, "testAuthId");
 
         //then
         verify(orderRepository, atLeastOnce()).findByOrderNumAndAuthId("testAuthId", TEST_PAYMENT_DTO.getMerchantUid());
-        verify(mileageService, atLeastOnce()).getMileageByOrderNum(TEST_ORDER.getOrderNum(), MileageContent.USED_MILEAGE_DEDUCTION);
+        verify(mileageService, never()).getMileageByOrderNum(any(), any());
         long accumulatePoint = (long) (TEST_PAYMENT_DTO.getPaymentAmount() * 0.1);
         verify(mileageService, atLeastOnce()).accumulateMileage(TEST_PAYMENT_DTO.getMerchantUid(), "testAuthId", accumulatePoint, MileageContent.PAYMENT_MILEAGE_ACCUMULATE);
         verify(paymentRepository, atLeastOnce()).save(any());
+        verify(outboxEventRecorder, atLeastOnce()).record(any(), any());
         assertThat(TEST_ORDER.getOrderStatus(), is(OrderStatus.ORDER_COMPLETE));
     }
 
@@ -464,6 +591,9 @@ public class OrderServiceTest {
         // 테스트를 위해서 따로 값을 추가.
         ReflectionTestUtils.setField(TEST_ORDER, "orderStatus", OrderStatus.ORDER_ITEM_READY);
 
+        given(stockReservationService.release(any()))
+                .willReturn(true);
+
         //when, then
         assertThrows(PaymentFailByValidatedOrderStatusException.class, () -> {
             orderService.validatePaymentByIamport(TEST_PAYMENT_DTO, "testAuthId");
@@ -505,6 +635,9 @@ public class OrderServiceTest {
         given(orderRepository.findByOrderNumAndAuthId(any(), any()))
                 .willReturn(Optional.of(TEST_TEMP_ORDER));
 
+        given(stockReservationService.release(any()))
+                .willReturn(true);
+
         //when
         orderService.deleteTempOrder(any(), any());
 
@@ -512,6 +645,9 @@ public class OrderServiceTest {
         verify(orderRepository, atLeastOnce()).delete(any());
         verify(orderRepository, atLeastOnce()).findByOrderNumAndAuthId(any(), any());
         verify(mileageService, atLeastOnce()).deleteMileage(any());
+        ArgumentCaptor<Collection<StockLine>> stockLineCaptor = stockLineCaptor();
+        verify(itemStockService, times(1)).increaseStocks(stockLineCaptor.capture());
+        assertThat(stockLineCaptor.getValue().iterator().next().getQuantity(), is(5l));
     }
 
 
@@ -552,6 +688,9 @@ public class OrderServiceTest {
         given(orderRepository.getOrderIdsByAuthId(any(String.class), any()))
                 .willReturn(List.of(TEST_ORDER));
 
+        given(stockReservationService.release(any()))
+                .willReturn(true);
+
         //when
         orderService.deleteAllTempOrder(TEST_ORDERER.getAuthId());
 
@@ -559,6 +698,14 @@ public class OrderServiceTest {
         verify(orderRepository, atLeastOnce()).getOrderIdsByAuthId(any(), any());
         verify(orderRepository, atLeastOnce()).delete(any());
         verify(mileageService, atLeastOnce()).deleteMileage(any());
+        ArgumentCaptor<Collection<StockLine>> stockLineCaptor = stockLineCaptor();
+        verify(itemStockService, times(1)).increaseStocks(stockLineCaptor.capture());
+        assertThat(stockLineCaptor.getValue().iterator().next().getQuantity(), is(10l));
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<Collection<StockLine>> stockLineCaptor(){
+        return ArgumentCaptor.forClass(Collection.class);
     }
 
     private ItemSize createItemSize() {
@@ -579,6 +726,7 @@ public class OrderServiceTest {
         return List.of(
                 OrderLineRequest.builder()
                         .itemId(1l)
+                        .categoryId(1l)
                         .size(SizeLabel.M)
                         .orderQuantity(10l)
                         .build());
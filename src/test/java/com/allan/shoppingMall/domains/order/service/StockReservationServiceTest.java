@@ -0,0 +1,226 @@
+package com.allan.shoppingMall.domains.order.service;
+
+import com.allan.shoppingMall.common.config.jpa.auditing.JpaAuditingConfig;
+import com.allan.shoppingMall.common.value.Address;
+import com.allan.shoppingMall.domains.delivery.domain.Delivery;
+import com.allan.shoppingMall.domains.delivery.domain.DeliveryStatus;
+import com.allan.shoppingMall.domains.item.domain.clothes.Clothes;
+import com.allan.shoppingMall.domains.item.domain.clothes.SizeLabel;
+import com.allan.shoppingMall.domains.item.domain.item.Color;
+import com.allan.shoppingMall.domains.item.domain.item.Item;
+import com.allan.shoppingMall.domains.item.domain.item.ItemSize;
+import com.allan.shoppingMall.domains.item.service.HotStockLedger;
+import com.allan.shoppingMall.domains.item.service.ItemStockService;
+import com.allan.shoppingMall.domains.member.domain.Gender;
+import com.allan.shoppingMall.domains.member.domain.Member;
+import com.allan.shoppingMall.domains.member.domain.MemberRole;
+import com.allan.shoppingMall.domains.mileage.domain.Mileage;
+import com.allan.shoppingMall.domains.mileage.domain.MileageBalance;
+import com.allan.shoppingMall.domains.mileage.domain.MileageRepository;
+import com.allan.shoppingMall.domains.mileage.domain.model.MileageContent;
+import com.allan.shoppingMall.domains.mileage.service.MileageService;
+import com.allan.shoppingMall.domains.order.domain.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * 만료 된 재고 예약 일괄 처리(bulk JPQL update/delete)가 실제 database 에 반영되는지 확인합니다.
+ * bulk 쿼리는 영속성 컨텍스트를 거치지 않으므로, 검증 전에 영속성 컨텍스트를 비우고 다시 조회합니다.
+ */
+@DataJpaTest(
+        includeFilters = @ComponentScan.Filter(
+                type = FilterType.ASSIGNABLE_TYPE,
+                classes = {JpaAuditingConfig.class, StockReservationService.class, MileageService.class,
+                        ItemStockService.class, HotStockLedger.class}
+        )
+)
+@WithMockUser
+public class StockReservationServiceTest {
+
+    @Autowired
+    TestEntityManager testEntityManager;
+
+    @Autowired
+    StockReservationService stockReservationService;
+
+    @Autowired
+    StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    MileageRepository mileageRepository;
+
+    @Test
+    public void 만료된_재고_예약_일괄_해제_테스트() throws Exception {
+        //given
+        LocalDateTime TEST_NOW = LocalDateTime.now();
+        LocalDateTime TEST_EXPIRED_AT = TEST_NOW.minusMinutes(1);
+
+        Member TEST_MEMBER = createMember();
+        testEntityManager.persist(TEST_MEMBER);
+
+        ItemSize TEST_CLOTHES_SIZE_1 = new ItemSize(SizeLabel.S, 10l);
+        ItemSize TEST_CLOTHES_SIZE_2 = new ItemSize(SizeLabel.M, 10l);
+        Clothes TEST_CLOTHES_1 = createClothes("testClothes1", "testEngClothes1");
+        TEST_CLOTHES_1.changeItemSizes(List.of(TEST_CLOTHES_SIZE_1, TEST_CLOTHES_SIZE_2));
+        testEntityManager.persist(TEST_CLOTHES_1);
+
+        ItemSize TEST_CLOTHES_SIZE_3 = new ItemSize(SizeLabel.S, 5l);
+        Clothes TEST_CLOTHES_2 = createClothes("testClothes2", "testEngClothes2");
+        TEST_CLOTHES_2.changeItemSizes(List.of(TEST_CLOTHES_SIZE_3));
+        testEntityManager.persist(TEST_CLOTHES_2);
+
+        // 결제 되지 않은 주문 2건. (ORDER_TEMP)
+        Order TEST_TEMP_ORDER_1 = createOrder(TEST_MEMBER, "testOrderNum1");
+        TEST_TEMP_ORDER_1.changeOrderItems(List.of(
+                new OrderItem(2l, TEST_CLOTHES_1, TEST_CLOTHES_SIZE_1),
+                new OrderItem(3l, TEST_CLOTHES_1, TEST_CLOTHES_SIZE_2),
+                new OrderItem(1l, TEST_CLOTHES_2, TEST_CLOTHES_SIZE_3)));
+        testEntityManager.persist(TEST_TEMP_ORDER_1);
+
+        Order TEST_TEMP_ORDER_2 = createOrder(TEST_MEMBER, "testOrderNum2");
+        TEST_TEMP_ORDER_2.changeOrderItems(List.of(
+                new OrderItem(4l, TEST_CLOTHES_1, TEST_CLOTHES_SIZE_1)));
+        testEntityManager.persist(TEST_TEMP_ORDER_2);
+
+        // 예약 만료 직전에 결제 된 주문. (ORDER_COMPLETE)
+        Order TEST_PAID_ORDER = createOrder(TEST_MEMBER, "testOrderNum3");
+        TEST_PAID_ORDER.changeOrderItems(List.of(
+                new OrderItem(1l, TEST_CLOTHES_2, TEST_CLOTHES_SIZE_3)));
+        testEntityManager.persist(TEST_PAID_ORDER);
+        TEST_PAID_ORDER.payOrder("imp_testPaymentNum");
+
+        // 가입 적립 2000, 주문 1 사용 500, 결제 된 주문 사용 300.
+        testEntityManager.persist(createMileage(TEST_MEMBER, "", MileageContent.JOIN_MILEAGE_ACCUMULATE, 2000l));
+        testEntityManager.persist(createMileage(TEST_MEMBER, "testOrderNum1", MileageContent.USED_MILEAGE_DEDUCTION, -500l));
+        testEntityManager.persist(createMileage(TEST_MEMBER, "testOrderNum3", MileageContent.USED_MILEAGE_DEDUCTION, -300l));
+        testEntityManager.persist(new MileageBalance(TEST_MEMBER.getAuthId(), 1200l));
+
+        testEntityManager.persist(createReservation(TEST_TEMP_ORDER_1, TEST_CLOTHES_1, TEST_CLOTHES_SIZE_1, 2l, TEST_EXPIRED_AT));
+        testEntityManager.persist(createReservation(TEST_TEMP_ORDER_1, TEST_CLOTHES_1, TEST_CLOTHES_SIZE_2, 3l, TEST_EXPIRED_AT));
+        testEntityManager.persist(createReservation(TEST_TEMP_ORDER_1, TEST_CLOTHES_2, TEST_CLOTHES_SIZE_3, 1l, TEST_EXPIRED_AT));
+        testEntityManager.persist(createReservation(TEST_TEMP_ORDER_2, TEST_CLOTHES_1, TEST_CLOTHES_SIZE_1, 4l, TEST_EXPIRED_AT));
+        testEntityManager.persist(createReservation(TEST_PAID_ORDER, TEST_CLOTHES_2, TEST_CLOTHES_SIZE_3, 1l, TEST_EXPIRED_AT));
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        long TEST_CLOTHES_1_STOCK = testEntityManager.find(Item.class, TEST_CLOTHES_1.getItemId()).getStockQuantity();
+        long TEST_CLOTHES_2_STOCK = testEntityManager.find(Item.class, TEST_CLOTHES_2.getItemId()).getStockQuantity();
+        testEntityManager.clear();
+
+        //when
+        int releasedCount = stockReservationService.releaseExpiredReservations(TEST_NOW, 100);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        //then
+        assertThat(releasedCount, is(5));
+        assertThat(stockReservationRepository.count(), is(0l));
+
+        // 결제 되지 않은 주문만 취소 되고, 배송도 함께 취소 됩니다.
+        Order findTempOrder1 = testEntityManager.find(Order.class, TEST_TEMP_ORDER_1.getOrderId());
+        Order findTempOrder2 = testEntityManager.find(Order.class, TEST_TEMP_ORDER_2.getOrderId());
+        Order findPaidOrder = testEntityManager.find(Order.class, TEST_PAID_ORDER.getOrderId());
+        assertThat(findTempOrder1.getOrderStatus(), is(OrderStatus.ORDER_CANCEL));
+        assertThat(findTempOrder1.getDelivery().getDeliveryStatus(), is(DeliveryStatus.DELIVERY_CANCEL));
+        assertThat(findTempOrder2.getOrderStatus(), is(OrderStatus.ORDER_CANCEL));
+        assertThat(findTempOrder2.getDelivery().getDeliveryStatus(), is(DeliveryStatus.DELIVERY_CANCEL));
+        assertThat(findPaidOrder.getOrderStatus(), is(OrderStatus.ORDER_COMPLETE));
+        assertThat(findPaidOrder.getDelivery().getDeliveryStatus(), is(DeliveryStatus.DELIVERY_READY));
+
+        // 취소 된 주문의 마일리지 내역만 삭제 되고, 잔액에 되돌려 집니다.
+        assertThat(mileageRepository.findAllByOrderNum("testOrderNum1").size(), is(0));
+        assertThat(mileageRepository.findAllByOrderNum("testOrderNum3").size(), is(1));
+        assertThat(testEntityManager.find(MileageBalance.class, TEST_MEMBER.getAuthId()).getBalance(), is(1700l));
+
+        // 같은 사이즈의 예약은 합산 되어 한번에 복구 되고, 결제 된 주문의 수량은 복구 되지 않습니다.
+        assertThat(testEntityManager.find(ItemSize.class, TEST_CLOTHES_SIZE_1.getItemSizeId()).getStockQuantity(), is(16l));
+        assertThat(testEntityManager.find(ItemSize.class, TEST_CLOTHES_SIZE_2.getItemSizeId()).getStockQuantity(), is(13l));
+        assertThat(testEntityManager.find(ItemSize.class, TEST_CLOTHES_SIZE_3.getItemSizeId()).getStockQuantity(), is(6l));
+        assertThat(testEntityManager.find(Item.class, TEST_CLOTHES_1.getItemId()).getStockQuantity(), is(TEST_CLOTHES_1_STOCK + 9l));
+        assertThat(testEntityManager.find(Item.class, TEST_CLOTHES_2.getItemId()).getStockQuantity(), is(TEST_CLOTHES_2_STOCK + 1l));
+    }
+
+    private Member createMember(){
+        return Member.builder()
+                .name("testName")
+                .authId("testId")
+                .pwd("testPwd")
+                .age(10)
+                .gender(Gender.MAN)
+                .email("testEmail@email")
+                .phone("000-0000-0000")
+                .dateOfBirth("1993-09-09")
+                .role(MemberRole.ACTIVATED_USER)
+                .address(Address.builder()
+                        .address("testAddress")
+                        .detailAddress("testDetailAddress")
+                        .postCode("65000")
+                        .build())
+                .build();
+    }
+
+    private Clothes createClothes(String name, String engName) {
+        return Clothes.builder()
+                .price(10000l)
+                .name(name)
+                .engName(engName)
+                .color(Color.RED)
+                .build();
+    }
+
+    private Order createOrder(Member orderer, String orderNum){
+        return Order.builder()
+                .orderer(orderer)
+                .orderNum(orderNum)
+                .delivery(Delivery.builder()
+                        .deliveryMemo("testMemo")
+                        .deliveryStatus(DeliveryStatus.DELIVERY_READY)
+                        .address(Address.builder()
+                                .address("testAddress")
+                                .detailAddress("testDetailAddress")
+                                .postCode("65000")
+                                .build())
+                        .recipient("testRecipient")
+                        .recipientPhone("000-0000-0000")
+                        .build())
+                .ordererInfo(
+                        OrdererInfo.builder()
+                                .ordererName("testOrdererName")
+                                .ordererEmail("testOrdererEmail")
+                                .ordererPhone("000-0000-0000")
+                                .build()
+                )
+                .build();
+    }
+
+    private Mileage createMileage(Member member, String orderNum, MileageContent mileageContent, Long point){
+        return Mileage.builder()
+                .authId(member.getAuthId())
+                .orderNum(orderNum)
+                .mileageContent(mileageContent)
+                .point(point)
+                .build();
+    }
+
+    private StockReservation createReservation(Order order, Item item, ItemSize itemSize, Long quantity, LocalDateTime expiresAt){
+        return StockReservation.builder()
+                .orderId(order.getOrderId())
+                .itemId(item.getItemId())
+                .itemSizeId(itemSize.getItemSizeId())
+                .quantity(quantity)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -3,6 +3,8 @@ package com.allan.shoppingMall.domains.payment.service;
 import com.allan.shoppingMall.common.exception.ErrorCode;
 import com.allan.shoppingMall.domains.payment.domain.Payment;
 import com.allan.shoppingMall.domains.payment.domain.PaymentRepository;
+import com.allan.shoppingMall.domains.payment.domain.model.PaymentDTO;
+import com.allan.shoppingMall.domains.payment.domain.model.PaymentSnapshot;
 import com.siot.IamportRestClient.IamportClient;
 import com.siot.IamportRestClient.request.CancelData;
 import com.siot.IamportRestClient.response.IamportResponse;
@@ -12,11 +14,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.util.Optional;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -33,10 +39,13 @@ public class PaymentServiceTest {
 
     PaymentService paymentService;
 
+    PaymentDetailCache paymentDetailCache;
+
     @BeforeEach
     public void setUp(){
         MockitoAnnotations.openMocks(this);
-        paymentService = new PaymentService(paymentRepository, client);
+        paymentDetailCache = new PaymentDetailCache(new ConcurrentMapCacheManager(PaymentDetailCache.CACHE_NAME));
+        paymentService = new PaymentService(paymentRepository, paymentDetailCache, client);
     }
 
     @Test
@@ -88,6 +97,58 @@ public class PaymentServiceTest {
         verify(client, atLeastOnce()).paymentByImpUid(any());
     }
 
+    @Test
+    public void 결제완료시_저장한_결제정보_조회_테스트() throws Exception {
+        //given
+        Payment TEST_PAYMENT = Payment.builder()
+                .payMethod("card")
+                .paymentNum("test_impUid")
+                .payAmount(1000l)
+                .cardName("testCardName")
+                .cardNum("1234-****-****-5678")
+                .build();
+
+        given(paymentRepository.findByPaymentNum("test_impUid"))
+                .willReturn(Optional.of(TEST_PAYMENT));
+
+        //when
+        PaymentDTO payment = paymentService.getPamentDetail("test_impUid");
+        PaymentDTO cachedPayment = paymentService.getPamentDetail("test_impUid");
+
+        //then
+        verify(client, never()).paymentByImpUid(any());
+        verify(paymentRepository, times(1)).findByPaymentNum("test_impUid"); // 두 번째 조회는 캐시에서 조회합니다.
+        assertThat(payment.getPayMethod(), is("카드결제"));
+        assertThat(payment.getCardName(), is("testCardName"));
+        assertThat(payment.getCardNum(), is("1234-****-****-5678"));
+        assertThat(payment.getTotalAmount(), is(1000l));
+        assertThat(cachedPayment.getCardNum(), is("1234-****-****-5678"));
+    }
+
+    @Test
+    public void 결제_환불시_결제정보_캐시_제거_테스트() throws Exception {
+        //given
+        paymentDetailCache.put("test_imp_uid", new PaymentSnapshot("card", "testCardName", "testCardNum", 1000l));
+
+        com.siot.IamportRestClient.response.Payment TEST_PAYMENT = createPayment();
+        IamportResponse<com.siot.IamportRestClient.response.Payment> TEST_IAMPORT_RESOURCE = new IamportResponse<com.siot.IamportRestClient.response.Payment>();
+        ReflectionTestUtils.setField(TEST_IAMPORT_RESOURCE, "response", TEST_PAYMENT);
+        given(client.paymentByImpUid(any()))
+                .willReturn(TEST_IAMPORT_RESOURCE);
+
+        com.siot.IamportRestClient.response.Payment TEST_CANCEL_PAYMENT = createPayment();
+        IamportResponse<com.siot.IamportRestClient.response.Payment> TEST_CANCEL_RESPONSE = new IamportResponse<com.siot.IamportRestClient.response.Payment>();
+        ReflectionTestUtils.setField(TEST_CANCEL_RESPONSE, "response", TEST_CANCEL_PAYMENT);
+        given(client.cancelPaymentByImpUid(any(CancelData.class)))
+                .willReturn(TEST_CANCEL_RESPONSE);
+
+        //when
+        paymentService.refundPayment("test_imp_uid", 1l);
+
+        //then
+        assertThat(paymentDetailCache.get("test_imp_uid").isPresent(), is(false));
+    }
+
     private com.siot.IamportRestClient.response.Payment createPayment(){
         com.siot.IamportRestClient.response.Payment TEST_PAYMENT = new com.siot.IamportRestClient.response.Payment();
         ReflectionTestUtils.setField(TEST_PAYMENT, "imp_uid", "test_imp_uid");